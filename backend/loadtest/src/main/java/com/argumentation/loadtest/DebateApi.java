@@ -0,0 +1,97 @@
+package com.argumentation.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * DebateApi
+ * ----------
+ * Builds the backend's HTTP requests and sends them with the JDK HttpClient.
+ * Callers run on virtual threads, so the blocking send() is cheap.
+ */
+public final class DebateApi {
+
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final URI baseUrl;
+    private final Duration timeout;
+
+    public DebateApi(URI baseUrl, Duration timeout) {
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .build();
+    }
+
+    public HttpRequest topics() {
+        return get("/api/topics");
+    }
+
+    public HttpRequest rootClaim(String topic) {
+        return get("/api/structured-arguments/by-topic-name?name=" + encode(topic));
+    }
+
+    public HttpRequest argumentByClaim(int claimId) {
+        return get("/api/structured-arguments/argument-by-claim?claimId=" + claimId);
+    }
+
+    public HttpRequest justifications(int argumentId) {
+        return get("/api/structured-arguments/justifications?argumentId=" + argumentId);
+    }
+
+    public HttpRequest rebuttals(int targetClaimId) {
+        return get("/api/rebuttals?targetClaimId=" + targetClaimId);
+    }
+
+    public HttpRequest createRebuttal(int targetClaimId, String text) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(Map.of("targetClaimId", targetClaimId, "text", text,
+                    "source", "loadtest"));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/rebuttals"))
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+    }
+
+    /** Sends a request and discards the body; returns the status code. */
+    public int send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    /** Sends a request and parses the JSON body; null unless the status is 2xx. */
+    public JsonNode fetch(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() / 100 != 2) {
+            return null;
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private HttpRequest get(String pathAndQuery) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + pathAndQuery))
+                .timeout(timeout)
+                .GET()
+                .build();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+}
@@ -0,0 +1,103 @@
+package com.argumentation.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * KeyPool
+ * --------
+ * Topic names, claim IDs and argument IDs that the replayed requests refer to,
+ * discovered from the running backend the way the frontend finds them:
+ *
+ *   topics → root claim of each topic → its argument → justifications (premises)
+ *                                     → rebuttals of the root claim
+ *
+ * Premises and rebuttals become claims too, and each premise's own argument
+ * is looked up, so lookups spread over more than the topic roots.
+ * Discovery happens once, before the timed run.
+ */
+public final class KeyPool {
+
+    private final String[] topics;
+    private final int[] claims;
+    private final int[] arguments;
+
+    private KeyPool(List<String> topics, Collection<Integer> claims, Collection<Integer> arguments) {
+        this.topics = topics.toArray(String[]::new);
+        this.claims = claims.stream().mapToInt(Integer::intValue).toArray();
+        this.arguments = arguments.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    public static KeyPool discover(DebateApi api, int maxTopics, SplittableRandom random)
+            throws IOException, InterruptedException {
+        JsonNode topicList = api.fetch(api.topics());
+        if (topicList == null || topicList.isEmpty()) {
+            throw new IllegalStateException("Backend returned no topics; seed it first (e.g. the embedded profile)");
+        }
+        List<String> allTopics = new ArrayList<>();
+        topicList.forEach(node -> allTopics.add(node.path("topic").asText()));
+        // Random sample of the topics, reproducible from the seed
+        for (int i = allTopics.size() - 1; i > 0; i--) {
+            Collections.swap(allTopics, i, random.nextInt(i + 1));
+        }
+        List<String> topics = allTopics.subList(0, Math.min(maxTopics, allTopics.size()));
+
+        Set<Integer> claims = new LinkedHashSet<>();
+        Set<Integer> arguments = new LinkedHashSet<>();
+        for (String topic : topics) {
+            JsonNode root = api.fetch(api.rootClaim(topic));
+            if (root == null || !root.hasNonNull("id")) {
+                continue;
+            }
+            int rootId = root.get("id").asInt();
+            claims.add(rootId);
+            Integer argumentId = argumentOf(api, rootId);
+            if (argumentId != null) {
+                arguments.add(argumentId);
+                JsonNode premises = api.fetch(api.justifications(argumentId));
+                if (premises != null) {
+                    for (JsonNode premise : premises) {
+                        int premiseId = premise.path("id").asInt();
+                        claims.add(premiseId);
+                        Integer premiseArgument = argumentOf(api, premiseId);
+                        if (premiseArgument != null) {
+                            arguments.add(premiseArgument);
+                        }
+                    }
+                }
+            }
+            JsonNode rebuttals = api.fetch(api.rebuttals(rootId));
+            if (rebuttals != null) {
+                rebuttals.forEach(rebuttal -> claims.add(rebuttal.path("statementId").asInt()));
+            }
+        }
+        if (claims.isEmpty() || arguments.isEmpty()) {
+            throw new IllegalStateException("No claims or arguments found under " + topics.size() + " topics");
+        }
+        return new KeyPool(topics, claims, arguments);
+    }
+
+    private static Integer argumentOf(DebateApi api, int claimId) throws IOException, InterruptedException {
+        JsonNode argument = api.fetch(api.argumentByClaim(claimId));
+        return argument == null || !argument.isNumber() ? null : argument.asInt();
+    }
+
+    public String topic(SplittableRandom random) {
+        return topics[random.nextInt(topics.length)];
+    }
+
+    public int claim(SplittableRandom random) {
+        return claims[random.nextInt(claims.length)];
+    }
+
+    public int argument(SplittableRandom random) {
+        return arguments[random.nextInt(arguments.length)];
+    }
+
+    @Override
+    public String toString() {
+        return topics.length + " topics, " + claims.length + " claims, " + arguments.length + " arguments";
+    }
+}
@@ -0,0 +1,112 @@
+package com.argumentation.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LatencyReport
+ * --------------
+ * Per-operation and overall results of one measured run: request counts,
+ * failures, achieved throughput and response-time percentiles (from the
+ * HdrHistograms, 3 significant digits), printed as a table or written as JSON.
+ */
+public final class LatencyReport {
+
+    /**
+     * One line of the report; times in milliseconds.
+     *
+     * @param requests   Requests completed (including failed ones)
+     * @param errors     Non-2xx responses, timeouts and connection failures
+     * @param dropped    Arrivals not sent because max-in-flight requests were open
+     * @param throughput Completed requests per second of the measured period
+     */
+    public record Row(String operation,
+                      long requests,
+                      long errors,
+                      long dropped,
+                      double throughput,
+                      double meanMs,
+                      double p50Ms,
+                      double p90Ms,
+                      double p99Ms,
+                      double p999Ms,
+                      double maxMs) {
+    }
+
+    /** The whole report as written to --output. */
+    public record Summary(double targetRate, long durationSeconds, List<Row> operations, Row total) {
+    }
+
+    private final Summary summary;
+
+    LatencyReport(Map<Operation, LoadGenerator.OperationStats> stats, Duration duration, double targetRate) {
+        double seconds = Math.max(1, duration.toMillis()) / 1000.0;
+        Histogram all = new Histogram(3);
+        long errors = 0;
+        long dropped = 0;
+        List<Row> rows = new ArrayList<>();
+        for (Map.Entry<Operation, LoadGenerator.OperationStats> entry : stats.entrySet()) {
+            LoadGenerator.OperationStats s = entry.getValue();
+            if (s.latency.getTotalCount() == 0 && s.dropped.sum() == 0) {
+                continue; // not part of the mix
+            }
+            rows.add(row(entry.getKey().key(), s.latency, s.errors.sum(), s.dropped.sum(), seconds));
+            all.add(s.latency);
+            errors += s.errors.sum();
+            dropped += s.dropped.sum();
+        }
+        this.summary = new Summary(targetRate, duration.toSeconds(), List.copyOf(rows),
+                row("total", all, errors, dropped, seconds));
+    }
+
+    private static Row row(String name, Histogram latency, long errors, long dropped, double seconds) {
+        return new Row(name, latency.getTotalCount(), errors, dropped, round(latency.getTotalCount() / seconds),
+                millis(latency.getMean()),
+                millis(latency.getValueAtPercentile(50)),
+                millis(latency.getValueAtPercentile(90)),
+                millis(latency.getValueAtPercentile(99)),
+                millis(latency.getValueAtPercentile(99.9)),
+                millis(latency.getMaxValue()));
+    }
+
+    private static double millis(double micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    public Summary summary() {
+        return summary;
+    }
+
+    public void print(PrintStream out) {
+        out.printf("Target rate %.1f/s, measured %d s%n", summary.targetRate(), summary.durationSeconds());
+        out.printf("%-16s %9s %7s %7s %9s %9s %9s %9s %9s %9s %9s%n", "operation", "requests", "errors", "dropped",
+                "req/s", "mean ms", "p50", "p90", "p99", "p99.9", "max");
+        for (Row row : summary.operations()) {
+            print(out, row);
+        }
+        print(out, summary.total());
+    }
+
+    private static void print(PrintStream out, Row row) {
+        out.printf("%-16s %9d %7d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n", row.operation(), row.requests(),
+                row.errors(), row.dropped(), row.throughput(), row.meanMs(), row.p50Ms(), row.p90Ms(), row.p99Ms(),
+                row.p999Ms(), row.maxMs());
+    }
+
+    public void writeJson(Path file) throws IOException {
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), summary);
+    }
+}
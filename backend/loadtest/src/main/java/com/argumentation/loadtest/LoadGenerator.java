@@ -0,0 +1,147 @@
+package com.argumentation.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.http.HttpRequest;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * LoadGenerator
+ * --------------
+ * Open-loop traffic: requests are started on a fixed arrival schedule
+ * (Poisson or constant rate), each on its own virtual thread, whether or not
+ * earlier requests have come back. A slow backend therefore sees the load
+ * pile up as real users would make it, instead of the generator politely
+ * waiting (the closed-loop "coordinated omission" problem).
+ *
+ * Latency is measured from the scheduled start, not the actual send, so
+ * any delay in the generator itself is charged to the response time too.
+ * If the scheduler falls behind it fires the overdue arrivals immediately.
+ *
+ * Arrivals during the warmup are sent but not recorded. Arrivals that find
+ * --max-in-flight requests already open are dropped and counted, which
+ * keeps a stalled backend from exhausting the generator's memory.
+ */
+public final class LoadGenerator {
+
+    private final LoadTestOptions options;
+    private final DebateApi api;
+    private final KeyPool keys;
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    private final AtomicLong rebuttalCounter = new AtomicLong();
+
+    public LoadGenerator(LoadTestOptions options, DebateApi api, KeyPool keys) {
+        this.options = options;
+        this.api = api;
+        this.keys = keys;
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+    }
+
+    /** Runs warmup plus the measured period and returns the per-operation results. */
+    public LatencyReport run() throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(options.seed());
+        Semaphore inFlight = new Semaphore(options.maxInFlight());
+        double meanGapNanos = 1e9 / options.rate();
+
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            double intended = start;
+            while (intended < end) {
+                long scheduled = (long) intended;
+                long now;
+                while ((now = System.nanoTime()) < scheduled) {
+                    LockSupport.parkNanos(scheduled - now);
+                }
+
+                Operation operation = options.mix().next(random);
+                boolean measured = scheduled >= measureFrom;
+                if (inFlight.tryAcquire()) {
+                    SplittableRandom taskRandom = random.split();
+                    executor.execute(() -> {
+                        try {
+                            execute(operation, scheduled, measured, taskRandom);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                } else if (measured) {
+                    stats.get(operation).dropped.increment();
+                }
+
+                intended += options.poisson()
+                        ? -Math.log(1 - random.nextDouble()) * meanGapNanos
+                        : meanGapNanos;
+            }
+            // close() waits for the requests still open (each is bounded by --timeout)
+        }
+        return new LatencyReport(stats, options.duration(), options.rate());
+    }
+
+    private void execute(Operation operation, long scheduled, boolean measured, SplittableRandom random) {
+        OperationStats s = stats.get(operation);
+        boolean ok;
+        try {
+            int status = api.send(request(operation, random));
+            ok = status / 100 == 2;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            ok = false; // timeouts, refused connections
+        }
+        if (!measured) {
+            return;
+        }
+        s.latency.recordValue(Math.max(1, (System.nanoTime() - scheduled) / 1000));
+        if (!ok) {
+            s.errors.increment();
+        }
+    }
+
+    private HttpRequest request(Operation operation, SplittableRandom random) {
+        return switch (operation) {
+            case TOPICS -> api.topics();
+            case ROOT_CLAIM -> api.rootClaim(keys.topic(random));
+            case JUSTIFICATIONS -> api.justifications(keys.argument(random));
+            case REBUTTALS -> api.rebuttals(keys.claim(random));
+            case CREATE_REBUTTAL -> api.createRebuttal(keys.claim(random), rebuttalText(random));
+        };
+    }
+
+    private static final String[] WORDS = ("this ignores the evidence that costs rise when people lose trust in "
+            + "public institutions and the study cited was funded by industry so its sample is biased while "
+            + "history shows the opposite effect on jobs wages health safety privacy and freedom").split(" ");
+
+    /** Varied enough that near-duplicate detection does not merge the rebuttals. */
+    private String rebuttalText(SplittableRandom random) {
+        StringBuilder text = new StringBuilder("Load test rebuttal ").append(rebuttalCounter.incrementAndGet())
+                .append(':');
+        int length = 10 + random.nextInt(15);
+        for (int i = 0; i < length; i++) {
+            text.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.append('.').toString();
+    }
+
+    /** Response times in microseconds plus failure counts of one operation. */
+    static final class OperationStats {
+        final Histogram latency = new ConcurrentHistogram(3);
+        final LongAdder errors = new LongAdder();
+        final LongAdder dropped = new LongAdder();
+    }
+}
@@ -0,0 +1,43 @@
+package com.argumentation.loadtest;
+
+import java.util.SplittableRandom;
+
+/**
+ * LoadTest
+ * ---------
+ * Entry point: discovers keys from the running backend, replays the traffic
+ * mix at the requested rate and prints the latency report.
+ *
+ *   ./gradlew :loadtest:run --args='--rate=500 --duration=120 --mix=justifications=60,rebuttals=40'
+ *
+ * See LoadTestOptions for all options.
+ */
+public final class LoadTest {
+
+    private LoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        DebateApi api = new DebateApi(options.baseUrl(), options.timeout());
+        KeyPool keys = KeyPool.discover(api, options.topics(), new SplittableRandom(options.seed()));
+        System.out.printf("Discovered %s at %s%n", keys, options.baseUrl());
+        System.out.printf("Warming up for %d s, then measuring for %d s at %.1f requests/s (%s arrivals)%n",
+                options.warmup().toSeconds(), options.duration().toSeconds(), options.rate(),
+                options.poisson() ? "Poisson" : "constant");
+
+        LatencyReport report = new LoadGenerator(options, api, keys).run();
+        report.print(System.out);
+        if (options.output() != null) {
+            report.writeJson(options.output());
+            System.out.println("Report written to " + options.output());
+        }
+    }
+}
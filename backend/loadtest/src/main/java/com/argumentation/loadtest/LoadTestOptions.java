@@ -0,0 +1,77 @@
+package com.argumentation.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * LoadTestOptions
+ * ----------------
+ * Command-line options, all of the form --name=value:
+ *
+ *   --base-url       (default http://localhost:8080)
+ *   --rate           (default 100)      arrivals per second, held regardless of response times
+ *   --duration       (default 60)       measured seconds
+ *   --warmup         (default 10)       seconds of traffic before measuring starts
+ *   --mix            (default see Operation)  e.g. justifications=50,rebuttals=50
+ *   --arrivals       (default poisson)  poisson (exponential gaps) or constant
+ *   --max-in-flight  (default 2000)     arrivals beyond this many open requests are dropped and counted
+ *   --timeout        (default 10)       seconds per request
+ *   --topics         (default 100)      topics explored for keys before the run
+ *   --seed           (default 42)
+ *   --output         (optional)         write the report as JSON to this file
+ */
+public record LoadTestOptions(URI baseUrl,
+                              double rate,
+                              Duration duration,
+                              Duration warmup,
+                              TrafficMix mix,
+                              boolean poisson,
+                              int maxInFlight,
+                              Duration timeout,
+                              int topics,
+                              long seed,
+                              Path output) {
+
+    private static final Set<String> NAMES = Set.of("base-url", "rate", "duration", "warmup", "mix", "arrivals",
+            "max-in-flight", "timeout", "topics", "seed", "output");
+
+    public static LoadTestOptions parse(String... args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got '" + arg + "'");
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            if (!NAMES.contains(name)) {
+                throw new IllegalArgumentException("Unknown option --" + name);
+            }
+            values.put(name, arg.substring(arg.indexOf('=') + 1));
+        }
+
+        String arrivals = values.getOrDefault("arrivals", "poisson");
+        if (!arrivals.equals("poisson") && !arrivals.equals("constant")) {
+            throw new IllegalArgumentException("--arrivals must be poisson or constant");
+        }
+        double rate = Double.parseDouble(values.getOrDefault("rate", "100"));
+        if (rate <= 0) {
+            throw new IllegalArgumentException("--rate must be positive");
+        }
+        String baseUrl = values.getOrDefault("base-url", "http://localhost:8080");
+        return new LoadTestOptions(
+                URI.create(baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl),
+                rate,
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "60"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "10"))),
+                TrafficMix.parse(values.get("mix")),
+                arrivals.equals("poisson"),
+                Math.max(1, Integer.parseInt(values.getOrDefault("max-in-flight", "2000"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("timeout", "10"))),
+                Math.max(1, Integer.parseInt(values.getOrDefault("topics", "100"))),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                values.containsKey("output") ? Path.of(values.get("output")) : null);
+    }
+}
@@ -0,0 +1,43 @@
+package com.argumentation.loadtest;
+
+/**
+ * Operation
+ * ----------
+ * The requests the load test replays, named as in the --mix option.
+ * Default weights follow what the frontend sends while a debate is
+ * explored: mostly justification and rebuttal lookups, few writes.
+ */
+public enum Operation {
+
+    TOPICS("topics", 5),                  // GET /api/topics
+    ROOT_CLAIM("rootClaim", 15),          // GET /api/structured-arguments/by-topic-name
+    JUSTIFICATIONS("justifications", 35), // GET /api/structured-arguments/justifications
+    REBUTTALS("rebuttals", 40),           // GET /api/rebuttals?targetClaimId=
+    CREATE_REBUTTAL("createRebuttal", 5); // POST /api/rebuttals
+
+    private final String key;
+    private final int defaultWeight;
+
+    Operation(String key, int defaultWeight) {
+        this.key = key;
+        this.defaultWeight = defaultWeight;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public int defaultWeight() {
+        return defaultWeight;
+    }
+
+    public static Operation byKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equalsIgnoreCase(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation '" + key + "' (expected one of topics, rootClaim, "
+                + "justifications, rebuttals, createRebuttal)");
+    }
+}
@@ -0,0 +1,89 @@
+package com.argumentation.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * TrafficMix
+ * -----------
+ * Weighted choice of the next operation.
+ *
+ * Parsed from "topics=5,rootClaim=15,justifications=35,rebuttals=40,createRebuttal=5";
+ * operations left out get weight 0, an empty spec gives the default weights.
+ * Weights are relative, they need not add up to 100.
+ */
+public final class TrafficMix {
+
+    private final Operation[] operations;
+    private final int[] cumulative;
+    private final int total;
+
+    private TrafficMix(Map<Operation, Integer> weights) {
+        this.operations = new Operation[weights.size()];
+        this.cumulative = new int[weights.size()];
+        int sum = 0;
+        int i = 0;
+        for (Map.Entry<Operation, Integer> entry : weights.entrySet()) {
+            sum += entry.getValue();
+            operations[i] = entry.getKey();
+            cumulative[i++] = sum;
+        }
+        if (sum == 0) {
+            throw new IllegalArgumentException("Traffic mix has no operation with a positive weight");
+        }
+        this.total = sum;
+    }
+
+    public static TrafficMix defaults() {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            weights.put(operation, operation.defaultWeight());
+        }
+        return new TrafficMix(weights);
+    }
+
+    public static TrafficMix parse(String spec) {
+        if (spec == null || spec.isBlank()) {
+            return defaults();
+        }
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : spec.split(",")) {
+            String[] pair = part.split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Expected operation=weight, got '" + part.trim() + "'");
+            }
+            int weight;
+            try {
+                weight = Integer.parseInt(pair[1].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Weight of " + pair[0].trim() + " is not a number: " + pair[1]);
+            }
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weight of " + pair[0].trim() + " is negative");
+            }
+            weights.put(Operation.byKey(pair[0].trim()), weight);
+        }
+        return new TrafficMix(weights);
+    }
+
+    public Operation next(SplittableRandom random) {
+        int r = random.nextInt(total);
+        for (int i = 0; i < cumulative.length; i++) {
+            if (r < cumulative[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException("unreachable");
+    }
+
+    /** Share of the traffic (0..1) that goes to {@code operation}. */
+    public double share(Operation operation) {
+        for (int i = 0; i < operations.length; i++) {
+            if (operations[i] == operation) {
+                return (double) (cumulative[i] - (i == 0 ? 0 : cumulative[i - 1])) / total;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,44 @@
+package com.argumentation.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for TrafficMix: parsing of --mix and the resulting operation shares.
+ */
+class TrafficMixTests {
+
+    @Test
+    void drawsOperationsInProportionToTheirWeights() {
+        TrafficMix mix = TrafficMix.parse("justifications=3, rebuttals=1");
+        assertEquals(0.75, mix.share(Operation.JUSTIFICATIONS), 1e-9);
+        assertEquals(0.0, mix.share(Operation.TOPICS), 1e-9);
+
+        Map<Operation, Integer> counts = new EnumMap<>(Operation.class);
+        SplittableRandom random = new SplittableRandom(1);
+        for (int i = 0; i < 100_000; i++) {
+            counts.merge(mix.next(random), 1, Integer::sum);
+        }
+        assertEquals(2, counts.size());
+        assertEquals(75_000, counts.get(Operation.JUSTIFICATIONS), 1_000);
+    }
+
+    @Test
+    void rejectsMalformedMixes() {
+        assertThrows(IllegalArgumentException.class, () -> TrafficMix.parse("votes=1"));
+        assertThrows(IllegalArgumentException.class, () -> TrafficMix.parse("topics"));
+        assertThrows(IllegalArgumentException.class, () -> TrafficMix.parse("topics=-1"));
+        assertThrows(IllegalArgumentException.class, () -> TrafficMix.parse("topics=0"));
+    }
+
+    @Test
+    void emptySpecUsesDefaultWeights() {
+        TrafficMix mix = TrafficMix.parse("");
+        assertEquals(Operation.REBUTTALS.defaultWeight() / 100.0, mix.share(Operation.REBUTTALS), 1e-9);
+    }
+}
@@ -0,0 +1,59 @@
+package com.argumentation.backendapi.bench;
+
+import com.argumentation.backendapi.graph.AttackFramework;
+import com.argumentation.backendapi.graph.GroundedSolver;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GroundedSemanticsBenchmarks
+ * ----------------------------
+ * Time of one grounded labelling (GroundedSolver) of a rebuttal-shaped
+ * attack framework: every statement rebuts an earlier one, plus 10% random
+ * extra attacks. No application context; the framework is built once per trial.
+ *
+ * Run with:  ./gradlew jmh -Pjmh.includes=GroundedSemanticsBenchmarks
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GroundedSemanticsBenchmarks {
+
+    @Benchmark
+    public byte[] grounded(Framework framework) {
+        return GroundedSolver.solve(framework.af);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Framework {
+
+        @Param({"200000"})
+        public int statements;
+
+        AttackFramework af;
+
+        @Setup(Level.Trial)
+        public void build() {
+            SplittableRandom random = new SplittableRandom(42);
+            int[] from = new int[statements + statements / 10];
+            int[] to = new int[from.length];
+            int edges = 0;
+            for (int i = 1; i < statements; i++) {
+                from[edges] = i;
+                to[edges] = random.nextInt(i);
+                edges++;
+            }
+            for (int k = 0; k < statements / 10; k++) {
+                from[edges] = random.nextInt(statements);
+                to[edges] = random.nextInt(statements);
+                edges++;
+            }
+            int[] ids = new int[statements];
+            for (int i = 0; i < statements; i++) {
+                ids[i] = i + 1;
+            }
+            af = AttackFramework.of(ids, from, to, edges);
+        }
+    }
+}
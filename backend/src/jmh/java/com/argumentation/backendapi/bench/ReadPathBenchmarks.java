@@ -0,0 +1,84 @@
+package com.argumentation.backendapi.bench;
+
+import com.argumentation.backendapi.model.ClaimDTO;
+import com.argumentation.backendapi.model.RebuttalCreateResponse;
+import com.argumentation.backendapi.model.TreeNodeDTO;
+import com.argumentation.backendapi.service.ArgumentTreeService;
+import com.argumentation.backendapi.service.RebuttalService;
+import com.argumentation.backendapi.service.StructuredArgumentService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ReadPathBenchmarks
+ * -------------------
+ * Latency of the read endpoints' service calls on a synthetic graph, plus
+ * the cost of serializing their responses to JSON.
+ *
+ * Run with:  ./gradlew jmh   (results in build/results/jmh/results.json)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReadPathBenchmarks {
+
+    @Benchmark
+    public List<RebuttalCreateResponse> rebuttalsForTarget(SyntheticGraphState state, SyntheticGraphState.Keys keys) {
+        return state.bean(RebuttalService.class).getRebuttalsForTarget(keys.target(state));
+    }
+
+    @Benchmark
+    public List<ClaimDTO> justificationsByArgumentId(SyntheticGraphState state,
+                                                                SyntheticGraphState.Keys keys) {
+        return state.bean(StructuredArgumentService.class).getJustifications(keys.argument(state));
+    }
+
+    @Benchmark
+    public TreeNodeDTO tree(SyntheticGraphState state, SyntheticGraphState.Keys keys) {
+        // The endpoint's defaults (depth 6, fan-out 50)
+        return state.bean(ArgumentTreeService.class).buildTree(keys.topic(state), 6, 50);
+    }
+
+    @Benchmark
+    public byte[] justificationsJson(SyntheticGraphState state, Responses responses) throws JsonProcessingException {
+        return state.objectMapper.writeValueAsBytes(responses.nextJustifications());
+    }
+
+    @Benchmark
+    public byte[] rootClaimJson(SyntheticGraphState state, Responses responses) throws JsonProcessingException {
+        return state.objectMapper.writeValueAsBytes(responses.nextRootClaim());
+    }
+
+    /**
+     * Responses fetched once per trial, so the JSON benchmarks time serialization only.
+     */
+    @State(Scope.Thread)
+    public static class Responses {
+
+        private static final int SAMPLE = 256;
+
+        private final List<List<ClaimDTO>> justifications = new ArrayList<>(SAMPLE);
+        private final List<ClaimDTO> rootClaims = new ArrayList<>(SAMPLE);
+        private int next;
+
+        @Setup(Level.Trial)
+        public void fetch(SyntheticGraphState state, SyntheticGraphState.Keys keys) {
+            StructuredArgumentService service = state.bean(StructuredArgumentService.class);
+            for (int i = 0; i < SAMPLE; i++) {
+                justifications.add(service.getJustifications(keys.argument(state)));
+                rootClaims.add(service.getRootClaim(keys.topic(state)));
+            }
+        }
+
+        List<ClaimDTO> nextJustifications() {
+            return justifications.get(next++ & (SAMPLE - 1));
+        }
+
+        ClaimDTO nextRootClaim() {
+            return rootClaims.get(next++ & (SAMPLE - 1));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.argumentation.backendapi.bench;
+
+import com.argumentation.backendapi.BackendapiApplication;
+import com.argumentation.backendapi.config.SyntheticCorpusRunner;
+import com.argumentation.backendapi.importer.SyntheticCorpus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * SyntheticGraphState
+ * --------------------
+ * Boots the application (without the web server) on an in-memory H2
+ * database in MySQL mode, seeded by SyntheticCorpusRunner, once per trial.
+ *
+ * Parameters:
+ *   - statements, fanOut, attackDensity  shape of the generated graph
+ *   - readPath  "database" answers reads with JPA/JDBC queries, "graph" from
+ *               the in-memory ArgumentGraph (argumentation.graph.serve-reads)
+ *
+ * Read caches are shrunk to one entry and keys are drawn at random, so the
+ * benchmarks measure the read path rather than cache hits. Search is off to
+ * keep startup short.
+ */
+@State(Scope.Benchmark)
+public class SyntheticGraphState {
+
+    @Param({"10000", "100000"})
+    public int statements;
+
+    @Param({"3"})
+    public int fanOut;
+
+    @Param({"0.5"})
+    public double attackDensity;
+
+    @Param({"database", "graph"})
+    public String readPath;
+
+    ConfigurableApplicationContext context;
+    SyntheticCorpus.Summary corpus;
+    ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(BackendapiApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.open-in-view=false",
+                        "logging.level.root=WARN",
+                        "argumentation.synthetic.statements=" + statements,
+                        "argumentation.synthetic.fan-out=" + fanOut,
+                        "argumentation.synthetic.attack-density=" + attackDensity,
+                        "argumentation.graph.serve-reads=" + "graph".equals(readPath),
+                        "argumentation.search.enabled=false",
+                        "argumentation.cache.max-entries=1")
+                .run();
+        corpus = context.getBean(SyntheticCorpusRunner.class).summary();
+        objectMapper = context.getBean(ObjectMapper.class);
+        if (corpus.targetIds().length == 0 || corpus.argumentIds().length == 0) {
+            throw new IllegalStateException("Synthetic corpus has no rebuttals or premises; raise statements, "
+                    + "fanOut or attackDensity");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * Per-thread key picker.
+     */
+    @State(Scope.Thread)
+    public static class Keys {
+
+        private final SplittableRandom random = new SplittableRandom(7);
+
+        int target(SyntheticGraphState state) {
+            int[] ids = state.corpus.targetIds();
+            return ids[random.nextInt(ids.length)];
+        }
+
+        int argument(SyntheticGraphState state) {
+            int[] ids = state.corpus.argumentIds();
+            return ids[random.nextInt(ids.length)];
+        }
+
+        String topic(SyntheticGraphState state) {
+            List<String> names = state.corpus.topicNames();
+            return names.get(random.nextInt(names.size()));
+        }
+    }
+}
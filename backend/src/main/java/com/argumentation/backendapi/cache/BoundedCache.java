@@ -0,0 +1,164 @@
+package com.argumentation.backendapi.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * BoundedCache
+ * -------------
+ * Small read-through cache with least-recently-used eviction.
+ *
+ * Bounds:
+ *   - maxEntries  entry count
+ *   - maxWeight   sum of the weights the Weigher assigns (e.g. approximate bytes)
+ *   - ttlMillis   age after which an entry is reloaded (0 = never expires)
+ * Whichever bound is hit first evicts the least recently used entries.
+ *
+ * Loading happens outside the lock, so a slow database call never blocks
+ * readers of other keys. If an invalidation runs while a value is loading,
+ * that value is returned to its caller but not stored: a load that started
+ * before a write must not put pre-write data back into the cache.
+ *
+ * Null values are never cached (wrap "absent" results in Optional to cache them).
+ */
+public final class BoundedCache<K, V> {
+
+    /** Assigns a weight to an entry; used for the maxWeight bound. */
+    @FunctionalInterface
+    public interface Weigher<K, V> {
+        long weigh(K key, V value);
+    }
+
+    /**
+     * Counters since startup.
+     *
+     * @param evictions Entries dropped by the size or weight bound (not by TTL or invalidation)
+     */
+    public record Stats(String name, int size, long weight, long hits, long misses,
+                        long evictions, long expirations, long invalidations) {
+
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0.0 : (double) hits / requests;
+        }
+    }
+
+    private final String name;
+    private final int maxEntries;
+    private final long maxWeight;
+    private final long ttlNanos;
+    private final Weigher<? super K, ? super V> weigher;
+
+    /** Access-ordered: iteration starts at the least recently used entry */
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+
+    /** Bumped by every invalidation; loads that straddle one are not stored */
+    private long generation;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+    private long invalidations;
+
+    public BoundedCache(String name, int maxEntries, long maxWeight, long ttlMillis,
+                        Weigher<? super K, ? super V> weigher) {
+        this.name = name;
+        this.maxEntries = Math.max(1, maxEntries);
+        this.maxWeight = maxWeight <= 0 ? Long.MAX_VALUE : maxWeight;
+        this.ttlNanos = ttlMillis <= 0 ? 0 : ttlMillis * 1_000_000;
+        this.weigher = weigher;
+    }
+
+    /** Returns the cached value for {@code key}, loading and caching it on a miss. */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (ttlNanos == 0 || System.nanoTime() - entry.loadedAt < ttlNanos) {
+                    hits++;
+                    return entry.value;
+                }
+                remove(key);
+                expirations++;
+            }
+            misses++;
+            loadGeneration = generation;
+        }
+
+        V value = loader.apply(key);
+        if (value == null) {
+            return null;
+        }
+        long valueWeight = Math.max(1, weigher.weigh(key, value));
+
+        synchronized (this) {
+            if (generation != loadGeneration || valueWeight > maxWeight) {
+                return value;
+            }
+            Entry<V> previous = entries.put(key, new Entry<>(value, valueWeight, System.nanoTime()));
+            if (previous != null) {
+                weight -= previous.weight;
+            }
+            weight += valueWeight;
+            evictOverflow();
+        }
+        return value;
+    }
+
+    /** Returns the cached value for {@code key}, or null if it is absent or expired (counts neither hit nor miss). */
+    public synchronized V getIfPresent(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null || (ttlNanos != 0 && System.nanoTime() - entry.loadedAt >= ttlNanos)) {
+            return null;
+        }
+        return entry.value;
+    }
+
+    public synchronized void invalidate(K key) {
+        generation++;
+        if (remove(key)) {
+            invalidations++;
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        invalidations += entries.size();
+        entries.clear();
+        weight = 0;
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(name, entries.size(), weight, hits, misses, evictions, expirations, invalidations);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    private boolean remove(K key) {
+        Entry<V> removed = entries.remove(key);
+        if (removed == null) {
+            return false;
+        }
+        weight -= removed.weight;
+        return true;
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || weight > maxWeight) && eldest.hasNext()) {
+            weight -= eldest.next().getValue().weight;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    private record Entry<V>(V value, long weight, long loadedAt) {
+    }
+}
@@ -0,0 +1,95 @@
+package com.argumentation.backendapi.cache;
+
+import com.argumentation.backendapi.model.ClaimDTO;
+import com.argumentation.backendapi.model.TopArgumentDTO;
+import com.argumentation.backendapi.model.TopicDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * CacheRegistry
+ * --------------
+ * Creates the application's read caches with the shared configuration and
+ * keeps track of them for the stats endpoint.
+ *
+ * Configuration (per cache):
+ *   - argumentation.cache.max-entries  (default 10000)
+ *   - argumentation.cache.max-weight   (default 64000000)  approximate bytes of cached text
+ *   - argumentation.cache.ttl-seconds  (default 600)       0 = entries never expire
+ */
+@Component
+public class CacheRegistry {
+
+    private final int maxEntries;
+    private final long maxWeight;
+    private final long ttlMillis;
+    private final List<BoundedCache<?, ?>> caches = new CopyOnWriteArrayList<>();
+
+    public CacheRegistry(@Value("${argumentation.cache.max-entries:10000}") int maxEntries,
+                         @Value("${argumentation.cache.max-weight:64000000}") long maxWeight,
+                         @Value("${argumentation.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    public <K, V> BoundedCache<K, V> create(String name, BoundedCache.Weigher<? super K, ? super V> weigher) {
+        BoundedCache<K, V> cache = new BoundedCache<>(name, maxEntries, maxWeight, ttlMillis, weigher);
+        caches.add(cache);
+        return cache;
+    }
+
+    /** The caches created so far (for metrics). */
+    public List<BoundedCache<?, ?>> caches() {
+        return List.copyOf(caches);
+    }
+
+    public List<BoundedCache.Stats> stats() {
+        List<BoundedCache.Stats> stats = new ArrayList<>();
+        for (BoundedCache<?, ?> cache : caches) {
+            stats.add(cache.stats());
+        }
+        return stats;
+    }
+
+    // ────────────────────────────────
+    // Weighers for the response rows the services cache
+    // ────────────────────────────────
+
+    /** Approximate heap of one claim record: object and boxed ID, plus two bytes per character */
+    public static long weighClaim(ClaimDTO claim) {
+        return 64 + weighString(claim.text()) + weighString(claim.source());
+    }
+
+    public static long weighClaims(List<ClaimDTO> claims) {
+        long weight = 32;
+        for (ClaimDTO claim : claims) {
+            weight += weighClaim(claim);
+        }
+        return weight;
+    }
+
+    public static long weighTopics(List<TopicDTO> topics) {
+        long weight = 32;
+        for (TopicDTO topic : topics) {
+            weight += 16 + weighString(topic.topic());
+        }
+        return weight;
+    }
+
+    public static long weighTopArguments(List<TopArgumentDTO> entries) {
+        long weight = 32;
+        for (TopArgumentDTO entry : entries) {
+            weight += 48 + weighString(entry.getText());
+        }
+        return weight;
+    }
+
+    private static long weighString(String value) {
+        return value == null ? 0 : 40 + 2L * value.length();
+    }
+}
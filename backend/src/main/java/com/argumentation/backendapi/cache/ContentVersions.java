@@ -0,0 +1,137 @@
+package com.argumentation.backendapi.cache;
+
+import com.argumentation.backendapi.event.CorpusImportedEvent;
+import com.argumentation.backendapi.event.RebuttalCreatedEvent;
+import com.argumentation.backendapi.graph.ArgumentGraph;
+import com.argumentation.backendapi.service.ArgumentGraphService;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * ContentVersions
+ * ----------------
+ * Monotonic versions of the data behind the GET endpoints, for their ETag
+ * headers. A conditional request is answered from these
+ * counters alone, without a database or cache lookup.
+ *
+ * Versions are wall-clock milliseconds, forced strictly increasing. The
+ * first version is the startup time: a restart (new code, a database
+ * changed behind our back) never reuses a tag handed out before.
+ *
+ * Scopes:
+ *   - corpus:    everything; bumped by imports (CorpusImportedEvent)
+ *   - topic:     a topic's tree; bumped for every topic whose tree may
+ *                contain the target of a new rebuttal (ArgumentGraph#topicsContaining),
+ *                or for all topics while the graph is not loaded
+ *   - statement / argument: rebuttals of a statement, claim → argument
+ *                lookups, justifications; bumped for the target, the new
+ *                statement and the new argument of a rebuttal
+ * Every scope is at least the corpus version. Statements and arguments
+ * share STRIPES hashed slots instead of one counter per ID, so memory stays
+ * fixed; a bump may also change the tag of an unrelated ID in the same
+ * slot, which costs that client one full response, never a stale one.
+ *
+ * Bumps happen after commit, after the caches behind these endpoints have
+ * dropped or updated their entries (ORDER_VERSIONS runs after ORDER_CACHES),
+ * and callers read a version before reading the data it describes: a
+ * response may carry new data under an old tag (the next request fetches it
+ * again), but never old data under a new tag.
+ */
+@Component
+public class ContentVersions {
+
+    static final int STRIPES = 4096;
+
+    /** Statement and argument IDs overlap; different salts spread them over different stripes */
+    private static final int STATEMENT = 0x9E3779B9;
+    private static final int ARGUMENT = 0x85EBCA6B;
+
+    private final ArgumentGraphService argumentGraphService;
+
+    private final AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+    private volatile long corpus = clock.get();
+    private volatile long allTopics = corpus;
+    private final Map<String, Long> topics = new ConcurrentHashMap<>();
+    private final AtomicLongArray stripes = new AtomicLongArray(STRIPES);
+
+    public ContentVersions(ArgumentGraphService argumentGraphService) {
+        this.argumentGraphService = argumentGraphService;
+    }
+
+    // ────────────────────────────────
+    // Reading
+    // ────────────────────────────────
+
+    public long corpus() {
+        return corpus;
+    }
+
+    public long topic(String name) {
+        return Math.max(Math.max(corpus, allTopics), topics.getOrDefault(name, 0L));
+    }
+
+    public long statement(int statementId) {
+        return Math.max(corpus, stripes.get(stripe(statementId, STATEMENT)));
+    }
+
+    public long argument(int argumentId) {
+        return Math.max(corpus, stripes.get(stripe(argumentId, ARGUMENT)));
+    }
+
+    /** Strong entity tag for a version. */
+    public static String etag(long version) {
+        return "\"" + Long.toString(version, 36) + "\"";
+    }
+
+    // ────────────────────────────────
+    // Bumping
+    // ────────────────────────────────
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Order(RebuttalCreatedEvent.ORDER_VERSIONS)
+    public void onRebuttalCreated(RebuttalCreatedEvent event) {
+        long version = next();
+        bump(stripe(event.targetId(), STATEMENT), version);
+        bump(stripe(event.statementId(), STATEMENT), version);
+        bump(stripe(event.argumentId(), ARGUMENT), version);
+
+        Optional<ArgumentGraph> graph = argumentGraphService.graph();
+        if (graph.isPresent()) {
+            for (String topic : graph.get().topicsContaining(event.targetId())) {
+                topics.merge(topic, version, Math::max);
+            }
+        } else {
+            allTopics = version;
+        }
+    }
+
+    @EventListener
+    public void onCorpusImported(CorpusImportedEvent event) {
+        corpus = next();
+        topics.clear();
+    }
+
+    /** Next version: the current time, or one past the previous version if the clock has not moved. */
+    private long next() {
+        long now = System.currentTimeMillis();
+        return clock.updateAndGet(previous -> Math.max(previous + 1, now));
+    }
+
+    private void bump(int stripe, long version) {
+        stripes.accumulateAndGet(stripe, version, Math::max);
+    }
+
+    private static int stripe(int id, int salt) {
+        int h = (id ^ salt) * 0x27D4EB2F;
+        return (h ^ (h >>> 16)) & (STRIPES - 1);
+    }
+}
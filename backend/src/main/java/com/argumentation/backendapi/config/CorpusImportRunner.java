@@ -0,0 +1,66 @@
+package com.argumentation.backendapi.config;
+
+import com.argumentation.backendapi.model.ImportSummary;
+import com.argumentation.backendapi.service.CorpusImportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * CorpusImportRunner
+ * -------------------
+ * Import mode: when started with --argumentation.import.file=/path/to/args-me.json
+ * the application imports that corpus once it has started. ApplicationRunners
+ * run after the web server is up, so requests are served during the import;
+ * the importer reserves its IDs accordingly (see CorpusImportServiceImpl),
+ * and the in-memory graph and search index catch up when it is done.
+ *
+ * With --argumentation.import.exit=true the application shuts down once the
+ * import is done, which turns it into a one-shot command-line importer:
+ *
+ *   java -jar backendapi.jar --argumentation.import.file=args-me.json --argumentation.import.exit=true
+ */
+@Component
+@ConditionalOnProperty(prefix = "argumentation.import", name = "file")
+public class CorpusImportRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(CorpusImportRunner.class);
+
+    private final CorpusImportService corpusImportService;
+    private final ConfigurableApplicationContext context;
+    private final String file;
+    private final boolean exit;
+
+    public CorpusImportRunner(CorpusImportService corpusImportService,
+                              ConfigurableApplicationContext context,
+                              @Value("${argumentation.import.file}") String file,
+                              @Value("${argumentation.import.exit:false}") boolean exit) {
+        this.corpusImportService = corpusImportService;
+        this.context = context;
+        this.file = file;
+        this.exit = exit;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("Importing args.me corpus from {}", file);
+        ImportSummary summary = corpusImportService.importArgsMe(Path.of(file));
+        log.info("Imported {} arguments: {} statements ({} rebuttals), {} premises, {} new sources, {} new topics, "
+                        + "{} texts truncated in {} ms ({} statements/s)",
+                summary.arguments(), summary.statements(), summary.rebuttals(), summary.premises(),
+                summary.sources(), summary.topics(), summary.truncated(), summary.elapsedMillis(),
+                summary.statementsPerSecond());
+
+        if (exit) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.argumentation.backendapi.config;
+
+import com.argumentation.backendapi.metrics.QueryCounter;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * DatabaseFanOut
+ * ---------------
+ * Runs independent repository reads of one request in parallel on virtual
+ * threads, e.g. the premises and the rebuttals of one tree level.
+ *
+ * Usage:
+ *   Forked<List<StatementRow>> rebuttals = fanOut.fork(() -> repository.rebuttalsOf(ids));
+ *   List<StatementRow> premises = repository.premisesOf(ids);   // meanwhile, on the caller
+ *   use(premises, rebuttals.join());
+ *
+ * Limiting:
+ *   A forked read needs a connection of its own, so forked reads are
+ *   bounded by a semaphore sized from the connection pool (half of
+ *   spring.datasource.hikari.maximum-pool-size unless max-concurrent is
+ *   set). That caps the connections forked reads hold at once; it reserves
+ *   nothing for the request threads, which take connections from the same
+ *   pool as everything else. fork() never waits for a permit: without one
+ *   the read runs right away on the caller, exactly as before. A traffic
+ *   spike therefore degrades to sequential reads instead of piling up
+ *   virtual threads in front of the pool.
+ *
+ * Transactions and open-in-view:
+ *   fork() runs the read inline when the caller may already hold a
+ *   connection: inside a transaction, or when an EntityManager is bound to
+ *   the thread (spring.jpa.open-in-view, on by default outside the prod
+ *   profile, keeps the request's connection until the response is
+ *   written). Such a caller holds a connection while it waits in join(),
+ *   and the forked read waits for another one; with enough of these
+ *   requests at once every connection is held by a caller waiting for a
+ *   read that can never get one. Otherwise the caller holds a connection
+ *   only while its own query runs, so a join() never blocks a connection.
+ *   This also keeps reads inside a transaction on its consistent view.
+ *   With open-in-view on, request threads therefore never fork; set
+ *   spring.jpa.open-in-view=false to get the parallel reads.
+ *
+ * Forked reads run on their own connection; only use fork() for reads
+ * that return plain rows (no lazy entities).
+ *
+ * Enabled together with virtual threads for request handling
+ * (spring.threads.virtual.enabled=true), or on its own with
+ * argumentation.db.fan-out.enabled=true. When disabled, fork() runs the
+ * read inline.
+ */
+@Component
+public class DatabaseFanOut {
+
+    private final boolean enabled;
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final ExecutorService executor;
+    /** Key under which open-in-view binds the request's EntityManager; null without JPA */
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final AtomicLong forked = new AtomicLong();
+    private final AtomicLong inline = new AtomicLong();
+
+    @Autowired
+    public DatabaseFanOut(@Value("${argumentation.db.fan-out.enabled:${spring.threads.virtual.enabled:false}}") boolean enabled,
+                          @Value("${argumentation.db.fan-out.max-concurrent:0}") int maxConcurrent,
+                          @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                          EntityManagerFactory entityManagerFactory) {
+        this.enabled = enabled;
+        this.entityManagerFactory = entityManagerFactory;
+        this.maxConcurrent = maxConcurrent > 0 ? maxConcurrent : Math.max(1, poolSize / 2);
+        this.permits = new Semaphore(this.maxConcurrent);
+        this.executor = enabled ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("db-fan-out-", 0).factory()) : null;
+    }
+
+    /** Without JPA: only transactions make reads run inline. */
+    public DatabaseFanOut(boolean enabled, int maxConcurrent, int poolSize) {
+        this(enabled, maxConcurrent, poolSize, null);
+    }
+
+    /** A read started by fork(); join() returns its result or rethrows its exception. */
+    public interface Forked<T> {
+        T join();
+    }
+
+    public <T> Forked<T> fork(Supplier<T> read) {
+        if (!enabled || callerMayHoldConnection() || !permits.tryAcquire()) {
+            inline.incrementAndGet();
+            T result = read.get();
+            return () -> result;
+        }
+        Supplier<T> counted = QueryCounter.propagate(read); // statements count towards the caller's request
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                try {
+                    return counted.get();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            inline.incrementAndGet();
+            T result = read.get();
+            return () -> result;
+        }
+        forked.incrementAndGet();
+        return () -> join(future);
+    }
+
+    private boolean callerMayHoldConnection() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                || (entityManagerFactory != null && TransactionSynchronizationManager.hasResource(entityManagerFactory));
+    }
+
+    private static <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Forked read failed", e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a forked read", e);
+        }
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /** Reads run on their own virtual thread so far. */
+    public long forkedCount() {
+        return forked.get();
+    }
+
+    /** Reads run on the caller (fan-out disabled, caller holds a connection, or all permits taken). */
+    public long inlineCount() {
+        return inline.get();
+    }
+
+    public int maxConcurrent() {
+        return maxConcurrent;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
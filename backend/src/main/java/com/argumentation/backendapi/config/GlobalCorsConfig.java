@@ -32,7 +32,8 @@ public class GlobalCorsConfig {
                 registry.addMapping("/api/**")                   // Apply CORS policy to all endpoints starting with /api/
                         .allowedOrigins("http://localhost:4200")  // Allow requests from Angular's dev server
                         .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS") // Allowed HTTP methods
-                        .allowedHeaders("*");                     // Allow all headers (Authorization, Content-Type, etc.)
+                        .allowedHeaders("*")                      // Allow all headers (Authorization, Content-Type, etc.)
+                        .exposedHeaders("X-Next-Cursor", "X-Query-Count"); // Paging cursors; query counts (debug profile)
             }
         };
     }
@@ -0,0 +1,84 @@
+package com.argumentation.backendapi.config;
+
+import com.argumentation.backendapi.event.CorpusImportedEvent;
+import com.argumentation.backendapi.importer.IdGenerators;
+import com.argumentation.backendapi.importer.StatementClosure;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * PersistenceSync
+ * ----------------
+ * Keeps Hibernate's view of the database in step with rows written around it
+ * (the bulk importers, dumps loaded by hand):
+ *   - at startup, once the schema exists, the statement and argument ID
+ *     generators are moved past MAX(id) (see IdGenerators)
+ *   - at startup, statement_closure is built if it is still empty
+ *     (databases that predate it; see StatementClosure)
+ *   - after an import, the second-level cache (sources, topics) is cleared
+ *
+ * The importers advance the generators and rebuild the closure themselves.
+ */
+@Component
+public class PersistenceSync {
+
+    private static final Logger log = LoggerFactory.getLogger(PersistenceSync.class);
+
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+
+    /** Taking the EntityManagerFactory makes sure schema generation has run before init() */
+    public PersistenceSync(DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+        this.dataSource = dataSource;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @PostConstruct
+    void init() {
+        try (Connection connection = dataSource.getConnection()) {
+            IdGenerators.advance(connection);
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not initialise the ID generators in " + IdGenerators.TABLE, e);
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            if (StatementClosure.needsRebuild(connection)) {
+                rebuildClosure(connection);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not build " + StatementClosure.TABLE, e);
+        }
+    }
+
+    private static void rebuildClosure(Connection connection) throws SQLException {
+        long started = System.nanoTime();
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            long rows = StatementClosure.rebuild(connection);
+            connection.commit();
+            log.info("Built {} ({} rows) in {} ms", StatementClosure.TABLE, rows,
+                    (System.nanoTime() - started) / 1_000_000);
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    @EventListener
+    public void onCorpusImported(CorpusImportedEvent event) {
+        entityManagerFactory.getCache().evictAll();
+    }
+}
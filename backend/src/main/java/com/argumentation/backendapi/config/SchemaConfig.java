@@ -0,0 +1,29 @@
+package com.argumentation.backendapi.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * SchemaConfig
+ * -------------
+ * The schema is defined by versioned Flyway migrations
+ * (src/main/resources/db/migration), applied at startup before Hibernate
+ * starts:
+ *   - V1  tables, primary and foreign keys, as Hibernate used to generate them
+ *   - V2  id_generators (pooled statement and argument IDs)
+ *   - V3  indexes for the traversal queries (claim → argument, premise →
+ *         arguments, unique topic name); UniqueTopicNamesCallback renames
+ *         duplicate topic names first
+ *   - V4  statement_closure (subtree queries)
+ *   - V5  rebuttal index (counter_statement, id) for databases baselined at
+ *         V1, which never ran V1; a Java migration (db.migration), as it
+ *         has to check whether the index exists
+ *
+ * Defaults come from schema.properties: a database that predates the
+ * migrations is baselined at V1 and only gets V2 onwards; Hibernate
+ * validates the entities against the result instead of altering tables.
+ */
+@Configuration
+@PropertySource("classpath:schema.properties")
+public class SchemaConfig {
+}
@@ -0,0 +1,82 @@
+package com.argumentation.backendapi.config;
+
+import com.argumentation.backendapi.event.CorpusImportedEvent;
+import com.argumentation.backendapi.importer.SyntheticCorpus;
+import com.argumentation.backendapi.model.ImportSummary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * SyntheticCorpusRunner
+ * ----------------------
+ * Synthetic mode: when started with --argumentation.synthetic.statements=N
+ * the application fills the database with a generated argument graph
+ * (see SyntheticCorpus) before it begins serving requests. Meant for
+ * benchmarks and load tests against an embedded database.
+ *
+ * Configuration:
+ *   - argumentation.synthetic.statements      total statements
+ *   - argumentation.synthetic.fan-out         (default 3)    premises per argument
+ *   - argumentation.synthetic.attack-density  (default 0.5)  expected rebuttals per statement
+ *   - argumentation.synthetic.seed            (default 42)
+ *
+ * Runners finish before ApplicationReadyEvent, so the in-memory graph and the
+ * search index are built from the generated rows.
+ */
+@Component
+@ConditionalOnProperty(prefix = "argumentation.synthetic", name = "statements")
+public class SyntheticCorpusRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticCorpusRunner.class);
+
+    private final DataSource dataSource;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SyntheticCorpus.Shape shape;
+    private volatile SyntheticCorpus.Summary summary;
+
+    public SyntheticCorpusRunner(DataSource dataSource,
+                                 ApplicationEventPublisher eventPublisher,
+                                 @Value("${argumentation.synthetic.statements}") int statements,
+                                 @Value("${argumentation.synthetic.fan-out:3}") int fanOut,
+                                 @Value("${argumentation.synthetic.attack-density:0.5}") double attackDensity,
+                                 @Value("${argumentation.synthetic.seed:42}") long seed) {
+        this.dataSource = dataSource;
+        this.eventPublisher = eventPublisher;
+        this.shape = new SyntheticCorpus.Shape(statements, fanOut, attackDensity, seed);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("Generating synthetic corpus: {} statements, fan-out {}, attack density {}",
+                shape.statements(), shape.fanOut(), shape.attackDensity());
+        long started = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            summary = SyntheticCorpus.write(connection, shape);
+        } catch (SQLException e) {
+            throw new RuntimeException("Synthetic corpus generation failed", e);
+        }
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("Generated {} statements ({} rebuttals), {} premises, {} topics in {} ms",
+                summary.statements(), summary.rebuttals(), summary.premises(), summary.topicNames().size(),
+                elapsedMillis);
+
+        eventPublisher.publishEvent(new CorpusImportedEvent(new ImportSummary(summary.arguments(),
+                summary.statements(), summary.premises(), summary.rebuttals(), 1, summary.topicNames().size(),
+                0, elapsedMillis)));
+    }
+
+    /** What the run generated, or null before it ran. */
+    public SyntheticCorpus.Summary summary() {
+        return summary;
+    }
+}
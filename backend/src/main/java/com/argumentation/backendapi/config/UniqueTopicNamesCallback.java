@@ -0,0 +1,74 @@
+package com.argumentation.backendapi.config;
+
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.callback.Callback;
+import org.flywaydb.core.api.callback.Context;
+import org.flywaydb.core.api.callback.Event;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * UniqueTopicNamesCallback
+ * -------------------------
+ * Flyway callback that runs right before V3, which adds the unique index
+ * uq_topics_name. A database baselined at V1 may hold several topics with
+ * the same name; all but the oldest of them get their ID appended
+ * ("Television (42)"), so V3 succeeds and every topic stays listed and
+ * reachable by name. Nothing references topics, so renaming is all it takes.
+ *
+ * A callback rather than a statement in V3, so databases that already
+ * applied V3 keep a matching checksum. Spring Boot registers Callback beans
+ * with its Flyway.
+ */
+@Component
+public class UniqueTopicNamesCallback implements Callback {
+
+    private static final Logger log = LoggerFactory.getLogger(UniqueTopicNamesCallback.class);
+
+    private static final MigrationVersion UNIQUE_TOPIC_NAMES = MigrationVersion.fromVersion("3");
+
+    /** The derived table lets MySQL read topics while updating it; names stay within varchar(255) */
+    static final String RENAME_DUPLICATES = """
+            update topics
+            set name = concat(left(name, 240), ' (', id, ')')
+            where name is not null
+              and id not in (select id from (select min(id) as id from topics group by name) oldest)
+            """;
+
+    @Override
+    public boolean supports(Event event, Context context) {
+        if (event != Event.BEFORE_EACH_MIGRATE) {
+            return false;
+        }
+        MigrationInfo migration = context.getMigrationInfo();
+        return migration != null && UNIQUE_TOPIC_NAMES.equals(migration.getVersion());
+    }
+
+    @Override
+    public boolean canHandleInTransaction(Event event, Context context) {
+        return true;
+    }
+
+    @Override
+    public void handle(Event event, Context context) {
+        try (Statement statement = context.getConnection().createStatement()) {
+            int renamed = statement.executeUpdate(RENAME_DUPLICATES);
+            if (renamed > 0) {
+                log.warn("Renamed {} topics whose name was already taken before adding uq_topics_name", renamed);
+            }
+        } catch (SQLException e) {
+            throw new FlywayException("Could not rename duplicate topic names", e);
+        }
+    }
+
+    @Override
+    public String getCallbackName() {
+        return "uniqueTopicNames";
+    }
+}
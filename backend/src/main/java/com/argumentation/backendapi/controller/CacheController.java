@@ -0,0 +1,40 @@
+package com.argumentation.backendapi.controller;
+
+import com.argumentation.backendapi.cache.BoundedCache;
+import com.argumentation.backendapi.cache.CacheRegistry;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * CacheController
+ * ----------------
+ * Exposes size, weight and hit/miss counters of the read caches.
+ */
+@RestController
+@RequestMapping("/api/cache")
+@CrossOrigin(origins = "*") // Allow requests from any frontend origin (can restrict later if needed)
+public class CacheController {
+
+    private final CacheRegistry cacheRegistry;
+
+    // Constructor injection of CacheRegistry
+    public CacheController(CacheRegistry cacheRegistry) {
+        this.cacheRegistry = cacheRegistry;
+    }
+
+    /**
+     * Endpoint: GET /api/cache/stats
+     * -------------------------------
+     * Example response:
+     * [
+     *   { "name": "rootClaims", "size": 42, "weight": 18230, "hits": 91822, "misses": 42,
+     *     "evictions": 0, "expirations": 0, "invalidations": 0, "hitRate": 0.9995 },
+     *   ...
+     * ]
+     */
+    @GetMapping("/stats")
+    public List<BoundedCache.Stats> getStats() {
+        return cacheRegistry.stats();
+    }
+}
@@ -0,0 +1,42 @@
+package com.argumentation.backendapi.controller;
+
+import com.argumentation.backendapi.cache.ContentVersions;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * ConditionalGet
+ * ---------------
+ * ETag handling for the read endpoints, driven by a
+ * ContentVersions version that the handler reads before anything else.
+ *
+ * Usage:
+ *   if (ConditionalGet.notModified(request, contentVersions.statement(id))) {
+ *       return null; // 304 Not Modified, nothing was loaded
+ *   }
+ *
+ * Responses are marked Cache-Control: no-cache: browsers and the CDN may
+ * store them but must revalidate every time, which the version check
+ * answers without touching the database.
+ *
+ * No Last-Modified: it has one-second resolution, so after two changes
+ * within one second a client revalidating with If-Modified-Since would get
+ * a 304 for the first one's data. The strong ETag changes with every version.
+ */
+final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * Sets the ETag for {@code version} and evaluates If-None-Match. When this returns true the 304 status and headers
+     * are already set; the handler returns null (or nothing) without a body.
+     */
+    static boolean notModified(ServletWebRequest request, long version) {
+        HttpServletResponse response = request.getResponse();
+        if (response != null) {
+            response.setHeader("Cache-Control", "no-cache");
+        }
+        return request.checkNotModified(ContentVersions.etag(version));
+    }
+}
@@ -0,0 +1,104 @@
+package com.argumentation.backendapi.controller;
+
+import com.argumentation.backendapi.dialogue.IllegalMoveException;
+import com.argumentation.backendapi.model.DialogueCreateRequest;
+import com.argumentation.backendapi.model.DialogueMoveRequest;
+import com.argumentation.backendapi.model.DialogueStateDTO;
+import com.argumentation.backendapi.service.DialogueService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * DialogueController
+ * -------------------
+ * REST endpoints for server-side debate sessions. The server owns the move
+ * history, whose turn it is, the challenged statements and pending
+ * justifications, and rejects moves that break the rules with 409 Conflict.
+ */
+@RestController
+@RequestMapping("/api/dialogues")
+@CrossOrigin(origins = "*") // Allow requests from any frontend origin (can restrict later if needed)
+public class DialogueController {
+
+    private final DialogueService dialogueService;
+
+    // Constructor injection of DialogueService
+    public DialogueController(DialogueService dialogueService) {
+        this.dialogueService = dialogueService;
+    }
+
+    /**
+     * Endpoint: POST /api/dialogues
+     * ------------------------------
+     * Opens a debate on a topic. The proponent's root claim is the first move;
+     * the opponent is to move.
+     *
+     * Example request body:
+     *   { "topic": "Television" }
+     *
+     * Example response:
+     * {
+     *   "id": "4587128395121", "topic": "Television", "rootClaimId": 1,
+     *   "turn": "Opponent", "allowedMoves": ["Challenge", "Accept"], "ended": false,
+     *   "remaining": { "Proponent": { "turns": 5, "challenges": 15, "rebuttals": 5 }, "Opponent": { ... } },
+     *   "history": [ { "actor": "Proponent", "type": "Claim", "statementIds": [1], "timestamp": "..." } ]
+     * }
+     */
+    @PostMapping
+    public DialogueStateDTO start(@RequestBody DialogueCreateRequest request) {
+        return dialogueService.start(request.getTopic());
+    }
+
+    /**
+     * Endpoint: GET /api/dialogues/{id}
+     * ----------------------------------
+     * Returns the current state of a session, or 404 if it does not exist or expired.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<DialogueStateDTO> get(@PathVariable String id) {
+        return dialogueService.get(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Endpoint: POST /api/dialogues/{id}/moves
+     * -----------------------------------------
+     * Makes a move for the side whose turn it is.
+     *
+     * Example request bodies:
+     *   { "actor": "Opponent", "type": "Challenge", "targetId": 1 }
+     *   { "actor": "Proponent", "type": "Justify", "statementIds": [2, 3] }
+     *   { "actor": "Opponent", "type": "Rebuttal", "targetId": 3, "text": "..." }
+     *   { "actor": "Proponent", "type": "Accept" }
+     *
+     * @return The state after the move; 404 for unknown sessions, 409 for illegal moves.
+     */
+    @PostMapping("/{id}/moves")
+    public ResponseEntity<DialogueStateDTO> move(@PathVariable String id, @RequestBody DialogueMoveRequest request) {
+        return dialogueService.move(id, request)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Endpoint: DELETE /api/dialogues/{id}
+     * -------------------------------------
+     * Discards a session (204), or 404 if it does not exist.
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> end(@PathVariable String id) {
+        return dialogueService.end(id)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    /** Rule violations are client errors, reported with the reason. */
+    @ExceptionHandler(IllegalMoveException.class)
+    public ResponseEntity<Map<String, String>> onIllegalMove(IllegalMoveException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+    }
+}
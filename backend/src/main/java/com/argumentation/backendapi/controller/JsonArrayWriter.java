@@ -0,0 +1,68 @@
+package com.argumentation.backendapi.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * JsonArrayWriter
+ * ----------------
+ * Writes a JSON array to the response one element at a time, for the
+ * ?stream=true variants of the list endpoints. Elements are serialized as
+ * they arrive from a database cursor, so neither the rows nor the JSON are
+ * ever held in full: memory stays at the generator's buffer regardless of
+ * the result size.
+ *
+ * Usage:
+ *   JsonArrayWriter<TopicDTO> writer = JsonArrayWriter.open(response, objectMapper);
+ *   topicService.streamAllTopics(writer);
+ *   writer.finish();
+ *
+ * Nothing reaches the client before the generator's buffer first fills, so
+ * an exception thrown before the first rows (e.g. "not found") still
+ * produces a normal error response. finish() is deliberately not called on
+ * failure: a half-written array is cut off instead of being closed into
+ * valid-looking JSON.
+ */
+final class JsonArrayWriter<T> implements Consumer<T> {
+
+    private final JsonGenerator generator;
+    private final ObjectWriter elementWriter;
+
+    private JsonArrayWriter(JsonGenerator generator, ObjectWriter elementWriter) {
+        this.generator = generator;
+        this.elementWriter = elementWriter;
+    }
+
+    static <T> JsonArrayWriter<T> open(HttpServletResponse response, ObjectMapper objectMapper) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream());
+        generator.writeStartArray();
+        // ObjectMapper flushes after every value by default, which would send one chunk per row
+        return new JsonArrayWriter<>(generator,
+                objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE));
+    }
+
+    @Override
+    public void accept(T element) {
+        try {
+            elementWriter.writeValue(generator, element);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Closes the array and flushes it to the client. */
+    void finish() throws IOException {
+        generator.writeEndArray();
+        generator.close();
+    }
+}
@@ -0,0 +1,87 @@
+package com.argumentation.backendapi.controller;
+
+import com.argumentation.backendapi.model.KeysetPage;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * PageCursor
+ * -----------
+ * Continuation tokens for the paged list endpoints (?limit=N&cursor=...).
+ *
+ * The page body is the same JSON array as the unpaged endpoint; when more
+ * rows follow, the X-Next-Cursor response header carries the token for the
+ * next request. Clients treat the token as opaque. Inside it is the listing
+ * it belongs to (e.g. "rebuttals:12") and the last ID sent, base64url
+ * encoded, so a token replayed against another listing is rejected (400)
+ * instead of silently skipping rows.
+ */
+final class PageCursor {
+
+    static final String HEADER = "X-Next-Cursor";
+
+    /** Page size when a cursor is sent without a limit */
+    static final int DEFAULT_LIMIT = 100;
+
+    static final int MAX_LIMIT = 1000;
+
+    private static final String VERSION = "1";
+
+    private PageCursor() {}
+
+    /** True if the request asks for a page rather than the whole list. */
+    static boolean requested(Integer limit, String cursor) {
+        return limit != null || cursor != null;
+    }
+
+    static int limit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be at least 1");
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    static String encode(String listing, int afterId) {
+        String plain = VERSION + "|" + listing + "|" + afterId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(plain.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return The ID to continue after; 0 (start) when {@code cursor} is null.
+     */
+    static int decode(String cursor, String listing) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length == 3 && parts[0].equals(VERSION) && parts[1].equals(listing)) {
+                int afterId = Integer.parseInt(parts[2]);
+                if (afterId >= 0) {
+                    return afterId;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // bad base64 or number: fall through
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor for " + listing);
+    }
+
+    /** The page's rows as the body, plus X-Next-Cursor unless it is the last page. */
+    static <T> ResponseEntity<List<T>> response(KeysetPage<T> page, String listing) {
+        if (page.nextAfterId() == null) {
+            return ResponseEntity.ok(page.items());
+        }
+        return ResponseEntity.ok()
+                .header(HEADER, encode(listing, page.nextAfterId()))
+                .body(page.items());
+    }
+}
@@ -1,20 +1,29 @@
 package com.argumentation.backendapi.controller;
 
+import com.argumentation.backendapi.cache.ContentVersions;
 import com.argumentation.backendapi.model.RebuttalCreateRequest;
 import com.argumentation.backendapi.model.RebuttalCreateResponse;
 import com.argumentation.backendapi.service.RebuttalService;
+import com.argumentation.backendapi.service.RebuttalStreamService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * RebuttalController
  * -------------------
  * This REST controller handles all HTTP requests related to "rebuttals".
  * It exposes endpoints to:
- *   1. Create a new rebuttal for a given claim.
+ *   1. Create a new rebuttal for a given claim (or many in one transaction).
  *   2. Retrieve all rebuttals targeting a specific claim.
+ *   3. Retrieve the rebuttals of many claims in one request.
+ *   4. Stream new rebuttals of a claim as they are committed (SSE).
  */
 @RestController                     // Marks this class as a REST controller returning JSON responses.
 @CrossOrigin                        // Allows cross-origin requests (useful for Angular frontend).
@@ -22,10 +31,15 @@ import java.util.List;
 public class RebuttalController {
 
     private final RebuttalService rebuttalService; // Service layer dependency for business logic.
+    private final RebuttalStreamService rebuttalStreamService;
+    private final ContentVersions contentVersions; // ETags for conditional GETs
 
-    // Constructor injection for the RebuttalService dependency.
-    public RebuttalController(RebuttalService rebuttalService) {
+    // Constructor injection for the service dependencies.
+    public RebuttalController(RebuttalService rebuttalService, RebuttalStreamService rebuttalStreamService,
+                              ContentVersions contentVersions) {
         this.rebuttalService = rebuttalService;
+        this.rebuttalStreamService = rebuttalStreamService;
+        this.contentVersions = contentVersions;
     }
 
     /**
@@ -41,16 +55,102 @@ public class RebuttalController {
         return ResponseEntity.ok(rebuttalService.createRebuttal(req));
     }
 
+    /**
+     * Endpoint: POST /api/rebuttals/bulk
+     * ----------------------------------
+     * Creates several rebuttals in one transaction; if one fails, none is saved.
+     * Their inserts are sent as JDBC batches, so this is the fast path for
+     * loading many rebuttals at once.
+     *
+     * @param reqs The rebuttals to create, each as for POST /api/rebuttals.
+     * @return The created rebuttals, in request order (400 if there are too many).
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<RebuttalCreateResponse>> createBulk(@RequestBody List<RebuttalCreateRequest> reqs) {
+        return ResponseEntity.ok(rebuttalService.createRebuttals(reqs));
+    }
+
     /**
      * Endpoint: GET /api/rebuttals?targetClaimId={id}
      * -----------------------------------------------
      * Retrieves all rebuttals associated with a given target claim.
      *
+     * Paging (optional): with ?limit=N (and the cursor from the previous
+     * page's X-Next-Cursor header) only N rebuttals are returned, read by
+     * keyset on the statement ID. Without limit and cursor all are returned.
+     *
+     * The ETag changes when a rebuttal of the claim is committed; until
+     * then If-None-Match is answered with 304.
+     *
      * @param targetClaimId The ID of the claim being targeted by rebuttals.
+     * @param limit         Page size (at most 1000; 100 if only a cursor is given).
+     * @param cursor        Continuation token from X-Next-Cursor.
      * @return A ResponseEntity containing a list of RebuttalCreateResponse objects.
      */
     @GetMapping
-    public ResponseEntity<List<RebuttalCreateResponse>> listByTarget(@RequestParam("targetClaimId") Integer targetClaimId) {
+    public ResponseEntity<List<RebuttalCreateResponse>> listByTarget(@RequestParam("targetClaimId") Integer targetClaimId,
+                                                                     @RequestParam(required = false) Integer limit,
+                                                                     @RequestParam(required = false) String cursor,
+                                                                     ServletWebRequest request) {
+        if (ConditionalGet.notModified(request, contentVersions.statement(targetClaimId))) {
+            return null;
+        }
+        if (PageCursor.requested(limit, cursor)) {
+            String listing = "rebuttals:" + targetClaimId;
+            return PageCursor.response(rebuttalService.getRebuttalPage(
+                    targetClaimId, PageCursor.decode(cursor, listing), PageCursor.limit(limit)), listing);
+        }
         return ResponseEntity.ok(rebuttalService.getRebuttalsForTarget(targetClaimId));
     }
+
+    /**
+     * Endpoint: GET /api/rebuttals/by-targets?targetClaimIds=1,2,3
+     * -------------------------------------------------------------
+     * Retrieves the rebuttals of several target claims with a single query.
+     *
+     * @param targetClaimIds The IDs of the claims being targeted by rebuttals.
+     * @return A map from each target claim ID to its list of rebuttals (304 if none of them changed).
+     */
+    @GetMapping("/by-targets")
+    public ResponseEntity<Map<Integer, List<RebuttalCreateResponse>>> listByTargets(@RequestParam("targetClaimIds") List<Integer> targetClaimIds,
+                                                                                    ServletWebRequest request) {
+        long version = contentVersions.corpus();
+        for (Integer targetClaimId : targetClaimIds) {
+            if (targetClaimId != null) {
+                version = Math.max(version, contentVersions.statement(targetClaimId));
+            }
+        }
+        if (ConditionalGet.notModified(request, version)) {
+            return null;
+        }
+        return ResponseEntity.ok(rebuttalService.getRebuttalsForTargets(targetClaimIds));
+    }
+
+    /**
+     * Endpoint: GET /api/rebuttals/stream?targetClaimId={id}
+     * -------------------------------------------------------
+     * Server-Sent Events stream of the rebuttals committed for a claim from now on,
+     * replacing repeated calls to listByTarget. Load the current list once, then listen:
+     *
+     *   event: rebuttals
+     *   id: 1760601600000042
+     *   data: [{"argumentId":311,"statementId":812,"text":"...","source":"...","statusChanges":{...}}]
+     *
+     * A "resync" event asks the client to reload the list (it fell too far behind).
+     * EventSource reconnects on its own and sends Last-Event-ID; rebuttals committed
+     * after that event are sent first, or a resync if they are no longer kept.
+     *
+     * @param targetClaimId The ID of the claim being targeted by rebuttals.
+     * @param lastEventId   Set by the browser when reconnecting.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam("targetClaimId") Integer targetClaimId,
+                             @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return rebuttalStreamService.subscribe(targetClaimId, lastEventId);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> onIllegalArgument(IllegalArgumentException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", e.getMessage()));
+    }
 }
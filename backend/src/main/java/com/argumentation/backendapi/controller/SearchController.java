@@ -0,0 +1,51 @@
+package com.argumentation.backendapi.controller;
+
+import com.argumentation.backendapi.model.SearchHitDTO;
+import com.argumentation.backendapi.service.SearchService;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * SearchController
+ * -----------------
+ * Full-text search over statements (claims, premises, rebuttals) and topic
+ * names, so a claim can be found without knowing its topic's exact name.
+ */
+@RestController
+@RequestMapping("/api")
+@CrossOrigin(origins = "*") // Allow requests from any frontend origin (can restrict later if needed)
+public class SearchController {
+
+    private final SearchService searchService;
+
+    // Constructor injection of SearchService
+    public SearchController(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    /**
+     * Endpoint: GET /api/search
+     * --------------------------
+     * Ranks statements and topics by BM25 relevance to the query. The last
+     * word also matches as a prefix, so the endpoint can back a search-as-you-type box.
+     *
+     * Example request:
+     *   GET /api/search?q=nuclear%20ener&limit=5
+     *
+     * Example response:
+     * [
+     *   { "type": "topic", "id": 4, "text": "Nuclear Energy", "score": 9.1 },
+     *   { "type": "statement", "id": 812, "text": "Nuclear energy is ...", "score": 7.4, "argumentId": 311 },
+     *   ...
+     * ]
+     *
+     * @param q     The query text.
+     * @param limit Maximum number of hits (default 10, at most 50).
+     */
+    @GetMapping("/search")
+    public List<SearchHitDTO> search(@RequestParam String q,
+                                     @RequestParam(defaultValue = "10") int limit) {
+        return searchService.search(q, limit);
+    }
+}
@@ -0,0 +1,47 @@
+package com.argumentation.backendapi.controller;
+
+import com.argumentation.backendapi.model.SemanticsResponse;
+import com.argumentation.backendapi.service.SemanticsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * SemanticsController
+ * --------------------
+ * Exposes acceptability semantics for a topic's argument graph:
+ * which claims stand (IN), which are defeated (OUT) and which remain
+ * undecided (UNDEC), plus the preferred and stable extensions.
+ */
+@RestController
+@RequestMapping("/api/semantics")
+@CrossOrigin(origins = "*") // Allow requests from any frontend origin (can restrict later if needed)
+public class SemanticsController {
+
+    private final SemanticsService semanticsService;
+
+    // Constructor injection of SemanticsService
+    public SemanticsController(SemanticsService semanticsService) {
+        this.semanticsService = semanticsService;
+    }
+
+    /**
+     * Endpoint: GET /api/semantics/{topic}
+     * -------------------------------------
+     * Computes the grounded labelling of the topic and, unless disabled,
+     * its preferred and stable extensions.
+     *
+     * Example request:
+     *   GET /api/semantics/Television?extensions=false
+     *
+     * @param topic      The topic name.
+     * @param extensions Whether to compute preferred/stable extensions (default true).
+     * @return Labels per statement ID and the extensions found; 404 if the topic does not exist.
+     */
+    @GetMapping("/{topic}")
+    public ResponseEntity<SemanticsResponse> getSemantics(@PathVariable String topic,
+                                                          @RequestParam(defaultValue = "true") boolean extensions) {
+        return semanticsService.evaluate(topic, extensions)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -1,10 +1,21 @@
 package com.argumentation.backendapi.controller;
 
-import com.argumentation.backendapi.model.*;
-import com.argumentation.backendapi.repository.*;
+import com.argumentation.backendapi.cache.ContentVersions;
+import com.argumentation.backendapi.model.BatchLookupRequest;
+import com.argumentation.backendapi.model.BatchLookupResponse;
+import com.argumentation.backendapi.model.ClaimDTO;
+import com.argumentation.backendapi.model.TreeNodeDTO;
+import com.argumentation.backendapi.service.ArgumentTreeService;
+import com.argumentation.backendapi.service.BatchLookupService;
+import com.argumentation.backendapi.service.StructuredArgumentService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.io.IOException;
 import java.util.*;
 
 /**
@@ -13,25 +24,35 @@ import java.util.*;
  * This controller provides REST endpoints for fetching structured argument data.
  * It connects Topics → Arguments → Claims → Premises, allowing the frontend
  * to reconstruct argument trees (claims, justifications, and their relationships).
+ *
+ * GET responses carry an ETag from ContentVersions;
+ * a request with a current If-None-Match is answered with 304 before any
+ * lookup.
  */
 @RestController
 @RequestMapping("/api/structured-arguments")
 @CrossOrigin(origins = "*") // Allow requests from any frontend origin (can restrict later if needed)
 public class StructuredArgumentController {
 
-    // Injected repository dependencies for database access
-    private final TopicRepository topicRepository;
-    private final ArgumentRepository argumentRepository;
-    private final PremiseRepository premiseRepository;
+    // Injected service dependencies (they decide between the in-memory graph and the database)
+    private final StructuredArgumentService structuredArgumentService;
+    private final ArgumentTreeService argumentTreeService;
+    private final BatchLookupService batchLookupService;
+    private final ObjectMapper objectMapper; // Serializes streamed justifications
+    private final ContentVersions contentVersions; // ETags for conditional GETs
 
     // Constructor-based dependency injection (recommended for immutability and testing)
     public StructuredArgumentController(
-            TopicRepository topicRepository,
-            ArgumentRepository argumentRepository,
-            PremiseRepository premiseRepository) {
-        this.topicRepository = topicRepository;
-        this.argumentRepository = argumentRepository;
-        this.premiseRepository = premiseRepository;
+            StructuredArgumentService structuredArgumentService,
+            ArgumentTreeService argumentTreeService,
+            BatchLookupService batchLookupService,
+            ObjectMapper objectMapper,
+            ContentVersions contentVersions) {
+        this.structuredArgumentService = structuredArgumentService;
+        this.argumentTreeService = argumentTreeService;
+        this.batchLookupService = batchLookupService;
+        this.objectMapper = objectMapper;
+        this.contentVersions = contentVersions;
     }
 
     /**
@@ -43,25 +64,14 @@ public class StructuredArgumentController {
      *   GET /api/structured-arguments/by-topic-name?name=Television
      *
      * @param name The topic name (e.g., "Television").
-     * @return A map containing claim ID, text, and source name.
+     * @return The claim ID, text, and source name.
      */
     @GetMapping("/by-topic-name")
-    public Map<String, Object> getRootClaimByTopicName(@RequestParam String name) {
-        // Find topic by name, throw error if not found
-        TopicEntity topic = topicRepository.findByName(name)
-                .orElseThrow(() -> new RuntimeException("Topic not found: " + name));
-
-        // Extract related argument and its main claim (statement)
-        ArgumentEntity argument = topic.getArgument();
-        StatementEntity claim = argument.getClaim();
-
-        // Build a response map to send simplified data to the frontend
-        Map<String, Object> response = new HashMap<>();
-        response.put("id", claim.getId());
-        response.put("text", claim.getText());
-        response.put("source", claim.getSource() != null ? claim.getSource().getName() : null);
-
-        return response;
+    public ClaimDTO getRootClaimByTopicName(@RequestParam String name, ServletWebRequest request) {
+        if (ConditionalGet.notModified(request, contentVersions.corpus())) {
+            return null; // root claims only change with imports
+        }
+        return structuredArgumentService.getRootClaim(name);
     }
 
     /**
@@ -72,29 +82,49 @@ public class StructuredArgumentController {
      * Example request:
      *   GET /api/structured-arguments/justifications?argumentId=5
      *
+     * Paging (optional): with ?limit=N (and the cursor from the previous
+     * page's X-Next-Cursor header) only N premises are returned, read by
+     * keyset on the premise ID. Without limit and cursor all are returned.
+     *
      * @param argumentId The ID of the argument whose justifications are needed.
+     * @param limit      Page size (at most 1000; 100 if only a cursor is given).
+     * @param cursor     Continuation token from X-Next-Cursor.
      * @return A list of premise objects containing id, text, and source.
      */
     @GetMapping("/justifications")
-    public List<Map<String, Object>> getJustificationsByArgumentId(@RequestParam Integer argumentId) {
-        // Validate that the argument exists
-        ArgumentEntity argument = argumentRepository.findById(argumentId)
-                .orElseThrow(() -> new RuntimeException("Argument not found with ID: " + argumentId));
-
-        // Fetch premises linked to the argument
-        List<PremiseEntity> premises = premiseRepository.findByArgument_Id(argumentId);
+    public ResponseEntity<List<ClaimDTO>> getJustificationsByArgumentId(@RequestParam Integer argumentId,
+                                                                        @RequestParam(required = false) Integer limit,
+                                                                        @RequestParam(required = false) String cursor,
+                                                                        ServletWebRequest request) {
+        if (ConditionalGet.notModified(request, contentVersions.argument(argumentId))) {
+            return null;
+        }
+        if (PageCursor.requested(limit, cursor)) {
+            String listing = "justifications:" + argumentId;
+            return PageCursor.response(structuredArgumentService.getJustificationPage(
+                    argumentId, PageCursor.decode(cursor, listing), PageCursor.limit(limit)), listing);
+        }
+        return ResponseEntity.ok(structuredArgumentService.getJustifications(argumentId));
+    }
 
-        // Build and return a simplified JSON-friendly response
-        List<Map<String, Object>> response = new ArrayList<>();
-        for (PremiseEntity premise : premises) {
-            StatementEntity stmt = premise.getPremise();
-            Map<String, Object> data = new HashMap<>();
-            data.put("id", stmt.getId());
-            data.put("text", stmt.getText());
-            data.put("source", stmt.getSource() != null ? stmt.getSource().getName() : null);
-            response.add(data);
+    /**
+     * Endpoint: GET /api/structured-arguments/justifications?argumentId=5&stream=true
+     * --------------------------------------------------------------------------------
+     * Same JSON as above, written row by row from a database cursor instead
+     * of being built as a list first (constant memory for arguments with
+     * very many premises, no caching).
+     *
+     * @param argumentId The ID of the argument whose justifications are needed.
+     */
+    @GetMapping(value = "/justifications", params = "stream=true")
+    public void streamJustificationsByArgumentId(@RequestParam Integer argumentId, HttpServletResponse response,
+                                                 ServletWebRequest request) throws IOException {
+        if (ConditionalGet.notModified(request, contentVersions.argument(argumentId))) {
+            return;
         }
-        return response;
+        JsonArrayWriter<ClaimDTO> writer = JsonArrayWriter.open(response, objectMapper);
+        structuredArgumentService.streamJustifications(argumentId, writer);
+        writer.finish();
     }
 
     /**
@@ -110,31 +140,78 @@ public class StructuredArgumentController {
      * @return The corresponding argument ID, or 404 if not found.
      */
     @GetMapping("/argument-by-claim")
-    public ResponseEntity<Integer> getArgumentIdByClaimId(@RequestParam Integer claimId) {
-        List<ArgumentEntity> arguments = argumentRepository.findByClaim_Id(claimId);
-
-        if (!arguments.isEmpty()) {
-            return ResponseEntity.ok(arguments.get(0).getId()); // Return first match
-        } else {
-            return ResponseEntity.notFound().build();
+    public ResponseEntity<Integer> getArgumentIdByClaimId(@RequestParam Integer claimId, ServletWebRequest request) {
+        if (ConditionalGet.notModified(request, contentVersions.statement(claimId))) {
+            return null;
         }
+        return structuredArgumentService.findArgumentIdByClaim(claimId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     /**
      * Endpoint: GET /api/structured-arguments/argument-id-by-claim
      * -------------------------------------------------------------
-     * Similar to the previous endpoint, but uses an Optional-based query
-     * for more explicit handling of missing data.
+     * Same lookup as the previous endpoint, kept for clients that use this route.
      *
      * @param claimId The claim (statement) ID.
      * @return The corresponding argument ID if found; 404 otherwise.
      */
     @GetMapping("/argument-id-by-claim")
-    public ResponseEntity<Integer> getArgumentIdByClaim(@RequestParam Integer claimId) {
-        Optional<ArgumentEntity> optionalArgument = argumentRepository.findFirstByClaim_Id(claimId);
+    public ResponseEntity<Integer> getArgumentIdByClaim(@RequestParam Integer claimId, ServletWebRequest request) {
+        return getArgumentIdByClaimId(claimId, request);
+    }
 
-        return optionalArgument
-                .map(argument -> ResponseEntity.ok(argument.getId()))
-                .orElseGet(() -> ResponseEntity.notFound().build());
+    /**
+     * Endpoint: GET /api/structured-arguments/tree
+     * ---------------------------------------------
+     * Returns the whole argument tree of a topic in one response:
+     * the root claim, its premises and rebuttals, their premises and rebuttals, and so on.
+     * Replaces the one-hop-at-a-time walk over by-topic-name → argument-by-claim →
+     * justifications → /api/rebuttals.
+     *
+     * Example request:
+     *   GET /api/structured-arguments/tree?topic=Television&depth=4&fanOut=20
+     *
+     * @param topic  The topic name (e.g., "Television").
+     * @param depth  Levels to expand below the root claim (default 6, capped at 12).
+     * @param fanOut Children kept per node (default 50, capped at 200).
+     * @return The root TreeNodeDTO with nested children.
+     */
+    @GetMapping("/tree")
+    public TreeNodeDTO getTree(@RequestParam String topic,
+                               @RequestParam(defaultValue = "6") int depth,
+                               @RequestParam(defaultValue = "50") int fanOut,
+                               ServletWebRequest request) {
+        if (ConditionalGet.notModified(request, contentVersions.topic(topic))) {
+            return null;
+        }
+        return argumentTreeService.buildTree(topic, depth, fanOut);
+    }
+
+    /**
+     * Endpoint: POST /api/structured-arguments/batch
+     * -----------------------------------------------
+     * Resolves many nodes in one request: for every claim its argument ID,
+     * the justifications of that argument and its rebuttals, plus the
+     * justifications of any further argument IDs. Replaces one
+     * argument-by-claim, justifications and /api/rebuttals request per node
+     * when a tree level is expanded.
+     *
+     * Example request:
+     *   POST /api/structured-arguments/batch
+     *   { "claimIds": [12, 13, 14], "argumentIds": [5] }
+     *
+     * @param request Claim and argument IDs (together at most argumentation.batch.max-ids, default 500).
+     * @return The lookups keyed by claim or argument ID; 400 if too many IDs are requested.
+     */
+    @PostMapping("/batch")
+    public BatchLookupResponse batch(@RequestBody BatchLookupRequest request) {
+        return batchLookupService.lookup(request.claimIds(), request.argumentIds());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> onIllegalArgument(IllegalArgumentException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", e.getMessage()));
     }
 }
@@ -0,0 +1,74 @@
+package com.argumentation.backendapi.controller;
+
+import com.argumentation.backendapi.model.SubtreeNodeDTO;
+import com.argumentation.backendapi.model.SubtreeStatsDTO;
+import com.argumentation.backendapi.service.SubtreeService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SubtreeController
+ * ------------------
+ * Whole subtrees of the argument graph in one request: everything below a
+ * statement (premises of its arguments, its rebuttals, and theirs), read
+ * from the statement_closure table instead of level-by-level requests.
+ */
+@RestController
+@CrossOrigin
+@RequestMapping("/api/subtrees")
+public class SubtreeController {
+
+    private final SubtreeService subtreeService;
+
+    public SubtreeController(SubtreeService subtreeService) {
+        this.subtreeService = subtreeService;
+    }
+
+    /**
+     * Endpoint: GET /api/subtrees/{statementId}?maxDepth=3&limit=1000
+     * -----------------------------------------------------------------
+     * The descendants of a statement down to maxDepth, nearest first.
+     *
+     * Example response:
+     *   [ { "id": 12, "text": "...", "source": "User", "depth": 1 },
+     *     { "id": 40, "text": "...", "source": null,   "depth": 2 } ]
+     *
+     * @param statementId The statement whose subtree is wanted.
+     * @param maxDepth    Deepest level (default 3, capped by argumentation.subtree.max-depth).
+     * @param limit       Maximum rows (default 1000, capped by argumentation.subtree.max-rows).
+     * @return The descendants; 404 if the statement does not exist.
+     */
+    @GetMapping("/{statementId}")
+    public ResponseEntity<List<SubtreeNodeDTO>> descendants(@PathVariable Integer statementId,
+                                                            @RequestParam(defaultValue = "3") int maxDepth,
+                                                            @RequestParam(defaultValue = "1000") int limit) {
+        return subtreeService.descendants(statementId, maxDepth, limit)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Endpoint: GET /api/subtrees/{statementId}/stats
+     * ------------------------------------------------
+     * Subtree size, depth of the deepest descendant and the number of
+     * descendants per depth.
+     *
+     * @param statementId The statement whose subtree is measured.
+     * @return The statistics; 404 if the statement does not exist.
+     */
+    @GetMapping("/{statementId}/stats")
+    public ResponseEntity<SubtreeStatsDTO> stats(@PathVariable Integer statementId) {
+        return subtreeService.stats(statementId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> onIllegalArgument(IllegalArgumentException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", e.getMessage()));
+    }
+}
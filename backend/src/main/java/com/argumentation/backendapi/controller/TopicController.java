@@ -1,27 +1,43 @@
 package com.argumentation.backendapi.controller;
 
-import com.argumentation.backendapi.model.TopicEntity;
-import com.argumentation.backendapi.repository.TopicRepository;
+import com.argumentation.backendapi.cache.ContentVersions;
+import com.argumentation.backendapi.model.TopArgumentsResponse;
+import com.argumentation.backendapi.model.TopicDTO;
+import com.argumentation.backendapi.service.TopArgumentsService;
+import com.argumentation.backendapi.service.TopicService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.io.IOException;
 import java.util.*;
 
 /**
  * TopicController
  * ----------------
  * This controller exposes endpoints related to discussion topics.
- * It provides a simple API to retrieve all available topics stored in the database.
+ * It provides a simple API to retrieve all available topics stored in the database,
+ * and the ranked top pro/con arguments of a topic.
  */
 @RestController
 @RequestMapping("/api")              // Base path for all topic-related endpoints
 @CrossOrigin(origins = "*")          // Allow requests from any frontend origin (can restrict later)
 public class TopicController {
 
-    private final TopicRepository topicRepository; // Dependency to access the topics table
+    private final TopicService topicService; // Cached access to the topics table
+    private final TopArgumentsService topArgumentsService;
+    private final ObjectMapper objectMapper;         // Serializes the streamed topic list
+    private final ContentVersions contentVersions;   // ETags for conditional GETs
 
-    // Constructor injection of TopicRepository
-    public TopicController(TopicRepository topicRepository) {
-        this.topicRepository = topicRepository;
+    // Constructor injection of the services, the application's ObjectMapper and the content versions
+    public TopicController(TopicService topicService, TopArgumentsService topArgumentsService,
+                           ObjectMapper objectMapper, ContentVersions contentVersions) {
+        this.topicService = topicService;
+        this.topArgumentsService = topArgumentsService;
+        this.objectMapper = objectMapper;
+        this.contentVersions = contentVersions;
     }
 
     /**
@@ -36,21 +52,77 @@ public class TopicController {
      *   ...
      * ]
      *
-     * @return A list of topic maps, each containing the "topic" key used by the frontend.
+     * Paging (optional): with ?limit=N (and the cursor from the previous
+     * page's X-Next-Cursor header) only N topics are returned, read by keyset
+     * on the topic ID. Without limit and cursor the whole list is returned.
+     *
+     * Topics only change with imports: a request with the ETag of the
+     * previous response (If-None-Match) is answered with 304.
+     *
+     * @param limit  Page size (at most 1000; 100 if only a cursor is given).
+     * @param cursor Continuation token from X-Next-Cursor.
+     * @return A list of topics, each containing the "topic" key used by the frontend.
      */
     @GetMapping("/topics")
-    public List<Map<String, String>> getAllTopics() {
-        // Fetch all topics from the repository
-        List<TopicEntity> topics = topicRepository.findAll();
-
-        // Build the response in the format expected by Angular
-        List<Map<String, String>> result = new ArrayList<>();
-        for (TopicEntity topic : topics) {
-            Map<String, String> topicMap = new HashMap<>();
-            topicMap.put("topic", topic.getName()); // Key "topic" matches frontend expectations
-            result.add(topicMap);
+    public ResponseEntity<List<TopicDTO>> getAllTopics(@RequestParam(required = false) Integer limit,
+                                                       @RequestParam(required = false) String cursor,
+                                                       ServletWebRequest request) {
+        if (ConditionalGet.notModified(request, contentVersions.corpus())) {
+            return null;
         }
+        if (PageCursor.requested(limit, cursor)) {
+            return PageCursor.response(
+                    topicService.getTopicPage(PageCursor.decode(cursor, "topics"), PageCursor.limit(limit)), "topics");
+        }
+        // Served from a cache that is refreshed after imports
+        return ResponseEntity.ok(topicService.getAllTopics());
+    }
 
-        return result;
+    /**
+     * Endpoint: GET /api/topics?stream=true
+     * --------------------------------------
+     * Same JSON as above, written row by row from a database cursor
+     * instead of being built as a list first (constant memory for any
+     * number of topics, no caching).
+     */
+    @GetMapping(value = "/topics", params = "stream=true")
+    public void streamAllTopics(HttpServletResponse response, ServletWebRequest request) throws IOException {
+        if (ConditionalGet.notModified(request, contentVersions.corpus())) {
+            return;
+        }
+        JsonArrayWriter<TopicDTO> writer = JsonArrayWriter.open(response, objectMapper);
+        topicService.streamAllTopics(writer);
+        writer.finish();
+    }
+
+    /**
+     * Endpoint: GET /api/topics/{name}/top-arguments
+     * -----------------------------------------------
+     * Returns the N best-ranked arguments for and against the topic's root claim.
+     * Only N entries per stance are sent; the ranking itself is precomputed per topic.
+     *
+     * Example request:
+     *   GET /api/topics/Television/top-arguments?n=3&stance=con
+     *
+     * Example response:
+     * {
+     *   "topic": "Television",
+     *   "con": [ { "id": 3, "text": "Encourages sedentary lifestyle...", "score": 2.0, "parentId": 1 }, ... ]
+     * }
+     *
+     * @param name   The topic name.
+     * @param n      Entries per stance (default 3, at most 50).
+     * @param stance "pro" or "con"; both when omitted.
+     * @return The ranking; 304 if the topic is unchanged since the If-None-Match ETag.
+     */
+    @GetMapping("/topics/{name}/top-arguments")
+    public TopArgumentsResponse getTopArguments(@PathVariable String name,
+                                                @RequestParam(defaultValue = "3") int n,
+                                                @RequestParam(required = false) String stance,
+                                                ServletWebRequest request) {
+        if (ConditionalGet.notModified(request, contentVersions.topic(name))) {
+            return null;
+        }
+        return topArgumentsService.getTopArguments(name, n, stance);
     }
 }
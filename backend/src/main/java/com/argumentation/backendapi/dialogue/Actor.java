@@ -0,0 +1,37 @@
+package com.argumentation.backendapi.dialogue;
+
+/**
+ * Actor
+ * ------
+ * The two sides of a debate. The proponent defends the topic's root claim,
+ * the opponent attacks it. Labels match the frontend's Move.actor values.
+ */
+public enum Actor {
+
+    PROPONENT("Proponent"),
+    OPPONENT("Opponent");
+
+    private final String label;
+
+    Actor(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public Actor other() {
+        return this == PROPONENT ? OPPONENT : PROPONENT;
+    }
+
+    /** Parses "Proponent"/"proponent"/"PROPONENT" and the same for the opponent. */
+    public static Actor parse(String value) {
+        for (Actor actor : values()) {
+            if (actor.label.equalsIgnoreCase(value)) {
+                return actor;
+            }
+        }
+        throw new IllegalMoveException("Unknown actor: " + value);
+    }
+}
@@ -0,0 +1,253 @@
+package com.argumentation.backendapi.dialogue;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * DialogueRules
+ * --------------
+ * The rules of the debate game, ported from the frontend's
+ * getAllowedMovesForTurn (allowed-moves.rules.ts) and the turn handling of
+ * ArgumentViewComponent, so the server can enforce and replay games.
+ *
+ * Flow:
+ *   - The proponent opens with the topic's root claim; the opponent moves next.
+ *   - Every move except Accept uses one of the mover's turns and passes the turn.
+ *   - A Challenge obliges the other side to Justify the challenged statement
+ *     (or Skip) on its next turn.
+ *   - Accept ends the debate; the other side wins. A side that has no
+ *     turns left when it is to move ends the debate as well.
+ *
+ * Allowed moves for the side to move (checked in this order):
+ *   0. a challenge is pending            → Justify, Skip
+ *   1. opponent's first turn             → Challenge, Accept
+ *   2. answering a justification         → Challenge, Rebuttal, Accept
+ *      (last two moves: Challenge by this side, Justify by the other)
+ *   3. proponent after opponent rebuttal → Accept, Challenge
+ *   4. otherwise                         → Challenge, Rebuttal, Accept, Skip
+ * then Challenge is dropped when the side has no challenges left or nothing
+ * of the other side is left to challenge, and Rebuttal when it has no
+ * rebuttals left or only the root claim is on the path.
+ *
+ * Targets:
+ *   - Challenge: a statement of the other side on the path, not challenged before.
+ *   - Rebuttal:  a statement of the other side on the path.
+ *   - Justify:   premises of the challenged statement's argument (checkJustification)
+ *                that are not on the path yet; they join it on the mover's side.
+ *
+ * Every check is O(1) on the compact session state; Justify is O(k) in the
+ * number of statements given.
+ */
+public final class DialogueRules {
+
+    /** Turns per side */
+    public static final int MAX_TURNS = 5;
+
+    /** Challenges and rebuttals per side */
+    public static final int MAX_CHALLENGES = 15;
+    public static final int MAX_REBUTTALS = 5;
+
+    /** Statements one Justify move may add */
+    public static final int MAX_JUSTIFICATIONS = 32;
+
+    private DialogueRules() {}
+
+    /** Opens a session: the proponent claims the root statement, the opponent is to move. */
+    public static DialogueSession start(long id, String topic, int rootClaimId, long nowMillis) {
+        DialogueSession session = new DialogueSession(id, topic, rootClaimId, nowMillis);
+        for (Actor actor : Actor.values()) {
+            session.setCounter(DialogueSession.CHALLENGES_LEFT, actor, MAX_CHALLENGES);
+            session.setCounter(DialogueSession.REBUTTALS_LEFT, actor, MAX_REBUTTALS);
+        }
+        session.addToPath(rootClaimId, Actor.PROPONENT);
+        session.record(MoveType.CLAIM, Actor.PROPONENT, rootClaimId, nowMillis);
+        session.rememberMove(MoveType.CLAIM, Actor.PROPONENT);
+        session.setTurn(Actor.OPPONENT);
+        return session;
+    }
+
+    /** Bit mask (MoveType.bit()) of the moves the side to move may make. */
+    public static int allowedMask(DialogueSession s) {
+        if (s.ended()) {
+            return 0;
+        }
+        Actor turn = s.turn();
+        if (s.pendingChallenge() != 0) {
+            return MoveType.JUSTIFY.bit() | MoveType.SKIP.bit();
+        }
+
+        int mask;
+        if (turn == Actor.OPPONENT && s.historySize() == 1) {
+            mask = MoveType.CHALLENGE.bit() | MoveType.ACCEPT.bit();
+        } else if (s.previousMoveIs(MoveType.CHALLENGE, turn) && s.lastMoveIs(MoveType.JUSTIFY, turn.other())) {
+            mask = MoveType.CHALLENGE.bit() | MoveType.REBUTTAL.bit() | MoveType.ACCEPT.bit();
+        } else if (turn == Actor.PROPONENT && s.lastMoveIs(MoveType.REBUTTAL, Actor.OPPONENT)) {
+            mask = MoveType.ACCEPT.bit() | MoveType.CHALLENGE.bit();
+        } else {
+            mask = MoveType.CHALLENGE.bit() | MoveType.REBUTTAL.bit() | MoveType.ACCEPT.bit() | MoveType.SKIP.bit();
+        }
+
+        if (s.challengesLeft(turn) == 0 || s.openStatements(turn.other()) == 0) {
+            mask &= ~MoveType.CHALLENGE.bit();
+        }
+        if (s.rebuttalsLeft(turn) == 0 || s.pathSize() <= 1) {
+            mask &= ~MoveType.REBUTTAL.bit();
+        }
+        return mask;
+    }
+
+    public static Set<MoveType> allowedMoves(DialogueSession s) {
+        int mask = allowedMask(s);
+        Set<MoveType> moves = EnumSet.noneOf(MoveType.class);
+        for (MoveType type : MoveType.values()) {
+            if ((mask & type.bit()) != 0) {
+                moves.add(type);
+            }
+        }
+        return moves;
+    }
+
+    // ────────────────────────────────
+    // Moves
+    // ────────────────────────────────
+
+    public static void challenge(DialogueSession s, Actor actor, int targetId, long nowMillis) {
+        require(s, actor, MoveType.CHALLENGE);
+        Actor stance = s.stanceOf(targetId);
+        if (stance == null) {
+            throw new IllegalMoveException("Statement " + targetId + " is not part of this debate");
+        }
+        if (stance == actor) {
+            throw new IllegalMoveException("You cannot challenge your own statement");
+        }
+        if (s.challenged(targetId)) {
+            throw new IllegalMoveException("Statement " + targetId + " has already been challenged");
+        }
+        s.markChallenged(targetId);
+        s.setCounter(DialogueSession.CHALLENGES_LEFT, actor, s.challengesLeft(actor) - 1);
+        s.setPendingChallenge(targetId);
+        s.record(MoveType.CHALLENGE, actor, targetId, nowMillis);
+        finishTurn(s, MoveType.CHALLENGE, actor);
+    }
+
+    /** @return How many of the statements joined the path (those already on it are ignored). */
+    public static int justify(DialogueSession s, Actor actor, int[] statementIds, long nowMillis) {
+        require(s, actor, MoveType.JUSTIFY);
+        if (statementIds == null || statementIds.length == 0) {
+            throw new IllegalMoveException("Select at least one justification, or skip");
+        }
+        if (statementIds.length > MAX_JUSTIFICATIONS) {
+            throw new IllegalMoveException("At most " + MAX_JUSTIFICATIONS + " justifications per move");
+        }
+        int added = 0;
+        for (int statementId : statementIds) {
+            if (s.addToPath(statementId, actor)) {
+                s.record(MoveType.JUSTIFY, actor, statementId, nowMillis);
+                added++;
+            }
+        }
+        if (added == 0) {
+            throw new IllegalMoveException("All selected justifications are already part of this debate");
+        }
+        s.setPendingChallenge(0);
+        finishTurn(s, MoveType.JUSTIFY, actor);
+        return added;
+    }
+
+    /**
+     * Checks a Justify move against the premises of the challenged statement's
+     * argument, which the caller looks up (the rules know no argument graph).
+     * justify() itself trusts its IDs, so logged moves replay without a lookup.
+     */
+    public static void checkJustification(DialogueSession s, Actor actor, int[] statementIds, Set<Integer> premises) {
+        require(s, actor, MoveType.JUSTIFY);
+        for (int statementId : statementIds) {
+            if (!premises.contains(statementId)) {
+                throw new IllegalMoveException("Statement " + statementId
+                        + " does not justify statement " + s.pendingChallenge());
+            }
+        }
+    }
+
+    /** Checks a rebuttal before its statement is written to the database. */
+    public static void checkRebuttal(DialogueSession s, Actor actor, int targetId) {
+        require(s, actor, MoveType.REBUTTAL);
+        Actor stance = s.stanceOf(targetId);
+        if (stance == null) {
+            throw new IllegalMoveException("Statement " + targetId + " is not part of this debate");
+        }
+        if (stance == actor) {
+            throw new IllegalMoveException("You cannot rebut your own statement");
+        }
+    }
+
+    /** Records a rebuttal that passed checkRebuttal and was saved as {@code rebuttalStatementId}. */
+    public static void rebut(DialogueSession s, Actor actor, int targetId, int rebuttalStatementId, long nowMillis) {
+        checkRebuttal(s, actor, targetId);
+        s.addToPath(rebuttalStatementId, actor);
+        s.setCounter(DialogueSession.REBUTTALS_LEFT, actor, s.rebuttalsLeft(actor) - 1);
+        s.record(MoveType.REBUTTAL, actor, rebuttalStatementId, nowMillis);
+        finishTurn(s, MoveType.REBUTTAL, actor);
+    }
+
+    public static void accept(DialogueSession s, Actor actor, long nowMillis) {
+        require(s, actor, MoveType.ACCEPT);
+        s.record(MoveType.ACCEPT, actor, 0, nowMillis);
+        s.rememberMove(MoveType.ACCEPT, actor);
+        s.end(DialogueSession.EndReason.ACCEPTED, actor.other());
+    }
+
+    /** Passes the turn; during a pending challenge this gives up on justifying it. */
+    public static void skip(DialogueSession s, Actor actor, long nowMillis) {
+        require(s, actor, MoveType.SKIP);
+        s.setPendingChallenge(0);
+        s.record(MoveType.SKIP, actor, 0, nowMillis);
+        finishTurn(s, MoveType.SKIP, actor);
+    }
+
+    /**
+     * Re-applies a logged MOVE record (MoveLog recovery). Runs the same checks
+     * as the live move, so a record that no longer fits the state throws
+     * IllegalMoveException instead of corrupting the session.
+     */
+    public static void apply(DialogueSession s, MoveLogRecord move) {
+        Actor actor = move.actor();
+        long time = move.timeMillis();
+        switch (move.moveType()) {
+            case CHALLENGE -> challenge(s, actor, move.targetId(), time);
+            case JUSTIFY -> justify(s, actor, move.statementIds(), time);
+            case REBUTTAL -> {
+                if (move.statementIds().length != 1) {
+                    throw new IllegalMoveException("A logged rebuttal names exactly one statement");
+                }
+                rebut(s, actor, move.targetId(), move.statementIds()[0], time);
+            }
+            case ACCEPT -> accept(s, actor, time);
+            case SKIP -> skip(s, actor, time);
+            case CLAIM -> throw new IllegalMoveException("The claim is made when the dialogue starts");
+        }
+    }
+
+    private static void require(DialogueSession s, Actor actor, MoveType type) {
+        if (s.ended()) {
+            throw new IllegalMoveException("The debate has already ended");
+        }
+        if (actor != s.turn()) {
+            throw new IllegalMoveException("It is the " + s.turn().label().toLowerCase() + "'s turn");
+        }
+        if ((allowedMask(s) & type.bit()) == 0) {
+            throw new IllegalMoveException(type.label() + " is not allowed now; allowed: " + allowedMoves(s));
+        }
+    }
+
+    /** Uses up the mover's turn and hands over, ending the debate if the next side has no turns left. */
+    private static void finishTurn(DialogueSession s, MoveType type, Actor actor) {
+        s.rememberMove(type, actor);
+        s.setCounter(DialogueSession.TURNS_USED, actor, s.turnsUsed(actor) + 1);
+        Actor next = actor.other();
+        s.setTurn(next);
+        if (s.turnsUsed(next) >= MAX_TURNS) {
+            s.end(DialogueSession.EndReason.TURN_LIMIT, null);
+        }
+    }
+}
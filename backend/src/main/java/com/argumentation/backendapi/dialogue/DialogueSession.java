@@ -0,0 +1,398 @@
+package com.argumentation.backendapi.dialogue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * DialogueSession
+ * ----------------
+ * State of one debate, kept in primitives so that tens of thousands of live
+ * sessions fit in a few MB (a fresh session is ~250 bytes):
+ *
+ *   - turn, last two moves, winner        single bytes
+ *   - per-side counters                   one long (8 bits per counter)
+ *   - statements on the argument path     open-addressing int → byte map
+ *                                         (stance bit + challenged bit),
+ *                                         so "is it on the path / whose is it /
+ *                                         already challenged" are O(1)
+ *   - move history                        one long per entry
+ *                                         (statement ID, move, actor, seconds since start)
+ *
+ * The rules live in DialogueRules; this class only stores and answers.
+ * snapshot()/fromSnapshot() copy the state byte for byte for the move log.
+ * Not thread-safe: callers hold lock().
+ */
+public final class DialogueSession {
+
+    /** Why a session ended */
+    public enum EndReason { ACCEPTED, TURN_LIMIT }
+
+    static final byte NONE = -1;
+
+    // Counter slots in `counters` (8 bits each): [kind * 2 + actor]
+    static final int TURNS_USED = 0;
+    static final int CHALLENGES_LEFT = 1;
+    static final int REBUTTALS_LEFT = 2;
+
+    private static final byte STANCE_OPPONENT = 1;
+    private static final byte CHALLENGED = 2;
+
+    private final long id;
+    private final String topic;
+    private final int rootClaimId;
+    private final long startedAtMillis;
+    private volatile long lastActiveMillis;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private byte turn;
+    private byte lastMove = NONE;      // MoveType ordinal | actor << 3
+    private byte previousMove = NONE;
+    private byte winner = NONE;
+    private byte endReason = NONE;
+    private long counters;
+
+    /** Statement awaiting a justification from the side to move (0 = none) */
+    private int pendingChallenge;
+
+    /** Statements on the path that are not challenged yet, per stance */
+    private int openProponent;
+    private int openOpponent;
+
+    // Path: open addressing on statement IDs (0 = empty slot; IDs are positive)
+    private int[] pathIds = new int[8];
+    private byte[] pathFlags = new byte[8];
+    private int pathSize;
+
+    // History: statement (32) | move (3) | actor (1) | seconds since start (28)
+    private long[] history = new long[8];
+    private int historySize;
+
+    DialogueSession(long id, String topic, int rootClaimId, long nowMillis) {
+        this.id = id;
+        this.topic = topic;
+        this.rootClaimId = rootClaimId;
+        this.startedAtMillis = nowMillis;
+        this.lastActiveMillis = nowMillis;
+    }
+
+    // ────────────────────────────────
+    // Read access
+    // ────────────────────────────────
+
+    public long id() {
+        return id;
+    }
+
+    /** Serializes moves on this session. */
+    public ReentrantLock lock() {
+        return lock;
+    }
+
+    public String topic() {
+        return topic;
+    }
+
+    public int rootClaimId() {
+        return rootClaimId;
+    }
+
+    public long lastActiveMillis() {
+        return lastActiveMillis;
+    }
+
+    public Actor turn() {
+        return Actor.values()[turn];
+    }
+
+    public boolean ended() {
+        return endReason != NONE;
+    }
+
+    /** The side that won by the other's acceptance, or null. */
+    public Actor winner() {
+        return winner == NONE ? null : Actor.values()[winner];
+    }
+
+    public EndReason endReason() {
+        return endReason == NONE ? null : EndReason.values()[endReason];
+    }
+
+    /** Statement the side to move must justify, or 0. */
+    public int pendingChallenge() {
+        return pendingChallenge;
+    }
+
+    public int turnsUsed(Actor actor) {
+        return counter(TURNS_USED, actor);
+    }
+
+    public int challengesLeft(Actor actor) {
+        return counter(CHALLENGES_LEFT, actor);
+    }
+
+    public int rebuttalsLeft(Actor actor) {
+        return counter(REBUTTALS_LEFT, actor);
+    }
+
+    public int pathSize() {
+        return pathSize;
+    }
+
+    public boolean onPath(int statementId) {
+        return slotOf(statementId) >= 0;
+    }
+
+    public int historySize() {
+        return historySize;
+    }
+
+    public MoveType historyType(int i) {
+        return MoveType.values()[(int) (history[i] >>> 32) & 7];
+    }
+
+    public Actor historyActor(int i) {
+        return Actor.values()[(int) (history[i] >>> 35) & 1];
+    }
+
+    public int historyStatement(int i) {
+        return (int) history[i];
+    }
+
+    public long historyTimeMillis(int i) {
+        return startedAtMillis + (history[i] >>> 36) * 1000;
+    }
+
+    /** Approximate heap held by this session. */
+    public long footprintBytes() {
+        return 96 + 16 + pathIds.length * 4L + 16 + pathFlags.length + 16 + history.length * 8L;
+    }
+
+    // ────────────────────────────────
+    // State changes (used by DialogueRules)
+    // ────────────────────────────────
+
+    void touch(long nowMillis) {
+        lastActiveMillis = nowMillis;
+    }
+
+    void setTurn(Actor actor) {
+        turn = (byte) actor.ordinal();
+    }
+
+    void end(EndReason reason, Actor winningSide) {
+        endReason = (byte) reason.ordinal();
+        winner = winningSide == null ? NONE : (byte) winningSide.ordinal();
+    }
+
+    void setPendingChallenge(int statementId) {
+        pendingChallenge = statementId;
+    }
+
+    int counter(int kind, Actor actor) {
+        return (int) (counters >>> ((kind * 2 + actor.ordinal()) * 8)) & 0xFF;
+    }
+
+    void setCounter(int kind, Actor actor, int value) {
+        int shift = (kind * 2 + actor.ordinal()) * 8;
+        counters = (counters & ~(0xFFL << shift)) | ((long) (value & 0xFF) << shift);
+    }
+
+    int openStatements(Actor stance) {
+        return stance == Actor.PROPONENT ? openProponent : openOpponent;
+    }
+
+    /** Stance of a statement on the path, or null if it is not on the path. */
+    Actor stanceOf(int statementId) {
+        int slot = slotOf(statementId);
+        if (slot < 0) {
+            return null;
+        }
+        return (pathFlags[slot] & STANCE_OPPONENT) != 0 ? Actor.OPPONENT : Actor.PROPONENT;
+    }
+
+    boolean challenged(int statementId) {
+        int slot = slotOf(statementId);
+        return slot >= 0 && (pathFlags[slot] & CHALLENGED) != 0;
+    }
+
+    /** Adds a statement to the path; returns false if it is already on it. */
+    boolean addToPath(int statementId, Actor stance) {
+        if (statementId <= 0) {
+            throw new IllegalMoveException("Invalid statement ID: " + statementId);
+        }
+        if ((pathSize + 1) * 4 > pathIds.length * 3) {
+            growPath();
+        }
+        int mask = pathIds.length - 1;
+        int slot = mix(statementId) & mask;
+        while (pathIds[slot] != 0) {
+            if (pathIds[slot] == statementId) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        pathIds[slot] = statementId;
+        pathFlags[slot] = stance == Actor.OPPONENT ? STANCE_OPPONENT : 0;
+        pathSize++;
+        adjustOpen(stance, 1);
+        return true;
+    }
+
+    void markChallenged(int statementId) {
+        int slot = slotOf(statementId);
+        pathFlags[slot] |= CHALLENGED;
+        adjustOpen(stanceOf(statementId), -1);
+    }
+
+    void record(MoveType type, Actor actor, int statementId, long nowMillis) {
+        if (historySize == history.length) {
+            history = Arrays.copyOf(history, historySize * 2);
+        }
+        long seconds = Math.min((nowMillis - startedAtMillis) / 1000, (1L << 28) - 1);
+        history[historySize++] = (statementId & 0xFFFFFFFFL)
+                | ((long) type.ordinal() << 32)
+                | ((long) actor.ordinal() << 35)
+                | (seconds << 36);
+        lastActiveMillis = nowMillis;
+    }
+
+    /** Shifts the last-two-moves window; called once per move, not per history entry. */
+    void rememberMove(MoveType type, Actor actor) {
+        previousMove = lastMove;
+        lastMove = (byte) (type.ordinal() | actor.ordinal() << 3);
+    }
+
+    boolean lastMoveIs(MoveType type, Actor actor) {
+        return lastMove == (byte) (type.ordinal() | actor.ordinal() << 3);
+    }
+
+    boolean previousMoveIs(MoveType type, Actor actor) {
+        return previousMove == (byte) (type.ordinal() | actor.ordinal() << 3);
+    }
+
+    // ────────────────────────────────
+    // Snapshots (MoveLog)
+    // ────────────────────────────────
+
+    /** Serializes the complete state; the path is written as (ID, flags) pairs. */
+    byte[] snapshot() {
+        byte[] name = topic.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer out = ByteBuffer.allocate(8 + 2 + name.length + 4 + 8 + 8 + 5 + 8 + 12
+                + 4 + pathSize * 5 + 4 + historySize * 8);
+        out.putLong(id);
+        out.putShort((short) name.length).put(name);
+        out.putInt(rootClaimId);
+        out.putLong(startedAtMillis);
+        out.putLong(lastActiveMillis);
+        out.put(turn).put(lastMove).put(previousMove).put(winner).put(endReason);
+        out.putLong(counters);
+        out.putInt(pendingChallenge).putInt(openProponent).putInt(openOpponent);
+        out.putInt(pathSize);
+        for (int i = 0; i < pathIds.length; i++) {
+            if (pathIds[i] != 0) {
+                out.putInt(pathIds[i]).put(pathFlags[i]);
+            }
+        }
+        out.putInt(historySize);
+        for (int i = 0; i < historySize; i++) {
+            out.putLong(history[i]);
+        }
+        return out.array();
+    }
+
+    static DialogueSession fromSnapshot(byte[] snapshot) {
+        ByteBuffer in = ByteBuffer.wrap(snapshot);
+        long id = in.getLong();
+        byte[] name = new byte[in.getShort() & 0xFFFF];
+        in.get(name);
+        int rootClaimId = in.getInt();
+        DialogueSession s = new DialogueSession(id, new String(name, StandardCharsets.UTF_8).intern(),
+                rootClaimId, in.getLong());
+        s.lastActiveMillis = in.getLong();
+        s.turn = in.get();
+        s.lastMove = in.get();
+        s.previousMove = in.get();
+        s.winner = in.get();
+        s.endReason = in.get();
+        s.counters = in.getLong();
+        s.pendingChallenge = in.getInt();
+        s.openProponent = in.getInt();
+        s.openOpponent = in.getInt();
+        int pathEntries = in.getInt();
+        int capacity = 8;
+        while ((pathEntries + 1) * 4 > capacity * 3) {
+            capacity *= 2;
+        }
+        s.pathIds = new int[capacity];
+        s.pathFlags = new byte[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < pathEntries; i++) {
+            int statementId = in.getInt();
+            int slot = mix(statementId) & mask;
+            while (s.pathIds[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            s.pathIds[slot] = statementId;
+            s.pathFlags[slot] = in.get();
+        }
+        s.pathSize = pathEntries;
+        s.historySize = in.getInt();
+        s.history = new long[Math.max(8, s.historySize)];
+        for (int i = 0; i < s.historySize; i++) {
+            s.history[i] = in.getLong();
+        }
+        return s;
+    }
+
+    // ────────────────────────────────
+    // Path map internals
+    // ────────────────────────────────
+
+    private int slotOf(int statementId) {
+        if (statementId <= 0) {
+            return -1;
+        }
+        int mask = pathIds.length - 1;
+        int slot = mix(statementId) & mask;
+        while (pathIds[slot] != 0) {
+            if (pathIds[slot] == statementId) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void growPath() {
+        int[] oldIds = pathIds;
+        byte[] oldFlags = pathFlags;
+        pathIds = new int[oldIds.length * 2];
+        pathFlags = new byte[oldIds.length * 2];
+        int mask = pathIds.length - 1;
+        for (int i = 0; i < oldIds.length; i++) {
+            if (oldIds[i] != 0) {
+                int slot = mix(oldIds[i]) & mask;
+                while (pathIds[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                pathIds[slot] = oldIds[i];
+                pathFlags[slot] = oldFlags[i];
+            }
+        }
+    }
+
+    private void adjustOpen(Actor stance, int delta) {
+        if (stance == Actor.PROPONENT) {
+            openProponent += delta;
+        } else {
+            openOpponent += delta;
+        }
+    }
+
+    private static int mix(int value) {
+        int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
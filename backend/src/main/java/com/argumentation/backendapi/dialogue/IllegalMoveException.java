@@ -0,0 +1,15 @@
+package com.argumentation.backendapi.dialogue;
+
+/**
+ * IllegalMoveException
+ * ---------------------
+ * Thrown when a move breaks the rules of the dialogue game (wrong side,
+ * move not allowed now, invalid target, limits used up, ...).
+ * DialogueController answers it with 409 Conflict.
+ */
+public class IllegalMoveException extends RuntimeException {
+
+    public IllegalMoveException(String message) {
+        super(message);
+    }
+}
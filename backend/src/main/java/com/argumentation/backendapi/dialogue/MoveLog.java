@@ -0,0 +1,452 @@
+package com.argumentation.backendapi.dialogue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * MoveLog
+ * --------
+ * Append-only, memory-mapped log of dialogue moves, so live debates survive
+ * a restart.
+ *
+ * Files:
+ *   The log is a directory of segments moves-<seq>.log, each preallocated to
+ *   segmentBytes and mapped read-write. A segment starts with a 16-byte
+ *   header (magic, version, seq); every record is framed as
+ *   length (4) | CRC32 of the body (4) | body (see MoveLogRecord).
+ *   The length is written last, so a reader never sees half a frame as valid.
+ *   Positions are seq << 32 | offset and grow monotonically.
+ *
+ * Group commit:
+ *   append() only copies the record into the mapping and returns its end
+ *   position. One flusher thread forces the dirty range of the mapping to
+ *   disk, lingering lingerMillis first so that the appends of many sessions
+ *   share a single msync; awaitDurable(position) blocks until a force has
+ *   covered the position. Under sustained traffic the cost is one force per
+ *   batch, not per move.
+ *
+ * Snapshots and recovery:
+ *   - Sessions write a SNAPSHOT of their state every few moves (the caller
+ *     decides), so replaying one session is bounded.
+ *   - Whenever a new segment is started, checkpointDue() turns true and the
+ *     caller writes CHECKPOINT_BEGIN, a SNAPSHOT of every live session and
+ *     CHECKPOINT_END. Recovery starts at the BEGIN of the latest complete
+ *     checkpoint: every session that was live then has a SNAPSHOT after it,
+ *     later sessions have their START after it, so older segments are not
+ *     needed and are deleted beyond retainSegments (kept for analytics).
+ *   - recover() replays the log from there through DialogueRules, which
+ *     rejects any record that does not fit the state.
+ *
+ * Thread-safe. Waiting uses a ReentrantLock rather than monitors, so
+ * virtual threads waiting for a group commit do not pin their carrier.
+ */
+public final class MoveLog implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(MoveLog.class);
+
+    static final int MAGIC = 0x444C4731; // "DLG1"
+    static final int VERSION = 1;
+    static final int HEADER = 16;
+    static final int FRAME = 8;
+
+    private static final String PREFIX = "moves-";
+    private static final String SUFFIX = ".log";
+
+    private final Path dir;
+    private final int segmentBytes;
+    private final long lingerMillis;
+    private final int retainSegments;
+    private final CRC32 crc = new CRC32();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition dirty = lock.newCondition();
+    private final Condition forced = lock.newCondition();
+    private final Thread flusher;
+
+    // Guarded by lock
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private long segmentSeq;
+    private int offset;
+    private int flushedOffset;
+    private long written;
+    private long durable;
+    private boolean closed;
+    private RuntimeException failure;
+
+    private volatile boolean checkpointDue;
+
+    /**
+     * Result of recover().
+     *
+     * @param sessions Sessions that were live at the end of the log, by ID
+     * @param records  Records replayed
+     * @param rejected MOVE records that no longer applied (their session was dropped)
+     */
+    public record Recovery(Map<Long, DialogueSession> sessions, long records, int rejected) {
+    }
+
+    private MoveLog(Path dir, int segmentBytes, long lingerMillis, int retainSegments, long firstSeq) throws IOException {
+        this.dir = dir;
+        this.segmentBytes = segmentBytes;
+        this.lingerMillis = lingerMillis;
+        this.retainSegments = retainSegments;
+        openSegment(firstSeq);
+        this.flusher = new Thread(this::flushLoop, "dialogue-log-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * Opens a log for appending. Writing always starts in a fresh segment
+     * after the existing ones, which are left as they are; the first append
+     * should therefore be a checkpoint (checkpointDue() is true).
+     *
+     * @param retainSegments Segments before the latest checkpoint to keep; negative keeps all
+     */
+    public static MoveLog open(Path dir, int segmentBytes, long lingerMillis, int retainSegments) throws IOException {
+        if (segmentBytes < 4096) {
+            throw new IllegalArgumentException("Segment size must be at least 4096 bytes");
+        }
+        Files.createDirectories(dir);
+        List<Path> existing = MoveLogReader.segments(dir);
+        long seq = existing.isEmpty() ? 1 : segmentSeq(existing.get(existing.size() - 1)) + 1;
+        return new MoveLog(dir, segmentBytes, Math.max(0, lingerMillis), retainSegments, seq);
+    }
+
+    // ────────────────────────────────
+    // Appending
+    // ────────────────────────────────
+
+    /**
+     * Copies the record into the current segment (starting a new one if it
+     * does not fit) and returns the position after it, for awaitDurable().
+     */
+    public long append(MoveLogRecord record) {
+        lock.lock();
+        try {
+            return write(record);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Appends CHECKPOINT_BEGIN and returns its checkpoint ID (its own position). */
+    public long beginCheckpoint(long nowMillis) {
+        lock.lock();
+        try {
+            int length = FRAME + MoveLogRecord.checkpoint(MoveLogRecord.Kind.CHECKPOINT_BEGIN, 0, 0).encodedLength();
+            if (offset + length > segmentBytes) {
+                roll();
+            }
+            long id = position(segmentSeq, offset);
+            checkpointDue = false;
+            write(MoveLogRecord.checkpoint(MoveLogRecord.Kind.CHECKPOINT_BEGIN, id, nowMillis));
+            return id;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Appends CHECKPOINT_END and drops segments that are older than it and beyond retention. */
+    public long endCheckpoint(long checkpointId, long nowMillis) {
+        long end = append(MoveLogRecord.checkpoint(MoveLogRecord.Kind.CHECKPOINT_END, checkpointId, nowMillis));
+        awaitDurable(end);
+        if (retainSegments >= 0) {
+            long oldestKept = (checkpointId >>> 32) - retainSegments;
+            for (Path path : MoveLogReader.segments(dir)) {
+                if (segmentSeq(path) < oldestKept) {
+                    try {
+                        Files.deleteIfExists(path);
+                    } catch (IOException e) {
+                        log.warn("Cannot delete old move log segment {}: {}", path, e.getMessage());
+                    }
+                }
+            }
+        }
+        return end;
+    }
+
+    /** True once a new segment has been started and no checkpoint has been begun since. */
+    public boolean checkpointDue() {
+        return checkpointDue;
+    }
+
+    /** Blocks until everything up to {@code position} has been forced to disk. */
+    public void awaitDurable(long position) {
+        lock.lock();
+        try {
+            while (durable < position) {
+                if (failure != null) {
+                    throw new IllegalStateException("Move log is not writable", failure);
+                }
+                if (closed) {
+                    throw new IllegalStateException("Move log is closed");
+                }
+                try {
+                    forced.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for the move log");
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long write(MoveLogRecord record) {
+        if (closed) {
+            throw new IllegalStateException("Move log is closed");
+        }
+        int length = record.encodedLength();
+        if (HEADER + FRAME + length > segmentBytes) {
+            throw new IllegalArgumentException("Record of " + length + " bytes does not fit a move log segment");
+        }
+        if (offset + FRAME + length > segmentBytes) {
+            roll();
+        }
+
+        // Body and CRC first, length last: the frame becomes visible in one step
+        ByteBuffer frame = segment.slice(offset, FRAME + length);
+        frame.position(FRAME);
+        record.encode(frame);
+        crc.reset();
+        crc.update(frame.slice(FRAME, length));
+        frame.putInt(4, (int) crc.getValue());
+        frame.putInt(0, length);
+
+        offset += FRAME + length;
+        if (written == durable) {
+            dirty.signal(); // wake the flusher
+        }
+        written = position(segmentSeq, offset);
+        return written;
+    }
+
+    /**
+     * Forces the current segment and switches to a new one. The whole
+     * segment is forced: the flusher may still be forcing its last range.
+     */
+    private void roll() {
+        segment.force(HEADER, offset - HEADER);
+        durable = Math.max(durable, position(segmentSeq, offset));
+        forced.signalAll();
+        try {
+            channel.close();
+            openSegment(segmentSeq + 1);
+        } catch (IOException e) {
+            failure = new UncheckedIOException("Cannot start move log segment " + (segmentSeq + 1), e);
+            forced.signalAll();
+            throw failure;
+        }
+    }
+
+    private void openSegment(long seq) throws IOException {
+        Path path = dir.resolve(String.format("%s%020d%s", PREFIX, seq, SUFFIX));
+        channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        segment.putInt(0, MAGIC).putInt(4, VERSION).putLong(8, seq);
+        segment.force(0, HEADER);
+        segmentSeq = seq;
+        offset = HEADER;
+        flushedOffset = HEADER;
+        written = durable = position(seq, HEADER);
+        checkpointDue = true;
+    }
+
+    // ────────────────────────────────
+    // Flushing
+    // ────────────────────────────────
+
+    private void flushLoop() {
+        try {
+            while (true) {
+                lock.lock();
+                try {
+                    while (!closed && written == durable) {
+                        dirty.await();
+                    }
+                    if (written == durable) {
+                        return; // closed and clean
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                if (lingerMillis > 0) {
+                    Thread.sleep(lingerMillis); // let more appends join this force
+                }
+                flush();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("Move log flush failed; appends will not become durable", e);
+            lock.lock();
+            try {
+                failure = e;
+                forced.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /** Forces the range written since the last force; the force itself runs outside the lock. */
+    private void flush() {
+        MappedByteBuffer buffer;
+        int from;
+        int to;
+        long upTo;
+        lock.lock();
+        try {
+            buffer = segment;
+            from = flushedOffset;
+            to = offset;
+            upTo = written;
+            flushedOffset = to;
+        } finally {
+            lock.unlock();
+        }
+        if (to > from) {
+            buffer.force(from, to - from);
+        }
+        lock.lock();
+        try {
+            durable = Math.max(durable, upTo);
+            forced.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            dirty.signal();
+            forced.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        lock.lock();
+        try {
+            try {
+                if (failure == null && offset > flushedOffset) {
+                    segment.force(flushedOffset, offset - flushedOffset);
+                    durable = written;
+                }
+                channel.close();
+            } catch (IOException e) {
+                log.warn("Cannot close move log segment {}: {}", segmentSeq, e.getMessage());
+            }
+            forced.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ────────────────────────────────
+    // Recovery
+    // ────────────────────────────────
+
+    /** Rebuilds the sessions that were live at the end of the log in {@code dir}. */
+    public static Recovery recover(Path dir) {
+        long start = latestCheckpoint(dir);
+        Map<Long, DialogueSession> sessions = new HashMap<>();
+        long records = 0;
+        int rejected = 0;
+        try (MoveLogReader reader = new MoveLogReader(dir, start)) {
+            while (reader.hasNext()) {
+                MoveLogRecord r = reader.next();
+                records++;
+                switch (r.kind()) {
+                    case START -> sessions.put(r.sessionId(),
+                            DialogueRules.start(r.sessionId(), r.topic().intern(), r.rootClaimId(), r.timeMillis()));
+                    case SNAPSHOT -> sessions.put(r.sessionId(), DialogueSession.fromSnapshot(r.snapshot()));
+                    case MOVE -> {
+                        DialogueSession s = sessions.get(r.sessionId());
+                        if (s == null) {
+                            continue; // its snapshot follows later in the checkpoint
+                        }
+                        try {
+                            DialogueRules.apply(s, r);
+                        } catch (IllegalMoveException e) {
+                            sessions.remove(r.sessionId());
+                            rejected++;
+                        }
+                    }
+                    case END -> sessions.remove(r.sessionId());
+                    case CHECKPOINT_BEGIN, CHECKPOINT_END -> {
+                    }
+                }
+            }
+        }
+        return new Recovery(sessions, records, rejected);
+    }
+
+    /** Position of the BEGIN of the newest checkpoint that has an END, or 0 (replay everything). */
+    static long latestCheckpoint(Path dir) {
+        List<Path> segments = MoveLogReader.segments(dir);
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            long seq = segmentSeq(segments.get(i));
+            long found = -1;
+            try (MoveLogReader reader = new MoveLogReader(dir, position(seq, 0))) {
+                while (reader.hasNext()) {
+                    MoveLogRecord r = reader.next();
+                    if (reader.position() >>> 32 != seq) {
+                        break; // read into the next segment, which was already searched
+                    }
+                    if (r.kind() == MoveLogRecord.Kind.CHECKPOINT_END) {
+                        found = r.checkpointId();
+                    }
+                }
+            }
+            if (found >= 0) {
+                return found;
+            }
+        }
+        return 0;
+    }
+
+    // ────────────────────────────────
+    // Naming and positions
+    // ────────────────────────────────
+
+    static long position(long seq, int offset) {
+        return seq << 32 | offset;
+    }
+
+    static boolean isSegment(Path path) {
+        return path.getFileName().toString().matches(PREFIX + "\\d+\\" + SUFFIX);
+    }
+
+    static long segmentSeq(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+}
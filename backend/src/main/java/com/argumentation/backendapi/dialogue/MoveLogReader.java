@@ -0,0 +1,168 @@
+package com.argumentation.backendapi.dialogue;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.CRC32;
+
+/**
+ * MoveLogReader
+ * --------------
+ * Sequential reader over the segments of a move log directory, oldest first.
+ * Segments are mapped read-only one at a time, so reading a long log needs
+ * no more heap than the record at hand.
+ *
+ * A segment ends at the first empty frame (the unwritten, zero-filled rest
+ * of a preallocated segment) or at a frame whose CRC does not match (a
+ * record torn by a crash); reading then continues with the next segment.
+ * The reader can run next to the writer: it sees every record committed to
+ * the mapping before it got there.
+ *
+ * Analytics:
+ *   try (Stream<MoveLogRecord> moves = MoveLogReader.stream(dir)) {
+ *       moves.filter(r -> r.kind() == MoveLogRecord.Kind.MOVE)...
+ *   }
+ */
+public final class MoveLogReader implements Iterator<MoveLogRecord>, Closeable {
+
+    private final Deque<Path> segments;
+    private final long from;
+    private final CRC32 crc = new CRC32();
+
+    private MappedByteBuffer segment;
+    private long segmentSeq;
+    private int offset;
+    private MoveLogRecord next;
+    private long nextPosition;
+    private long position = -1;
+
+    /** Reads the whole log. */
+    public MoveLogReader(Path dir) {
+        this(dir, 0);
+    }
+
+    /** Reads from a log position (see {@link #position()}) onwards. */
+    public MoveLogReader(Path dir, long fromPosition) {
+        this.from = fromPosition;
+        this.segments = new ArrayDeque<>();
+        for (Path path : segments(dir)) {
+            if (MoveLog.segmentSeq(path) >= fromPosition >>> 32) {
+                segments.add(path);
+            }
+        }
+    }
+
+    public static Stream<MoveLogRecord> stream(Path dir) {
+        MoveLogReader reader = new MoveLogReader(dir);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(reader,
+                Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(reader::close);
+    }
+
+    /** Segment files of a log directory in write order. */
+    static List<Path> segments(Path dir) {
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(MoveLog::isSegment)
+                    .sorted(Comparator.comparingLong(MoveLog::segmentSeq))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list move log " + dir, e);
+        }
+    }
+
+    /** Position of the record last returned by next(): segment sequence << 32 | offset. */
+    public long position() {
+        return position;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null) {
+            if (segment == null && !openNextSegment()) {
+                return false;
+            }
+            next = readFrame();
+            if (next == null) {
+                segment = null; // end of this segment
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public MoveLogRecord next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        MoveLogRecord record = next;
+        position = nextPosition;
+        next = null;
+        return record;
+    }
+
+    private boolean openNextSegment() {
+        while (!segments.isEmpty()) {
+            Path path = segments.poll();
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                if (channel.size() < MoveLog.HEADER) {
+                    continue;
+                }
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                if (mapped.getInt(0) != MoveLog.MAGIC || mapped.getInt(4) != MoveLog.VERSION) {
+                    continue; // not a segment of this format
+                }
+                segment = mapped;
+                segmentSeq = mapped.getLong(8);
+                offset = MoveLog.HEADER;
+                if (segmentSeq == from >>> 32) {
+                    offset = Math.max(offset, (int) from);
+                }
+                return true;
+            } catch (NoSuchFileException e) {
+                // deleted by the writer's retention since listing
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read move log segment " + path, e);
+            }
+        }
+        return false;
+    }
+
+    private MoveLogRecord readFrame() {
+        int limit = segment.limit();
+        if (offset + MoveLog.FRAME > limit) {
+            return null;
+        }
+        int length = segment.getInt(offset);
+        if (length <= 0 || offset + MoveLog.FRAME + length > limit) {
+            return null;
+        }
+        ByteBuffer body = segment.slice(offset + MoveLog.FRAME, length);
+        crc.reset();
+        crc.update(body.duplicate());
+        if ((int) crc.getValue() != segment.getInt(offset + 4)) {
+            return null; // torn write
+        }
+        nextPosition = MoveLog.position(segmentSeq, offset);
+        offset += MoveLog.FRAME + length;
+        return MoveLogRecord.decode(body);
+    }
+
+    @Override
+    public void close() {
+        segments.clear();
+        segment = null;
+        next = null;
+    }
+}
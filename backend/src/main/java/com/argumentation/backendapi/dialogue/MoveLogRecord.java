@@ -0,0 +1,168 @@
+package com.argumentation.backendapi.dialogue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * MoveLogRecord
+ * --------------
+ * One entry of the dialogue move log.
+ *
+ * Kinds:
+ *   START             a session opened (topic, root claim)
+ *   MOVE              a move as the frontend's Move sees it (actor, type, content,
+ *                     timestamp) plus the statements it refers to
+ *   SNAPSHOT          the full state of one session (DialogueSession.snapshot())
+ *   END               a session was discarded or expired
+ *   CHECKPOINT_BEGIN  start of a snapshot of every live session
+ *   CHECKPOINT_END    that snapshot is complete; checkpointId is the position of its BEGIN
+ *
+ * Body layout (big-endian), after the 8-byte frame header written by MoveLog:
+ *   kind (1) | sessionId (8) | timeMillis (8) | kind-specific fields
+ *     START      rootClaimId (4) | topic (2 + UTF-8)
+ *     MOVE       actor (1) | moveType (1) | targetId (4) | n (2) | statementIds (4·n) | content (4 + UTF-8)
+ *     SNAPSHOT   state (4 + bytes)
+ *     CHECKPOINT checkpointId (8)
+ */
+public record MoveLogRecord(Kind kind,
+                            long sessionId,
+                            long timeMillis,
+                            int rootClaimId,
+                            String topic,
+                            Actor actor,
+                            MoveType moveType,
+                            int targetId,
+                            int[] statementIds,
+                            String content,
+                            byte[] snapshot,
+                            long checkpointId) {
+
+    public enum Kind { START, MOVE, SNAPSHOT, END, CHECKPOINT_BEGIN, CHECKPOINT_END }
+
+    private static final int[] NO_STATEMENTS = new int[0];
+
+    public static MoveLogRecord start(long sessionId, long timeMillis, int rootClaimId, String topic) {
+        return new MoveLogRecord(Kind.START, sessionId, timeMillis, rootClaimId, topic,
+                null, null, 0, NO_STATEMENTS, null, null, 0);
+    }
+
+    /**
+     * @param targetId     Challenged or rebutted statement (0 if none)
+     * @param statementIds Justifications, or the saved rebuttal statement
+     * @param content      Rebuttal text (null for other moves)
+     */
+    public static MoveLogRecord move(long sessionId, long timeMillis, Actor actor, MoveType type,
+                                     int targetId, int[] statementIds, String content) {
+        return new MoveLogRecord(Kind.MOVE, sessionId, timeMillis, 0, null, actor, type, targetId,
+                statementIds == null ? NO_STATEMENTS : statementIds, content, null, 0);
+    }
+
+    public static MoveLogRecord snapshot(DialogueSession session, long timeMillis) {
+        return new MoveLogRecord(Kind.SNAPSHOT, session.id(), timeMillis, 0, null,
+                null, null, 0, NO_STATEMENTS, null, session.snapshot(), 0);
+    }
+
+    public static MoveLogRecord end(long sessionId, long timeMillis) {
+        return new MoveLogRecord(Kind.END, sessionId, timeMillis, 0, null, null, null, 0, NO_STATEMENTS, null, null, 0);
+    }
+
+    public static MoveLogRecord checkpoint(Kind kind, long checkpointId, long timeMillis) {
+        return new MoveLogRecord(kind, 0, timeMillis, 0, null, null, null, 0, NO_STATEMENTS, null, null, checkpointId);
+    }
+
+    // ────────────────────────────────
+    // Encoding
+    // ────────────────────────────────
+
+    /** Bytes encode() will write. */
+    int encodedLength() {
+        int length = 1 + 8 + 8;
+        return length + switch (kind) {
+            case START -> 4 + 2 + utf8(topic).length;
+            case MOVE -> 1 + 1 + 4 + 2 + 4 * statementIds.length + 4 + (content == null ? 0 : utf8(content).length);
+            case SNAPSHOT -> 4 + snapshot.length;
+            case END -> 0;
+            case CHECKPOINT_BEGIN, CHECKPOINT_END -> 8;
+        };
+    }
+
+    void encode(ByteBuffer out) {
+        out.put((byte) kind.ordinal());
+        out.putLong(sessionId);
+        out.putLong(timeMillis);
+        switch (kind) {
+            case START -> {
+                out.putInt(rootClaimId);
+                byte[] name = utf8(topic);
+                out.putShort((short) name.length);
+                out.put(name);
+            }
+            case MOVE -> {
+                out.put((byte) actor.ordinal());
+                out.put((byte) moveType.ordinal());
+                out.putInt(targetId);
+                out.putShort((short) statementIds.length);
+                for (int id : statementIds) {
+                    out.putInt(id);
+                }
+                if (content == null) {
+                    out.putInt(-1);
+                } else {
+                    byte[] text = utf8(content);
+                    out.putInt(text.length);
+                    out.put(text);
+                }
+            }
+            case SNAPSHOT -> {
+                out.putInt(snapshot.length);
+                out.put(snapshot);
+            }
+            case END -> {
+            }
+            case CHECKPOINT_BEGIN, CHECKPOINT_END -> out.putLong(checkpointId);
+        }
+    }
+
+    static MoveLogRecord decode(ByteBuffer in) {
+        Kind kind = Kind.values()[in.get()];
+        long sessionId = in.getLong();
+        long time = in.getLong();
+        return switch (kind) {
+            case START -> {
+                int root = in.getInt();
+                byte[] name = new byte[in.getShort() & 0xFFFF];
+                in.get(name);
+                yield start(sessionId, time, root, new String(name, StandardCharsets.UTF_8));
+            }
+            case MOVE -> {
+                Actor actor = Actor.values()[in.get()];
+                MoveType type = MoveType.values()[in.get()];
+                int target = in.getInt();
+                int[] ids = new int[in.getShort() & 0xFFFF];
+                for (int i = 0; i < ids.length; i++) {
+                    ids[i] = in.getInt();
+                }
+                int textLength = in.getInt();
+                String text = null;
+                if (textLength >= 0) {
+                    byte[] bytes = new byte[textLength];
+                    in.get(bytes);
+                    text = new String(bytes, StandardCharsets.UTF_8);
+                }
+                yield move(sessionId, time, actor, type, target, ids, text);
+            }
+            case SNAPSHOT -> {
+                byte[] state = new byte[in.getInt()];
+                in.get(state);
+                yield new MoveLogRecord(Kind.SNAPSHOT, sessionId, time, 0, null, null, null, 0,
+                        NO_STATEMENTS, null, state, 0);
+            }
+            case END -> end(sessionId, time);
+            case CHECKPOINT_BEGIN, CHECKPOINT_END -> checkpoint(kind, in.getLong(), time);
+        };
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
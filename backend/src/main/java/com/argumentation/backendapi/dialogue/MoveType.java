@@ -0,0 +1,45 @@
+package com.argumentation.backendapi.dialogue;
+
+/**
+ * MoveType
+ * ---------
+ * The moves of the dialogue game. Labels match the frontend's Move.type values.
+ * CLAIM is only ever made by the proponent when a session starts.
+ */
+public enum MoveType {
+
+    CLAIM("Claim"),
+    CHALLENGE("Challenge"),
+    JUSTIFY("Justify"),
+    REBUTTAL("Rebuttal"),
+    ACCEPT("Accept"),
+    SKIP("Skip");
+
+    private final String label;
+
+    MoveType(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    /** Bit of this move in an allowed-moves mask. */
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    /** Parses a label case-insensitively; "rebut" is accepted for REBUTTAL (the frontend's MoveType). */
+    public static MoveType parse(String value) {
+        if ("rebut".equalsIgnoreCase(value)) {
+            return REBUTTAL;
+        }
+        for (MoveType type : values()) {
+            if (type.label.equalsIgnoreCase(value)) {
+                return type;
+            }
+        }
+        throw new IllegalMoveException("Unknown move type: " + value);
+    }
+}
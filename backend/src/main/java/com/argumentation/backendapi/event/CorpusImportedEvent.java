@@ -0,0 +1,13 @@
+package com.argumentation.backendapi.event;
+
+import com.argumentation.backendapi.model.ImportSummary;
+
+/**
+ * CorpusImportedEvent
+ * --------------------
+ * Published after a bulk import has committed its rows, so components that
+ * hold derived state (the in-memory argument graph, caches, indexes) can
+ * rebuild it.
+ */
+public record CorpusImportedEvent(ImportSummary summary) {
+}
@@ -0,0 +1,23 @@
+package com.argumentation.backendapi.event;
+
+import com.argumentation.backendapi.graph.Label;
+
+import java.util.Map;
+
+/**
+ * LabelsChangedEvent
+ * -------------------
+ * Published by SemanticsService once a committed rebuttal's attack has been
+ * applied to the maintained grounded labelling (after RebuttalCreatedEvent
+ * or RebuttalPlacedEvent), with the labels that actually changed. Delivered
+ * synchronously within the ORDER_LABELS listener, so components ranking by
+ * label see it before the caches and ETag versions move.
+ *
+ * @param statementId ID of the new rebuttal statement
+ * @param targetId    ID of the statement it rebuts
+ * @param changes     Statement ID → new label, in propagation order (the rebuttal
+ *                    itself included); null if the labelling was recomputed in
+ *                    full for a new graph instance, so what changed is unknown
+ */
+public record LabelsChangedEvent(int statementId, int targetId, Map<Integer, Label> changes) {
+}
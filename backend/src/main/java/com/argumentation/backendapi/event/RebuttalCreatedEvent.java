@@ -0,0 +1,36 @@
+package com.argumentation.backendapi.event;
+
+import java.util.Map;
+
+/**
+ * RebuttalCreatedEvent
+ * ---------------------
+ * Published by RebuttalService when a rebuttal is saved. Listeners that keep
+ * derived state (rankings, indexes, caches, live streams) should use
+ * {@code @TransactionalEventListener} (AFTER_COMMIT) so they never see a
+ * rebuttal whose transaction rolled back. Listeners whose state other
+ * listeners read carry an explicit {@code @Order} (the ORDER_ constants).
+ *
+ * @param statementId   ID of the new rebuttal statement
+ * @param targetId      ID of the statement it rebuts
+ * @param argumentId    ID of the argument created for the rebuttal
+ * @param text          Rebuttal text
+ * @param source        Source name
+ * @param statusChanges Grounded labels that change because of the new attack (statement ID → label),
+ *                      as previewed before commit; for the client only, derived state
+ *                      follows the changes actually applied (LabelsChangedEvent)
+ */
+public record RebuttalCreatedEvent(int statementId,
+                                   int targetId,
+                                   int argumentId,
+                                   String text,
+                                   String source,
+                                   Map<Integer, String> statusChanges) {
+
+    /** After-commit listeners that others read from run first, in this order (lower runs earlier) */
+    public static final int ORDER_GRAPH = 0;
+    public static final int ORDER_LABELS = 100;
+    /** Cached responses are dropped or updated before their ETag versions move (ContentVersions) */
+    public static final int ORDER_CACHES = 200;
+    public static final int ORDER_VERSIONS = 300;
+}
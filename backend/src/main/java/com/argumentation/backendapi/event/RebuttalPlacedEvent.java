@@ -0,0 +1,13 @@
+package com.argumentation.backendapi.event;
+
+/**
+ * RebuttalPlacedEvent
+ * --------------------
+ * Published by the argument graph when a rebuttal it had parked (its
+ * after-commit hook ran before the one of its target) is finally appended,
+ * so components that derive state from the graph (the grounded labelling)
+ * can apply its attack. Delivered synchronously, on the thread of the
+ * target's hook, before that hook's later listeners run.
+ */
+public record RebuttalPlacedEvent(int statementId, int targetId) {
+}
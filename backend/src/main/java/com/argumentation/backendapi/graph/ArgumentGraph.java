@@ -0,0 +1,758 @@
+package com.argumentation.backendapi.graph;
+
+import com.argumentation.backendapi.model.StatementRow;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * ArgumentGraph
+ * --------------
+ * An in-memory copy of the whole argument graph held in primitive arrays.
+ *
+ * Statements and arguments are addressed by dense indices (0..n-1), and
+ * database IDs are mapped to indices with a binary search over the sorted ID
+ * arrays. Edges are stored CSR-style (compressed sparse rows): one "start"
+ * array with n + 1 offsets and one flat array of neighbour indices, so that
+ *   neighbours(i) = edges[start[i] .. start[i + 1])
+ *
+ * Edge sets:
+ *   - support:  argument → its premises     (premises table)
+ *   - usedBy:   statement → arguments it is a premise of (reverse of support)
+ *   - attack:   statement → statements rebutting it (reverse of counter_statement)
+ *   - counterOf: statement → the statement it rebuts (or -1)
+ *
+ * Statement texts live in a shared UTF-8 {@link TextPool} and source names
+ * are interned into a small table, so a statement costs about 28 bytes plus
+ * its text instead of a Hibernate entity with proxies.
+ *
+ * The arrays built from the database are immutable; rebuttals created at
+ * runtime are appended through {@link #addRebuttal} into growable tail
+ * arrays and small overlay maps. A read/write lock keeps readers consistent
+ * with appends.
+ */
+public final class ArgumentGraph {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // ────────────────────────────────
+    // Statements
+    // ────────────────────────────────
+
+    private int statementCount;
+    private final int baseStatementCount;
+    private int[] statementIds;
+    private int[] statementText;
+    private int[] statementSource;
+    private int[] counterOf;
+    private int[] firstArgument;
+    private final Map<Integer, Integer> appendedStatements = new HashMap<>();
+
+    // ────────────────────────────────
+    // Arguments
+    // ────────────────────────────────
+
+    private int argumentCount;
+    private final int baseArgumentCount;
+    private int[] argumentIds;
+    private int[] argumentClaim;
+    private final Map<Integer, Integer> appendedArguments = new HashMap<>();
+
+    // ────────────────────────────────
+    // Edges (CSR over the loaded part; appended rebuttals go to the overlay)
+    // ────────────────────────────────
+
+    private final int[] premiseStart;
+    private final int[] premises;
+    private final int[] usedByStart;
+    private final int[] usedBy;
+    private final int[] attackerStart;
+    private final int[] attackers;
+    private final Map<Integer, IntList> appendedAttackers = new HashMap<>();
+
+    // ────────────────────────────────
+    // Topics, sources, texts
+    // ────────────────────────────────
+
+    private final Map<String, Integer> topicArgument;
+    private final List<String> sourceNames;
+    private final Map<String, Integer> sourceIndex;
+    private final TextPool texts;
+
+    private ArgumentGraph(Builder b) {
+        this.statementCount = b.statementIds.size();
+        this.baseStatementCount = statementCount;
+        this.statementIds = b.statementIds.toArray();
+        this.statementText = b.statementText.toArray();
+        this.statementSource = b.statementSource.toArray();
+        this.argumentCount = b.argumentIds.size();
+        this.baseArgumentCount = argumentCount;
+        this.argumentIds = b.argumentIds.toArray();
+        this.sourceNames = b.sourceNames;
+        this.sourceIndex = b.sourceIndex;
+        this.texts = b.texts;
+        this.texts.seal();
+
+        // Resolve counter_statement IDs to indices
+        this.counterOf = new int[statementCount];
+        int[] rawCounter = b.statementCounter.toArray();
+        for (int i = 0; i < statementCount; i++) {
+            counterOf[i] = rawCounter[i] < 0 ? -1 : indexIn(statementIds, statementCount, rawCounter[i]);
+        }
+
+        // Resolve argument claims and remember the first (lowest ID) argument per claim
+        this.argumentClaim = new int[argumentCount];
+        this.firstArgument = new int[statementCount];
+        Arrays.fill(firstArgument, -1);
+        int[] rawClaim = b.argumentClaim.toArray();
+        for (int a = 0; a < argumentCount; a++) {
+            int claim = indexIn(statementIds, statementCount, rawClaim[a]);
+            argumentClaim[a] = claim;
+            if (claim >= 0 && firstArgument[claim] < 0) {
+                firstArgument[claim] = a;
+            }
+        }
+
+        // Resolve premise pairs and build both support directions
+        int pairs = b.premiseArgument.size();
+        int[] from = new int[pairs];
+        int[] to = new int[pairs];
+        int valid = 0;
+        for (int i = 0; i < pairs; i++) {
+            int a = indexIn(argumentIds, argumentCount, b.premiseArgument.get(i));
+            int s = indexIn(statementIds, statementCount, b.premiseStatement.get(i));
+            if (a >= 0 && s >= 0) {
+                from[valid] = a;
+                to[valid] = s;
+                valid++;
+            }
+        }
+        this.premiseStart = new int[argumentCount + 1];
+        this.premises = csr(from, to, valid, premiseStart);
+        this.usedByStart = new int[statementCount + 1];
+        this.usedBy = csr(to, from, valid, usedByStart);
+
+        // Attack edges: every statement with a counter statement attacks it
+        int[] attackTarget = new int[statementCount];
+        int[] attackSource = new int[statementCount];
+        int attacks = 0;
+        for (int i = 0; i < statementCount; i++) {
+            if (counterOf[i] >= 0) {
+                attackTarget[attacks] = counterOf[i];
+                attackSource[attacks] = i;
+                attacks++;
+            }
+        }
+        this.attackerStart = new int[statementCount + 1];
+        this.attackers = csr(attackTarget, attackSource, attacks, attackerStart);
+
+        // Topics point at their root argument
+        this.topicArgument = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> topic : b.topics.entrySet()) {
+            Integer argumentId = topic.getValue();
+            topicArgument.put(topic.getKey(), argumentId == null ? -1 : indexIn(argumentIds, argumentCount, argumentId));
+        }
+    }
+
+    /**
+     * Builds a CSR adjacency from (key → value) pairs with a counting sort.
+     * Fills {@code start} (length = number of keys + 1) and returns the value array.
+     */
+    private static int[] csr(int[] keys, int[] values, int count, int[] start) {
+        for (int i = 0; i < count; i++) {
+            start[keys[i] + 1]++;
+        }
+        for (int k = 1; k < start.length; k++) {
+            start[k] += start[k - 1];
+        }
+        int[] cursor = Arrays.copyOf(start, start.length - 1);
+        int[] out = new int[count];
+        for (int i = 0; i < count; i++) {
+            out[cursor[keys[i]]++] = values[i];
+        }
+        return out;
+    }
+
+    private static int indexIn(int[] sortedIds, int length, int id) {
+        int i = Arrays.binarySearch(sortedIds, 0, length, id);
+        return i >= 0 ? i : -1;
+    }
+
+    // ────────────────────────────────
+    // ID ↔ index mapping (callers hold the lock)
+    // ────────────────────────────────
+
+    private int statementIndex(int id) {
+        int i = indexIn(statementIds, baseStatementCount, id);
+        if (i >= 0) {
+            return i;
+        }
+        Integer appended = appendedStatements.get(id);
+        return appended != null ? appended : -1;
+    }
+
+    private int argumentIndex(int id) {
+        int i = indexIn(argumentIds, baseArgumentCount, id);
+        if (i >= 0) {
+            return i;
+        }
+        Integer appended = appendedArguments.get(id);
+        return appended != null ? appended : -1;
+    }
+
+    private String sourceOf(int statement) {
+        int s = statementSource[statement];
+        return s < 0 ? null : sourceNames.get(s);
+    }
+
+    private Integer argumentIdOf(int statement) {
+        int a = firstArgument[statement];
+        return a < 0 ? null : argumentIds[a];
+    }
+
+    private StatementRow row(Integer parentId, int statement) {
+        return new Row(parentId, statementIds[statement], texts.get(statementText[statement]),
+                sourceOf(statement), argumentIdOf(statement));
+    }
+
+    // ────────────────────────────────
+    // Read API (mirrors the repository projections)
+    // ────────────────────────────────
+
+    /**
+     * Root claim of a topic, with the topic's root argument ID.
+     *
+     * @return The claim row (parentId is null), or empty if the topic is unknown.
+     */
+    public Optional<StatementRow> rootClaim(String topicName) {
+        lock.readLock().lock();
+        try {
+            Integer argument = topicArgument.get(topicName);
+            if (argument == null || argument < 0 || argumentClaim[argument] < 0) {
+                return Optional.empty();
+            }
+            int claim = argumentClaim[argument];
+            return Optional.of(new Row(null, statementIds[claim], texts.get(statementText[claim]),
+                    sourceOf(claim), argumentIds[argument]));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Same contract as PremiseRepository#findPremiseRowsByArgumentIds. */
+    public List<StatementRow> premiseRows(Collection<Integer> argumentIdsToLoad) {
+        lock.readLock().lock();
+        try {
+            List<StatementRow> rows = new ArrayList<>();
+            for (Integer argumentId : argumentIdsToLoad) {
+                int a = argumentId == null ? -1 : argumentIndex(argumentId);
+                if (a < 0 || a >= baseArgumentCount) {
+                    continue; // appended arguments are rebuttals and have no premises
+                }
+                for (int e = premiseStart[a]; e < premiseStart[a + 1]; e++) {
+                    rows.add(row(argumentId, premises[e]));
+                }
+            }
+            return rows;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Same contract as StatementRepository#findRebuttalRowsByTargetIds. */
+    public List<StatementRow> rebuttalRows(Collection<Integer> targetIds) {
+        lock.readLock().lock();
+        try {
+            List<StatementRow> rows = new ArrayList<>();
+            for (Integer targetId : targetIds) {
+                int t = targetId == null ? -1 : statementIndex(targetId);
+                if (t < 0) {
+                    continue;
+                }
+                if (t < baseStatementCount) {
+                    for (int e = attackerStart[t]; e < attackerStart[t + 1]; e++) {
+                        rows.add(row(targetId, attackers[e]));
+                    }
+                }
+                IntList extra = appendedAttackers.get(t);
+                if (extra != null) {
+                    for (int i = 0; i < extra.size(); i++) {
+                        rows.add(row(targetId, extra.get(i)));
+                    }
+                }
+            }
+            return rows;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** @return true if an argument with this ID is loaded. */
+    public boolean containsArgument(int argumentId) {
+        lock.readLock().lock();
+        try {
+            return argumentIndex(argumentId) >= 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** @return true if a statement with this ID is loaded. */
+    public boolean containsStatement(int statementId) {
+        lock.readLock().lock();
+        try {
+            return statementIndex(statementId) >= 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** @return The ID of the first argument whose claim is the given statement, or null. */
+    public Integer argumentIdOfClaim(int claimId) {
+        lock.readLock().lock();
+        try {
+            int s = statementIndex(claimId);
+            return s < 0 ? null : argumentIdOf(s);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** @return All topic names in load order. */
+    public List<String> topicNames() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(topicArgument.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Topics whose argument tree may contain the statement: walks upwards
+     * from it (rebuttal → rebutted statement, premise → claim of every
+     * argument using it) and collects the topics rooted at a reached claim.
+     * Premises of any argument count, not only of the first one per claim,
+     * so the result can include a topic whose tree does not show the
+     * statement, but never misses one that does.
+     *
+     * @return Topic names in load order; empty if the statement is unknown.
+     */
+    public List<String> topicsContaining(int statementId) {
+        lock.readLock().lock();
+        try {
+            int start = statementIndex(statementId);
+            if (start < 0) {
+                return List.of();
+            }
+            BitSet reached = new BitSet(statementCount);
+            IntList queue = new IntList();
+            reached.set(start);
+            queue.add(start);
+            for (int head = 0; head < queue.size(); head++) {
+                int s = queue.get(head);
+                int counter = counterOf[s];
+                if (counter >= 0 && !reached.get(counter)) {
+                    reached.set(counter);
+                    queue.add(counter);
+                }
+                if (s < baseStatementCount) {
+                    for (int e = usedByStart[s]; e < usedByStart[s + 1]; e++) {
+                        int claim = argumentClaim[usedBy[e]];
+                        if (claim >= 0 && !reached.get(claim)) {
+                            reached.set(claim);
+                            queue.add(claim);
+                        }
+                    }
+                }
+            }
+            List<String> topics = new ArrayList<>();
+            for (Map.Entry<String, Integer> topic : topicArgument.entrySet()) {
+                int argument = topic.getValue();
+                if (argument >= 0 && argumentClaim[argument] >= 0 && reached.get(argumentClaim[argument])) {
+                    topics.add(topic.getKey());
+                }
+            }
+            return topics;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int statementCount() {
+        lock.readLock().lock();
+        try {
+            return statementCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int argumentCount() {
+        lock.readLock().lock();
+        try {
+            return argumentCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Approximate heap held by the arrays of this graph (texts included). */
+    public long footprintBytes() {
+        lock.readLock().lock();
+        try {
+            long ints = (long) statementIds.length * 5 + argumentIds.length * 2L
+                    + premiseStart.length + premises.length + usedByStart.length + usedBy.length
+                    + attackerStart.length + attackers.length;
+            return ints * 4 + texts.footprintBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ────────────────────────────────
+    // Index-level access for graph algorithms
+    // ────────────────────────────────
+
+    /** Dense index of a statement ID, or -1 if it is not loaded. */
+    public int indexOfStatement(int statementId) {
+        lock.readLock().lock();
+        try {
+            return statementIndex(statementId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Statement ID stored at a dense index. */
+    public int statementIdAt(int index) {
+        lock.readLock().lock();
+        try {
+            return statementIds[index];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Text of the statement stored at a dense index. */
+    public String textAt(int index) {
+        lock.readLock().lock();
+        try {
+            return texts.get(statementText[index]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Index of the statement that the given statement rebuts (its only attack target), or -1. */
+    public int counterIndexOf(int index) {
+        lock.readLock().lock();
+        try {
+            return counterOf[index];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Appends the indices of all statements rebutting the given statement to {@code out}. */
+    public void attackersOf(int index, IntList out) {
+        lock.readLock().lock();
+        try {
+            if (index < baseStatementCount) {
+                for (int e = attackerStart[index]; e < attackerStart[index + 1]; e++) {
+                    out.add(attackers[e]);
+                }
+            }
+            IntList extra = appendedAttackers.get(index);
+            if (extra != null) {
+                for (int i = 0; i < extra.size(); i++) {
+                    out.add(extra.get(i));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ────────────────────────────────
+    // Attack frameworks (input for acceptability semantics)
+    // ────────────────────────────────
+
+    /**
+     * Extracts the attack framework of one topic: every statement reachable
+     * from the topic's root claim through premises and rebuttals, with the
+     * attacks between them.
+     *
+     * @return The framework, or empty if the topic is unknown.
+     */
+    public Optional<AttackFramework> topicFramework(String topicName) {
+        return topicView(topicName).map(TopicView::framework);
+    }
+
+    /**
+     * Walks a topic breadth-first from its root claim through premises (support)
+     * and rebuttals (attack) and records, per reached statement, how it was
+     * first reached: parent, depth and stance relative to the root claim.
+     *
+     * @return The view (local index 0 is the root claim), or empty if the topic is unknown.
+     */
+    public Optional<TopicView> topicView(String topicName) {
+        lock.readLock().lock();
+        try {
+            Integer argument = topicArgument.get(topicName);
+            if (argument == null || argument < 0 || argumentClaim[argument] < 0) {
+                return Optional.empty();
+            }
+
+            Map<Integer, Integer> local = new HashMap<>();
+            IntList members = new IntList();
+            IntList parent = new IntList();
+            IntList depth = new IntList();
+            IntList opposing = new IntList();
+            IntList from = new IntList();
+            IntList to = new IntList();
+            int root = argumentClaim[argument];
+            local.put(root, 0);
+            members.add(root);
+            parent.add(-1);
+            depth.add(0);
+            opposing.add(0);
+
+            IntList support = new IntList();
+            for (int head = 0; head < members.size(); head++) {
+                int s = members.get(head);
+                int a = firstArgument[s];
+                int premiseCount = 0;
+
+                // Premises share the stance of the claim they support
+                if (a >= 0 && a < baseArgumentCount) {
+                    premiseCount = premiseStart[a + 1] - premiseStart[a];
+                    for (int e = premiseStart[a]; e < premiseStart[a + 1]; e++) {
+                        if (visit(premises[e], local, members) == parent.size()) {
+                            parent.add(head);
+                            depth.add(depth.get(head) + 1);
+                            opposing.add(opposing.get(head));
+                        }
+                    }
+                }
+                support.add(premiseCount);
+
+                // Rebuttals take the opposite stance
+                int before = members.size();
+                collectAttackers(s, head, local, members, from, to);
+                for (int v = before; v < members.size(); v++) {
+                    parent.add(head);
+                    depth.add(depth.get(head) + 1);
+                    opposing.add(1 - opposing.get(head));
+                }
+            }
+
+            int[] ids = new int[members.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = statementIds[members.get(i)];
+            }
+            AttackFramework framework = AttackFramework.of(ids, from.toArray(), to.toArray(), from.size());
+            return Optional.of(new TopicView(framework, members.toArray(), parent.toArray(), depth.toArray(),
+                    opposing.toArray(), support.toArray()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Attack framework over every loaded statement (local index = graph index). */
+    public AttackFramework fullFramework() {
+        lock.readLock().lock();
+        try {
+            int[] ids = Arrays.copyOf(statementIds, statementCount);
+            IntList from = new IntList(statementCount / 4 + 1);
+            IntList to = new IntList(statementCount / 4 + 1);
+            for (int s = 0; s < statementCount; s++) {
+                if (counterOf[s] >= 0) {
+                    from.add(s);
+                    to.add(counterOf[s]);
+                }
+            }
+            return AttackFramework.of(ids, from.toArray(), to.toArray(), from.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Adds a statement to the framework being extracted (if new) and returns its local index. */
+    private static int visit(int statement, Map<Integer, Integer> local, IntList members) {
+        Integer existing = local.get(statement);
+        if (existing != null) {
+            return existing;
+        }
+        int index = members.size();
+        local.put(statement, index);
+        members.add(statement);
+        return index;
+    }
+
+    /** Visits every attacker of {@code s} and records the attack edge (attacker → s) in local indices. */
+    private void collectAttackers(int s, int localS, Map<Integer, Integer> local, IntList members,
+                                  IntList from, IntList to) {
+        if (s < baseStatementCount) {
+            for (int e = attackerStart[s]; e < attackerStart[s + 1]; e++) {
+                from.add(visit(attackers[e], local, members));
+                to.add(localS);
+            }
+        }
+        IntList extra = appendedAttackers.get(s);
+        if (extra != null) {
+            for (int i = 0; i < extra.size(); i++) {
+                from.add(visit(extra.get(i), local, members));
+                to.add(localS);
+            }
+        }
+    }
+
+    // ────────────────────────────────
+    // Write API
+    // ────────────────────────────────
+
+    /**
+     * Appends a rebuttal created at runtime: a new statement attacking {@code targetId}
+     * and the argument whose claim is that statement.
+     *
+     * @return false if the target is unknown or the statement is already present.
+     */
+    public boolean addRebuttal(int statementId, String text, String source, int targetId, int argumentId) {
+        lock.writeLock().lock();
+        try {
+            int target = statementIndex(targetId);
+            if (target < 0 || statementIndex(statementId) >= 0) {
+                return false;
+            }
+
+            // Statement
+            if (statementCount == statementIds.length) {
+                int capacity = statementCount + (statementCount >> 3) + 16;
+                statementIds = Arrays.copyOf(statementIds, capacity);
+                statementText = Arrays.copyOf(statementText, capacity);
+                statementSource = Arrays.copyOf(statementSource, capacity);
+                counterOf = Arrays.copyOf(counterOf, capacity);
+                firstArgument = Arrays.copyOf(firstArgument, capacity);
+            }
+            int s = statementCount++;
+            statementIds[s] = statementId;
+            statementText[s] = texts.add(text);
+            statementSource[s] = internSource(source);
+            counterOf[s] = target;
+            firstArgument[s] = -1;
+            appendedStatements.put(statementId, s);
+            appendedAttackers.computeIfAbsent(target, k -> new IntList(4)).add(s);
+
+            // Argument
+            if (argumentCount == argumentIds.length) {
+                int capacity = argumentCount + (argumentCount >> 3) + 16;
+                argumentIds = Arrays.copyOf(argumentIds, capacity);
+                argumentClaim = Arrays.copyOf(argumentClaim, capacity);
+            }
+            int a = argumentCount++;
+            argumentIds[a] = argumentId;
+            argumentClaim[a] = s;
+            firstArgument[s] = a;
+            appendedArguments.put(argumentId, a);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int internSource(String source) {
+        if (source == null) {
+            return -1;
+        }
+        Integer existing = sourceIndex.get(source);
+        if (existing != null) {
+            return existing;
+        }
+        sourceNames.add(source);
+        sourceIndex.put(source, sourceNames.size() - 1);
+        return sourceNames.size() - 1;
+    }
+
+    // ────────────────────────────────
+    // Row implementation handed to callers
+    // ────────────────────────────────
+
+    private record Row(Integer parentId, Integer id, String text, String source, Integer argumentId)
+            implements StatementRow {
+        @Override public Integer getParentId() { return parentId; }
+        @Override public Integer getId() { return id; }
+        @Override public String getText() { return text; }
+        @Override public String getSource() { return source; }
+        @Override public Integer getArgumentId() { return argumentId; }
+    }
+
+    // ────────────────────────────────
+    // Builder
+    // ────────────────────────────────
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Collects rows from the database and freezes them into an ArgumentGraph.
+     * Statements and arguments must be added in ascending ID order
+     * (the loader reads them with ORDER BY id).
+     */
+    public static final class Builder {
+
+        private final IntList statementIds = new IntList(1024);
+        private final IntList statementText = new IntList(1024);
+        private final IntList statementSource = new IntList(1024);
+        private final IntList statementCounter = new IntList(1024);
+        private final IntList argumentIds = new IntList(1024);
+        private final IntList argumentClaim = new IntList(1024);
+        private final IntList premiseArgument = new IntList(1024);
+        private final IntList premiseStatement = new IntList(1024);
+        private final Map<String, Integer> topics = new LinkedHashMap<>();
+        private final List<String> sourceNames = new ArrayList<>();
+        private final Map<String, Integer> sourceIndex = new HashMap<>();
+        private final TextPool texts = new TextPool(1024, 64 * 1024);
+
+        private Builder() {}
+
+        public Builder addStatement(int id, String text, String source, Integer counterStatementId) {
+            if (!statementIds.isEmpty() && id <= statementIds.get(statementIds.size() - 1)) {
+                throw new IllegalArgumentException("Statements must be added in ascending ID order: " + id);
+            }
+            statementIds.add(id);
+            statementText.add(texts.add(text == null ? "" : text));
+            statementSource.add(source == null ? -1 : sourceIndex.computeIfAbsent(source, name -> {
+                sourceNames.add(name);
+                return sourceNames.size() - 1;
+            }));
+            statementCounter.add(counterStatementId == null ? -1 : counterStatementId);
+            return this;
+        }
+
+        public Builder addArgument(int id, int claimId) {
+            if (!argumentIds.isEmpty() && id <= argumentIds.get(argumentIds.size() - 1)) {
+                throw new IllegalArgumentException("Arguments must be added in ascending ID order: " + id);
+            }
+            argumentIds.add(id);
+            argumentClaim.add(claimId);
+            return this;
+        }
+
+        public Builder addPremise(int argumentId, int statementId) {
+            premiseArgument.add(argumentId);
+            premiseStatement.add(statementId);
+            return this;
+        }
+
+        public Builder addTopic(String name, Integer argumentId) {
+            topics.put(name, argumentId);
+            return this;
+        }
+
+        public ArgumentGraph build() {
+            return new ArgumentGraph(this);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.argumentation.backendapi.graph;
+
+import java.util.Arrays;
+
+/**
+ * AttackFramework
+ * ----------------
+ * A Dung-style abstract argumentation framework: a set of nodes and an attack
+ * relation between them, stored with local dense indices 0..size-1.
+ *
+ * Each node is a statement (its database ID is kept in {@link #id(int)}), and
+ * "a attacks b" means statement a rebuts statement b (a.counter_statement = b).
+ * Both directions of the attack relation are held CSR-style so solvers can
+ * walk attackers and targets in O(degree).
+ *
+ * Instances are immutable snapshots, safe to share between threads.
+ */
+public final class AttackFramework {
+
+    private final int size;
+    private final int[] ids;
+    private final int[] attackerStart;
+    private final int[] attackers;
+    private final int[] targetStart;
+    private final int[] targets;
+
+    private AttackFramework(int size, int[] ids, int[] attackerStart, int[] attackers, int[] targetStart, int[] targets) {
+        this.size = size;
+        this.ids = ids;
+        this.attackerStart = attackerStart;
+        this.attackers = attackers;
+        this.targetStart = targetStart;
+        this.targets = targets;
+    }
+
+    /**
+     * Builds a framework from node IDs and attack edges given as local indices.
+     *
+     * @param ids       Statement ID of each local node.
+     * @param from      Attacking node of each edge.
+     * @param to        Attacked node of each edge.
+     * @param edgeCount Number of valid entries in {@code from}/{@code to}.
+     */
+    public static AttackFramework of(int[] ids, int[] from, int[] to, int edgeCount) {
+        int size = ids.length;
+        int[] attackerStart = new int[size + 1];
+        int[] targetStart = new int[size + 1];
+        int[] attackers = csr(to, from, edgeCount, attackerStart);
+        int[] targets = csr(from, to, edgeCount, targetStart);
+        return new AttackFramework(size, ids, attackerStart, attackers, targetStart, targets);
+    }
+
+    private static int[] csr(int[] keys, int[] values, int count, int[] start) {
+        for (int i = 0; i < count; i++) {
+            start[keys[i] + 1]++;
+        }
+        for (int k = 1; k < start.length; k++) {
+            start[k] += start[k - 1];
+        }
+        int[] cursor = Arrays.copyOf(start, start.length - 1);
+        int[] out = new int[count];
+        for (int i = 0; i < count; i++) {
+            out[cursor[keys[i]]++] = values[i];
+        }
+        return out;
+    }
+
+    /** Number of nodes. */
+    public int size() {
+        return size;
+    }
+
+    /** Number of attack edges. */
+    public int attackCount() {
+        return attackers.length;
+    }
+
+    /** Statement ID of a local node. */
+    public int id(int node) {
+        return ids[node];
+    }
+
+    /** Local index of a statement ID, or -1 (linear scan; meant for tests and small frameworks). */
+    public int indexOf(int statementId) {
+        for (int i = 0; i < size; i++) {
+            if (ids[i] == statementId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Attackers of a node: attackers()[attackerStart(n) .. attackerEnd(n))
+
+    public int attackerStart(int node) {
+        return attackerStart[node];
+    }
+
+    public int attackerEnd(int node) {
+        return attackerStart[node + 1];
+    }
+
+    public int attacker(int edge) {
+        return attackers[edge];
+    }
+
+    // Targets of a node: target(e) for e in [targetStart(n), targetEnd(n))
+
+    public int targetStart(int node) {
+        return targetStart[node];
+    }
+
+    public int targetEnd(int node) {
+        return targetStart[node + 1];
+    }
+
+    public int target(int edge) {
+        return targets[edge];
+    }
+
+    /** True if the node attacks itself. */
+    public boolean selfAttacking(int node) {
+        for (int e = targetStart[node]; e < targetStart[node + 1]; e++) {
+            if (targets[e] == node) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
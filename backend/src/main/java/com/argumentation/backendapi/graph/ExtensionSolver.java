@@ -0,0 +1,332 @@
+package com.argumentation.backendapi.graph;
+
+import java.util.*;
+
+/**
+ * ExtensionSolver
+ * ----------------
+ * Enumerates preferred and stable extensions of an attack framework.
+ *
+ * Every preferred extension contains the grounded extension, and nodes the
+ * grounded labelling made OUT can never be accepted, so the search only runs
+ * over the UNDEC residue. The residue is further split into weakly connected
+ * components which are solved independently: the extensions of the whole
+ * framework are the grounded IN set plus one choice per component.
+ *
+ * Per component the solver does a depth-first include/exclude search
+ * (include first, so large sets are found early) with pruning:
+ *   - conflict-freeness is maintained incrementally (a node attacked by, or
+ *     attacking, an included node cannot be included);
+ *   - when a node is included, each of its attackers must still be
+ *     counter-attackable by an included or not-yet-decided node;
+ *   - leaves are checked for admissibility and only ⊆-maximal sets are kept.
+ * A step budget bounds the work on adversarial inputs; when it runs out the
+ * result is marked as not exhaustive.
+ */
+public final class ExtensionSolver {
+
+    /** Search steps allowed over all components */
+    public static final long DEFAULT_STEP_BUDGET = 2_000_000L;
+
+    /** Components larger than this are not searched (result marked not exhaustive) */
+    public static final int MAX_COMPONENT_SIZE = 2_000;
+
+    /** Extensions listed at most (the number of combinations can grow exponentially) */
+    public static final int MAX_EXTENSIONS = 64;
+
+    private ExtensionSolver() {}
+
+    /**
+     * Result of an extension search.
+     *
+     * @param preferred  Preferred extensions as sorted statement ID arrays (at most MAX_EXTENSIONS).
+     * @param stable     Stable extensions as sorted statement ID arrays (at most MAX_EXTENSIONS).
+     * @param exhaustive False if a budget or size limit cut the search short.
+     */
+    public record Result(List<int[]> preferred, List<int[]> stable, boolean exhaustive) {
+    }
+
+    public static Result solve(AttackFramework af, byte[] grounded) {
+        return solve(af, grounded, DEFAULT_STEP_BUDGET);
+    }
+
+    public static Result solve(AttackFramework af, byte[] grounded, long stepBudget) {
+        IntList groundedIn = new IntList();
+        for (int v = 0; v < af.size(); v++) {
+            if (grounded[v] == Label.CODE_IN) {
+                groundedIn.add(v);
+            }
+        }
+
+        Search search = new Search(af, grounded, stepBudget);
+        List<List<BitSet>> preferredPerComponent = new ArrayList<>();
+        List<List<BitSet>> stablePerComponent = new ArrayList<>();
+        for (int[] component : components(af, grounded)) {
+            List<BitSet> preferred = search.preferred(component);
+            preferredPerComponent.add(preferred);
+            List<BitSet> stable = new ArrayList<>();
+            for (BitSet candidate : preferred) {
+                if (search.attacksRest(component, candidate)) {
+                    stable.add(candidate);
+                }
+            }
+            stablePerComponent.add(stable);
+        }
+
+        List<int[]> preferred = combine(af, groundedIn, preferredPerComponent);
+        List<int[]> stable = combine(af, groundedIn, stablePerComponent);
+        return new Result(preferred, stable, search.exhaustive);
+    }
+
+    /** Weakly connected components of the UNDEC nodes (attacks followed in both directions). */
+    private static List<int[]> components(AttackFramework af, byte[] grounded) {
+        int n = af.size();
+        boolean[] seen = new boolean[n];
+        List<int[]> result = new ArrayList<>();
+        IntList stack = new IntList();
+        for (int start = 0; start < n; start++) {
+            if (seen[start] || grounded[start] != Label.CODE_UNDEC) {
+                continue;
+            }
+            IntList members = new IntList();
+            seen[start] = true;
+            stack.add(start);
+            while (!stack.isEmpty()) {
+                int v = stack.pop();
+                members.add(v);
+                for (int e = af.attackerStart(v); e < af.attackerEnd(v); e++) {
+                    int u = af.attacker(e);
+                    if (!seen[u] && grounded[u] == Label.CODE_UNDEC) {
+                        seen[u] = true;
+                        stack.add(u);
+                    }
+                }
+                for (int e = af.targetStart(v); e < af.targetEnd(v); e++) {
+                    int u = af.target(e);
+                    if (!seen[u] && grounded[u] == Label.CODE_UNDEC) {
+                        seen[u] = true;
+                        stack.add(u);
+                    }
+                }
+            }
+            result.add(members.toArray());
+        }
+        return result;
+    }
+
+    /** Cartesian product of per-component choices, each united with the grounded IN set. */
+    private static List<int[]> combine(AttackFramework af, IntList groundedIn, List<List<BitSet>> perComponent) {
+        List<int[]> result = new ArrayList<>();
+        for (List<BitSet> choices : perComponent) {
+            if (choices.isEmpty()) {
+                return result; // some component admits no extension of this kind
+            }
+        }
+        int[] choice = new int[perComponent.size()];
+        while (result.size() < MAX_EXTENSIONS) {
+            IntList ids = new IntList(groundedIn.size() + 8);
+            for (int i = 0; i < groundedIn.size(); i++) {
+                ids.add(af.id(groundedIn.get(i)));
+            }
+            for (int c = 0; c < choice.length; c++) {
+                BitSet set = perComponent.get(c).get(choice[c]);
+                for (int v = set.nextSetBit(0); v >= 0; v = set.nextSetBit(v + 1)) {
+                    ids.add(af.id(v));
+                }
+            }
+            int[] sorted = ids.toArray();
+            Arrays.sort(sorted);
+            result.add(sorted);
+
+            // Advance the mixed-radix counter over component choices
+            int c = 0;
+            while (c < choice.length && ++choice[c] == perComponent.get(c).size()) {
+                choice[c] = 0;
+                c++;
+            }
+            if (c == choice.length) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    // ────────────────────────────────
+    // Backtracking search over one component
+    // ────────────────────────────────
+
+    private static final class Search {
+
+        private final AttackFramework af;
+        private final byte[] grounded;
+        private long stepsLeft;
+        private boolean exhaustive = true;
+
+        /** Per node: included in the current set */
+        private final boolean[] in;
+        /** Per node: number of included nodes attacking it */
+        private final int[] attackedByIn;
+        /** Per node: number of included nodes it attacks */
+        private final int[] attacksIn;
+        /** Per node: position in the current component's order, or -1 */
+        private final int[] position;
+
+        private int[] order;
+        private List<BitSet> maximal;
+
+        Search(AttackFramework af, byte[] grounded, long stepBudget) {
+            this.af = af;
+            this.grounded = grounded;
+            this.stepsLeft = stepBudget;
+            int n = af.size();
+            this.in = new boolean[n];
+            this.attackedByIn = new int[n];
+            this.attacksIn = new int[n];
+            this.position = new int[n];
+            Arrays.fill(position, -1);
+        }
+
+        /** ⊆-maximal admissible subsets of the component (never empty: ∅ is admissible). */
+        List<BitSet> preferred(int[] component) {
+            maximal = new ArrayList<>();
+            if (component.length > MAX_COMPONENT_SIZE) {
+                exhaustive = false;
+                maximal.add(new BitSet());
+                return maximal;
+            }
+
+            // Branch on high-degree nodes first: they constrain the most other nodes
+            Integer[] boxed = new Integer[component.length];
+            for (int i = 0; i < component.length; i++) {
+                boxed[i] = component[i];
+            }
+            Arrays.sort(boxed, Comparator.comparingInt(v -> -degree(v)));
+            order = new int[component.length];
+            for (int i = 0; i < boxed.length; i++) {
+                order[i] = boxed[i];
+                position[order[i]] = i;
+            }
+
+            dfs(0);
+
+            for (int v : order) {
+                position[v] = -1;
+            }
+            if (maximal.isEmpty()) {
+                maximal.add(new BitSet()); // budget ran out before any leaf was reached
+            }
+            return maximal;
+        }
+
+        private int degree(int v) {
+            return (af.attackerEnd(v) - af.attackerStart(v)) + (af.targetEnd(v) - af.targetStart(v));
+        }
+
+        private void dfs(int pos) {
+            if (--stepsLeft < 0) {
+                exhaustive = false;
+                return;
+            }
+            if (pos == order.length) {
+                if (admissible()) {
+                    record();
+                }
+                return;
+            }
+            int v = order[pos];
+            if (attackedByIn[v] == 0 && attacksIn[v] == 0 && !af.selfAttacking(v)) {
+                include(v, +1);
+                if (defensible(v, pos)) {
+                    dfs(pos + 1);
+                }
+                include(v, -1);
+            }
+            dfs(pos + 1);
+        }
+
+        private void include(int v, int delta) {
+            in[v] = delta > 0;
+            for (int e = af.targetStart(v); e < af.targetEnd(v); e++) {
+                attackedByIn[af.target(e)] += delta;
+            }
+            for (int e = af.attackerStart(v); e < af.attackerEnd(v); e++) {
+                attacksIn[af.attacker(e)] += delta;
+            }
+        }
+
+        /** Every UNDEC attacker of v must be attacked by an included node or by one still to be decided. */
+        private boolean defensible(int v, int pos) {
+            for (int e = af.attackerStart(v); e < af.attackerEnd(v); e++) {
+                int a = af.attacker(e);
+                if (grounded[a] != Label.CODE_UNDEC || attackedByIn[a] > 0) {
+                    continue;
+                }
+                boolean defender = false;
+                for (int f = af.attackerStart(a); f < af.attackerEnd(a) && !defender; f++) {
+                    int d = af.attacker(f);
+                    defender = position[d] > pos && attackedByIn[d] == 0 && attacksIn[d] == 0;
+                }
+                if (!defender) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /** All UNDEC attackers of included nodes are attacked by the set. */
+        private boolean admissible() {
+            for (int v : order) {
+                if (!in[v]) {
+                    continue;
+                }
+                for (int e = af.attackerStart(v); e < af.attackerEnd(v); e++) {
+                    int a = af.attacker(e);
+                    if (grounded[a] == Label.CODE_UNDEC && attackedByIn[a] == 0) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        /** Keeps the current set if no recorded set contains it, dropping recorded subsets of it. */
+        private void record() {
+            BitSet current = new BitSet();
+            for (int v : order) {
+                if (in[v]) {
+                    current.set(v);
+                }
+            }
+            for (BitSet existing : maximal) {
+                if (subsetOf(current, existing)) {
+                    return;
+                }
+            }
+            maximal.removeIf(existing -> subsetOf(existing, current));
+            maximal.add(current);
+        }
+
+        private static boolean subsetOf(BitSet a, BitSet b) {
+            BitSet copy = (BitSet) a.clone();
+            copy.andNot(b);
+            return copy.isEmpty();
+        }
+
+        /** True if every component node outside {@code set} is attacked by a node of {@code set}. */
+        boolean attacksRest(int[] component, BitSet set) {
+            for (int v : component) {
+                if (set.get(v)) {
+                    continue;
+                }
+                boolean attacked = false;
+                for (int e = af.attackerStart(v); e < af.attackerEnd(v) && !attacked; e++) {
+                    attacked = set.get(af.attacker(e));
+                }
+                if (!attacked) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
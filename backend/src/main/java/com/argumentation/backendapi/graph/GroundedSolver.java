@@ -0,0 +1,64 @@
+package com.argumentation.backendapi.graph;
+
+/**
+ * GroundedSolver
+ * ---------------
+ * Computes the grounded labelling of an attack framework with a worklist
+ * algorithm that touches every node and edge at most a constant number of
+ * times (O(V + E)).
+ *
+ * Algorithm:
+ *   1) Every node starts UNDEC with a counter of attackers that are not yet OUT.
+ *   2) Nodes without attackers are IN and go on the worklist.
+ *   3) Popping an IN node makes each of its targets OUT; every newly OUT node
+ *      decrements the counters of its own targets, and a node whose counter
+ *      drops to zero has only OUT attackers, so it becomes IN and is pushed.
+ *   4) Whatever is still UNDEC when the worklist is empty stays UNDEC.
+ *
+ * The result is the least fixed point of the characteristic function, i.e.
+ * the sceptically accepted statements (IN), the ones they defeat (OUT), and
+ * the undecided rest.
+ */
+public final class GroundedSolver {
+
+    private GroundedSolver() {}
+
+    /**
+     * @return One label code per node (see {@link Label#CODE_IN} etc.).
+     */
+    public static byte[] solve(AttackFramework af) {
+        int n = af.size();
+        byte[] labels = new byte[n];
+        int[] remaining = new int[n];
+        int[] worklist = new int[n];
+        int head = 0;
+        int tail = 0;
+
+        for (int v = 0; v < n; v++) {
+            remaining[v] = af.attackerEnd(v) - af.attackerStart(v);
+            if (remaining[v] == 0) {
+                labels[v] = Label.CODE_IN;
+                worklist[tail++] = v;
+            }
+        }
+
+        while (head < tail) {
+            int in = worklist[head++];
+            for (int e = af.targetStart(in); e < af.targetEnd(in); e++) {
+                int out = af.target(e);
+                if (labels[out] != Label.CODE_UNDEC) {
+                    continue; // already OUT (an IN node can never be attacked by an IN node)
+                }
+                labels[out] = Label.CODE_OUT;
+                for (int f = af.targetStart(out); f < af.targetEnd(out); f++) {
+                    int next = af.target(f);
+                    if (labels[next] == Label.CODE_UNDEC && --remaining[next] == 0) {
+                        labels[next] = Label.CODE_IN;
+                        worklist[tail++] = next;
+                    }
+                }
+            }
+        }
+        return labels;
+    }
+}
@@ -0,0 +1,338 @@
+package com.argumentation.backendapi.graph;
+
+import java.util.*;
+
+/**
+ * IncrementalGrounded
+ * --------------------
+ * Keeps the grounded labelling of the whole ArgumentGraph up to date as
+ * rebuttals are added, without recomputing the entire graph.
+ *
+ * Grounded semantics is directional: a statement's label depends only on its
+ * attackers. Adding the attack u → t (u a fresh rebuttal, hence IN) can
+ * therefore only change t and what lies downstream of t along attack edges.
+ * That region is processed strongly connected component by component in
+ * topological order, and propagation stops as soon as a component's labels
+ * come out unchanged.
+ *
+ * In this schema a statement rebuts at most one statement (a single
+ * counter_statement column), so every node has out-degree ≤ 1 and the
+ * downstream region is a path that may end in one cycle. The path's nodes
+ * are singleton components; the cycle, if reached, is the only non-trivial
+ * component and is relabelled with the worklist algorithm restricted to it,
+ * treating the labels of its outside attackers as fixed.
+ *
+ * Cost per added attack: O(length of the changed path + attackers of its nodes).
+ *
+ * previewAttack() runs the same propagation for a rebuttal that is not in
+ * the graph yet (its transaction has not committed), writing into an overlay
+ * instead of the stored labels. A Preview does so for several uncommitted
+ * rebuttals in a row (one bulk request), each seeing the ones before it,
+ * including rebuttals of rebuttals earlier in the row.
+ */
+public final class IncrementalGrounded {
+
+    private final ArgumentGraph graph;
+    private byte[] labels;
+
+    private IncrementalGrounded(ArgumentGraph graph, byte[] labels) {
+        this.graph = graph;
+        this.labels = labels;
+    }
+
+    /** Computes the full labelling once (linear time) as the starting point. */
+    public static IncrementalGrounded compute(ArgumentGraph graph) {
+        AttackFramework af = graph.fullFramework();
+        return new IncrementalGrounded(graph, GroundedSolver.solve(af));
+    }
+
+    /** The graph instance this labelling belongs to. */
+    public ArgumentGraph graph() {
+        return graph;
+    }
+
+    /** Current label of a statement, or null if it is unknown. */
+    public synchronized Label label(int statementId) {
+        int index = graph.indexOfStatement(statementId);
+        if (index < 0) {
+            return null;
+        }
+        ensureCapacity(index);
+        return Label.of(labels[index]);
+    }
+
+    /**
+     * Applies the attack of a newly appended rebuttal on its target.
+     * The rebuttal must already be present in the graph.
+     *
+     * @return Statement ID → new label for every statement whose label changed
+     *         (the new rebuttal itself included), in propagation order.
+     */
+    public synchronized Map<Integer, Label> addAttack(int attackerId, int targetId) {
+        Map<Integer, Label> changes = new LinkedHashMap<>();
+        int attacker = graph.indexOfStatement(attackerId);
+        int target = graph.indexOfStatement(targetId);
+        if (attacker < 0 || target < 0) {
+            return changes;
+        }
+        ensureCapacity(Math.max(attacker, target));
+
+        // The new rebuttal is unattacked, hence IN
+        relabel(attacker, evaluateSingleton(attacker, null, null), null, changes);
+        propagate(target, null, null, changes);
+        return changes;
+    }
+
+    /**
+     * Computes what addAttack would change for a rebuttal that is not in the
+     * graph yet, without changing any label: the rebuttal counts as an extra
+     * IN attacker of its target.
+     *
+     * @return Statement ID → label for every statement whose label would
+     *         change (the new rebuttal itself included), in propagation order.
+     */
+    public synchronized Map<Integer, Label> previewAttack(int attackerId, int targetId) {
+        Map<Integer, Label> changes = new LinkedHashMap<>();
+        int target = graph.indexOfStatement(targetId);
+        if (target < 0) {
+            return changes;
+        }
+        ensureCapacity(target);
+
+        changes.put(attackerId, Label.IN);
+        propagate(target, Map.of(target, 1), new HashMap<>(), changes);
+        return changes;
+    }
+
+    /** Starts a preview of several uncommitted rebuttals, applied one after another. */
+    public Preview preview() {
+        return new Preview();
+    }
+
+    /**
+     * Labels as they will be once a row of uncommitted rebuttals is applied.
+     * Rebuttals of the row only have attackers from later in the row, so
+     * their labels follow from the row alone; a graph statement they attack
+     * counts as having extra IN attackers, as in previewAttack().
+     */
+    public final class Preview {
+
+        private final Map<Integer, Byte> overlay = new HashMap<>();
+        /** Graph node → IN rebuttals of the row attacking it */
+        private final Map<Integer, Integer> extraIn = new HashMap<>();
+        /** Rebuttal of the row → the statement it rebuts */
+        private final Map<Integer, Integer> targetOf = new HashMap<>();
+        /** Rebuttal of the row → its label */
+        private final Map<Integer, Byte> rowLabels = new HashMap<>();
+        /** Rebuttal of the row → IN rebuttals of the row attacking it */
+        private final Map<Integer, Integer> rowInAttackers = new HashMap<>();
+
+        private Preview() {
+        }
+
+        /**
+         * Adds the next rebuttal of the row.
+         *
+         * @return Statement ID → label for every statement whose label changes
+         *         because of this rebuttal, given the ones added before it.
+         */
+        public Map<Integer, Label> add(int attackerId, int targetId) {
+            synchronized (IncrementalGrounded.this) {
+                Map<Integer, Label> changes = new LinkedHashMap<>();
+                targetOf.put(attackerId, targetId);
+                rowLabels.put(attackerId, Label.CODE_IN);
+                changes.put(attackerId, Label.IN);
+
+                // Up the row: a rebuttal is OUT while any of its row attackers is IN
+                int id = targetId;
+                boolean attackerIn = true;
+                while (targetOf.containsKey(id)) {
+                    int count = rowInAttackers.merge(id, attackerIn ? 1 : -1, Integer::sum);
+                    byte label = count > 0 ? Label.CODE_OUT : Label.CODE_IN;
+                    if (rowLabels.put(id, label) == label) {
+                        return changes;
+                    }
+                    changes.put(id, Label.of(label));
+                    attackerIn = label == Label.CODE_IN;
+                    id = targetOf.get(id);
+                }
+
+                int target = graph.indexOfStatement(id);
+                if (target < 0) {
+                    return changes;
+                }
+                ensureCapacity(target);
+                extraIn.merge(target, attackerIn ? 1 : -1, Integer::sum);
+                propagate(target, extraIn, overlay, changes);
+                return changes;
+            }
+        }
+    }
+
+    /**
+     * Re-labels downstream of {@code target} along counter_statement.
+     *
+     * @param extraIn Node → IN attackers outside the graph (null for none).
+     * @param overlay Labels written instead of the stored ones (null to write through).
+     */
+    private void propagate(int target, Map<Integer, Integer> extraIn, Map<Integer, Byte> overlay,
+                           Map<Integer, Label> changes) {
+        // Walk downstream along counter_statement until the path ends or closes a cycle
+        IntList path = new IntList();
+        Map<Integer, Integer> position = new HashMap<>();
+        int v = target;
+        while (v >= 0 && !position.containsKey(v)) {
+            position.put(v, path.size());
+            path.add(v);
+            v = graph.counterIndexOf(v);
+        }
+        int cycleStart = v < 0 ? path.size() : position.get(v);
+
+        // Singleton components in topological order; stop at the first one that keeps its label
+        for (int i = 0; i < cycleStart; i++) {
+            int node = path.get(i);
+            if (!relabel(node, evaluateSingleton(node, extraIn, overlay), overlay, changes)) {
+                return;
+            }
+        }
+
+        // The cycle component (if any) sees at least one changed attacker
+        if (cycleStart < path.size()) {
+            int[] cycle = new int[path.size() - cycleStart];
+            for (int i = 0; i < cycle.length; i++) {
+                cycle[i] = path.get(cycleStart + i);
+            }
+            relabelComponent(cycle, extraIn, overlay, changes);
+        }
+    }
+
+    /** Label of a node from its attackers' current labels (valid when it is not on a cycle). */
+    private byte evaluateSingleton(int node, Map<Integer, Integer> extraIn, Map<Integer, Byte> overlay) {
+        if (attackedFromOutside(node, extraIn)) {
+            return Label.CODE_OUT;
+        }
+        IntList attackers = new IntList();
+        graph.attackersOf(node, attackers);
+        boolean allOut = true;
+        for (int i = 0; i < attackers.size(); i++) {
+            byte label = labelAt(attackers.get(i), overlay);
+            if (label == Label.CODE_IN) {
+                return Label.CODE_OUT;
+            }
+            allOut &= label == Label.CODE_OUT;
+        }
+        return allOut ? Label.CODE_IN : Label.CODE_UNDEC;
+    }
+
+    /** Grounded worklist restricted to one component, with outside attackers' labels fixed. */
+    private void relabelComponent(int[] component, Map<Integer, Integer> extraIn, Map<Integer, Byte> overlay,
+                                  Map<Integer, Label> changes) {
+        Map<Integer, Integer> local = new HashMap<>();
+        for (int i = 0; i < component.length; i++) {
+            local.put(component[i], i);
+        }
+        byte[] next = new byte[component.length];
+        int[] remaining = new int[component.length];
+        IntList[] targets = new IntList[component.length];
+        IntList worklist = new IntList();
+
+        for (int i = 0; i < component.length; i++) {
+            targets[i] = new IntList(2);
+        }
+        for (int i = 0; i < component.length; i++) {
+            if (attackedFromOutside(component[i], extraIn)) {
+                next[i] = Label.CODE_OUT;
+            }
+            IntList attackers = new IntList();
+            graph.attackersOf(component[i], attackers);
+            for (int k = 0; k < attackers.size(); k++) {
+                int a = attackers.get(k);
+                Integer inside = local.get(a);
+                if (inside != null) {
+                    targets[inside].add(i);
+                    remaining[i]++;
+                } else if (labelAt(a, overlay) == Label.CODE_IN) {
+                    next[i] = Label.CODE_OUT;
+                } else if (labelAt(a, overlay) == Label.CODE_UNDEC) {
+                    remaining[i]++; // an undecided outsider never becomes OUT
+                }
+            }
+        }
+        for (int i = 0; i < component.length; i++) {
+            if (next[i] == Label.CODE_OUT) {
+                for (int k = 0; k < targets[i].size(); k++) {
+                    decrement(targets[i].get(k), next, remaining, worklist);
+                }
+            }
+        }
+        for (int i = 0; i < component.length; i++) {
+            if (next[i] == Label.CODE_UNDEC && remaining[i] == 0) {
+                next[i] = Label.CODE_IN;
+                worklist.add(i);
+            }
+        }
+        while (!worklist.isEmpty()) {
+            int in = worklist.pop();
+            for (int k = 0; k < targets[in].size(); k++) {
+                int out = targets[in].get(k);
+                if (next[out] != Label.CODE_UNDEC) {
+                    continue;
+                }
+                next[out] = Label.CODE_OUT;
+                for (int m = 0; m < targets[out].size(); m++) {
+                    decrement(targets[out].get(m), next, remaining, worklist);
+                }
+            }
+        }
+
+        for (int i = 0; i < component.length; i++) {
+            relabel(component[i], next[i], overlay, changes);
+        }
+    }
+
+    private static boolean attackedFromOutside(int node, Map<Integer, Integer> extraIn) {
+        return extraIn != null && extraIn.getOrDefault(node, 0) > 0;
+    }
+
+    private static void decrement(int node, byte[] next, int[] remaining, IntList worklist) {
+        if (next[node] == Label.CODE_UNDEC && --remaining[node] == 0) {
+            next[node] = Label.CODE_IN;
+            worklist.add(node);
+        }
+    }
+
+    /** Stores a label (in the overlay, if given); returns true (and records the change) if it differs from the old one. */
+    private boolean relabel(int node, byte label, Map<Integer, Byte> overlay, Map<Integer, Label> changes) {
+        if (labelAt(node, overlay) == label) {
+            return false;
+        }
+        if (overlay != null) {
+            overlay.put(node, label);
+        } else {
+            labels[node] = label;
+        }
+        changes.put(graph.statementIdAt(node), Label.of(label));
+        return true;
+    }
+
+    private byte labelAt(int node, Map<Integer, Byte> overlay) {
+        if (overlay != null) {
+            Byte label = overlay.get(node);
+            if (label != null) {
+                return label;
+            }
+        }
+        ensureCapacity(node);
+        return labels[node];
+    }
+
+    /**
+     * Statements appended to the graph after the last call start out UNDEC
+     * until an attack involving them is applied (a fresh rebuttal becomes IN).
+     */
+    private void ensureCapacity(int index) {
+        if (index >= labels.length) {
+            labels = Arrays.copyOf(labels, Math.max(index + 1, labels.length + (labels.length >> 3) + 16));
+        }
+    }
+}
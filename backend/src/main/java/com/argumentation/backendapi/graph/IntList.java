@@ -0,0 +1,60 @@
+package com.argumentation.backendapi.graph;
+
+import java.util.Arrays;
+
+/**
+ * IntList
+ * --------
+ * Minimal growable list of primitive ints.
+ * Used by the graph code to collect IDs and adjacency entries
+ * without boxing every value into an Integer.
+ */
+public final class IntList {
+
+    private int[] values;
+    private int size;
+
+    public IntList() {
+        this(8);
+    }
+
+    public IntList(int capacity) {
+        this.values = new int[Math.max(1, capacity)];
+    }
+
+    public void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size + (size >> 1) + 1);
+        }
+        values[size++] = value;
+    }
+
+    public int get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return values[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /** Removes and returns the last value. */
+    public int pop() {
+        return values[--size];
+    }
+
+    /** Copies the values into a right-sized array. */
+    public int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+}
@@ -0,0 +1,26 @@
+package com.argumentation.backendapi.graph;
+
+/**
+ * Label
+ * ------
+ * Acceptability status of a statement in a labelling of the attack graph:
+ *   - IN:    accepted (all of its attackers are OUT)
+ *   - OUT:   rejected (at least one attacker is IN)
+ *   - UNDEC: neither can be established (e.g. it sits on an attack cycle)
+ */
+public enum Label {
+    IN, OUT, UNDEC;
+
+    /** Compact codes used in label arrays */
+    public static final byte CODE_UNDEC = 0;
+    public static final byte CODE_IN = 1;
+    public static final byte CODE_OUT = 2;
+
+    public static Label of(byte code) {
+        return switch (code) {
+            case CODE_IN -> IN;
+            case CODE_OUT -> OUT;
+            default -> UNDEC;
+        };
+    }
+}
@@ -0,0 +1,87 @@
+package com.argumentation.backendapi.graph;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * TextPool
+ * ---------
+ * Stores many strings as UTF-8 bytes in one shared byte array.
+ * Each string is addressed by an int handle; identical strings added while
+ * the pool is being built share one handle (interning), which matters for
+ * corpora where the same conclusion text is repeated across many arguments.
+ *
+ * Memory cost per unique string: its UTF-8 length + one int offset,
+ * instead of a String object, its byte[] header and a HashMap entry.
+ *
+ * Not thread-safe; ArgumentGraph guards it with its own lock.
+ */
+final class TextPool {
+
+    private byte[] data;
+    private int size;
+
+    /** offsets[h] .. offsets[h + 1] is the byte range of handle h */
+    private int[] offsets;
+    private int count;
+
+    /** Only used while building; dropped by {@link #seal()} to free memory */
+    private Map<String, Integer> interned = new HashMap<>();
+
+    TextPool(int expectedStrings, int expectedBytes) {
+        this.data = new byte[Math.max(16, expectedBytes)];
+        this.offsets = new int[Math.max(2, expectedStrings + 1)];
+    }
+
+    /** Adds a string, returning the handle of an identical string if one was already interned. */
+    int add(String text) {
+        if (interned != null) {
+            Integer existing = interned.get(text);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        int handle = append(text);
+        if (interned != null) {
+            interned.put(text, handle);
+        }
+        return handle;
+    }
+
+    /** Decodes the string stored under the given handle. */
+    String get(int handle) {
+        int start = offsets[handle];
+        return new String(data, start, offsets[handle + 1] - start, StandardCharsets.UTF_8);
+    }
+
+    /** Stops interning; later additions are appended without deduplication. */
+    void seal() {
+        interned = null;
+    }
+
+    /** Bytes held by the pool (for diagnostics). */
+    long footprintBytes() {
+        return (long) data.length + 4L * offsets.length;
+    }
+
+    int count() {
+        return count;
+    }
+
+    private int append(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        if (size + bytes.length > data.length) {
+            data = Arrays.copyOf(data, Math.max(size + bytes.length, data.length + (data.length >> 1)));
+        }
+        if (count + 2 > offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length + (offsets.length >> 1) + 2);
+        }
+        System.arraycopy(bytes, 0, data, size, bytes.length);
+        offsets[count] = size;
+        size += bytes.length;
+        offsets[count + 1] = size;
+        return count++;
+    }
+}
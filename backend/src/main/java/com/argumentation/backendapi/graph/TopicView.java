@@ -0,0 +1,76 @@
+package com.argumentation.backendapi.graph;
+
+/**
+ * TopicView
+ * ----------
+ * Snapshot of one topic's part of the ArgumentGraph, as reached breadth-first
+ * from the topic's root claim (local index 0).
+ *
+ * Besides the attack framework (for acceptability semantics) it records, per
+ * statement, the edge through which it was first reached:
+ *   - parent    local index of the statement it supports or attacks (-1 for the root)
+ *   - depth     number of edges from the root claim
+ *   - opposing  stance relative to the root claim: a premise shares the stance
+ *               of what it supports, a rebuttal takes the opposite one
+ *   - support   number of premises backing the statement's argument
+ *
+ * Local indices are the framework's indices. Instances are immutable.
+ */
+public final class TopicView {
+
+    private final AttackFramework framework;
+    private final int[] graphIndex;
+    private final int[] parent;
+    private final int[] depth;
+    private final int[] opposing;
+    private final int[] support;
+
+    TopicView(AttackFramework framework, int[] graphIndex, int[] parent, int[] depth, int[] opposing, int[] support) {
+        this.framework = framework;
+        this.graphIndex = graphIndex;
+        this.parent = parent;
+        this.depth = depth;
+        this.opposing = opposing;
+        this.support = support;
+    }
+
+    public AttackFramework framework() {
+        return framework;
+    }
+
+    public int size() {
+        return framework.size();
+    }
+
+    /** Statement ID of a local node. */
+    public int id(int v) {
+        return framework.id(v);
+    }
+
+    /** Dense ArgumentGraph index of a local node (e.g. for {@link ArgumentGraph#textAt(int)}). */
+    public int graphIndex(int v) {
+        return graphIndex[v];
+    }
+
+    public int parent(int v) {
+        return parent[v];
+    }
+
+    public int depth(int v) {
+        return depth[v];
+    }
+
+    /** True if the statement argues against the topic's root claim (odd number of attacks on its path). */
+    public boolean opposing(int v) {
+        return opposing[v] != 0;
+    }
+
+    public int support(int v) {
+        return support[v];
+    }
+
+    /** Number of direct attackers of a local node. */
+    public int attackerCount(int v) {
+        return framework.attackerEnd(v) - framework.attackerStart(v);
+    }
+}
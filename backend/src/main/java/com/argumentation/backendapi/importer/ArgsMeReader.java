@@ -0,0 +1,156 @@
+package com.argumentation.backendapi.importer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ArgsMeReader
+ * -------------
+ * Pulls arguments one at a time out of an args.me corpus file with Jackson's
+ * token-level parser, so only the argument currently being read is ever held
+ * in memory (the full corpus is several hundred MB).
+ *
+ * Accepted layouts:
+ *   - {"arguments": [ {...}, {...} ]}   (the published args-me.json)
+ *   - [ {...}, {...} ]                  (a bare array of arguments)
+ *
+ * Per argument only the fields the importer needs are extracted:
+ *   id, conclusion, premises[].text, premises[].stance,
+ *   context.discussionTitle, context.sourceTitle, context.sourceUrl, context.sourceDomain.
+ * Everything else (annotations, aspects, acquisition times, ...) is skipped
+ * without being materialised.
+ */
+public final class ArgsMeReader implements Closeable {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    /** One premise of an argument; CON premises attack the conclusion, PRO premises support it. */
+    public record Premise(String text, boolean con) {
+    }
+
+    /** The parts of one args.me argument that map onto our schema. */
+    public record Argument(String id,
+                           String conclusion,
+                           List<Premise> premises,
+                           String discussionTitle,
+                           String sourceTitle,
+                           String sourceUrl,
+                           String sourceDomain) {
+    }
+
+    private final JsonParser parser;
+    private boolean finished;
+
+    public ArgsMeReader(InputStream in) throws IOException {
+        this.parser = FACTORY.createParser(in);
+
+        // Position the parser just inside the array of arguments
+        JsonToken first = parser.nextToken();
+        if (first == JsonToken.START_ARRAY) {
+            return;
+        }
+        if (first != JsonToken.START_OBJECT) {
+            throw new IOException("Expected a JSON object or array at the start of the corpus");
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("arguments".equals(name) && value == JsonToken.START_ARRAY) {
+                return;
+            }
+            parser.skipChildren();
+        }
+        finished = true; // no "arguments" array in this file
+    }
+
+    /**
+     * @return The next argument, or null once the array is exhausted.
+     */
+    public Argument next() throws IOException {
+        if (finished) {
+            return null;
+        }
+        JsonToken token = parser.nextToken();
+        if (token != JsonToken.START_OBJECT) {
+            finished = true; // END_ARRAY (or a truncated file)
+            return null;
+        }
+
+        String id = null;
+        String conclusion = null;
+        List<Premise> premises = new ArrayList<>(4);
+        String discussionTitle = null;
+        String sourceTitle = null;
+        String sourceUrl = null;
+        String sourceDomain = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "id" -> id = parser.getValueAsString();
+                case "conclusion" -> conclusion = parser.getValueAsString();
+                case "premises" -> readPremises(value, premises);
+                case "context" -> {
+                    if (value != JsonToken.START_OBJECT) {
+                        parser.skipChildren();
+                        break;
+                    }
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String contextField = parser.currentName();
+                        parser.nextToken();
+                        switch (contextField) {
+                            case "discussionTitle" -> discussionTitle = parser.getValueAsString();
+                            case "sourceTitle" -> sourceTitle = parser.getValueAsString();
+                            case "sourceUrl" -> sourceUrl = parser.getValueAsString();
+                            case "sourceDomain" -> sourceDomain = parser.getValueAsString();
+                            default -> parser.skipChildren();
+                        }
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        return new Argument(id, conclusion, premises, discussionTitle, sourceTitle, sourceUrl, sourceDomain);
+    }
+
+    private void readPremises(JsonToken value, List<Premise> premises) throws IOException {
+        if (value != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            String text = null;
+            boolean con = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "text" -> text = parser.getValueAsString();
+                    case "stance" -> con = "CON".equalsIgnoreCase(parser.getValueAsString());
+                    default -> parser.skipChildren();
+                }
+            }
+            if (text != null && !text.isBlank()) {
+                premises.add(new Premise(text, con));
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
@@ -0,0 +1,149 @@
+package com.argumentation.backendapi.importer;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * IdGenerators
+ * -------------
+ * The pooled table generator behind StatementEntity and ArgumentEntity IDs,
+ * and the one place that keeps it ahead of IDs written without JPA.
+ *
+ * Hibernate reserves ALLOCATION_SIZE IDs per round trip to TABLE (one row
+ * per generator, the next value in next_val), so the IDs of a whole flush
+ * are known before any insert and the inserts can be sent as one JDBC batch;
+ * an IDENTITY column forces one insert per row, each as soon as it is persisted.
+ *
+ * Rows written without JPA get their IDs in one of two ways:
+ *   - reserve(): the args.me importer takes ranges from the generator
+ *     itself, so it can run while the application serves requests
+ *   - MAX(id) + 1 and advance() afterwards: the synthetic corpus, dumps
+ *     loaded by hand; startup calls advance() as well. Afterwards next_val
+ *     lies far enough past MAX(id) that no block Hibernate hands out
+ *     reaches back into existing rows.
+ */
+public final class IdGenerators {
+
+    /** Generator table; layout as Hibernate creates it for @TableGenerator */
+    public static final String TABLE = "id_generators";
+    public static final String STATEMENTS = "statements";
+    public static final String ARGUMENTS = "arguments";
+
+    /** IDs reserved per round trip to TABLE; also the JDBC batch size that pays off */
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdGenerators() {}
+
+    /**
+     * Smallest next_val that keeps a generator clear of {@code maxId}.
+     * The pooled optimizer hands out the block (next_val - ALLOCATION_SIZE, next_val]
+     * for a value it reads, so the value must exceed maxId by a whole block.
+     */
+    static long floor(long maxId) {
+        return maxId + 1 + ALLOCATION_SIZE;
+    }
+
+    /**
+     * Moves the statement and argument generators past the highest IDs in
+     * their tables (never backwards), creating table and rows if missing.
+     * Does not commit.
+     */
+    public static void advance(Connection connection) throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute("create table if not exists " + TABLE
+                    + " (name varchar(255) not null, next_val bigint, primary key (name))");
+        }
+        advance(connection, STATEMENTS, floor(maxId(connection, "statements")));
+        advance(connection, ARGUMENTS, floor(maxId(connection, "arguments")));
+    }
+
+    /**
+     * Reserves {@code count} consecutive IDs of a generator for rows written
+     * without JPA. Moves next_val by count with one update, which locks the
+     * generator row, and commits, so Hibernate waits for the row only as long
+     * as this call takes. Use a connection that is not in the middle of other
+     * work. The generator row must exist (advance() creates it at startup).
+     *
+     * @return The first reserved ID
+     */
+    public static long reserve(Connection connection, String generator, int count) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            try (PreparedStatement update = connection.prepareStatement(
+                    "update " + TABLE + " set next_val = next_val + ? where name = ?")) {
+                update.setLong(1, count);
+                update.setString(2, generator);
+                if (update.executeUpdate() == 0) {
+                    throw new IllegalStateException("No " + generator + " row in " + TABLE);
+                }
+            }
+            long nextVal;
+            try (PreparedStatement select = connection.prepareStatement(
+                    "select next_val from " + TABLE + " where name = ?")) {
+                select.setString(1, generator);
+                try (ResultSet rs = select.executeQuery()) {
+                    rs.next();
+                    nextVal = rs.getLong(1);
+                }
+            }
+            connection.commit();
+            return firstReserved(nextVal, count);
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    /**
+     * First ID of a range of count IDs, given next_val after moving it by count.
+     * Hibernate has handed out IDs up to (old next_val - ALLOCATION_SIZE) and the
+     * next one to read next_val takes the block ending at it, so the range in
+     * between belongs to the caller.
+     */
+    static long firstReserved(long nextVal, int count) {
+        return nextVal - count - ALLOCATION_SIZE + 1;
+    }
+
+    private static void advance(Connection connection, String generator, long nextVal) throws SQLException {
+        Long current = null;
+        try (PreparedStatement select = connection.prepareStatement(
+                "select next_val from " + TABLE + " where name = ?")) {
+            select.setString(1, generator);
+            try (ResultSet rs = select.executeQuery()) {
+                if (rs.next()) {
+                    current = rs.getLong(1);
+                }
+            }
+        }
+        if (current == null) {
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "insert into " + TABLE + " (name, next_val) values (?, ?)")) {
+                insert.setString(1, generator);
+                insert.setLong(2, nextVal);
+                insert.executeUpdate();
+            }
+        } else if (current < nextVal) {
+            try (PreparedStatement update = connection.prepareStatement(
+                    "update " + TABLE + " set next_val = ? where name = ? and next_val < ?")) {
+                update.setLong(1, nextVal);
+                update.setString(2, generator);
+                update.setLong(3, nextVal);
+                update.executeUpdate();
+            }
+        }
+    }
+
+    private static long maxId(Connection connection, String table) throws SQLException {
+        try (Statement st = connection.createStatement();
+             ResultSet rs = st.executeQuery("select coalesce(max(id), 0) from " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
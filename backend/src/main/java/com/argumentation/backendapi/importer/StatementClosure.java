@@ -0,0 +1,105 @@
+package com.argumentation.backendapi.importer;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * StatementClosure
+ * -----------------
+ * SQL of the statement_closure table: every (ancestor, descendant) pair of
+ * the argument graph with the length of the shortest path between them.
+ * The children of a statement are the premises of its arguments and its
+ * rebuttals; every statement is its own ancestor at depth 0.
+ *
+ * With it, "all descendants of X up to depth d", subtree sizes and depth
+ * statistics are single range scans on (ancestor, depth, descendant),
+ * proportional to the rows they return, instead of one query per level.
+ *
+ * Maintenance:
+ *   - a new rebuttal is a leaf: INSERT_SELF plus INSERT_UNDER_PARENT, in the
+ *     transaction that saves it (RebuttalService)
+ *   - bulk imports rebuild the whole table afterwards (rebuild())
+ *   - startup rebuilds it when it is empty but statements exist
+ */
+public final class StatementClosure {
+
+    public static final String TABLE = "statement_closure";
+
+    /** Parameters: new statement ID (twice) */
+    public static final String INSERT_SELF =
+            "insert into statement_closure (ancestor, descendant, depth) values (?, ?, 0)";
+
+    /** Parameters: new statement ID, parent ID. Every ancestor of the parent gains the new leaf one level deeper. */
+    public static final String INSERT_UNDER_PARENT = """
+            insert into statement_closure (ancestor, descendant, depth)
+            select c.ancestor, ?, c.depth + 1
+            from statement_closure c
+            where c.descendant = ?
+            """;
+
+    /** Parameters: depth of the new rows, depth of the rows they extend (one less) */
+    private static final String INSERT_LEVEL = """
+            insert into statement_closure (ancestor, descendant, depth)
+            select c.ancestor, e.child, ?
+            from statement_closure c
+            join (select a.claim as parent, p.premise as child
+                  from premises p
+                  join arguments a on a.id = p.argument
+                  union
+                  select s.counter_statement as parent, s.id as child
+                  from statements s
+                  where s.counter_statement is not null) e on e.parent = c.descendant
+            where c.depth = ?
+              and not exists (select 1 from statement_closure x
+                              where x.ancestor = c.ancestor and x.descendant = e.child)
+            group by c.ancestor, e.child
+            """;
+
+    private StatementClosure() {}
+
+    /**
+     * Recomputes the table from statements, arguments and premises, level by
+     * level (breadth first, so each pair keeps its shortest depth). Pairs
+     * already present are skipped, so every level adds pairs that did not
+     * exist yet: the loop ends after the deepest chain, cycles included,
+     * without a depth cap that could leave deep pairs out.
+     * Does not commit.
+     *
+     * @return Rows written, including the depth-0 rows.
+     */
+    public static long rebuild(Connection connection) throws SQLException {
+        long rows;
+        try (Statement st = connection.createStatement()) {
+            st.executeUpdate("delete from " + TABLE);
+            rows = st.executeUpdate("insert into " + TABLE + " (ancestor, descendant, depth) "
+                    + "select id, id, 0 from statements");
+        }
+        try (PreparedStatement level = connection.prepareStatement(INSERT_LEVEL)) {
+            int inserted;
+            int depth = 0;
+            do {
+                depth++;
+                level.setInt(1, depth);
+                level.setInt(2, depth - 1);
+                inserted = level.executeUpdate();
+                rows += inserted;
+            } while (inserted > 0);
+        }
+        return rows;
+    }
+
+    /** True if statements exist but the closure has not been built for them. */
+    public static boolean needsRebuild(Connection connection) throws SQLException {
+        return exists(connection, "statements") && !exists(connection, TABLE);
+    }
+
+    private static boolean exists(Connection connection, String table) throws SQLException {
+        try (Statement st = connection.createStatement();
+             ResultSet rs = st.executeQuery("select 1 from " + table + " limit 1")) {
+            return rs.next();
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package com.argumentation.backendapi.importer;
+
+import com.argumentation.backendapi.graph.IntList;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * SyntheticCorpus
+ * ----------------
+ * Generates a random argument graph of a given shape straight into the
+ * database, for benchmarks and load tests on an embedded database.
+ *
+ * Shape:
+ *   - statements     total statements to write (claims, premises, rebuttals)
+ *   - fanOut         premises per argument
+ *   - attackDensity  expected rebuttals per statement (0.3 = 30% of statements are
+ *                    attacked once; 1.5 = every statement once, half of them twice)
+ *   - seed           same shape + seed = same corpus
+ *
+ * Layout: one topic per TOPIC_SIZE statements. Each topic's root claim is
+ * expanded breadth-first: every statement becomes the claim of an argument
+ * with fanOut premises, and is attacked by rebuttals (statements with
+ * counter_statement set, each with its own argument), until the statement
+ * budget of the topic is used up. Texts are drawn from a small vocabulary,
+ * so search and near-duplicate detection see realistic term overlap.
+ *
+ * IDs continue after MAX(id) of each table, and the ID generators are moved
+ * past them afterwards, so JPA inserts keep working; nothing else may write
+ * while it runs (it is meant for empty databases and benchmarks).
+ * statement_closure is rebuilt last.
+ */
+public final class SyntheticCorpus {
+
+    /** Statements per topic */
+    public static final int TOPIC_SIZE = 1000;
+
+    private static final String SOURCE = "synthetic";
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String[] WORDS = (
+            "energy nuclear policy tax school children health cost risk freedom state market "
+            + "public private law court vote right duty safety climate carbon trade job wage "
+            + "internet privacy data media television game sport animal food water city rural "
+            + "science evidence study history culture religion army peace war border migration "
+            + "should must never always because therefore however although increase reduce "
+            + "protect harm benefit fair unfair people government society economy future")
+            .split(" ");
+
+    public record Shape(int statements, int fanOut, double attackDensity, long seed) {
+        public Shape {
+            if (statements < 1 || fanOut < 0 || attackDensity < 0) {
+                throw new IllegalArgumentException("Invalid corpus shape: " + statements + " statements, fan-out "
+                        + fanOut + ", attack density " + attackDensity);
+            }
+        }
+    }
+
+    /**
+     * What was written, plus sample keys for drivers.
+     *
+     * @param argumentIds Arguments that have at least one premise
+     * @param targetIds   Statements that have at least one rebuttal
+     * @param topicNames  All generated topic names
+     */
+    public record Summary(int statements,
+                          int arguments,
+                          int premises,
+                          int rebuttals,
+                          int[] argumentIds,
+                          int[] targetIds,
+                          List<String> topicNames) {
+    }
+
+    private SyntheticCorpus() {}
+
+    /** Writes the corpus in one transaction on {@code connection}. */
+    public static Summary write(Connection connection, Shape shape) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (Writer writer = new Writer(connection, new SplittableRandom(shape.seed()))) {
+            writer.source();
+            int remaining = shape.statements();
+            int topic = 0;
+            while (remaining > 0) {
+                int budget = Math.min(TOPIC_SIZE, remaining);
+                writer.topic(topic++, budget, shape);
+                remaining -= budget;
+            }
+            writer.flush();
+            connection.commit();
+            writer.restartIdentities();
+            StatementClosure.rebuild(connection);
+            connection.commit();
+            return writer.summary();
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    // ────────────────────────────────
+    // Writer
+    // ────────────────────────────────
+
+    private static final class Writer implements AutoCloseable {
+
+        private final Connection connection;
+        private final SplittableRandom random;
+        private final PreparedStatement insertStatement;
+        private final PreparedStatement insertArgument;
+        private final PreparedStatement insertPremise;
+        private final PreparedStatement insertTopic;
+
+        private int nextStatementId;
+        private int nextArgumentId;
+        private int nextTopicId;
+        private int rowsInBatch;
+
+        private int statements;
+        private int arguments;
+        private int premises;
+        private int rebuttals;
+        private final IntList argumentsWithPremises = new IntList();
+        private final IntList attackedStatements = new IntList();
+        private final List<String> topicNames = new ArrayList<>();
+
+        Writer(Connection connection, SplittableRandom random) throws SQLException {
+            this.connection = connection;
+            this.random = random;
+            this.nextStatementId = maxId("statements") + 1;
+            this.nextArgumentId = maxId("arguments") + 1;
+            this.nextTopicId = maxId("topics") + 1;
+            this.insertStatement = connection.prepareStatement(
+                    "insert into statements (id, text, source, counter_statement) values (?, ?, ?, ?)");
+            this.insertArgument = connection.prepareStatement("insert into arguments (id, claim, source) values (?, ?, ?)");
+            this.insertPremise = connection.prepareStatement("insert into premises (argument, premise) values (?, ?)");
+            this.insertTopic = connection.prepareStatement("insert into topics (id, name, argument_id) values (?, ?, ?)");
+        }
+
+        void source() throws SQLException {
+            try (PreparedStatement exists = connection.prepareStatement("select 1 from sources where name = ?")) {
+                exists.setString(1, SOURCE);
+                try (ResultSet rs = exists.executeQuery()) {
+                    if (rs.next()) {
+                        return;
+                    }
+                }
+            }
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "insert into sources (name, text, url) values (?, ?, ?)")) {
+                insert.setString(1, SOURCE);
+                insert.setString(2, "Generated by SyntheticCorpus");
+                insert.setString(3, null);
+                insert.executeUpdate();
+            }
+        }
+
+        /** One topic: a root claim expanded breadth-first until {@code budget} statements exist. */
+        void topic(int index, int budget, Shape shape) throws SQLException {
+            int used = 0;
+            // Queue of (statement, argument) pairs still to expand
+            IntList queue = new IntList();
+            int head = 0;
+
+            int root = statement(null);
+            int rootArgument = argument(root);
+            used++;
+            String name = "Synthetic topic " + nextTopicId + " " + WORDS[index % WORDS.length];
+            insertTopic.setInt(1, nextTopicId++);
+            insertTopic.setString(2, name);
+            insertTopic.setInt(3, rootArgument);
+            insertTopic.addBatch();
+            rowsInBatch++;
+            topicNames.add(name);
+            queue.add(root);
+            queue.add(rootArgument);
+
+            while (used < budget && head < queue.size()) {
+                int claim = queue.get(head++);
+                int argument = queue.get(head++);
+
+                // Premises of this statement's argument
+                for (int i = 0; i < shape.fanOut() && used < budget; i++) {
+                    int premise = statement(null);
+                    insertPremise.setInt(1, argument);
+                    insertPremise.setInt(2, premise);
+                    insertPremise.addBatch();
+                    rowsInBatch++;
+                    premises++;
+                    used++;
+                    if (i == 0) {
+                        argumentsWithPremises.add(argument);
+                    }
+                    queue.add(premise);
+                    queue.add(argument(premise));
+                }
+
+                // Rebuttals of this statement
+                double density = shape.attackDensity();
+                int attacks = (int) density + (random.nextDouble() < density - (int) density ? 1 : 0);
+                for (int i = 0; i < attacks && used < budget; i++) {
+                    int rebuttal = statement(claim);
+                    rebuttals++;
+                    used++;
+                    if (i == 0) {
+                        attackedStatements.add(claim);
+                    }
+                    queue.add(rebuttal);
+                    queue.add(argument(rebuttal));
+                }
+                if (rowsInBatch >= BATCH_SIZE) {
+                    flush();
+                }
+            }
+        }
+
+        private int statement(Integer counterStatement) throws SQLException {
+            int id = nextStatementId++;
+            insertStatement.setInt(1, id);
+            insertStatement.setString(2, text());
+            insertStatement.setString(3, SOURCE);
+            if (counterStatement == null) {
+                insertStatement.setNull(4, Types.INTEGER);
+            } else {
+                insertStatement.setInt(4, counterStatement);
+            }
+            insertStatement.addBatch();
+            rowsInBatch++;
+            statements++;
+            return id;
+        }
+
+        private int argument(int claim) throws SQLException {
+            int id = nextArgumentId++;
+            insertArgument.setInt(1, id);
+            insertArgument.setInt(2, claim);
+            insertArgument.setString(3, SOURCE);
+            insertArgument.addBatch();
+            rowsInBatch++;
+            arguments++;
+            return id;
+        }
+
+        private String text() {
+            int length = 8 + random.nextInt(20);
+            StringBuilder text = new StringBuilder(length * 8);
+            for (int i = 0; i < length; i++) {
+                if (i > 0) {
+                    text.append(' ');
+                }
+                // Squared draw: a few words are common, most are rare (roughly Zipf-like)
+                double u = random.nextDouble();
+                text.append(WORDS[(int) (u * u * WORDS.length)]);
+            }
+            return text.append('.').toString();
+        }
+
+        /** Executes pending batches in foreign-key order. */
+        void flush() throws SQLException {
+            if (rowsInBatch == 0) {
+                return;
+            }
+            insertStatement.executeBatch();
+            insertArgument.executeBatch();
+            insertPremise.executeBatch();
+            insertTopic.executeBatch();
+            rowsInBatch = 0;
+        }
+
+        private int maxId(String table) throws SQLException {
+            try (Statement st = connection.createStatement();
+                 ResultSet rs = st.executeQuery("select coalesce(max(id), 0) from " + table)) {
+                rs.next();
+                return rs.getInt(1);
+            }
+        }
+
+        /**
+         * Moves the statement and argument ID generators past the explicit ids just written.
+         * H2 does not advance the topics identity column past them either, so JPA inserts would collide.
+         */
+        void restartIdentities() throws SQLException {
+            IdGenerators.advance(connection);
+            if (connection.getMetaData().getDatabaseProductName().toUpperCase().contains("H2")) {
+                try (Statement st = connection.createStatement()) {
+                    st.execute("alter table topics alter column id restart with " + nextTopicId);
+                }
+            }
+            connection.commit();
+        }
+
+        Summary summary() {
+            return new Summary(statements, arguments, premises, rebuttals,
+                    argumentsWithPremises.toArray(), attackedStatements.toArray(), List.copyOf(topicNames));
+        }
+
+        @Override
+        public void close() throws SQLException {
+            insertStatement.close();
+            insertArgument.close();
+            insertPremise.close();
+            insertTopic.close();
+        }
+    }
+}
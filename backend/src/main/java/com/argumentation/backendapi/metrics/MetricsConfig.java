@@ -0,0 +1,100 @@
+package com.argumentation.backendapi.metrics;
+
+import com.argumentation.backendapi.cache.BoundedCache;
+import com.argumentation.backendapi.cache.CacheRegistry;
+import com.argumentation.backendapi.config.DatabaseFanOut;
+import com.argumentation.backendapi.service.impl.ArgumentGraphServiceImpl;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * MetricsConfig
+ * --------------
+ * Wires the instrumentation layer; everything is scraped from
+ * /actuator/prometheus.
+ *
+ * Meters (besides Spring Boot's own: http.server.requests per endpoint,
+ * hikaricp.* pool gauges, JVM and Tomcat):
+ *   - argumentation.repository           timer per repository method (RepositoryMetrics)
+ *   - argumentation.http.queries         SQL statements per request (QueryCountFilter)
+ *   - argumentation.hibernate.statements SQL statements since startup (QueryCounter)
+ *   - argumentation.cache.*              size, weight, hits, misses, evictions per read cache
+ *   - argumentation.db.fan-out.reads     forked vs. inline DatabaseFanOut reads
+ *   - argumentation.graph.rebuttals.*    rebuttals that waited for their target in the graph
+ *
+ * Defaults (endpoint exposure, histogram buckets) come from
+ * metrics.properties and can be overridden in application.properties.
+ */
+@Configuration
+@PropertySource("classpath:metrics.properties")
+public class MetricsConfig {
+
+    /** Static: post-processors are created before the other beans of this class. */
+    @Bean
+    public static RepositoryMetrics repositoryMetrics(ObjectProvider<MeterRegistry> registry) {
+        return new RepositoryMetrics(registry);
+    }
+
+    @Bean
+    public QueryCounter queryCounter() {
+        return new QueryCounter();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCounting(QueryCounter queryCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, queryCounter);
+    }
+
+    @Bean
+    public QueryCountFilter queryCountFilter(MeterRegistry registry,
+                                             @Value("${argumentation.metrics.query-warn-threshold:0}") int warnThreshold) {
+        return new QueryCountFilter(registry, warnThreshold);
+    }
+
+    /** Bound once all singletons exist, so every read cache has been created by then. */
+    @Bean
+    public MeterBinder applicationMetrics(QueryCounter queryCounter, CacheRegistry cacheRegistry,
+                                          DatabaseFanOut databaseFanOut, ArgumentGraphServiceImpl argumentGraph) {
+        return registry -> {
+            FunctionCounter.builder("argumentation.hibernate.statements", queryCounter, QueryCounter::total)
+                    .description("SQL statements prepared by Hibernate")
+                    .register(registry);
+
+            for (BoundedCache<?, ?> cache : cacheRegistry.caches()) {
+                Gauge.builder("argumentation.cache.size", cache, c -> c.stats().size())
+                        .tag("cache", cache.name()).register(registry);
+                Gauge.builder("argumentation.cache.weight", cache, c -> c.stats().weight())
+                        .tag("cache", cache.name()).baseUnit("bytes").register(registry);
+                FunctionCounter.builder("argumentation.cache.hits", cache, c -> c.stats().hits())
+                        .tag("cache", cache.name()).register(registry);
+                FunctionCounter.builder("argumentation.cache.misses", cache, c -> c.stats().misses())
+                        .tag("cache", cache.name()).register(registry);
+                FunctionCounter.builder("argumentation.cache.evictions", cache, c -> c.stats().evictions())
+                        .tag("cache", cache.name()).register(registry);
+            }
+
+            FunctionCounter.builder("argumentation.db.fan-out.reads", databaseFanOut, DatabaseFanOut::forkedCount)
+                    .tag("mode", "forked").register(registry);
+            FunctionCounter.builder("argumentation.db.fan-out.reads", databaseFanOut, DatabaseFanOut::inlineCount)
+                    .tag("mode", "inline").register(registry);
+            Gauge.builder("argumentation.db.fan-out.max-concurrent", databaseFanOut, DatabaseFanOut::maxConcurrent)
+                    .register(registry);
+
+            FunctionCounter.builder("argumentation.graph.rebuttals.parked", argumentGraph, ArgumentGraphServiceImpl::parkedCount)
+                    .description("Rebuttals that reached the graph before their target").register(registry);
+            FunctionCounter.builder("argumentation.graph.rebuttals.dropped", argumentGraph, ArgumentGraphServiceImpl::droppedCount)
+                    .description("Rebuttals left out of the graph until the next reload").register(registry);
+            Gauge.builder("argumentation.graph.rebuttals.waiting", argumentGraph, ArgumentGraphServiceImpl::waitingCount)
+                    .register(registry);
+        };
+    }
+}
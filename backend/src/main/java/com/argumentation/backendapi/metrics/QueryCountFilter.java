@@ -0,0 +1,70 @@
+package com.argumentation.backendapi.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * QueryCountFilter
+ * -----------------
+ * Counts the SQL statements of every /api request (QueryCounter) and
+ * records them as the distribution summary argumentation.http.queries,
+ * tagged with the request method and URI template, next to the latency
+ * in http.server.requests.
+ *
+ * Requests above warnThreshold statements are logged (0 = off); the debug
+ * profile turns this on together with the X-Query-Count header
+ * (QueryCountHeaderAdvice).
+ */
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryCountFilter.class);
+
+    private final MeterRegistry registry;
+    private final int warnThreshold;
+
+    public QueryCountFilter(MeterRegistry registry, int warnThreshold) {
+        this.registry = registry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try (QueryCounter.Scope scope = QueryCounter.begin()) {
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                record(request, scope.count());
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, int queries) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder("argumentation.http.queries")
+                .description("SQL statements executed per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(registry)
+                .record(queries);
+        if (warnThreshold > 0 && queries > warnThreshold) {
+            log.warn("{} {} executed {} SQL statements", request.getMethod(), request.getRequestURI(), queries);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.argumentation.backendapi.metrics;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * QueryCountHeaderAdvice
+ * -----------------------
+ * Adds X-Query-Count (SQL statements executed for this request so far) to
+ * every JSON response, just before the body is written. Enabled with
+ * argumentation.metrics.query-count-header=true (debug profile), so a
+ * change that adds queries to an endpoint shows up in review and in the
+ * browser's network tab.
+ *
+ * Responses without a body (304, streamed lists, SSE) carry no header;
+ * their counts still go to argumentation.http.queries.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(prefix = "argumentation.metrics", name = "query-count-header", havingValue = "true")
+public class QueryCountHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String HEADER = "X-Query-Count";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType contentType,
+                                  Class<? extends HttpMessageConverter<?>> converterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        int count = QueryCounter.current();
+        if (count >= 0) {
+            response.getHeaders().set(HEADER, Integer.toString(count));
+        }
+        return body;
+    }
+}
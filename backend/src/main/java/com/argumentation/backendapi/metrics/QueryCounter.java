@@ -0,0 +1,100 @@
+package com.argumentation.backendapi.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * QueryCounter
+ * -------------
+ * Counts the SQL statements Hibernate prepares, in total and per request.
+ *
+ * Registered as Hibernate's StatementInspector (see MetricsConfig), so it
+ * sees every statement of the repositories, entity loading and lazy
+ * fetches; the JDBC batch importer bypasses Hibernate and is not counted.
+ * A batched insert counts once per batch, not per row.
+ *
+ * Per request: QueryCountFilter opens a Scope on the request thread.
+ * Reads forked by DatabaseFanOut run on other threads; fork() wraps them
+ * with propagate() so they count towards the request that forked them.
+ * A request whose count grows with the size of its result (instead of its
+ * shape) is an N+1 regression.
+ */
+public final class QueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<AtomicInteger> CURRENT = new ThreadLocal<>();
+
+    private final AtomicLong total = new AtomicLong();
+
+    @Override
+    public String inspect(String sql) {
+        total.incrementAndGet();
+        AtomicInteger current = CURRENT.get();
+        if (current != null) {
+            current.incrementAndGet();
+        }
+        return sql;
+    }
+
+    /** Statements prepared since startup. */
+    public long total() {
+        return total.get();
+    }
+
+    // ────────────────────────────────
+    // Per-request scope
+    // ────────────────────────────────
+
+    /** Counter of the current thread's scope; closing the scope detaches it. */
+    public static final class Scope implements AutoCloseable {
+
+        private final AtomicInteger count;
+        private final AtomicInteger previous;
+
+        private Scope(AtomicInteger count) {
+            this.count = count;
+            this.previous = CURRENT.get();
+            CURRENT.set(count);
+        }
+
+        /** Statements counted in this scope so far (including forked reads that have finished). */
+        public int count() {
+            return count.get();
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /** Starts counting on the current thread. */
+    public static Scope begin() {
+        return new Scope(new AtomicInteger());
+    }
+
+    /** Statements counted so far in the current thread's scope, or -1 outside a scope. */
+    public static int current() {
+        AtomicInteger current = CURRENT.get();
+        return current == null ? -1 : current.get();
+    }
+
+    /** Wraps {@code read} so that, on whatever thread it runs, it counts towards the caller's scope. */
+    public static <T> Supplier<T> propagate(Supplier<T> read) {
+        AtomicInteger scope = CURRENT.get();
+        if (scope == null) {
+            return read;
+        }
+        return () -> {
+            try (Scope ignored = new Scope(scope)) {
+                return read.get();
+            }
+        };
+    }
+}
@@ -0,0 +1,85 @@
+package com.argumentation.backendapi.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RepositoryMetrics
+ * ------------------
+ * Times every Spring Data repository call as argumentation.repository
+ * (tags: repository, method, outcome), which also yields the call count
+ * per method. Timers are histogram-enabled (see metrics.properties), so
+ * Prometheus can derive per-method percentiles.
+ *
+ * Hooked in as a proxy post-processor of each repository factory, so the
+ * repository interfaces stay untouched. For methods returning a Stream the
+ * time covers opening the cursor, not consuming it.
+ *
+ * The MeterRegistry is looked up on first use: a BeanPostProcessor must
+ * not pull the registry (and everything it depends on) into early
+ * initialization.
+ */
+public class RepositoryMetrics implements BeanPostProcessor {
+
+    private final ObjectProvider<MeterRegistry> registry;
+
+    public RepositoryMetrics(ObjectProvider<MeterRegistry> registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxy, repository) -> proxy.addAdvice(
+                            new Timing(registry, repository.getRepositoryInterface().getSimpleName()))));
+        }
+        return bean;
+    }
+
+    /** Records one timer per repository method and outcome. */
+    private static final class Timing implements MethodInterceptor {
+
+        private final ObjectProvider<MeterRegistry> registry;
+        private final String repository;
+        private final Map<Method, Timer> success = new ConcurrentHashMap<>();
+
+        Timing(ObjectProvider<MeterRegistry> registry, String repository) {
+            this.registry = registry;
+            this.repository = repository;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            long start = System.nanoTime();
+            try {
+                Object result = invocation.proceed();
+                success.computeIfAbsent(invocation.getMethod(), method -> timer(method, "success"))
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return result;
+            } catch (Throwable e) {
+                timer(invocation.getMethod(), "error").record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw e;
+            }
+        }
+
+        private Timer timer(Method method, String outcome) {
+            return Timer.builder("argumentation.repository")
+                    .description("Spring Data repository calls")
+                    .tag("repository", repository)
+                    .tag("method", method.getName())
+                    .tag("outcome", outcome)
+                    .register(registry.getObject());
+        }
+    }
+}
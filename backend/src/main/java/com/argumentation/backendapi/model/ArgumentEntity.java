@@ -1,5 +1,6 @@
 package com.argumentation.backendapi.model;
 
+import com.argumentation.backendapi.importer.IdGenerators;
 import jakarta.persistence.*;
 
 /**
@@ -11,17 +12,24 @@ import jakarta.persistence.*;
  *   - A source (stored in the "sources" table)
  *
  * Table: arguments
+ * Index (claim, id): claim → argument lookups, answered from the index alone.
+ * Associations are LAZY; reading an argument's ID does not load its claim.
  */
 @Entity
-@Table(name = "arguments")
+@Table(name = "arguments",
+        indexes = @Index(name = "idx_arguments_claim_id", columnList = "claim, id"))
 public class ArgumentEntity {
 
     /**
      * Primary key: Unique identifier for each argument.
-     * Auto-generated by the database (IDENTITY strategy).
+     * Drawn in blocks from the pooled "arguments" row of id_generators
+     * (see IdGenerators), so inserts can be batched.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "argument_id")
+    @TableGenerator(name = "argument_id", table = IdGenerators.TABLE, pkColumnName = "name",
+            valueColumnName = "next_val", pkColumnValue = IdGenerators.ARGUMENTS,
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Integer id;
 
     /**
@@ -31,7 +39,7 @@ public class ArgumentEntity {
      * Mapped via the "claim" column in the arguments table,
      * which is a foreign key to statements.id.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "claim") // foreign key to statements.id
     private StatementEntity claim;
 
@@ -40,7 +48,7 @@ public class ArgumentEntity {
      * Linked using the "source" column that references sources.name.
      * Many arguments can share the same source.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "source", referencedColumnName = "name") // foreign key to sources.name
     private SourceEntity source;
 
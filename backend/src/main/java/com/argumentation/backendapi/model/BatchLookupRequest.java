@@ -0,0 +1,14 @@
+package com.argumentation.backendapi.model;
+
+import java.util.List;
+
+/**
+ * BatchLookupRequest
+ * -------------------
+ * Body of POST /api/structured-arguments/batch.
+ *
+ * @param claimIds    Claims to resolve: argument ID, justifications of that argument, rebuttals.
+ * @param argumentIds Further arguments whose justifications are wanted (may be null).
+ */
+public record BatchLookupRequest(List<Integer> claimIds, List<Integer> argumentIds) {
+}
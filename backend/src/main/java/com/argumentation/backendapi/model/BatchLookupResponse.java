@@ -0,0 +1,19 @@
+package com.argumentation.backendapi.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * BatchLookupResponse
+ * --------------------
+ * Everything needed to expand one level of an argument tree, for many
+ * nodes at once (POST /api/structured-arguments/batch).
+ *
+ * @param argumentIdsByClaim Claim ID → argument ID, for the requested claims that have an argument.
+ * @param justifications     Argument ID → premises, for every existing requested or resolved argument.
+ * @param rebuttals          Claim ID → rebuttals, for every requested claim (empty list if none).
+ */
+public record BatchLookupResponse(Map<Integer, Integer> argumentIdsByClaim,
+                                  Map<Integer, List<ClaimDTO>> justifications,
+                                  Map<Integer, List<RebuttalCreateResponse>> rebuttals) {
+}
@@ -0,0 +1,18 @@
+package com.argumentation.backendapi.model;
+
+/**
+ * ClaimArgumentRow
+ * -----------------
+ * A read-only projection pairing a claim with the (first) argument built on it.
+ *
+ * It is used in:
+ *   - ArgumentRepository#findArgumentIdRowsByClaimIds(...)
+ */
+public interface ClaimArgumentRow {
+
+    /** ID of the claim (statements.id). */
+    Integer getClaimId();
+
+    /** Lowest ID of the arguments whose claim it is. */
+    Integer getArgumentId();
+}
@@ -0,0 +1,17 @@
+package com.argumentation.backendapi.model;
+
+/**
+ * ClaimDTO
+ * ---------
+ * A statement as the structured-argument endpoints return it: root claims
+ * (/by-topic-name) and justifications (/justifications).
+ *
+ * Also the JPA constructor projection of the justification queries, so rows
+ * go from the result set to JSON without entities or per-row maps.
+ *
+ * @param id     statements.id
+ * @param text   Statement text
+ * @param source Name of the statement's source, or null if it has none
+ */
+public record ClaimDTO(Integer id, String text, String source) {
+}
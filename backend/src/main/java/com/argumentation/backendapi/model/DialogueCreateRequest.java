@@ -0,0 +1,24 @@
+package com.argumentation.backendapi.model;
+
+/**
+ * DialogueCreateRequest
+ * ----------------------
+ * Payload of POST /api/dialogues: the topic whose root claim opens the debate.
+ */
+public class DialogueCreateRequest {
+
+    /** Topic name (e.g., "Television") */
+    private String topic;
+
+    // ────────────────────────────────
+    // Getters and Setters
+    // ────────────────────────────────
+
+    public String getTopic() {
+        return topic;
+    }
+
+    public void setTopic(String topic) {
+        this.topic = topic;
+    }
+}
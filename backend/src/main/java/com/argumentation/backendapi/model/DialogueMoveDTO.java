@@ -0,0 +1,54 @@
+package com.argumentation.backendapi.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * DialogueMoveDTO
+ * ----------------
+ * One move of a dialogue's history, shaped like the frontend's Move
+ * (actor, type, timestamp) plus the statements the move refers to.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DialogueMoveDTO {
+
+    /** "Proponent" or "Opponent" */
+    private final String actor;
+
+    /** "Claim", "Challenge", "Justify", "Rebuttal", "Accept" or "Skip" */
+    private final String type;
+
+    /** Claimed, challenged, justifying or rebutting statements (null for Accept/Skip) */
+    private final List<Integer> statementIds;
+
+    /** ISO-8601 time of the move (second precision) */
+    private final String timestamp;
+
+    public DialogueMoveDTO(String actor, String type, List<Integer> statementIds, String timestamp) {
+        this.actor = actor;
+        this.type = type;
+        this.statementIds = statementIds;
+        this.timestamp = timestamp;
+    }
+
+    // ────────────────────────────────
+    // Getters (no setters → immutable)
+    // ────────────────────────────────
+
+    public String getActor() {
+        return actor;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public List<Integer> getStatementIds() {
+        return statementIds;
+    }
+
+    public String getTimestamp() {
+        return timestamp;
+    }
+}
@@ -0,0 +1,87 @@
+package com.argumentation.backendapi.model;
+
+import java.util.List;
+
+/**
+ * DialogueMoveRequest
+ * --------------------
+ * Payload of POST /api/dialogues/{id}/moves. Which fields are needed depends on the move:
+ *
+ *   Challenge  targetId                      statement being challenged
+ *   Justify    statementIds                  justifications for the pending challenge
+ *   Rebuttal   targetId, text, source?       rebuttal is saved like POST /api/rebuttals
+ *   Accept     (none)
+ *   Skip       (none)
+ */
+public class DialogueMoveRequest {
+
+    /** "Proponent" or "Opponent" (must be the side to move) */
+    private String actor;
+
+    /** "Challenge", "Justify", "Rebuttal" (or "rebut"), "Accept" or "Skip" */
+    private String type;
+
+    /** Statement challenged or rebutted */
+    private Integer targetId;
+
+    /** Statements offered as justification */
+    private List<Integer> statementIds;
+
+    /** Rebuttal text */
+    private String text;
+
+    /** Rebuttal source name (defaults to "User") */
+    private String source;
+
+    // ────────────────────────────────
+    // Getters and Setters
+    // ────────────────────────────────
+
+    public String getActor() {
+        return actor;
+    }
+
+    public void setActor(String actor) {
+        this.actor = actor;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Integer getTargetId() {
+        return targetId;
+    }
+
+    public void setTargetId(Integer targetId) {
+        this.targetId = targetId;
+    }
+
+    public List<Integer> getStatementIds() {
+        return statementIds;
+    }
+
+    public void setStatementIds(List<Integer> statementIds) {
+        this.statementIds = statementIds;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public void setText(String text) {
+        this.text = text;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+}
@@ -0,0 +1,109 @@
+package com.argumentation.backendapi.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DialogueStateDTO
+ * -----------------
+ * Snapshot of a dialogue session returned by the /api/dialogues endpoints:
+ * whose turn it is, what they may do, what is left, and the move history.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DialogueStateDTO {
+
+    /** Session ID, sent as a string so JavaScript clients never round it */
+    private final String id;
+
+    private final String topic;
+
+    private final int rootClaimId;
+
+    /** "Proponent" or "Opponent"; the side to move */
+    private final String turn;
+
+    /** Moves the side to move may make (e.g. ["Challenge", "Accept"]); empty once ended */
+    private final List<String> allowedMoves;
+
+    /** Statement the side to move must justify (null if none) */
+    private final Integer pendingChallengeId;
+
+    private final boolean ended;
+
+    /** "ACCEPTED" or "TURN_LIMIT" once ended */
+    private final String endReason;
+
+    /** Side that won through the other's acceptance */
+    private final String winner;
+
+    /** Remaining turns, challenges and rebuttals per side: {"Proponent": {...}, "Opponent": {...}} */
+    private final Map<String, Map<String, Integer>> remaining;
+
+    private final List<DialogueMoveDTO> history;
+
+    public DialogueStateDTO(String id, String topic, int rootClaimId, String turn, List<String> allowedMoves,
+                            Integer pendingChallengeId, boolean ended, String endReason, String winner,
+                            Map<String, Map<String, Integer>> remaining, List<DialogueMoveDTO> history) {
+        this.id = id;
+        this.topic = topic;
+        this.rootClaimId = rootClaimId;
+        this.turn = turn;
+        this.allowedMoves = allowedMoves;
+        this.pendingChallengeId = pendingChallengeId;
+        this.ended = ended;
+        this.endReason = endReason;
+        this.winner = winner;
+        this.remaining = remaining;
+        this.history = history;
+    }
+
+    // ────────────────────────────────
+    // Getters (no setters → immutable)
+    // ────────────────────────────────
+
+    public String getId() {
+        return id;
+    }
+
+    public String getTopic() {
+        return topic;
+    }
+
+    public int getRootClaimId() {
+        return rootClaimId;
+    }
+
+    public String getTurn() {
+        return turn;
+    }
+
+    public List<String> getAllowedMoves() {
+        return allowedMoves;
+    }
+
+    public Integer getPendingChallengeId() {
+        return pendingChallengeId;
+    }
+
+    public boolean isEnded() {
+        return ended;
+    }
+
+    public String getEndReason() {
+        return endReason;
+    }
+
+    public String getWinner() {
+        return winner;
+    }
+
+    public Map<String, Map<String, Integer>> getRemaining() {
+        return remaining;
+    }
+
+    public List<DialogueMoveDTO> getHistory() {
+        return history;
+    }
+}
@@ -0,0 +1,30 @@
+package com.argumentation.backendapi.model;
+
+/**
+ * ImportSummary
+ * --------------
+ * Row counts and timing of one corpus import run.
+ *
+ * @param arguments     args.me arguments read from the file
+ * @param statements    rows written to statements (conclusions, premises, rebuttals)
+ * @param premises      rows written to premises
+ * @param rebuttals     statements written with a counter_statement (CON premises)
+ * @param sources       new rows written to sources (existing names are reused)
+ * @param topics        new rows written to topics (existing names are reused)
+ * @param truncated     texts cut to fit their column
+ * @param elapsedMillis wall-clock time of the import
+ */
+public record ImportSummary(long arguments,
+                            long statements,
+                            long premises,
+                            long rebuttals,
+                            long sources,
+                            long topics,
+                            long truncated,
+                            long elapsedMillis) {
+
+    /** Statements written per second over the whole run. */
+    public long statementsPerSecond() {
+        return elapsedMillis == 0 ? statements : statements * 1000 / elapsedMillis;
+    }
+}
@@ -0,0 +1,29 @@
+package com.argumentation.backendapi.model;
+
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * KeysetPage
+ * -----------
+ * One page of a listing ordered by ID, read with "id > afterId order by id
+ * limit n" (keyset pagination). Unlike OFFSET, the database seeks straight
+ * to afterId in the index, so page 1000 costs the same as page 1.
+ *
+ * @param items       The rows of this page, in ID order.
+ * @param nextAfterId ID to continue after, or null if this is the last page.
+ */
+public record KeysetPage<T>(List<T> items, Integer nextAfterId) {
+
+    /**
+     * Builds a page from a query that fetched up to {@code limit + 1} rows:
+     * the extra row only tells whether another page follows.
+     */
+    public static <T> KeysetPage<T> of(List<T> rows, int limit, ToIntFunction<T> id) {
+        if (rows.size() <= limit) {
+            return new KeysetPage<>(List.copyOf(rows), null);
+        }
+        List<T> items = List.copyOf(rows.subList(0, limit));
+        return new KeysetPage<>(items, id.applyAsInt(items.get(limit - 1)));
+    }
+}
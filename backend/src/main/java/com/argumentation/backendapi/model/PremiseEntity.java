@@ -12,19 +12,29 @@ import jakarta.persistence.*;
  *
  * Table: premises
  * Primary key: (argument, premise)
+ * Index (premise, argument): the arguments a statement supports.
+ * Associations are LAZY; justification lists load them with the
+ * JUSTIFICATION entity graph (PremiseRepository#findByArgument_Id).
  */
 @Entity
-@Table(name = "premises")
+@Table(name = "premises",
+        indexes = @Index(name = "idx_premises_premise_argument", columnList = "premise, argument"))
 @IdClass(PremiseId.class)  // Composite key combining argument and premise columns
+@NamedEntityGraph(name = PremiseEntity.JUSTIFICATION,
+        attributeNodes = @NamedAttributeNode(value = "premise", subgraph = "premise"),
+        subgraphs = @NamedSubgraph(name = "premise", attributeNodes = @NamedAttributeNode("source")))
 public class PremiseEntity {
 
+    /** Fetch plan for justification lists: premise statement and its source; the argument stays a proxy */
+    public static final String JUSTIFICATION = "PremiseEntity.justification";
+
     /**
      * The Argument that this premise supports.
      * Part of the composite primary key.
      * Many premises can belong to the same argument.
      */
     @Id
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "argument")  // Foreign key to arguments.id
     private ArgumentEntity argument;
 
@@ -34,7 +44,7 @@ public class PremiseEntity {
      * Many arguments can reference the same statement as a premise.
      */
     @Id
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "premise")   // Foreign key to statements.id
     private StatementEntity premise;
 
@@ -1,5 +1,9 @@
 package com.argumentation.backendapi.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
 /**
  * RebuttalCreateResponse
  * -----------------------
@@ -35,12 +39,37 @@ public class RebuttalCreateResponse {
      */
     private final String source;
 
+    /**
+     * Acceptability labels ("IN"/"OUT"/"UNDEC") that changed because of this rebuttal,
+     * keyed by statement ID. Only set when the rebuttal was just created; omitted in listings.
+     */
+    private final Map<Integer, String> statusChanges;
+
+    /**
+     * ID of an existing rebuttal of the same target that says nearly the same.
+     * When it equals statementId, nothing was saved and the existing rebuttal is returned instead.
+     * Null if the rebuttal is no near-duplicate (and in listings).
+     */
+    private final Integer duplicateOf;
+
     // Constructor initializes all final fields
     public RebuttalCreateResponse(Integer argumentId, Integer statementId, String text, String source) {
+        this(argumentId, statementId, text, source, null);
+    }
+
+    public RebuttalCreateResponse(Integer argumentId, Integer statementId, String text, String source,
+                                  Map<Integer, String> statusChanges) {
+        this(argumentId, statementId, text, source, statusChanges, null);
+    }
+
+    public RebuttalCreateResponse(Integer argumentId, Integer statementId, String text, String source,
+                                  Map<Integer, String> statusChanges, Integer duplicateOf) {
         this.argumentId = argumentId;
         this.statementId = statementId;
         this.text = text;
         this.source = source;
+        this.statusChanges = statusChanges;
+        this.duplicateOf = duplicateOf;
     }
 
     // ────────────────────────────────
@@ -62,4 +91,14 @@ public class RebuttalCreateResponse {
     public String getSource() {
         return source;
     }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public Map<Integer, String> getStatusChanges() {
+        return statusChanges;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public Integer getDuplicateOf() {
+        return duplicateOf;
+    }
 }
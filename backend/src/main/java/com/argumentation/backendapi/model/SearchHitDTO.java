@@ -0,0 +1,60 @@
+package com.argumentation.backendapi.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * SearchHitDTO
+ * -------------
+ * One ranked result of /api/search: either a statement (claim, premise or
+ * rebuttal) or a topic.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SearchHitDTO {
+
+    /** "statement" or "topic" */
+    private final String type;
+
+    /** Statement ID or topic ID */
+    private final Integer id;
+
+    /** Statement text or topic name */
+    private final String text;
+
+    /** BM25 relevance score (higher is better) */
+    private final double score;
+
+    /** Argument whose claim the statement is (statements only; null for plain premises) */
+    private final Integer argumentId;
+
+    public SearchHitDTO(String type, Integer id, String text, double score, Integer argumentId) {
+        this.type = type;
+        this.id = id;
+        this.text = text;
+        this.score = score;
+        this.argumentId = argumentId;
+    }
+
+    // ────────────────────────────────
+    // Getters (no setters → immutable)
+    // ────────────────────────────────
+
+    public String getType() {
+        return type;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public Integer getArgumentId() {
+        return argumentId;
+    }
+}
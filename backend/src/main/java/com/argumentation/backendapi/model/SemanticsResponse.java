@@ -0,0 +1,84 @@
+package com.argumentation.backendapi.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SemanticsResponse
+ * ------------------
+ * A response DTO carrying the acceptability status of every statement
+ * in a topic's argument graph, as computed by SemanticsService.
+ *
+ * It is returned by:
+ *   - SemanticsController#getSemantics(...) (GET /api/semantics/{topic})
+ *
+ * Labels follow Dung-style semantics over the attack (rebuttal) relation:
+ *   - "IN"    accepted in the grounded labelling
+ *   - "OUT"   defeated by an accepted statement
+ *   - "UNDEC" undecided (e.g. part of an unresolved attack cycle)
+ */
+public class SemanticsResponse {
+
+    /** Topic the graph was taken from */
+    private final String topic;
+
+    /** Number of statements and attacks in the topic's graph */
+    private final int statementCount;
+    private final int attackCount;
+
+    /** Grounded label per statement ID */
+    private final Map<Integer, String> grounded;
+
+    /** Preferred extensions, each a sorted list of accepted statement IDs (null if not requested) */
+    private final List<List<Integer>> preferred;
+
+    /** Stable extensions, each a sorted list of accepted statement IDs (null if not requested) */
+    private final List<List<Integer>> stable;
+
+    /** False if the extension search hit a size or time budget and may be incomplete */
+    private final boolean exhaustive;
+
+    // Constructor initializes all final fields
+    public SemanticsResponse(String topic, int statementCount, int attackCount, Map<Integer, String> grounded,
+                             List<List<Integer>> preferred, List<List<Integer>> stable, boolean exhaustive) {
+        this.topic = topic;
+        this.statementCount = statementCount;
+        this.attackCount = attackCount;
+        this.grounded = grounded;
+        this.preferred = preferred;
+        this.stable = stable;
+        this.exhaustive = exhaustive;
+    }
+
+    // ────────────────────────────────
+    // Getters (no setters → immutable)
+    // ────────────────────────────────
+
+    public String getTopic() {
+        return topic;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public int getAttackCount() {
+        return attackCount;
+    }
+
+    public Map<Integer, String> getGrounded() {
+        return grounded;
+    }
+
+    public List<List<Integer>> getPreferred() {
+        return preferred;
+    }
+
+    public List<List<Integer>> getStable() {
+        return stable;
+    }
+
+    public boolean isExhaustive() {
+        return exhaustive;
+    }
+}
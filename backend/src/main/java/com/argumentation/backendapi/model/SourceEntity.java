@@ -1,6 +1,8 @@
 package com.argumentation.backendapi.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * SourceEntity
@@ -10,9 +12,15 @@ import jakarta.persistence.*;
  * a short description, and a URL for verification.
  *
  * Table: sources
+ *
+ * Read-mostly: held in the Hibernate second-level cache (region
+ * "sources") when it is enabled, so the source lookup of every new
+ * rebuttal is answered without a query.
  */
 @Entity
 @Table(name = "sources")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "sources")
 public class SourceEntity {
 
     /**
@@ -1,5 +1,6 @@
 package com.argumentation.backendapi.model;
 
+import com.argumentation.backendapi.importer.IdGenerators;
 import jakarta.persistence.*;
 
 /**
@@ -12,17 +13,31 @@ import jakarta.persistence.*;
  *   - Or a counter-statement opposing another statement.
  *
  * Table: statements
+ * Index (counter_statement, id): rebuttals of a statement in ID order, for keyset paging.
+ *
+ * Associations are LAZY: loading a statement no longer walks its whole
+ * chain of counter-statements. Fetch what a use case needs with an entity
+ * graph (REBUTTAL) or a projection query.
  */
 @Entity
-@Table(name = "statements")
+@Table(name = "statements",
+        indexes = @Index(name = "idx_statements_counter_statement_id", columnList = "counter_statement, id"))
+@NamedEntityGraph(name = StatementEntity.REBUTTAL, attributeNodes = @NamedAttributeNode("source"))
 public class StatementEntity {
 
+    /** Fetch plan for rebuttal lists: the statement and its source, not the statement it rebuts */
+    public static final String REBUTTAL = "StatementEntity.rebuttal";
+
     /**
      * Primary key: unique identifier for the statement.
-     * Auto-incremented in the database.
+     * Drawn in blocks from the pooled "statements" row of id_generators
+     * (see IdGenerators), so inserts can be batched.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "statement_id")
+    @TableGenerator(name = "statement_id", table = IdGenerators.TABLE, pkColumnName = "name",
+            valueColumnName = "next_val", pkColumnValue = IdGenerators.STATEMENTS,
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Integer id;
 
     /**
@@ -39,7 +54,7 @@ public class StatementEntity {
      * Example:
      *   Statement A → has counterStatement B (meaning B refutes A).
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "counter_statement") // foreign key to statements.id
     private StatementEntity counterStatement;
 
@@ -47,7 +62,7 @@ public class StatementEntity {
      * Optional reference to the source of this statement.
      * Example: a book, article, or website from which the claim originates.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "source", referencedColumnName = "name") // foreign key to sources.name
     private SourceEntity source;
 
@@ -0,0 +1,31 @@
+package com.argumentation.backendapi.model;
+
+/**
+ * StatementRow
+ * -------------
+ * A read-only projection of a statement as it hangs below a parent node.
+ * Returned by the set-based repository queries that load one whole level
+ * of the argument graph at a time (premises of many arguments, rebuttals
+ * of many statements) instead of one lookup per node.
+ *
+ * It is used in:
+ *   - PremiseRepository#findPremiseRowsByArgumentIds(...)
+ *   - StatementRepository#findRebuttalRowsByTargetIds(...)
+ */
+public interface StatementRow {
+
+    /** ID of the parent this row belongs to (an argument ID for premises, a statement ID for rebuttals). */
+    Integer getParentId();
+
+    /** ID of the statement itself (statements.id). */
+    Integer getId();
+
+    /** Text of the statement. */
+    String getText();
+
+    /** Name of the statement's source, or null if it has none. */
+    String getSource();
+
+    /** ID of the first argument whose claim is this statement, or null if there is none. */
+    Integer getArgumentId();
+}
@@ -0,0 +1,16 @@
+package com.argumentation.backendapi.model;
+
+/**
+ * SubtreeNodeDTO
+ * ---------------
+ * One descendant of a statement in the argument graph
+ * (GET /api/subtrees/{statementId}): a premise or rebuttal of the statement,
+ * or of one of its descendants.
+ *
+ * @param id     statements.id
+ * @param text   Statement text
+ * @param source Name of the statement's source, or null if it has none
+ * @param depth  Length of the shortest path from the requested statement (1 = direct child)
+ */
+public record SubtreeNodeDTO(Integer id, String text, String source, int depth) {
+}
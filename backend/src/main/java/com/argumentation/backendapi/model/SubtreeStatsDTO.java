@@ -0,0 +1,16 @@
+package com.argumentation.backendapi.model;
+
+import java.util.Map;
+
+/**
+ * SubtreeStatsDTO
+ * ----------------
+ * Size and shape of a statement's subtree (GET /api/subtrees/{statementId}/stats).
+ *
+ * @param statementId   The statement the subtree hangs from
+ * @param size          Number of descendants (the statement itself not counted)
+ * @param maxDepth      Depth of the deepest descendant (0 for a leaf)
+ * @param countsByDepth Depth → number of descendants at that depth, in depth order
+ */
+public record SubtreeStatsDTO(Integer statementId, long size, int maxDepth, Map<Integer, Long> countsByDepth) {
+}
@@ -0,0 +1,49 @@
+package com.argumentation.backendapi.model;
+
+/**
+ * TopArgumentDTO
+ * ---------------
+ * One entry of a topic's pro or con ranking, shaped like the items of the
+ * frontend's TopArgItem (id, text, score, parentId).
+ */
+public class TopArgumentDTO {
+
+    /** Statement ID */
+    private final Integer id;
+
+    /** Statement text */
+    private final String text;
+
+    /** Ranking score (higher is better) */
+    private final double score;
+
+    /** The statement this one supports or attacks (null for the root claim) */
+    private final Integer parentId;
+
+    public TopArgumentDTO(Integer id, String text, double score, Integer parentId) {
+        this.id = id;
+        this.text = text;
+        this.score = score;
+        this.parentId = parentId;
+    }
+
+    // ────────────────────────────────
+    // Getters (no setters → immutable)
+    // ────────────────────────────────
+
+    public Integer getId() {
+        return id;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public Integer getParentId() {
+        return parentId;
+    }
+}
@@ -0,0 +1,51 @@
+package com.argumentation.backendapi.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * TopArgumentsResponse
+ * ---------------------
+ * The top-N pro and con arguments of a topic, mirroring the frontend's
+ * TopArgsForTopic ({ pro: [...], con: [...] }).
+ *
+ * It is returned by:
+ *   - TopicController#getTopArguments(...) (GET /api/topics/{name}/top-arguments)
+ *
+ * When a single stance is requested, the other list is omitted.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TopArgumentsResponse {
+
+    /** Topic the ranking belongs to */
+    private final String topic;
+
+    /** Best arguments supporting the topic's root claim */
+    private final List<TopArgumentDTO> pro;
+
+    /** Best arguments opposing the topic's root claim */
+    private final List<TopArgumentDTO> con;
+
+    public TopArgumentsResponse(String topic, List<TopArgumentDTO> pro, List<TopArgumentDTO> con) {
+        this.topic = topic;
+        this.pro = pro;
+        this.con = con;
+    }
+
+    // ────────────────────────────────
+    // Getters (no setters → immutable)
+    // ────────────────────────────────
+
+    public String getTopic() {
+        return topic;
+    }
+
+    public List<TopArgumentDTO> getPro() {
+        return pro;
+    }
+
+    public List<TopArgumentDTO> getCon() {
+        return con;
+    }
+}
@@ -0,0 +1,15 @@
+package com.argumentation.backendapi.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * TopicDTO
+ * ---------
+ * One entry of GET /api/topics. The field is called "topic" because that is
+ * the key the Angular frontend reads.
+ *
+ * @param id    topics.id, used for paging only (not serialized)
+ * @param topic topics.name
+ */
+public record TopicDTO(@JsonIgnore Integer id, String topic) {
+}
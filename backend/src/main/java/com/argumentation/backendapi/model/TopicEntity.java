@@ -1,6 +1,8 @@
 package com.argumentation.backendapi.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * TopicEntity
@@ -10,11 +12,30 @@ import jakarta.persistence.*;
  * the main claim or thesis for that topic.
  *
  * Table: topics
+ * Unique index on name: findByName is a single index seek.
+ *
+ * Associations are LAZY; the root claim view loads them with the
+ * ROOT_CLAIM entity graph (TopicRepository#findByName).
+ *
+ * Read-mostly: held in the Hibernate second-level cache (region
+ * "topics") when it is enabled.
  */
 @Entity
-@Table(name = "topics")
+@Table(name = "topics",
+        indexes = @Index(name = "uq_topics_name", columnList = "name", unique = true))
+@NamedEntityGraph(name = TopicEntity.ROOT_CLAIM,
+        attributeNodes = @NamedAttributeNode(value = "argument", subgraph = "argument"),
+        subgraphs = {
+                @NamedSubgraph(name = "argument", attributeNodes = @NamedAttributeNode(value = "claim", subgraph = "claim")),
+                @NamedSubgraph(name = "claim", attributeNodes = @NamedAttributeNode("source"))
+        })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "topics")
 public class TopicEntity {
 
+    /** Fetch plan for the root claim view: topic → argument → claim → source, in one join */
+    public static final String ROOT_CLAIM = "TopicEntity.rootClaim";
+
     /**
      * Primary key: unique identifier for each topic.
      * Auto-generated by the database.
@@ -34,7 +55,7 @@ public class TopicEntity {
      * Many topics could theoretically share arguments, but typically
      * this is a one-to-one conceptual mapping.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "argument_id") // foreign key to arguments.id
     private ArgumentEntity argument;
 
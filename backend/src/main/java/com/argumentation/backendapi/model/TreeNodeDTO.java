@@ -6,27 +6,43 @@ import java.util.List;
 /**
  * TreeNodeDTO
  * ------------
- * (⚠️ Currently not used)
- *
  * A Data Transfer Object designed to represent a node in a hierarchical tree.
  * Each node contains:
- *   - An ID (e.g., statement or argument ID)
+ *   - An ID (the statement ID)
  *   - Text content (e.g., the claim or justification)
+ *   - The kind of node (claim, premise or rebuttal) and its source
  *   - A list of child nodes (forming the argument tree)
  *
- * Could be useful for future features such as:
- *   - Returning the entire argument tree in one API response
- *   - Visualizing nested debates or justifications recursively
+ * Returned by:
+ *   - StructuredArgumentController#getTree(...) (GET /api/structured-arguments/tree)
+ *     which sends the entire argument tree of a topic in one API response.
  */
 public class TreeNodeDTO {
 
-    /** Unique identifier (e.g., statement or argument ID) */
+    /** Node kinds used in the "type" field */
+    public static final String TYPE_CLAIM = "claim";
+    public static final String TYPE_PREMISE = "premise";
+    public static final String TYPE_REBUTTAL = "rebuttal";
+
+    /** Unique identifier (the statement ID) */
     private int id;
 
     /** Text or content for this node (e.g., claim, justification, or rebuttal) */
     private String text;
 
-    /** Recursive list of child nodes (each representing a supporting argument) */
+    /** Kind of node: "claim", "premise" or "rebuttal" */
+    private String type;
+
+    /** Name of the statement's source, or null */
+    private String source;
+
+    /** ID of the argument built on this statement (null if none exists) */
+    private Integer argumentId;
+
+    /** True if some children were left out because a depth or fan-out limit was reached */
+    private boolean truncated;
+
+    /** Recursive list of child nodes (premises supporting it and rebuttals attacking it) */
     private List<TreeNodeDTO> children = new ArrayList<>();
 
     // Default constructor (needed for frameworks like Jackson)
@@ -38,6 +54,15 @@ public class TreeNodeDTO {
         this.text = text;
     }
 
+    // Full constructor used when building trees from the database
+    public TreeNodeDTO(int id, String text, String type, String source, Integer argumentId) {
+        this.id = id;
+        this.text = text;
+        this.type = type;
+        this.source = source;
+        this.argumentId = argumentId;
+    }
+
     // ────────────────────────────────
     // Getters and Setters
     // ────────────────────────────────
@@ -58,6 +83,38 @@ public class TreeNodeDTO {
         this.text = text;
     }
 
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    public Integer getArgumentId() {
+        return argumentId;
+    }
+
+    public void setArgumentId(Integer argumentId) {
+        this.argumentId = argumentId;
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    public void setTruncated(boolean truncated) {
+        this.truncated = truncated;
+    }
+
     public List<TreeNodeDTO> getChildren() {
         return children;
     }
@@ -1,8 +1,12 @@
 package com.argumentation.backendapi.repository;
 
 import com.argumentation.backendapi.model.ArgumentEntity;
+import com.argumentation.backendapi.model.ClaimArgumentRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,4 +40,28 @@ public interface ArgumentRepository extends JpaRepository<ArgumentEntity, Intege
      * @return An Optional containing the ArgumentEntity if found, or empty if not.
      */
     Optional<ArgumentEntity> findFirstByClaim_Id(Integer claimId);
+
+    /**
+     * Resolves many claims to their argument in one query.
+     * Claims without an argument produce no row.
+     *
+     * @param claimIds The claim (statement) IDs; keep the list to a few hundred entries.
+     * @return One row per claim that has an argument, with the lowest argument ID.
+     */
+    @Query("""
+            select a.claim.id as claimId, min(a.id) as argumentId
+            from ArgumentEntity a
+            where a.claim.id in :claimIds
+            group by a.claim.id
+            """)
+    List<ClaimArgumentRow> findArgumentIdRowsByClaimIds(@Param("claimIds") Collection<Integer> claimIds);
+
+    /**
+     * Filters IDs down to the arguments that exist.
+     *
+     * @param argumentIds Candidate argument IDs; keep the list to a few hundred entries.
+     * @return The IDs among them that exist, in no particular order.
+     */
+    @Query("select a.id from ArgumentEntity a where a.id in :argumentIds")
+    List<Integer> findExistingIds(@Param("argumentIds") Collection<Integer> argumentIds);
 }
@@ -1,9 +1,19 @@
 package com.argumentation.backendapi.repository;
 
+import com.argumentation.backendapi.model.ClaimDTO;
 import com.argumentation.backendapi.model.PremiseEntity;
+import com.argumentation.backendapi.model.StatementRow;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * PremiseRepository
@@ -18,9 +28,102 @@ public interface PremiseRepository extends JpaRepository<PremiseEntity, Integer>
 
     /**
      * Finds all premise records linked to a specific argument.
+     * The premise statements and their sources come with the same query
+     * (PremiseEntity.JUSTIFICATION).
      *
      * @param argumentId The ID of the argument whose premises are to be fetched.
      * @return A list of PremiseEntity objects associated with the given argument.
      */
+    @EntityGraph(PremiseEntity.JUSTIFICATION)
     List<PremiseEntity> findByArgument_Id(Integer argumentId);
+
+    /**
+     * Loads the premises of many arguments in a single query.
+     * Each row also carries the ID of the argument built on the premise (if any),
+     * so the caller can keep walking the tree without a per-node lookup.
+     *
+     * @param argumentIds The IDs of the arguments whose premises are to be fetched.
+     * @return One row per (argument, premise) pair, ordered by argument and premise ID.
+     */
+    @Query("""
+            select p.argument.id as parentId, s.id as id, s.text as text, src.name as source,
+                   (select min(a.id) from ArgumentEntity a where a.claim = s) as argumentId
+            from PremiseEntity p
+            join p.premise s
+            left join s.source src
+            where p.argument.id in :argumentIds
+            order by p.argument.id, s.id
+            """)
+    List<StatementRow> findPremiseRowsByArgumentIds(@Param("argumentIds") Collection<Integer> argumentIds);
+
+    /**
+     * Filters argument IDs down to those with at least one premise. One
+     * EXISTS probe of the (argument, premise) key per argument, so no
+     * premise rows are read or returned.
+     *
+     * @param argumentIds Candidate argument IDs; keep the list to a few hundred entries.
+     * @return The IDs among them that have premises, in no particular order.
+     */
+    @Query("""
+            select a.id from ArgumentEntity a
+            where a.id in :argumentIds
+              and exists (select 1 from PremiseEntity p where p.argument = a)
+            """)
+    List<Integer> findIdsWithPremises(@Param("argumentIds") Collection<Integer> argumentIds);
+
+    /**
+     * The premises of one argument as ClaimDTO projections (one query, no entities).
+     *
+     * @param argumentId The ID of the argument whose premises are to be fetched.
+     * @return One row per premise, ordered by statement ID.
+     */
+    @Query("""
+            select new com.argumentation.backendapi.model.ClaimDTO(s.id, s.text, src.name)
+            from PremiseEntity p
+            join p.premise s
+            left join s.source src
+            where p.argument.id = :argumentId
+            order by s.id
+            """)
+    List<ClaimDTO> findClaimsByArgumentId(@Param("argumentId") Integer argumentId);
+
+    /**
+     * Same rows as findClaimsByArgumentId(...), read through an open cursor instead of a list.
+     * Must be consumed inside a transaction and closed (try-with-resources).
+     * Rows are fetched 1000 at a time; MySQL only honours that with useCursorFetch=true in the URL.
+     *
+     * @param argumentId The ID of the argument whose premises are to be fetched.
+     * @return A lazily fetched stream of premises.
+     */
+    @Query("""
+            select new com.argumentation.backendapi.model.ClaimDTO(s.id, s.text, src.name)
+            from PremiseEntity p
+            join p.premise s
+            left join s.source src
+            where p.argument.id = :argumentId
+            order by s.id
+            """)
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    Stream<ClaimDTO> streamClaimsByArgumentId(@Param("argumentId") Integer argumentId);
+
+    /**
+     * Keyset page of an argument's premises: the first {@code limit} with a statement ID above {@code afterId}.
+     * Seeks on the (argument, premise) primary key, so every page costs the same.
+     *
+     * @param argumentId The ID of the argument whose premises are to be fetched.
+     * @param afterId    Last premise ID of the previous page (0 for the first page).
+     * @param limit      Maximum number of rows.
+     * @return Premises in statement ID order.
+     */
+    @Query("""
+            select new com.argumentation.backendapi.model.ClaimDTO(s.id, s.text, src.name)
+            from PremiseEntity p
+            join p.premise s
+            left join s.source src
+            where p.argument.id = :argumentId and s.id > :afterId
+            order by s.id
+            """)
+    List<ClaimDTO> findClaimsByArgumentIdAfter(@Param("argumentId") Integer argumentId,
+                                               @Param("afterId") int afterId,
+                                               Limit limit);
 }
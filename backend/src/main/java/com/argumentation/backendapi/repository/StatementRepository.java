@@ -1,8 +1,14 @@
 package com.argumentation.backendapi.repository;
 
 import com.argumentation.backendapi.model.StatementEntity;
+import com.argumentation.backendapi.model.StatementRow;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -23,8 +29,66 @@ public interface StatementRepository extends JpaRepository<StatementEntity, Inte
      *   If statement B has counterStatement = A,
      *   then findByCounterStatement_Id(A) returns B.
      *
+     * Sources come with the same query (StatementEntity.REBUTTAL); the
+     * rebutted statement is not loaded again for every row.
+     *
      * @param counterStatementId The ID of the statement being rebutted.
      * @return A list of StatementEntity objects that oppose the given statement.
      */
+    @EntityGraph(StatementEntity.REBUTTAL)
     List<StatementEntity> findByCounterStatement_Id(Integer counterStatementId);
+
+    /**
+     * Loads the rebuttals of many target statements in a single query.
+     * The source name and the ID of the rebuttal's argument are resolved
+     * in the same statement, so no follow-up lookups are needed.
+     *
+     * @param targetIds The IDs of the statements being rebutted.
+     * @return One row per rebuttal; parentId holds the rebutted statement's ID.
+     */
+    @Query("""
+            select s.counterStatement.id as parentId, s.id as id, s.text as text, src.name as source,
+                   (select min(a.id) from ArgumentEntity a where a.claim = s) as argumentId
+            from StatementEntity s
+            left join s.source src
+            where s.counterStatement.id in :targetIds
+            order by s.counterStatement.id, s.id
+            """)
+    List<StatementRow> findRebuttalRowsByTargetIds(@Param("targetIds") Collection<Integer> targetIds);
+
+    /**
+     * Filters statement IDs down to those with at least one rebuttal. One
+     * EXISTS probe of the (counter_statement, id) index per statement, so no
+     * rebuttal rows are read or returned.
+     *
+     * @param statementIds Candidate statement IDs; keep the list to a few hundred entries.
+     * @return The IDs among them that have rebuttals, in no particular order.
+     */
+    @Query("""
+            select t.id from StatementEntity t
+            where t.id in :statementIds
+              and exists (select 1 from StatementEntity s where s.counterStatement = t)
+            """)
+    List<Integer> findIdsWithRebuttals(@Param("statementIds") Collection<Integer> statementIds);
+
+    /**
+     * Keyset page of one statement's rebuttals: the first {@code limit} with an ID above {@code afterId}.
+     * Seeks on the (counter_statement, id) index, so every page costs the same.
+     *
+     * @param targetId The ID of the statement being rebutted.
+     * @param afterId  Last rebuttal ID of the previous page (0 for the first page).
+     * @param limit    Maximum number of rows.
+     * @return Rebuttals in ID order; parentId holds targetId.
+     */
+    @Query("""
+            select s.counterStatement.id as parentId, s.id as id, s.text as text, src.name as source,
+                   (select min(a.id) from ArgumentEntity a where a.claim = s) as argumentId
+            from StatementEntity s
+            left join s.source src
+            where s.counterStatement.id = :targetId and s.id > :afterId
+            order by s.id
+            """)
+    List<StatementRow> findRebuttalRowsAfter(@Param("targetId") Integer targetId,
+                                             @Param("afterId") int afterId,
+                                             Limit limit);
 }
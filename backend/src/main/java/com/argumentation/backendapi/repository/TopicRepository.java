@@ -1,9 +1,18 @@
 package com.argumentation.backendapi.repository;
 
+import com.argumentation.backendapi.model.TopicDTO;
 import com.argumentation.backendapi.model.TopicEntity;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * TopicRepository
@@ -23,8 +32,44 @@ public interface TopicRepository extends JpaRepository<TopicEntity, Integer> {
      * Used by the StructuredArgumentController to locate the topic
      * before fetching its root claim and argument.
      *
+     * Loads the root argument, its claim and the claim's source in the same
+     * query (TopicEntity.ROOT_CLAIM); nothing beyond the claim is touched.
+     *
      * @param name The name of the topic to search for.
      * @return An Optional containing the TopicEntity if found, or empty otherwise.
      */
+    @EntityGraph(TopicEntity.ROOT_CLAIM)
     Optional<TopicEntity> findByName(String name);
+
+    /**
+     * All topic names, in ID order, projected straight into DTOs
+     * (no TopicEntity and no argument association is loaded).
+     *
+     * @return One TopicDTO per topic.
+     */
+    @Query("select new com.argumentation.backendapi.model.TopicDTO(t.id, t.name) from TopicEntity t order by t.id")
+    List<TopicDTO> findAllTopics();
+
+    /**
+     * Same rows as findAllTopics(), read through an open cursor instead of a list.
+     * Must be consumed inside a transaction and closed (try-with-resources).
+     * Rows are fetched 1000 at a time; MySQL only honours that with useCursorFetch=true in the URL.
+     *
+     * @return A lazily fetched stream of topics.
+     */
+    @Query("select new com.argumentation.backendapi.model.TopicDTO(t.id, t.name) from TopicEntity t order by t.id")
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    Stream<TopicDTO> streamAllTopics();
+
+    /**
+     * Keyset page of topics: the first {@code limit} topics with an ID above {@code afterId}.
+     * Seeks on the primary key, so every page costs the same.
+     *
+     * @param afterId Last ID of the previous page (0 for the first page).
+     * @param limit   Maximum number of rows.
+     * @return Topics in ID order.
+     */
+    @Query("select new com.argumentation.backendapi.model.TopicDTO(t.id, t.name) from TopicEntity t "
+            + "where t.id > :afterId order by t.id")
+    List<TopicDTO> findTopicsAfter(@Param("afterId") int afterId, Limit limit);
 }
@@ -0,0 +1,370 @@
+package com.argumentation.backendapi.search;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * InvertedIndex
+ * --------------
+ * In-memory full-text index over statement texts and topic names.
+ *
+ * Layout:
+ *   - Documents get sequential numbers; per document we keep its type
+ *     (statement/topic), database ID and length in terms.
+ *   - The dictionary is a sorted map term → Postings, so a prefix query is a
+ *     range scan (subMap(prefix, prefix + Character.MAX_VALUE)).
+ *   - Postings are delta + varint compressed, in blocks that carry the
+ *     data for a per-block upper bound on BM25 (see Postings).
+ *
+ * Querying:
+ *   - The query is tokenized like the documents. Unless it ends with a space,
+ *     its last term (if at least MIN_PREFIX_LENGTH long) is a prefix and
+ *     expands to up to MAX_EXPANSIONS dictionary terms (the most frequent
+ *     ones), so "nucl ener" finds "nuclear energy".
+ *   - Matching is disjunctive and scored with Okapi BM25 (k1 = 1.2, b = 0.75).
+ *     Postings are merged document-at-a-time over the term cursors and the
+ *     best {@code limit} documents are kept in a bounded heap, so memory per
+ *     query is O(terms + limit) regardless of the corpus size.
+ *   - Once the heap is full, a stretch of documents whose summed block
+ *     bounds cannot beat the weakest kept hit is skipped block by block
+ *     without decoding (block-max pruning), which keeps queries on very
+ *     common terms fast.
+ *
+ * Concurrency: many readers or one writer (ReentrantReadWriteLock).
+ * Documents can be appended at any time; they are never removed. A
+ * statement ID is indexed at most once.
+ */
+public final class InvertedIndex {
+
+    public static final byte TYPE_STATEMENT = 0;
+    public static final byte TYPE_TOPIC = 1;
+
+    /** Dictionary terms a trailing prefix may expand to */
+    public static final int MAX_EXPANSIONS = 16;
+
+    /** Shorter trailing terms are matched exactly (a 1-2 letter prefix matches too much to be useful) */
+    public static final int MIN_PREFIX_LENGTH = 3;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, Postings> dictionary = new TreeMap<>();
+
+    private int docCount;
+    private byte[] docType = new byte[1024];
+    private int[] docKey = new int[1024];
+    private int[] docLength = new int[1024];
+    private long totalLength;
+
+    /** Statement IDs already indexed (IDs are dense, so a bit per ID up to the largest) */
+    private final BitSet statementIds = new BitSet();
+
+    /** Topic names by document number (topics are few, statements are fetched by ID instead) */
+    private final Map<Integer, String> topicNames = new HashMap<>();
+
+    /**
+     * A ranked match.
+     *
+     * @param type  TYPE_STATEMENT or TYPE_TOPIC
+     * @param id    Statement ID or topic ID
+     * @param score BM25 score
+     * @param name  Topic name for topic hits, null for statements
+     */
+    public record Hit(byte type, int id, double score, String name) {
+    }
+
+    // ────────────────────────────────
+    // Writing
+    // ────────────────────────────────
+
+    /**
+     * Indexes a statement unless its ID is already indexed.
+     *
+     * @return false if the statement was indexed before.
+     */
+    public boolean addStatement(int statementId, String text) {
+        return add(TYPE_STATEMENT, statementId, text) >= 0;
+    }
+
+    public void addTopic(int topicId, String name) {
+        int doc = add(TYPE_TOPIC, topicId, name);
+        lock.writeLock().lock();
+        try {
+            topicNames.put(doc, name);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** @return The new document number, or -1 for a statement that is already indexed. */
+    private int add(byte type, int key, String text) {
+        // Count term frequencies outside the lock
+        Map<String, Integer> frequencies = new HashMap<>();
+        Tokenizer.tokenize(text, term -> frequencies.merge(term, 1, Integer::sum));
+        int length = 0;
+        for (int f : frequencies.values()) {
+            length += f;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (type == TYPE_STATEMENT) {
+                if (statementIds.get(key)) {
+                    return -1;
+                }
+                statementIds.set(key);
+            }
+            int doc = docCount++;
+            if (doc == docType.length) {
+                int capacity = doc + (doc >> 1);
+                docType = Arrays.copyOf(docType, capacity);
+                docKey = Arrays.copyOf(docKey, capacity);
+                docLength = Arrays.copyOf(docLength, capacity);
+            }
+            docType[doc] = type;
+            docKey[doc] = key;
+            docLength[doc] = length;
+            totalLength += length;
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                dictionary.computeIfAbsent(entry.getKey(), t -> new Postings()).add(doc, entry.getValue(), length);
+            }
+            return doc;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Releases slack in the postings arrays once a bulk build is done. */
+    public void trim() {
+        lock.writeLock().lock();
+        try {
+            for (Postings postings : dictionary.values()) {
+                postings.trim();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ────────────────────────────────
+    // Querying
+    // ────────────────────────────────
+
+    /**
+     * @param query Free text; the last term is treated as a prefix unless the query ends with whitespace.
+     * @param limit Maximum number of hits.
+     * @return Hits ordered by descending score.
+     */
+    public List<Hit> search(String query, int limit) {
+        List<String> terms = Tokenizer.tokens(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        boolean prefixLast = !Character.isWhitespace(query.charAt(query.length() - 1));
+
+        lock.readLock().lock();
+        try {
+            if (docCount == 0) {
+                return List.of();
+            }
+            double averageLength = Math.max(1.0, (double) totalLength / docCount);
+
+            // One weighted cursor per distinct dictionary term
+            Map<String, Postings> matched = new LinkedHashMap<>();
+            for (int i = 0; i < terms.size(); i++) {
+                String term = terms.get(i);
+                if (prefixLast && i == terms.size() - 1 && term.length() >= MIN_PREFIX_LENGTH) {
+                    expand(term, matched);
+                } else {
+                    Postings postings = dictionary.get(term);
+                    if (postings != null) {
+                        matched.put(term, postings);
+                    }
+                }
+            }
+            if (matched.isEmpty()) {
+                return List.of();
+            }
+
+            TermCursor[] cursors = new TermCursor[matched.size()];
+            int live = 0;
+            for (Postings postings : matched.values()) {
+                cursors[live++] = new TermCursor(postings.cursor(), idf(postings.docFrequency()), averageLength);
+            }
+
+            // Document-at-a-time merge; keep the best `limit` documents in a min-heap.
+            // Work proceeds in windows [doc, boundary] that lie inside the current block of every cursor.
+            PriorityQueue<Scored> best = new PriorityQueue<>(limit + 1, WORST_FIRST);
+            double threshold = Double.NEGATIVE_INFINITY;
+            while (live > 0) {
+                int boundary = Integer.MAX_VALUE;
+                for (int i = 0; i < live; i++) {
+                    boundary = Math.min(boundary, cursors[i].cursor.blockLastDoc());
+                }
+
+                // Block-max pruning: skip the window if no document in it can beat the weakest kept hit
+                if (best.size() == limit) {
+                    double upperBound = 0;
+                    for (int i = 0; i < live; i++) {
+                        if (cursors[i].cursor.doc() <= boundary) {
+                            upperBound += cursors[i].blockBound();
+                        }
+                    }
+                    if (upperBound <= threshold) {
+                        for (int i = 0; i < live; i++) {
+                            TermCursor c = cursors[i];
+                            if (c.cursor.doc() <= boundary) {
+                                c.cursor.advance(boundary + 1);
+                                if (c.cursor.doc() == Integer.MAX_VALUE) {
+                                    cursors[i--] = cursors[--live]; // drop the exhausted cursor
+                                }
+                            }
+                        }
+                        continue;
+                    }
+                }
+
+                // Score every document of the window
+                while (live > 0) {
+                    int doc = Integer.MAX_VALUE;
+                    for (int i = 0; i < live; i++) {
+                        doc = Math.min(doc, cursors[i].cursor.doc());
+                    }
+                    if (doc > boundary) {
+                        break;
+                    }
+                    double norm = K1 * (1 - B + B * docLength[doc] / averageLength);
+                    double score = 0;
+                    for (int i = 0; i < live; i++) {
+                        TermCursor c = cursors[i];
+                        if (c.cursor.doc() != doc) {
+                            continue;
+                        }
+                        int tf = c.cursor.frequency();
+                        score += c.idf * tf * (K1 + 1) / (tf + norm);
+                        c.cursor.next();
+                        if (c.cursor.doc() == Integer.MAX_VALUE) {
+                            cursors[i--] = cursors[--live]; // drop the exhausted cursor
+                        }
+                    }
+                    if (score > threshold) {
+                        best.add(new Scored(doc, score));
+                        if (best.size() > limit) {
+                            best.poll();
+                        }
+                        if (best.size() == limit) {
+                            threshold = best.peek().score();
+                        }
+                    }
+                }
+            }
+
+            Hit[] hits = new Hit[best.size()];
+            for (int i = hits.length - 1; i >= 0; i--) {
+                Scored e = best.poll();
+                int doc = e.doc();
+                hits[i] = new Hit(docType[doc], docKey[doc], e.score(),
+                        docType[doc] == TYPE_TOPIC ? topicNames.get(doc) : null);
+            }
+            return List.of(hits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Adds the most frequent dictionary terms starting with {@code prefix}. */
+    private void expand(String prefix, Map<String, Postings> matched) {
+        SortedMap<String, Postings> range = dictionary.subMap(prefix, prefix + Character.MAX_VALUE);
+        if (range.size() <= MAX_EXPANSIONS) {
+            matched.putAll(range);
+            return;
+        }
+        PriorityQueue<Map.Entry<String, Postings>> top = new PriorityQueue<>(MAX_EXPANSIONS + 1,
+                Comparator.comparingInt(e -> e.getValue().docFrequency()));
+        for (Map.Entry<String, Postings> entry : range.entrySet()) {
+            top.add(entry);
+            if (top.size() > MAX_EXPANSIONS) {
+                top.poll();
+            }
+        }
+        Postings exact = range.get(prefix);
+        if (exact != null) {
+            matched.put(prefix, exact); // the typed word itself always counts
+        }
+        for (Map.Entry<String, Postings> entry : top) {
+            matched.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private double idf(int docFrequency) {
+        return Math.log(1 + (docCount - docFrequency + 0.5) / (docFrequency + 0.5));
+    }
+
+    // ────────────────────────────────
+    // Statistics
+    // ────────────────────────────────
+
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return docCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return dictionary.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Bytes held by compressed postings. */
+    public long postingsBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (Postings postings : dictionary.values()) {
+                bytes += postings.sizeInBytes();
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Heap order for the best hits: lowest score on top, later document first among equals */
+    private static final Comparator<Scored> WORST_FIRST =
+            Comparator.comparingDouble(Scored::score).thenComparing(Scored::doc, Comparator.reverseOrder());
+
+    private record Scored(int doc, double score) {
+    }
+
+    /** A postings cursor with its term's IDF and a cached BM25 bound for its current block */
+    private static final class TermCursor {
+        final Postings.Cursor cursor;
+        final double idf;
+        final double averageLength;
+        int boundBlock = -1;
+        double bound;
+
+        TermCursor(Postings.Cursor cursor, double idf, double averageLength) {
+            this.cursor = cursor;
+            this.idf = idf;
+            this.averageLength = averageLength;
+        }
+
+        /** Highest BM25 contribution any document of the current block can get. */
+        double blockBound() {
+            if (boundBlock != cursor.block()) {
+                boundBlock = cursor.block();
+                bound = idf * (K1 + 1) * cursor.blockMaxSaturation(K1, B, averageLength);
+            }
+            return bound;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.argumentation.backendapi.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * LshIndex
+ * ---------
+ * Locality-sensitive hashing over MinHash signatures: every signature is
+ * filed under one bucket per band, and a lookup only compares against the
+ * signatures that share at least one bucket with the probe. The cost of a
+ * lookup therefore depends on how many similar texts exist, not on how many
+ * texts are indexed.
+ *
+ * Each ID is indexed at most once. Not thread-safe; callers synchronize on
+ * the instance.
+ */
+public final class LshIndex {
+
+    /** Indexed statement IDs and their signatures, by entry number */
+    private int[] ids = new int[8];
+    private int[][] signatures = new int[8][];
+    private int size;
+
+    /** Band key → entry numbers filed under it */
+    private final Map<Long, int[]> buckets = new HashMap<>();
+
+    private final Set<Integer> indexedIds = new HashSet<>();
+
+    /** A similar entry and its estimated Jaccard similarity */
+    public record Match(int id, double similarity) {
+    }
+
+    /**
+     * Files a signature under its band buckets.
+     *
+     * @return false (and nothing changes) if the ID is already indexed.
+     */
+    public boolean add(int id, int[] signature) {
+        if (!indexedIds.add(id)) {
+            return false;
+        }
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+            signatures = Arrays.copyOf(signatures, size * 2);
+        }
+        int entry = size++;
+        ids[entry] = id;
+        signatures[entry] = signature;
+        for (int band = 0; band < MinHash.BANDS; band++) {
+            // Bucket arrays hold their length in slot 0
+            buckets.merge(MinHash.bandKey(signature, band), new int[]{1, entry}, LshIndex::append);
+        }
+        return true;
+    }
+
+    /**
+     * @return The most similar indexed entry with similarity ≥ threshold, or null.
+     */
+    public Match mostSimilar(int[] signature, double threshold) {
+        Match best = null;
+        BitSet seen = new BitSet();
+        for (int band = 0; band < MinHash.BANDS; band++) {
+            int[] bucket = buckets.get(MinHash.bandKey(signature, band));
+            if (bucket == null) {
+                continue;
+            }
+            for (int k = 1; k <= bucket[0]; k++) {
+                int entry = bucket[k];
+                // A candidate usually shares several bands; compare it once
+                if (seen.get(entry)) {
+                    continue;
+                }
+                seen.set(entry);
+
+                double similarity = MinHash.similarity(signature, signatures[entry]);
+                if (similarity >= threshold && (best == null || similarity > best.similarity())) {
+                    best = new Match(ids[entry], similarity);
+                }
+            }
+        }
+        return best;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static int[] append(int[] bucket, int[] single) {
+        int count = bucket[0];
+        if (count + 1 == bucket.length) {
+            bucket = Arrays.copyOf(bucket, bucket.length * 2);
+        }
+        bucket[count + 1] = single[1];
+        bucket[0] = count + 1;
+        return bucket;
+    }
+}
@@ -0,0 +1,113 @@
+package com.argumentation.backendapi.search;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * MinHash
+ * --------
+ * Fixed-length MinHash signatures of short texts, for near-duplicate checks.
+ *
+ * A text is reduced to its set of word bigrams (shingles), using the same
+ * Tokenizer as the search index, so case, punctuation and stop words do not
+ * matter. A single-word text uses the word itself. Slot i of the signature
+ * holds the minimum of the i-th hash function over all shingles. The share
+ * of equal slots in two signatures estimates the Jaccard similarity of the
+ * shingle sets (standard error ~ 1/sqrt(SIGNATURE_LENGTH), about 0.06).
+ *
+ * The SIGNATURE_LENGTH slots split into BANDS bands of ROWS slots for LSH
+ * bucketing (see LshIndex). Two texts of Jaccard similarity s share at least
+ * one band with probability 1 - (1 - s^ROWS)^BANDS: 0.9998 at s = 0.8 and
+ * 0.07 at s = 0.3.
+ */
+public final class MinHash {
+
+    public static final int SIGNATURE_LENGTH = 64;
+    public static final int BANDS = 16;
+    public static final int ROWS = SIGNATURE_LENGTH / BANDS;
+
+    /** Odd multipliers and offsets of the hash family h_i(x) = (a_i·x + b_i) >>> 32 */
+    private static final long[] MULTIPLIERS = new long[SIGNATURE_LENGTH];
+    private static final long[] OFFSETS = new long[SIGNATURE_LENGTH];
+
+    static {
+        long state = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            state = mix(state + 0x9E3779B97F4A7C15L);
+            MULTIPLIERS[i] = state | 1;
+            state = mix(state + 0x9E3779B97F4A7C15L);
+            OFFSETS[i] = state;
+        }
+    }
+
+    private MinHash() {}
+
+    /**
+     * @return The signature of {@code text}, or null if it has no terms (blank or stop words only).
+     */
+    public static int[] signature(String text) {
+        List<String> terms = Tokenizer.tokens(text);
+        if (terms.isEmpty()) {
+            return null;
+        }
+        int[] signature = new int[SIGNATURE_LENGTH];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        if (terms.size() == 1) {
+            update(signature, hash(terms.get(0), ""));
+        }
+        for (int i = 1; i < terms.size(); i++) {
+            update(signature, hash(terms.get(i - 1), terms.get(i)));
+        }
+        return signature;
+    }
+
+    /** Estimated Jaccard similarity: the share of equal slots. */
+    public static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / SIGNATURE_LENGTH;
+    }
+
+    /** Bucket key of one band: its ROWS slots hashed together with the band number. */
+    public static long bandKey(int[] signature, int band) {
+        long key = band;
+        for (int i = band * ROWS; i < (band + 1) * ROWS; i++) {
+            key = mix(key * 31 + signature[i]);
+        }
+        return key;
+    }
+
+    private static void update(int[] signature, long shingle) {
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            // Unsigned high half, shifted to stay non-negative as an int
+            int h = (int) ((MULTIPLIERS[i] * shingle + OFFSETS[i]) >>> 33);
+            if (h < signature[i]) {
+                signature[i] = h;
+            }
+        }
+    }
+
+    /** 64-bit FNV-1a over both words, finished with a mixer so that nearby inputs spread. */
+    private static long hash(String first, String second) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < first.length(); i++) {
+            h = (h ^ first.charAt(i)) * 0x100000001B3L;
+        }
+        h = (h ^ ' ') * 0x100000001B3L;
+        for (int i = 0; i < second.length(); i++) {
+            h = (h ^ second.charAt(i)) * 0x100000001B3L;
+        }
+        return mix(h);
+    }
+
+    /** SplitMix64 finalizer */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,250 @@
+package com.argumentation.backendapi.search;
+
+import java.util.Arrays;
+
+/**
+ * Postings
+ * ---------
+ * Compressed postings list of one term: (document, term frequency) pairs in
+ * increasing document order, stored as varint-encoded document gaps followed
+ * by varint-encoded frequencies. Typical lists take 2-3 bytes per posting.
+ *
+ * The list is cut into blocks of BLOCK_SIZE postings. Per block we keep its
+ * byte offset and last document (to jump over it without decoding) and up to
+ * IMPACTS competitive (term frequency, document length) pairs: the Pareto
+ * front of high frequency / short document, from which an upper bound on the
+ * BM25 score of every document in the block follows (block-max pruning).
+ * When the front has more pairs than fit, the two weakest are merged into
+ * one pair that dominates both, which keeps the bound valid.
+ *
+ * Documents must be appended in increasing order (the index hands out
+ * document numbers sequentially, so this always holds).
+ */
+final class Postings {
+
+    static final int BLOCK_SIZE = 128;
+
+    /** Competitive (frequency, length) pairs kept per block */
+    static final int IMPACTS = 4;
+
+    private byte[] data = new byte[8];
+    private int length;
+    private int lastDoc = -1;
+    private int docFrequency;
+
+    private int blockCount;
+    private int[] blockOffset = new int[1];
+    private int[] blockLastDoc = new int[1];
+    private int[] impactCount = new int[1];
+    private int[] impactFrequency = new int[IMPACTS];
+    private int[] impactLength = new int[IMPACTS];
+
+    void add(int doc, int frequency, int docLength) {
+        if (docFrequency % BLOCK_SIZE == 0) {
+            startBlock();
+        }
+        ensureCapacity(10);
+        writeVarint(doc - lastDoc);
+        writeVarint(frequency);
+        lastDoc = doc;
+        docFrequency++;
+
+        int b = blockCount - 1;
+        blockLastDoc[b] = doc;
+        addImpact(b, frequency, docLength);
+    }
+
+    /** Adds (frequency, length) to the block's Pareto front of competitive pairs. */
+    private void addImpact(int b, int frequency, int docLength) {
+        int base = b * IMPACTS;
+        int count = impactCount[b];
+        for (int i = 0; i < count; i++) {
+            if (impactFrequency[base + i] >= frequency && impactLength[base + i] <= docLength) {
+                return; // dominated by a pair already kept
+            }
+        }
+        // Drop pairs the new one dominates
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            if (!(frequency >= impactFrequency[base + i] && docLength <= impactLength[base + i])) {
+                impactFrequency[base + kept] = impactFrequency[base + i];
+                impactLength[base + kept] = impactLength[base + i];
+                kept++;
+            }
+        }
+        if (kept == IMPACTS) {
+            // Full: fold the last two pairs into one that dominates both
+            impactFrequency[base + kept - 2] = Math.max(impactFrequency[base + kept - 2], impactFrequency[base + kept - 1]);
+            impactLength[base + kept - 2] = Math.min(impactLength[base + kept - 2], impactLength[base + kept - 1]);
+            kept--;
+        }
+        impactFrequency[base + kept] = frequency;
+        impactLength[base + kept] = docLength;
+        impactCount[b] = kept + 1;
+    }
+
+    private void startBlock() {
+        if (blockCount == blockOffset.length) {
+            int capacity = blockCount * 2;
+            blockOffset = Arrays.copyOf(blockOffset, capacity);
+            blockLastDoc = Arrays.copyOf(blockLastDoc, capacity);
+            impactCount = Arrays.copyOf(impactCount, capacity);
+            impactFrequency = Arrays.copyOf(impactFrequency, capacity * IMPACTS);
+            impactLength = Arrays.copyOf(impactLength, capacity * IMPACTS);
+        }
+        blockOffset[blockCount] = length;
+        impactCount[blockCount] = 0;
+        blockCount++;
+    }
+
+    int docFrequency() {
+        return docFrequency;
+    }
+
+    long sizeInBytes() {
+        return length + blockCount * (12L + 8L * IMPACTS);
+    }
+
+    /** Shrinks the backing arrays to their content (after a bulk build). */
+    void trim() {
+        int blocks = Math.max(1, blockCount);
+        data = Arrays.copyOf(data, length);
+        blockOffset = Arrays.copyOf(blockOffset, blocks);
+        blockLastDoc = Arrays.copyOf(blockLastDoc, blocks);
+        impactCount = Arrays.copyOf(impactCount, blocks);
+        impactFrequency = Arrays.copyOf(impactFrequency, blocks * IMPACTS);
+        impactLength = Arrays.copyOf(impactLength, blocks * IMPACTS);
+    }
+
+    Cursor cursor() {
+        return new Cursor(this);
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > data.length) {
+            data = Arrays.copyOf(data, Math.max(length + extra, data.length + (data.length >> 1)));
+        }
+    }
+
+    private void writeVarint(int value) {
+        while ((value & ~0x7F) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+    /**
+     * Forward iterator over a snapshot of the list (postings appended later
+     * are not seen). {@link #doc()} is Integer.MAX_VALUE once exhausted.
+     */
+    static final class Cursor {
+
+        private final byte[] data;
+        private final int end;
+        private final int blockCount;
+        private final int[] blockOffset;
+        private final int[] blockLastDoc;
+        private final int[] impactCount;
+        private final int[] impactFrequency;
+        private final int[] impactLength;
+
+        private int block;
+        private int position;
+        private int doc = -1;
+        private int frequency;
+
+        Cursor(Postings postings) {
+            this.data = postings.data;
+            this.end = postings.length;
+            this.blockCount = postings.blockCount;
+            this.blockOffset = postings.blockOffset;
+            this.blockLastDoc = postings.blockLastDoc;
+            this.impactCount = postings.impactCount;
+            this.impactFrequency = postings.impactFrequency;
+            this.impactLength = postings.impactLength;
+            next();
+        }
+
+        int doc() {
+            return doc;
+        }
+
+        int frequency() {
+            return frequency;
+        }
+
+        /** Current block index (changes whenever the cursor enters another block). */
+        int block() {
+            return block;
+        }
+
+        /** Last document of the current block. */
+        int blockLastDoc() {
+            return blockLastDoc[block];
+        }
+
+        /**
+         * Highest value of tf / (tf + k1 · (1 - b + b · length / averageLength))
+         * over the current block; multiplied by idf · (k1 + 1) it bounds BM25.
+         */
+        double blockMaxSaturation(double k1, double b, double averageLength) {
+            double max = 0;
+            int base = block * IMPACTS;
+            for (int i = 0; i < impactCount[block]; i++) {
+                int tf = impactFrequency[base + i];
+                max = Math.max(max, tf / (tf + k1 * (1 - b + b * impactLength[base + i] / averageLength)));
+            }
+            return max;
+        }
+
+        void next() {
+            if (position >= end) {
+                doc = Integer.MAX_VALUE;
+                return;
+            }
+            if (block + 1 < blockCount && position == blockOffset[block + 1]) {
+                block++;
+            }
+            doc += readVarint();
+            frequency = readVarint();
+        }
+
+        /** Moves to the first document ≥ target, jumping over whole blocks that end before it. */
+        void advance(int target) {
+            while (doc < target) {
+                if (blockLastDoc[block] < target) {
+                    nextBlock();
+                } else {
+                    next();
+                }
+            }
+        }
+
+        /** Jumps to the first posting of the following block without decoding the rest of this one. */
+        private void nextBlock() {
+            if (block + 1 >= blockCount) {
+                doc = Integer.MAX_VALUE;
+                position = end;
+                return;
+            }
+            doc = blockLastDoc[block];
+            block++;
+            position = blockOffset[block];
+            doc += readVarint();
+            frequency = readVarint();
+        }
+
+        private int readVarint() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+}
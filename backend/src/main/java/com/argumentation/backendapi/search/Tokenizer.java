@@ -0,0 +1,60 @@
+package com.argumentation.backendapi.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Tokenizer
+ * ----------
+ * Splits text into lower-case terms for the search index.
+ *
+ * Rules:
+ *   - a term is a maximal run of letters/digits (Unicode aware)
+ *   - terms are lower-cased with the root locale
+ *   - terms longer than MAX_TOKEN_LENGTH are cut (URLs, hashes, ...)
+ *   - a short list of English stop words is dropped; their postings would
+ *     be huge while contributing next to nothing to BM25 scores
+ * Indexing and querying use the same rules, so they always agree.
+ */
+public final class Tokenizer {
+
+    /** Longer runs are truncated to this many characters */
+    public static final int MAX_TOKEN_LENGTH = 32;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "have", "in",
+            "is", "it", "its", "of", "on", "or", "that", "the", "this", "to", "was", "were", "will", "with");
+
+    private Tokenizer() {}
+
+    /** Feeds every term of {@code text} to {@code sink}, in order (duplicates included). */
+    public static void tokenize(String text, Consumer<String> sink) {
+        if (text == null) {
+            return;
+        }
+        StringBuilder term = new StringBuilder(MAX_TOKEN_LENGTH);
+        int length = text.length();
+        for (int i = 0; i <= length; i++) {
+            char c = i < length ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                if (term.length() < MAX_TOKEN_LENGTH) {
+                    term.append(Character.toLowerCase(c));
+                }
+            } else if (!term.isEmpty()) {
+                String token = term.toString();
+                if (!STOP_WORDS.contains(token)) {
+                    sink.accept(token);
+                }
+                term.setLength(0);
+            }
+        }
+    }
+
+    public static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        tokenize(text, tokens::add);
+        return tokens;
+    }
+}
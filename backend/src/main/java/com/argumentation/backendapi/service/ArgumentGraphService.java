@@ -0,0 +1,32 @@
+package com.argumentation.backendapi.service;
+
+import com.argumentation.backendapi.graph.ArgumentGraph;
+
+import java.util.Optional;
+
+/**
+ * ArgumentGraphService
+ * ---------------------
+ * Owns the in-memory {@link ArgumentGraph}: loads it from the database,
+ * keeps it in step with rebuttals once they commit, and hands it to the
+ * read paths (structured arguments, rebuttal listings, argument trees).
+ *
+ * Implemented by: ArgumentGraphServiceImpl
+ */
+public interface ArgumentGraphService {
+
+    /**
+     * Returns the current graph if it is loaded and reads may be served from it.
+     * Callers fall back to the repositories when this is empty.
+     */
+    Optional<ArgumentGraph> readGraph();
+
+    /**
+     * Returns the current graph whenever it is loaded, regardless of whether
+     * reads are served from it (used by analyses such as acceptability semantics).
+     */
+    Optional<ArgumentGraph> graph();
+
+    /** Rebuilds the graph from the database and swaps it in atomically. */
+    void reload();
+}
@@ -0,0 +1,25 @@
+package com.argumentation.backendapi.service;
+
+import com.argumentation.backendapi.model.TreeNodeDTO;
+
+/**
+ * ArgumentTreeService
+ * --------------------
+ * Defines the contract for materializing the full argument tree of a topic
+ * (root claim → premises and rebuttals → their premises and rebuttals → ...)
+ * so the frontend can render it from a single API response.
+ *
+ * Implemented by: ArgumentTreeServiceImpl
+ */
+public interface ArgumentTreeService {
+
+    /**
+     * Builds the argument tree rooted at the given topic's root claim.
+     *
+     * @param topicName The topic name (e.g., "Television").
+     * @param maxDepth  How many levels below the root claim to expand.
+     * @param maxFanOut How many children to keep per node.
+     * @return The root node of the tree.
+     */
+    TreeNodeDTO buildTree(String topicName, int maxDepth, int maxFanOut);
+}
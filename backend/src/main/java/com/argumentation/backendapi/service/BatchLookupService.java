@@ -0,0 +1,26 @@
+package com.argumentation.backendapi.service;
+
+import com.argumentation.backendapi.model.BatchLookupResponse;
+
+import java.util.Collection;
+
+/**
+ * BatchLookupService
+ * -------------------
+ * Resolves many tree nodes in one call: claim → argument IDs, the
+ * justifications of those (and any further) arguments, and the rebuttals
+ * of the claims. Replaces one argument-by-claim, justifications and
+ * rebuttals request per node.
+ *
+ * Implemented by: BatchLookupServiceImpl
+ */
+public interface BatchLookupService {
+
+    /**
+     * @param claimIds    Claims to resolve (null entries and duplicates are ignored).
+     * @param argumentIds Additional arguments whose justifications are wanted (may be null).
+     * @return The lookups for all of them.
+     * @throws IllegalArgumentException if more IDs are requested than argumentation.batch.max-ids.
+     */
+    BatchLookupResponse lookup(Collection<Integer> claimIds, Collection<Integer> argumentIds);
+}
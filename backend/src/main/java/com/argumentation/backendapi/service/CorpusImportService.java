@@ -0,0 +1,22 @@
+package com.argumentation.backendapi.service;
+
+import com.argumentation.backendapi.model.ImportSummary;
+
+import java.nio.file.Path;
+
+/**
+ * CorpusImportService
+ * --------------------
+ * Bulk-loads external argument corpora into the statements / arguments /
+ * premises / topics / sources tables.
+ *
+ * Implemented by: CorpusImportServiceImpl
+ */
+public interface CorpusImportService {
+
+    /**
+     * Streams an args.me JSON corpus into the database.
+     * Publishes a CorpusImportedEvent once all rows are committed.
+     */
+    ImportSummary importArgsMe(Path file);
+}
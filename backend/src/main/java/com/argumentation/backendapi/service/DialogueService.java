@@ -0,0 +1,38 @@
+package com.argumentation.backendapi.service;
+
+import com.argumentation.backendapi.model.DialogueMoveRequest;
+import com.argumentation.backendapi.model.DialogueStateDTO;
+
+import java.util.Optional;
+
+/**
+ * DialogueService
+ * ----------------
+ * Runs debate sessions on the server: opens them on a topic's root claim,
+ * validates and applies moves (see DialogueRules), and reports their state.
+ *
+ * Implemented by: DialogueServiceImpl
+ */
+public interface DialogueService {
+
+    /**
+     * Opens a session; the proponent's root claim is the first move.
+     *
+     * @param topicName The topic name (e.g., "Television").
+     */
+    DialogueStateDTO start(String topicName);
+
+    /** @return The session's state, or empty if it does not exist (or expired). */
+    Optional<DialogueStateDTO> get(String sessionId);
+
+    /**
+     * Validates and applies a move.
+     *
+     * @return The state after the move, or empty if the session does not exist.
+     * @throws com.argumentation.backendapi.dialogue.IllegalMoveException if the move breaks the rules.
+     */
+    Optional<DialogueStateDTO> move(String sessionId, DialogueMoveRequest request);
+
+    /** Discards a session. @return false if it did not exist. */
+    boolean end(String sessionId);
+}
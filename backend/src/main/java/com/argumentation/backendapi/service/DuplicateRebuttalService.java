@@ -0,0 +1,53 @@
+package com.argumentation.backendapi.service;
+
+import com.argumentation.backendapi.search.LshIndex;
+
+import java.util.Optional;
+
+/**
+ * DuplicateRebuttalService
+ * -------------------------
+ * Detects rebuttals that say (nearly) the same as one the target claim
+ * already has, so hot claims do not collect hundreds of copies.
+ *
+ * Implemented by: DuplicateRebuttalServiceImpl
+ */
+public interface DuplicateRebuttalService {
+
+    /** What RebuttalService does with a near-duplicate */
+    enum Mode {
+        /** No detection */
+        OFF,
+        /** Save it anyway and report the rebuttal it resembles */
+        FLAG,
+        /** Save nothing and answer with the existing rebuttal */
+        MERGE
+    }
+
+    Mode mode();
+
+    /**
+     * @param targetId ID of the statement being rebutted.
+     * @param text     Text of the new rebuttal.
+     * @return The most similar existing rebuttal of the target above the configured
+     *         threshold; empty if there is none or detection is off.
+     */
+    Optional<LshIndex.Match> findDuplicate(int targetId, String text);
+
+    /**
+     * Starts detection for the rebuttals of one bulk request. They share a
+     * transaction, so none of them is in the committed indexes yet; the
+     * batch also compares each one against those saved before it.
+     */
+    Batch batch();
+
+    /** Duplicate detection within one bulk request */
+    interface Batch {
+
+        /** Like findDuplicate, also matching rebuttals added to this batch. */
+        Optional<LshIndex.Match> findDuplicate(int targetId, String text);
+
+        /** Records a rebuttal saved by this request. */
+        void add(int targetId, int statementId, String text);
+    }
+}
@@ -1,9 +1,12 @@
 package com.argumentation.backendapi.service;
 
+import com.argumentation.backendapi.model.KeysetPage;
 import com.argumentation.backendapi.model.RebuttalCreateRequest;
 import com.argumentation.backendapi.model.RebuttalCreateResponse;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * RebuttalService
@@ -25,6 +28,14 @@ public interface RebuttalService {
      */
     RebuttalCreateResponse createRebuttal(RebuttalCreateRequest request);
 
+    /**
+     * Creates several rebuttals in one transaction (all or none).
+     *
+     * @param requests One request per rebuttal, as for createRebuttal.
+     * @return The responses, in the order of the requests.
+     */
+    List<RebuttalCreateResponse> createRebuttals(List<RebuttalCreateRequest> requests);
+
     /**
      * Retrieves all rebuttals (counter-statements) associated with a target claim.
      *
@@ -32,4 +43,23 @@ public interface RebuttalService {
      * @return A list of RebuttalCreateResponse objects representing rebuttals to that claim.
      */
     List<RebuttalCreateResponse> getRebuttalsForTarget(Integer targetClaimId);
+
+    /**
+     * Retrieves the rebuttals of many target claims at once.
+     *
+     * @param targetClaimIds The IDs of the claims being rebutted.
+     * @return A map from each requested target ID to its rebuttals (empty list if it has none),
+     *         in the order the IDs were given.
+     */
+    Map<Integer, List<RebuttalCreateResponse>> getRebuttalsForTargets(Collection<Integer> targetClaimIds);
+
+    /**
+     * Retrieves one page of a target claim's rebuttals, in statement ID order.
+     *
+     * @param targetClaimId The ID of the claim being rebutted.
+     * @param afterId       Last statement ID of the previous page (0 for the first page).
+     * @param limit         Maximum number of rebuttals on the page.
+     * @return The page, with the ID to continue after if more rebuttals follow.
+     */
+    KeysetPage<RebuttalCreateResponse> getRebuttalPage(Integer targetClaimId, int afterId, int limit);
 }
@@ -0,0 +1,26 @@
+package com.argumentation.backendapi.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * RebuttalStreamService
+ * ----------------------
+ * Pushes newly committed rebuttals of a claim to subscribed clients over
+ * Server-Sent Events, so viewers no longer poll GET /api/rebuttals.
+ *
+ * Implemented by: RebuttalStreamServiceImpl
+ */
+public interface RebuttalStreamService {
+
+    /**
+     * Opens a stream of the rebuttals that target {@code targetClaimId}.
+     *
+     * @param targetClaimId The claim whose rebuttals are wanted.
+     * @param lastEventId   Last-Event-ID sent by a reconnecting EventSource, or null; rebuttals
+     *                      committed after that event are sent first (or a resync, if they
+     *                      are no longer kept).
+     * @return The emitter to return from the controller.
+     * @throws IllegalStateException when the subscriber limit is reached
+     */
+    SseEmitter subscribe(Integer targetClaimId, String lastEventId);
+}
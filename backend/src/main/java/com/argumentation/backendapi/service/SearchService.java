@@ -0,0 +1,26 @@
+package com.argumentation.backendapi.service;
+
+import com.argumentation.backendapi.model.SearchHitDTO;
+
+import java.util.List;
+
+/**
+ * SearchService
+ * --------------
+ * Full-text search over statement texts and topic names, answered from an
+ * in-memory inverted index instead of SQL LIKE scans.
+ *
+ * Implemented by: SearchServiceImpl
+ */
+public interface SearchService {
+
+    /**
+     * @param query Free text; the last word also matches as a prefix ("nucl" → "nuclear").
+     * @param limit Maximum number of hits (clamped to 1..MAX_LIMIT).
+     * @return Hits ordered by descending relevance.
+     */
+    List<SearchHitDTO> search(String query, int limit);
+
+    /** Rebuilds the index from the database and swaps it in. */
+    void rebuild();
+}
@@ -0,0 +1,54 @@
+package com.argumentation.backendapi.service;
+
+import com.argumentation.backendapi.model.SemanticsResponse;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * SemanticsService
+ * -----------------
+ * Computes which statements of a topic are acceptable under Dung-style
+ * argumentation semantics, treating rebuttals (statements.counter_statement)
+ * as attacks.
+ *
+ * Implemented by: SemanticsServiceImpl
+ */
+public interface SemanticsService {
+
+    /**
+     * Computes the grounded labelling of the topic's graph and, optionally,
+     * its preferred and stable extensions.
+     *
+     * @param topicName          The topic name (e.g., "Television").
+     * @param includeExtensions  Whether to search for preferred and stable extensions.
+     * @return The labels and extensions, or empty if the topic does not exist.
+     */
+    Optional<SemanticsResponse> evaluate(String topicName, boolean includeExtensions);
+
+    /**
+     * Computes how the maintained grounded labelling will change once a new
+     * rebuttal is committed, without changing it (the labelling itself is
+     * updated after commit). Labels are taken from the committed graph.
+     *
+     * @param rebuttalStatementId The new rebuttal statement (not yet in the graph).
+     * @param targetStatementId   The statement it rebuts.
+     * @return Statement ID → new label ("IN"/"OUT"/"UNDEC") for every statement whose label will change;
+     *         empty if the graph is not loaded or the target is not committed yet.
+     */
+    Map<Integer, String> previewRebuttal(int rebuttalStatementId, int targetStatementId);
+
+    /**
+     * Starts previews for the rebuttals of one bulk request, which share a
+     * transaction: each one is previewed on top of those added before it
+     * (rebuttals of earlier items included).
+     */
+    RowPreview previewRebuttals();
+
+    /** Previews of the rebuttals of one bulk request, added in request order. */
+    interface RowPreview {
+
+        /** Same result as previewRebuttal, given the rebuttals added before. */
+        Map<Integer, String> add(int rebuttalStatementId, int targetStatementId);
+    }
+}
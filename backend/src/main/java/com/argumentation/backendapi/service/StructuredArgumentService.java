@@ -0,0 +1,66 @@
+package com.argumentation.backendapi.service;
+
+import com.argumentation.backendapi.model.ClaimDTO;
+import com.argumentation.backendapi.model.KeysetPage;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * StructuredArgumentService
+ * --------------------------
+ * Defines the read operations behind StructuredArgumentController:
+ * root claim of a topic, justifications of an argument, and the
+ * claim → argument mapping used to walk the tree.
+ *
+ * Implemented by: StructuredArgumentServiceImpl
+ */
+public interface StructuredArgumentService {
+
+    /**
+     * Fetches the root claim of a topic.
+     *
+     * @param topicName The topic name (e.g., "Television").
+     * @return The claim's ID, text, and source name.
+     */
+    ClaimDTO getRootClaim(String topicName);
+
+    /**
+     * Fetches the justifications (premises) of an argument.
+     *
+     * @param argumentId The ID of the argument.
+     * @return The premises (id, text, and source).
+     */
+    List<ClaimDTO> getJustifications(Integer argumentId);
+
+    /**
+     * Hands the justifications of an argument to {@code sink} while reading
+     * them from a database cursor, so memory use does not grow with their
+     * number. Bypasses the cache and the in-memory graph.
+     *
+     * @param argumentId The ID of the argument.
+     * @param sink       Receives the premises in statement ID order.
+     * @throws RuntimeException if the argument does not exist (before sink is called).
+     */
+    void streamJustifications(Integer argumentId, Consumer<ClaimDTO> sink);
+
+    /**
+     * Fetches one page of an argument's justifications, in statement ID order.
+     *
+     * @param argumentId The ID of the argument.
+     * @param afterId    Last premise ID of the previous page (0 for the first page).
+     * @param limit      Maximum number of premises on the page.
+     * @return The page, with the ID to continue after if more premises follow.
+     * @throws RuntimeException if the argument does not exist.
+     */
+    KeysetPage<ClaimDTO> getJustificationPage(Integer argumentId, int afterId, int limit);
+
+    /**
+     * Finds the (first) argument whose claim is the given statement.
+     *
+     * @param claimId The claim (statement) ID.
+     * @return The argument ID, or empty if no argument is built on that claim.
+     */
+    Optional<Integer> findArgumentIdByClaim(Integer claimId);
+}
@@ -0,0 +1,45 @@
+package com.argumentation.backendapi.service;
+
+import com.argumentation.backendapi.model.SubtreeNodeDTO;
+import com.argumentation.backendapi.model.SubtreeStatsDTO;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SubtreeService
+ * ---------------
+ * Subtree queries on the argument graph (a statement's premises, rebuttals,
+ * and theirs, to any depth), answered from the statement_closure table.
+ *
+ * Implemented by: SubtreeServiceImpl
+ */
+public interface SubtreeService {
+
+    /**
+     * Descendants of a statement, nearest first (by depth, then ID).
+     *
+     * @param statementId The statement whose subtree is wanted.
+     * @param maxDepth    Deepest level returned (1 = direct children only).
+     * @param limit       Maximum number of rows.
+     * @return The descendants, or empty if the statement does not exist.
+     */
+    Optional<List<SubtreeNodeDTO>> descendants(Integer statementId, int maxDepth, int limit);
+
+    /**
+     * Size and depth profile of a statement's subtree.
+     *
+     * @param statementId The statement whose subtree is measured.
+     * @return The statistics, or empty if the statement does not exist.
+     */
+    Optional<SubtreeStatsDTO> stats(Integer statementId);
+
+    /**
+     * Adds a new rebuttal (a leaf) below its target. Must run in the
+     * transaction that saves the rebuttal, so both commit or roll back together.
+     *
+     * @param statementId ID of the new rebuttal statement.
+     * @param targetId    ID of the statement it rebuts.
+     */
+    void recordRebuttal(int statementId, int targetId);
+}
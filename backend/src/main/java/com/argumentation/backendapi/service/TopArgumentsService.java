@@ -0,0 +1,23 @@
+package com.argumentation.backendapi.service;
+
+import com.argumentation.backendapi.model.TopArgumentsResponse;
+
+/**
+ * TopArgumentsService
+ * --------------------
+ * Ranks the statements of a topic into pro and con lists and serves the
+ * top N of each, from a per-topic ranking that is computed once and then
+ * updated as rebuttals to the topic are committed.
+ *
+ * Implemented by: TopArgumentsServiceImpl
+ */
+public interface TopArgumentsService {
+
+    /**
+     * @param topicName The topic name (e.g., "Television").
+     * @param n         Number of entries per stance (clamped to 1..MAX_N).
+     * @param stance    "pro", "con", or null for both.
+     * @return The top entries; the list of a stance that was not requested is null.
+     */
+    TopArgumentsResponse getTopArguments(String topicName, int n, String stance);
+}
@@ -0,0 +1,40 @@
+package com.argumentation.backendapi.service;
+
+import com.argumentation.backendapi.model.KeysetPage;
+import com.argumentation.backendapi.model.TopicDTO;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * TopicService
+ * -------------
+ * Read access to the list of discussion topics.
+ *
+ * Implemented by: TopicServiceImpl
+ */
+public interface TopicService {
+
+    /**
+     * @return One entry per topic, in ID order.
+     */
+    List<TopicDTO> getAllTopics();
+
+    /**
+     * Hands every topic to {@code sink} while reading them from a database
+     * cursor, so memory use does not grow with the number of topics.
+     * Bypasses the cache.
+     *
+     * @param sink Receives the topics in ID order.
+     */
+    void streamAllTopics(Consumer<TopicDTO> sink);
+
+    /**
+     * Fetches one page of topics, in ID order. Bypasses the cache.
+     *
+     * @param afterId Last topic ID of the previous page (0 for the first page).
+     * @param limit   Maximum number of topics on the page.
+     * @return The page, with the ID to continue after if more topics follow.
+     */
+    KeysetPage<TopicDTO> getTopicPage(int afterId, int limit);
+}
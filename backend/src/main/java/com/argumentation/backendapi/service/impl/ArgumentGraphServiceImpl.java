@@ -0,0 +1,307 @@
+package com.argumentation.backendapi.service.impl;
+
+import com.argumentation.backendapi.event.CorpusImportedEvent;
+import com.argumentation.backendapi.event.RebuttalCreatedEvent;
+import com.argumentation.backendapi.event.RebuttalPlacedEvent;
+import com.argumentation.backendapi.graph.ArgumentGraph;
+import com.argumentation.backendapi.service.ArgumentGraphService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ArgumentGraphServiceImpl
+ * -------------------------
+ * Loads the argument graph with four streaming JDBC scans (statements,
+ * arguments, premises, topics) straight into an ArgumentGraph, bypassing
+ * Hibernate entirely, and keeps it current afterwards.
+ *
+ * Configuration:
+ *   - argumentation.graph.enabled      (default true)  load the graph at startup
+ *   - argumentation.graph.serve-reads  (default true)  answer read endpoints from it
+ *
+ * Consistency:
+ *   - Rebuttals are appended when their transaction commits
+ *     (RebuttalCreatedEvent, AFTER_COMMIT), so readers never see
+ *     uncommitted or rolled-back rows.
+ *   - Rebuttals recorded while a reload is scanning the database are replayed
+ *     onto the new graph before it is published, so none are lost.
+ *   - A rebuttal whose target is not in the graph yet (the target's
+ *     after-commit hook runs later on another thread, or a replay meets
+ *     them in that order) is parked until the target is appended, then
+ *     appended itself and announced with a RebuttalPlacedEvent. At most
+ *     MAX_PARKED wait at once; beyond that they are dropped with a warning
+ *     until the next reload (metrics: argumentation.graph.rebuttals.*).
+ *   - A bulk import (CorpusImportedEvent) triggers a full reload.
+ */
+@Service
+public class ArgumentGraphServiceImpl implements ArgumentGraphService {
+
+    private static final Logger log = LoggerFactory.getLogger(ArgumentGraphServiceImpl.class);
+
+    /** Rows fetched per round trip while scanning the tables */
+    private static final int FETCH_SIZE = 5000;
+    /** Rebuttals that may wait for their target at once */
+    private static final int MAX_PARKED = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final boolean serveReads;
+
+    private volatile ArgumentGraph current;
+    private volatile Queue<PendingRebuttal> pendingDuringReload;
+    private final Object reloadLock = new Object();
+
+    /** Rebuttals waiting for their target, by target statement ID. Guarded by its own monitor. */
+    private final Map<Integer, List<PendingRebuttal>> parked = new HashMap<>();
+    private int parkedSize;
+    private final AtomicLong parkedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    public ArgumentGraphServiceImpl(DataSource dataSource,
+                                    ApplicationEventPublisher eventPublisher,
+                                    @Value("${argumentation.graph.enabled:true}") boolean enabled,
+                                    @Value("${argumentation.graph.serve-reads:true}") boolean serveReads) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.eventPublisher = eventPublisher;
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.enabled = enabled;
+        this.serveReads = serveReads;
+    }
+
+    /** Loads the graph once the application has started. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (enabled) {
+            reload();
+        }
+    }
+
+    /** Rebuilds the graph after a bulk import, unless it has not been loaded yet (startup loads it anyway). */
+    @EventListener
+    public void onCorpusImported(CorpusImportedEvent event) {
+        if (current != null) {
+            reload();
+        }
+    }
+
+    @Override
+    public Optional<ArgumentGraph> readGraph() {
+        return serveReads ? Optional.ofNullable(current) : Optional.empty();
+    }
+
+    @Override
+    public Optional<ArgumentGraph> graph() {
+        return Optional.ofNullable(current);
+    }
+
+    @Override
+    public void reload() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (reloadLock) {
+            Queue<PendingRebuttal> pending = new ConcurrentLinkedQueue<>();
+            pendingDuringReload = pending;
+            try {
+                long started = System.nanoTime();
+                ArgumentGraph fresh = load();
+                // Anything recorded while scanning may be missing from the snapshot; addRebuttal skips duplicates.
+                // Replay before publishing, then once more for rebuttals that raced with the swap.
+                replay(pending, fresh);
+                current = fresh;
+                replay(pending, fresh);
+                placeParked(fresh);
+                log.info("Argument graph loaded: {} statements, {} arguments, ~{} KB in {} ms",
+                        fresh.statementCount(), fresh.argumentCount(), fresh.footprintBytes() / 1024,
+                        (System.nanoTime() - started) / 1_000_000);
+            } finally {
+                pendingDuringReload = null;
+            }
+        }
+    }
+
+    /**
+     * Appends a committed rebuttal. Runs before every other after-commit
+     * listener (ORDER_GRAPH), as they read the graph.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Order(RebuttalCreatedEvent.ORDER_GRAPH)
+    public void onRebuttalCreated(RebuttalCreatedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        PendingRebuttal rebuttal = new PendingRebuttal(event.statementId(), event.text(), event.source(),
+                event.targetId(), event.argumentId());
+        Queue<PendingRebuttal> pending = pendingDuringReload;
+        if (pending != null) {
+            pending.add(rebuttal);
+        }
+        ArgumentGraph graph = current;
+        if (graph != null) {
+            announce(append(graph, rebuttal));
+        }
+    }
+
+    /** Rebuttals appended since startup only after waiting for their target */
+    public long parkedCount() {
+        return parkedCount.get();
+    }
+
+    /** Rebuttals given up on because too many were waiting (the next reload picks them up) */
+    public long droppedCount() {
+        return droppedCount.get();
+    }
+
+    /** Rebuttals waiting for their target right now */
+    public int waitingCount() {
+        synchronized (parked) {
+            return parkedSize;
+        }
+    }
+
+    private void replay(Queue<PendingRebuttal> pending, ArgumentGraph graph) {
+        // Not announced: the labelling of a graph that is not published yet is computed from it in full
+        for (PendingRebuttal p : pending) {
+            append(graph, p);
+        }
+    }
+
+    /**
+     * Appends a rebuttal, or parks it while its target is missing, then
+     * appends whatever was waiting for it (and for those, recursively).
+     * Checking and parking happen under one lock with appending, so a target
+     * cannot slip in between and leave its rebuttal parked.
+     *
+     * @return The parked rebuttals that were appended now.
+     */
+    private List<PendingRebuttal> append(ArgumentGraph graph, PendingRebuttal rebuttal) {
+        List<PendingRebuttal> placed = new ArrayList<>();
+        Queue<PendingRebuttal> work = new ArrayDeque<>();
+        work.add(rebuttal);
+        synchronized (parked) {
+            while (!work.isEmpty()) {
+                PendingRebuttal next = work.poll();
+                if (graph.addRebuttal(next.statementId(), next.text(), next.source(), next.targetId(), next.argumentId())) {
+                    if (next != rebuttal) {
+                        placed.add(next);
+                    }
+                    List<PendingRebuttal> waiting = parked.remove(next.statementId());
+                    if (waiting != null) {
+                        parkedSize -= waiting.size();
+                        work.addAll(waiting);
+                    }
+                } else if (next == rebuttal && !graph.containsStatement(next.targetId())
+                        && !graph.containsStatement(next.statementId())) {
+                    park(next);
+                }
+            }
+        }
+        return placed;
+    }
+
+    /** Caller holds the parked monitor. */
+    private void park(PendingRebuttal rebuttal) {
+        if (parkedSize >= MAX_PARKED) {
+            droppedCount.incrementAndGet();
+            log.warn("Rebuttal {} dropped from the argument graph: its target {} is missing and {} rebuttals are already waiting",
+                    rebuttal.statementId(), rebuttal.targetId(), parkedSize);
+            return;
+        }
+        parked.computeIfAbsent(rebuttal.targetId(), k -> new ArrayList<>()).add(rebuttal);
+        parkedSize++;
+        parkedCount.incrementAndGet();
+        log.debug("Rebuttal {} parked until its target {} is in the argument graph",
+                rebuttal.statementId(), rebuttal.targetId());
+    }
+
+    /** After a reload: appends parked rebuttals whose target the fresh snapshot contains. */
+    private void placeParked(ArgumentGraph graph) {
+        List<PendingRebuttal> ready = new ArrayList<>();
+        synchronized (parked) {
+            for (Iterator<Map.Entry<Integer, List<PendingRebuttal>>> it = parked.entrySet().iterator(); it.hasNext(); ) {
+                Map.Entry<Integer, List<PendingRebuttal>> entry = it.next();
+                if (graph.containsStatement(entry.getKey())) {
+                    ready.addAll(entry.getValue());
+                    parkedSize -= entry.getValue().size();
+                    it.remove();
+                }
+            }
+        }
+        List<PendingRebuttal> placed = new ArrayList<>();
+        for (PendingRebuttal rebuttal : ready) {
+            if (!graph.containsStatement(rebuttal.statementId())) {
+                List<PendingRebuttal> more = append(graph, rebuttal);
+                if (graph.containsStatement(rebuttal.statementId())) {
+                    placed.add(rebuttal);
+                }
+                placed.addAll(more);
+            }
+        }
+        // The graph is published already, so a labelling may exist for it
+        announce(placed);
+    }
+
+    /** Outside the parked lock: listeners update their own state synchronously. */
+    private void announce(List<PendingRebuttal> placed) {
+        for (PendingRebuttal rebuttal : placed) {
+            eventPublisher.publishEvent(new RebuttalPlacedEvent(rebuttal.statementId(), rebuttal.targetId()));
+        }
+    }
+
+    /** Streams the four tables into a builder. */
+    private ArgumentGraph load() {
+        ArgumentGraph.Builder builder = ArgumentGraph.builder();
+
+        jdbcTemplate.query("select id, text, source, counter_statement from statements order by id",
+                (RowCallbackHandler) rs -> {
+                    int counter = rs.getInt(4);
+                    builder.addStatement(rs.getInt(1), rs.getString(2), rs.getString(3), rs.wasNull() ? null : counter);
+                });
+
+        jdbcTemplate.query("select id, claim from arguments order by id",
+                (RowCallbackHandler) rs -> {
+                    int claim = rs.getInt(2);
+                    builder.addArgument(rs.getInt(1), rs.wasNull() ? -1 : claim);
+                });
+
+        jdbcTemplate.query("select argument, premise from premises order by argument, premise",
+                (RowCallbackHandler) rs -> {
+                    builder.addPremise(rs.getInt(1), rs.getInt(2));
+                });
+
+        jdbcTemplate.query("select name, argument_id from topics order by id",
+                (RowCallbackHandler) rs -> {
+                    int argument = rs.getInt(2);
+                    builder.addTopic(rs.getString(1), rs.wasNull() ? null : argument);
+                });
+
+        return builder.build();
+    }
+
+    /** A rebuttal recorded while a reload was in progress */
+    private record PendingRebuttal(int statementId, String text, String source, int targetId, int argumentId) {
+    }
+}
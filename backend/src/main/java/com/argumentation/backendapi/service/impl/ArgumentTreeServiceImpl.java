@@ -0,0 +1,253 @@
+package com.argumentation.backendapi.service.impl;
+
+import com.argumentation.backendapi.config.DatabaseFanOut;
+import com.argumentation.backendapi.graph.ArgumentGraph;
+import com.argumentation.backendapi.model.*;
+import com.argumentation.backendapi.repository.PremiseRepository;
+import com.argumentation.backendapi.repository.StatementRepository;
+import com.argumentation.backendapi.repository.TopicRepository;
+import com.argumentation.backendapi.service.ArgumentGraphService;
+import com.argumentation.backendapi.service.ArgumentTreeService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * ArgumentTreeServiceImpl
+ * ------------------------
+ * Builds the argument tree of a topic level by level (breadth-first).
+ * Instead of one lookup per node, every level is loaded with two set-based queries:
+ *   1) premises of all arguments on the current level   (PremiseRepository)
+ *   2) rebuttals of all statements on the current level (StatementRepository)
+ * Both queries also resolve each child's argument ID. Whether the deepest
+ * level has more below it is checked with two EXISTS queries that return
+ * IDs only. IN-lists are cut into chunks of argumentation.batch.chunk-size
+ * (default 200), as in BatchLookupServiceImpl, so a tree of depth d costs
+ * 1 + 2·(d + 1) queries per chunk of its widest level.
+ *
+ * Limits:
+ *   - maxDepth:  levels expanded below the root claim
+ *   - maxFanOut: children kept per node (premises first, then rebuttals)
+ *   - MAX_NODES: hard cap on the total tree size
+ * Nodes whose children were cut off by a limit are marked as truncated.
+ *
+ * When the in-memory ArgumentGraph is loaded, the same level-by-level walk
+ * reads from it instead of the database.
+ *
+ * With DatabaseFanOut enabled, the two queries of a level run in parallel
+ * (rebuttals on a virtual thread, premises on the caller), so a level costs
+ * one round trip of latency instead of two.
+ */
+@Service
+public class ArgumentTreeServiceImpl implements ArgumentTreeService {
+
+    /** Upper bounds applied to the caller's limits */
+    public static final int MAX_DEPTH = 12;
+    public static final int MAX_FAN_OUT = 200;
+    public static final int MAX_NODES = 5000;
+
+    private final TopicRepository topicRepository;
+    private final PremiseRepository premiseRepository;
+    private final StatementRepository statementRepository;
+    private final ArgumentGraphService argumentGraphService;
+    private final DatabaseFanOut databaseFanOut;
+    private final int chunkSize;
+
+    // Constructor injection for repositories (testable, immutable)
+    public ArgumentTreeServiceImpl(TopicRepository topicRepository,
+                                   PremiseRepository premiseRepository,
+                                   StatementRepository statementRepository,
+                                   ArgumentGraphService argumentGraphService,
+                                   DatabaseFanOut databaseFanOut,
+                                   @Value("${argumentation.batch.chunk-size:200}") int chunkSize) {
+        this.topicRepository = topicRepository;
+        this.premiseRepository = premiseRepository;
+        this.statementRepository = statementRepository;
+        this.argumentGraphService = argumentGraphService;
+        this.databaseFanOut = databaseFanOut;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * Not transactional: each level's queries run in their own short
+     * transactions, so the rebuttal query can be forked (DatabaseFanOut
+     * runs reads inline inside a transaction). A rebuttal committed during
+     * the walk may therefore show up on a deeper level only; the visited set
+     * keeps every statement to one node either way.
+     */
+    @Override
+    public TreeNodeDTO buildTree(String topicName, int maxDepth, int maxFanOut) {
+        int depthLimit = Math.max(0, Math.min(maxDepth, MAX_DEPTH));
+        int fanOutLimit = Math.max(1, Math.min(maxFanOut, MAX_FAN_OUT));
+
+        Optional<ArgumentGraph> graph = argumentGraphService.readGraph();
+        TreeNodeDTO root = graph.isPresent() ? rootFromGraph(graph.get(), topicName) : rootFromDatabase(topicName);
+
+        // Each statement appears at most once, which also protects against rebuttal cycles
+        Set<Integer> visited = new HashSet<>();
+        visited.add(root.getId());
+        int[] nodeCount = {1};
+
+        List<TreeNodeDTO> level = List.of(root);
+        for (int depth = 0; depth < depthLimit && !level.isEmpty(); depth++) {
+            // Index the current level by argument ID (for premises) and statement ID (for rebuttals)
+            Map<Integer, TreeNodeDTO> byArgumentId = new HashMap<>();
+            Map<Integer, TreeNodeDTO> byStatementId = new HashMap<>();
+            for (TreeNodeDTO node : level) {
+                byStatementId.put(node.getId(), node);
+                if (node.getArgumentId() != null) {
+                    byArgumentId.put(node.getArgumentId(), node);
+                }
+            }
+
+            DatabaseFanOut.Forked<List<StatementRow>> rebuttals = forkRebuttalRows(graph, byStatementId.keySet());
+            List<StatementRow> premiseRows = premiseRows(graph, byArgumentId.keySet());
+            List<StatementRow> rebuttalRows = rebuttals.join();
+
+            List<TreeNodeDTO> next = new ArrayList<>();
+            attach(premiseRows, byArgumentId, TreeNodeDTO.TYPE_PREMISE, fanOutLimit, visited, nodeCount, next);
+            attach(rebuttalRows, byStatementId, TreeNodeDTO.TYPE_REBUTTAL, fanOutLimit, visited, nodeCount, next);
+            level = next;
+        }
+
+        // Anything still waiting on the last level was cut off by the depth limit
+        if (!level.isEmpty()) {
+            markUnexpanded(graph, level);
+        }
+        return root;
+    }
+
+    /**
+     * Hangs each row below its parent node, honouring the fan-out and node limits.
+     * Newly created nodes are collected into {@code next} to form the following level.
+     */
+    private void attach(List<StatementRow> rows,
+                        Map<Integer, TreeNodeDTO> parents,
+                        String type,
+                        int fanOutLimit,
+                        Set<Integer> visited,
+                        int[] nodeCount,
+                        List<TreeNodeDTO> next) {
+        for (StatementRow row : rows) {
+            TreeNodeDTO parent = parents.get(row.getParentId());
+            if (parent == null || visited.contains(row.getId())) {
+                continue;
+            }
+            if (parent.getChildren().size() >= fanOutLimit || nodeCount[0] >= MAX_NODES) {
+                parent.setTruncated(true);
+                continue;
+            }
+            TreeNodeDTO child = new TreeNodeDTO(row.getId(), row.getText(), type, row.getSource(), row.getArgumentId());
+            parent.addChild(child);
+            visited.add(child.getId());
+            nodeCount[0]++;
+            next.add(child);
+        }
+    }
+
+    /**
+     * Flags nodes of the last level that still have premises or rebuttals below them.
+     * Only asks whether children exist: the database answers with the parent IDs
+     * of two EXISTS queries, not with the child rows.
+     */
+    private void markUnexpanded(Optional<ArgumentGraph> graph, List<TreeNodeDTO> level) {
+        Map<Integer, TreeNodeDTO> byArgumentId = new HashMap<>();
+        Map<Integer, TreeNodeDTO> byStatementId = new HashMap<>();
+        for (TreeNodeDTO node : level) {
+            byStatementId.put(node.getId(), node);
+            if (node.getArgumentId() != null) {
+                byArgumentId.put(node.getArgumentId(), node);
+            }
+        }
+        if (graph.isPresent()) {
+            for (StatementRow row : graph.get().premiseRows(byArgumentId.keySet())) {
+                byArgumentId.get(row.getParentId()).setTruncated(true);
+            }
+            for (StatementRow row : graph.get().rebuttalRows(byStatementId.keySet())) {
+                byStatementId.get(row.getParentId()).setTruncated(true);
+            }
+            return;
+        }
+        List<Integer> statementIds = List.copyOf(byStatementId.keySet());
+        DatabaseFanOut.Forked<List<Integer>> rebutted = databaseFanOut.fork(() ->
+                inChunks(statementIds, statementRepository::findIdsWithRebuttals));
+        for (Integer argumentId : inChunks(List.copyOf(byArgumentId.keySet()), premiseRepository::findIdsWithPremises)) {
+            byArgumentId.get(argumentId).setTruncated(true);
+        }
+        for (Integer statementId : rebutted.join()) {
+            byStatementId.get(statementId).setTruncated(true);
+        }
+    }
+
+    // ────────────────────────────────
+    // Row sources: in-memory graph when loaded, database otherwise
+    // ────────────────────────────────
+
+    private TreeNodeDTO rootFromGraph(ArgumentGraph graph, String topicName) {
+        StatementRow claim = graph.rootClaim(topicName)
+                .orElseThrow(() -> new RuntimeException("Topic not found: " + topicName));
+        return new TreeNodeDTO(claim.getId(), claim.getText(), TreeNodeDTO.TYPE_CLAIM, claim.getSource(), claim.getArgumentId());
+    }
+
+    private TreeNodeDTO rootFromDatabase(String topicName) {
+        // Root: topic → root argument → claim, one query (ROOT_CLAIM graph)
+        TopicEntity topic = topicRepository.findByName(topicName)
+                .orElseThrow(() -> new RuntimeException("Topic not found: " + topicName));
+        // A topic without a root claim has no tree, as on the graph path (rootClaim is empty then)
+        ArgumentEntity argument = topic.getArgument();
+        StatementEntity claim = argument != null ? argument.getClaim() : null;
+        if (claim == null) {
+            throw new RuntimeException("Topic not found: " + topicName);
+        }
+
+        return new TreeNodeDTO(
+                claim.getId(),
+                claim.getText(),
+                TreeNodeDTO.TYPE_CLAIM,
+                claim.getSource() != null ? claim.getSource().getName() : null,
+                argument.getId());
+    }
+
+    private List<StatementRow> premiseRows(Optional<ArgumentGraph> graph, Collection<Integer> argumentIds) {
+        if (argumentIds.isEmpty()) {
+            return List.of();
+        }
+        return graph.isPresent()
+                ? graph.get().premiseRows(argumentIds)
+                : inChunks(List.copyOf(argumentIds), premiseRepository::findPremiseRowsByArgumentIds);
+    }
+
+    /** Rebuttal rows; the database query runs in parallel with the caller's next read when fan-out is on. */
+    private DatabaseFanOut.Forked<List<StatementRow>> forkRebuttalRows(Optional<ArgumentGraph> graph,
+                                                                       Collection<Integer> statementIds) {
+        if (graph.isPresent() || statementIds.isEmpty()) {
+            List<StatementRow> rows = rebuttalRows(graph, statementIds);
+            return () -> rows;
+        }
+        List<Integer> ids = List.copyOf(statementIds);
+        return databaseFanOut.fork(() -> rebuttalRows(graph, ids));
+    }
+
+    private List<StatementRow> rebuttalRows(Optional<ArgumentGraph> graph, Collection<Integer> statementIds) {
+        if (statementIds.isEmpty()) {
+            return List.of();
+        }
+        return graph.isPresent()
+                ? graph.get().rebuttalRows(statementIds)
+                : inChunks(List.copyOf(statementIds), statementRepository::findRebuttalRowsByTargetIds);
+    }
+
+    /** Runs {@code query} once per chunk of at most chunkSize IDs, one after another. */
+    private <R> List<R> inChunks(List<Integer> ids, Function<List<Integer>, List<R>> query) {
+        if (ids.size() <= chunkSize) {
+            return ids.isEmpty() ? List.of() : query.apply(ids);
+        }
+        List<R> rows = new ArrayList<>();
+        for (List<Integer> chunk : BatchLookupServiceImpl.chunks(ids, chunkSize)) {
+            rows.addAll(query.apply(chunk));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,207 @@
+package com.argumentation.backendapi.service.impl;
+
+import com.argumentation.backendapi.config.DatabaseFanOut;
+import com.argumentation.backendapi.graph.ArgumentGraph;
+import com.argumentation.backendapi.model.*;
+import com.argumentation.backendapi.repository.ArgumentRepository;
+import com.argumentation.backendapi.repository.PremiseRepository;
+import com.argumentation.backendapi.repository.StatementRepository;
+import com.argumentation.backendapi.service.ArgumentGraphService;
+import com.argumentation.backendapi.service.BatchLookupService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * BatchLookupServiceImpl
+ * -----------------------
+ * Resolves a whole tree level in a fixed number of queries.
+ *
+ * Database path, per chunk of at most chunkSize IDs (IN-lists stay short
+ * enough for the statement cache and the optimizer):
+ *   1) claim → argument IDs                   (ArgumentRepository)
+ *   2) rebuttals of the claims                (StatementRepository)
+ *   3) which of the explicit argument IDs exist
+ *   4) premises of all resolved and existing arguments (PremiseRepository)
+ * Steps 1-3 are independent and are forked through DatabaseFanOut; step 4
+ * needs the result of step 1. 50 nodes therefore cost four queries instead
+ * of three requests per node.
+ *
+ * When the in-memory ArgumentGraph is loaded, everything is read from it.
+ *
+ * Limits: at most maxIds distinct IDs (claims + arguments) per call;
+ * more are rejected with IllegalArgumentException.
+ */
+@Service
+public class BatchLookupServiceImpl implements BatchLookupService {
+
+    private final ArgumentRepository argumentRepository;
+    private final PremiseRepository premiseRepository;
+    private final StatementRepository statementRepository;
+    private final ArgumentGraphService argumentGraphService;
+    private final DatabaseFanOut databaseFanOut;
+    private final int maxIds;
+    private final int chunkSize;
+
+    public BatchLookupServiceImpl(ArgumentRepository argumentRepository,
+                                  PremiseRepository premiseRepository,
+                                  StatementRepository statementRepository,
+                                  ArgumentGraphService argumentGraphService,
+                                  DatabaseFanOut databaseFanOut,
+                                  @Value("${argumentation.batch.max-ids:500}") int maxIds,
+                                  @Value("${argumentation.batch.chunk-size:200}") int chunkSize) {
+        this.argumentRepository = argumentRepository;
+        this.premiseRepository = premiseRepository;
+        this.statementRepository = statementRepository;
+        this.argumentGraphService = argumentGraphService;
+        this.databaseFanOut = databaseFanOut;
+        this.maxIds = Math.max(1, maxIds);
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @Override
+    public BatchLookupResponse lookup(Collection<Integer> claimIds, Collection<Integer> argumentIds) {
+        List<Integer> claims = distinct(claimIds);
+        List<Integer> arguments = distinct(argumentIds);
+        if (claims.size() + arguments.size() > maxIds) {
+            throw new IllegalArgumentException("At most " + maxIds + " IDs per batch, got "
+                    + (claims.size() + arguments.size()));
+        }
+
+        Optional<ArgumentGraph> graph = argumentGraphService.readGraph();
+        return graph.isPresent()
+                ? lookupInGraph(graph.get(), claims, arguments)
+                : lookupInDatabase(claims, arguments);
+    }
+
+    // ────────────────────────────────
+    // Row sources: in-memory graph when loaded, database otherwise
+    // ────────────────────────────────
+
+    private BatchLookupResponse lookupInGraph(ArgumentGraph graph, List<Integer> claims, List<Integer> arguments) {
+        Map<Integer, Integer> argumentIdsByClaim = new LinkedHashMap<>();
+        for (Integer claimId : claims) {
+            Integer argumentId = graph.argumentIdOfClaim(claimId);
+            if (argumentId != null) {
+                argumentIdsByClaim.put(claimId, argumentId);
+            }
+        }
+        Set<Integer> existing = new LinkedHashSet<>(argumentIdsByClaim.values());
+        for (Integer argumentId : arguments) {
+            if (graph.containsArgument(argumentId)) {
+                existing.add(argumentId);
+            }
+        }
+        return response(claims, argumentIdsByClaim, existing,
+                graph.premiseRows(existing), graph.rebuttalRows(claims));
+    }
+
+    private BatchLookupResponse lookupInDatabase(List<Integer> claims, List<Integer> arguments) {
+        // Independent reads first, in parallel where the fan-out allows
+        Joined<ClaimArgumentRow> claimRows = forkChunks(claims, argumentRepository::findArgumentIdRowsByClaimIds);
+        Joined<StatementRow> rebuttalRows = forkChunks(claims, statementRepository::findRebuttalRowsByTargetIds);
+        Joined<Integer> existingRows = forkChunks(arguments, argumentRepository::findExistingIds);
+
+        Map<Integer, Integer> resolved = new HashMap<>();
+        for (ClaimArgumentRow row : claimRows.join()) {
+            resolved.put(row.getClaimId(), row.getArgumentId());
+        }
+        // Keep the caller's order: resolved claims first, then the explicit arguments
+        Map<Integer, Integer> argumentIdsByClaim = new LinkedHashMap<>();
+        for (Integer claimId : claims) {
+            Integer argumentId = resolved.get(claimId);
+            if (argumentId != null) {
+                argumentIdsByClaim.put(claimId, argumentId);
+            }
+        }
+        Set<Integer> existing = new LinkedHashSet<>(argumentIdsByClaim.values());
+        Set<Integer> found = new HashSet<>(existingRows.join());
+        for (Integer argumentId : arguments) {
+            if (found.contains(argumentId)) {
+                existing.add(argumentId);
+            }
+        }
+
+        List<StatementRow> premiseRows = forkChunks(List.copyOf(existing), premiseRepository::findPremiseRowsByArgumentIds).join();
+        return response(claims, argumentIdsByClaim, existing, premiseRows, rebuttalRows.join());
+    }
+
+    private BatchLookupResponse response(List<Integer> claims,
+                                         Map<Integer, Integer> argumentIdsByClaim,
+                                         Set<Integer> existingArguments,
+                                         List<StatementRow> premiseRows,
+                                         List<StatementRow> rebuttalRows) {
+        Map<Integer, List<ClaimDTO>> justifications = new LinkedHashMap<>();
+        for (Integer argumentId : existingArguments) {
+            justifications.put(argumentId, new ArrayList<>());
+        }
+        for (StatementRow row : premiseRows) {
+            justifications.get(row.getParentId()).add(new ClaimDTO(row.getId(), row.getText(), row.getSource()));
+        }
+
+        Map<Integer, List<RebuttalCreateResponse>> rebuttals = new LinkedHashMap<>();
+        for (Integer claimId : claims) {
+            rebuttals.put(claimId, new ArrayList<>());
+        }
+        for (StatementRow row : rebuttalRows) {
+            rebuttals.get(row.getParentId()).add(new RebuttalCreateResponse(
+                    row.getArgumentId(), row.getId(), row.getText(), row.getSource()));
+        }
+        return new BatchLookupResponse(argumentIdsByClaim, justifications, rebuttals);
+    }
+
+    // ────────────────────────────────
+    // Chunking
+    // ────────────────────────────────
+
+    /** Rows of all chunks of one query, available once every chunk has been joined. */
+    private interface Joined<R> {
+        List<R> join();
+    }
+
+    /**
+     * Runs {@code query} once per chunk of {@code ids}. Chunks are forked
+     * through DatabaseFanOut (so they may run in parallel) and joined in order.
+     */
+    private <R> Joined<R> forkChunks(List<Integer> ids, Function<List<Integer>, List<R>> query) {
+        if (ids.isEmpty()) {
+            return List::of;
+        }
+        List<DatabaseFanOut.Forked<List<R>>> forks = new ArrayList<>();
+        for (List<Integer> chunk : chunks(ids, chunkSize)) {
+            forks.add(databaseFanOut.fork(() -> query.apply(chunk)));
+        }
+        return () -> {
+            List<R> rows = new ArrayList<>();
+            for (DatabaseFanOut.Forked<List<R>> fork : forks) {
+                rows.addAll(fork.join());
+            }
+            return rows;
+        };
+    }
+
+    /** Splits {@code ids} into consecutive sublists of at most {@code size} elements. */
+    static List<List<Integer>> chunks(List<Integer> ids, int size) {
+        List<List<Integer>> chunks = new ArrayList<>((ids.size() + size - 1) / size);
+        for (int from = 0; from < ids.size(); from += size) {
+            chunks.add(List.copyOf(ids.subList(from, Math.min(ids.size(), from + size))));
+        }
+        return chunks;
+    }
+
+    /** Distinct non-null IDs in first-seen order; null collection → empty. */
+    static List<Integer> distinct(Collection<Integer> ids) {
+        if (ids == null) {
+            return List.of();
+        }
+        Set<Integer> seen = new LinkedHashSet<>();
+        for (Integer id : ids) {
+            if (id != null) {
+                seen.add(id);
+            }
+        }
+        return List.copyOf(seen);
+    }
+}
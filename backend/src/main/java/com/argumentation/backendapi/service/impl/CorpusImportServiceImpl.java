@@ -0,0 +1,367 @@
+package com.argumentation.backendapi.service.impl;
+
+import com.argumentation.backendapi.event.CorpusImportedEvent;
+import com.argumentation.backendapi.importer.ArgsMeReader;
+import com.argumentation.backendapi.importer.IdGenerators;
+import com.argumentation.backendapi.importer.StatementClosure;
+import com.argumentation.backendapi.model.ImportSummary;
+import com.argumentation.backendapi.service.CorpusImportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.*;
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * CorpusImportServiceImpl
+ * ------------------------
+ * Imports the args.me corpus with plain JDBC batch inserts, bypassing
+ * Hibernate and its persistence context.
+ *
+ * Mapping of one args.me argument:
+ *   - conclusion            → statement + argument (claim = that statement)
+ *   - PRO premise           → statement + premises row of that argument
+ *   - CON premise           → statement with counter_statement = conclusion,
+ *                             plus its own argument (stored like a rebuttal)
+ *   - context.sourceTitle   → sources row, deduplicated by name (see key())
+ *   - context.discussionTitle → topics row for the first argument of each
+ *                             discussion, deduplicated by name (see key())
+ *
+ * Ids:
+ *   Statement and argument ids are known before their rows are written, so
+ *   rows can be batched and related rows written in the same batch. They
+ *   are reserved from the ID generators in ranges of commit-size before
+ *   use (IdGenerators.reserve, on a second connection that commits right
+ *   away), so rebuttals created through the API while the import runs get
+ *   IDs of their own. Topics get theirs from the database.
+ *   Finally statement_closure is rebuilt over old and new rows
+ *   (StatementClosure).
+ *
+ * Configuration:
+ *   - argumentation.import.batch-size   (default 1000)   rows per executeBatch round trip
+ *   - argumentation.import.commit-size  (default 20000)  rows per transaction
+ * On MySQL add rewriteBatchedStatements=true to the JDBC URL, otherwise the
+ * driver still sends one INSERT per row.
+ *
+ * A failure rolls back the current transaction only; chunks committed
+ * before it stay in the database.
+ */
+@Service
+public class CorpusImportServiceImpl implements CorpusImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(CorpusImportServiceImpl.class);
+
+    /** Length of statements.text */
+    private static final int TEXT_LENGTH = 1024;
+
+    /** Default VARCHAR length of sources.name / topics.name */
+    private static final int NAME_LENGTH = 255;
+
+    /** Source used when an argument names none */
+    private static final String DEFAULT_SOURCE = "args.me";
+
+    /** Statements written between two progress log lines */
+    private static final long PROGRESS_INTERVAL = 100_000;
+
+    private final DataSource dataSource;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final int commitSize;
+
+    public CorpusImportServiceImpl(DataSource dataSource,
+                                   ApplicationEventPublisher eventPublisher,
+                                   @Value("${argumentation.import.batch-size:1000}") int batchSize,
+                                   @Value("${argumentation.import.commit-size:20000}") int commitSize) {
+        this.dataSource = dataSource;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = Math.max(1, batchSize);
+        this.commitSize = Math.max(this.batchSize, commitSize);
+    }
+
+    @Override
+    public ImportSummary importArgsMe(Path file) {
+        long started = System.nanoTime();
+        ImportSummary summary;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file), 1 << 16);
+             ArgsMeReader reader = new ArgsMeReader(in);
+             Connection connection = dataSource.getConnection();
+             Connection idConnection = dataSource.getConnection()) {
+            summary = write(reader, connection, idConnection, started);
+        } catch (IOException | SQLException e) {
+            throw new RuntimeException("args.me import failed: " + file, e);
+        }
+        eventPublisher.publishEvent(new CorpusImportedEvent(summary));
+        return summary;
+    }
+
+    private ImportSummary write(ArgsMeReader reader, Connection connection, Connection idConnection, long started)
+            throws IOException, SQLException {
+        warnIfBatchingDisabled(connection);
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (Writer writer = new Writer(connection, idConnection)) {
+            ArgsMeReader.Argument argument;
+            while ((argument = reader.next()) != null) {
+                writer.write(argument);
+            }
+            writer.commit();
+            long closureRows = StatementClosure.rebuild(connection);
+            connection.commit();
+            log.info("args.me import: statement closure rebuilt ({} rows)", closureRows);
+            return writer.summary(started);
+        } catch (IOException | SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private static void warnIfBatchingDisabled(Connection connection) throws SQLException {
+        DatabaseMetaData meta = connection.getMetaData();
+        if (meta.getDatabaseProductName().toLowerCase().contains("mysql")
+                && !meta.getURL().contains("rewriteBatchedStatements=true")) {
+            log.warn("JDBC URL lacks rewriteBatchedStatements=true; MySQL will execute the import row by row");
+        }
+    }
+
+    /** key() → name as stored, for every row of the table (the first one per key) */
+    private static Map<String, String> names(Connection connection, String table) throws SQLException {
+        Map<String, String> names = new HashMap<>();
+        try (Statement st = connection.createStatement();
+             ResultSet rs = st.executeQuery("select name from " + table)) {
+            while (rs.next()) {
+                String name = rs.getString(1);
+                if (name != null) {
+                    names.putIfAbsent(key(name), name);
+                }
+            }
+        }
+        return names;
+    }
+
+    /**
+     * What MySQL compares when it checks sources.name and topics.name for
+     * duplicates: its default collations ignore case and accents, and the
+     * older PAD SPACE ones trailing spaces. Names equal under this key are
+     * one row, spelled as first seen, on every database.
+     */
+    static String key(String name) {
+        String stripped = Normalizer.normalize(name, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return stripped.toLowerCase(Locale.ROOT).stripTrailing();
+    }
+
+    // ────────────────────────────────
+    // Batched writer for one import run
+    // ────────────────────────────────
+
+    private final class Writer implements AutoCloseable {
+
+        private final Connection connection;
+        /** Only reserves ID ranges, each in a transaction of its own */
+        private final Connection idConnection;
+        private final PreparedStatement insertSource;
+        private final PreparedStatement insertStatement;
+        private final PreparedStatement insertArgument;
+        private final PreparedStatement insertPremise;
+        private final PreparedStatement insertTopic;
+
+        /** key() → name as written, so statements reference the spelling that was inserted */
+        private final Map<String, String> knownSources;
+        private final Map<String, String> knownTopics;
+
+        /** Reserved ID ranges: next ID to use, end (exclusive) */
+        private long nextStatementId;
+        private long statementIdsEnd;
+        private long nextArgumentId;
+        private long argumentIdsEnd;
+
+        private long arguments;
+        private long statements;
+        private long premises;
+        private long rebuttals;
+        private long sources;
+        private long topics;
+        private long truncated;
+
+        private int rowsInBatch;
+        private int rowsInTransaction;
+        private long nextProgress = PROGRESS_INTERVAL;
+
+        Writer(Connection connection, Connection idConnection) throws SQLException {
+            this.connection = connection;
+            this.idConnection = idConnection;
+            this.knownSources = names(connection, "sources");
+            this.knownTopics = names(connection, "topics");
+
+            this.insertSource = connection.prepareStatement("insert into sources (name, text, url) values (?, ?, ?)");
+            this.insertStatement = connection.prepareStatement(
+                    "insert into statements (id, text, source, counter_statement) values (?, ?, ?, ?)");
+            this.insertArgument = connection.prepareStatement("insert into arguments (id, claim, source) values (?, ?, ?)");
+            this.insertPremise = connection.prepareStatement("insert into premises (argument, premise) values (?, ?)");
+            this.insertTopic = connection.prepareStatement("insert into topics (name, argument_id) values (?, ?)");
+        }
+
+        void write(ArgsMeReader.Argument argument) throws SQLException {
+            String topic = clip(argument.discussionTitle(), NAME_LENGTH);
+            String conclusion = argument.conclusion() == null || argument.conclusion().isBlank()
+                    ? topic
+                    : argument.conclusion();
+            if (conclusion == null || conclusion.isBlank()) {
+                return; // nothing to anchor the premises on
+            }
+            arguments++;
+
+            // 1) Source (first sighting of a name inserts it)
+            String source = sourceOf(argument);
+
+            // 2) Conclusion statement and its argument
+            long claimId = statement(conclusion, source, null);
+            long argumentId = argument(claimId, source);
+
+            // 3) Premises: PRO supports the argument, CON rebuts its conclusion
+            for (ArgsMeReader.Premise premise : argument.premises()) {
+                if (premise.con()) {
+                    long rebuttalId = statement(premise.text(), source, claimId);
+                    argument(rebuttalId, source);
+                    rebuttals++;
+                } else {
+                    long premiseId = statement(premise.text(), source, null);
+                    insertPremise.setLong(1, argumentId);
+                    insertPremise.setLong(2, premiseId);
+                    insertPremise.addBatch();
+                    premises++;
+                    rowsInBatch++;
+                }
+            }
+
+            // 4) Topic for the first argument of each discussion
+            if (topic != null && !topic.isBlank() && knownTopics.putIfAbsent(key(topic), topic) == null) {
+                insertTopic.setString(1, topic);
+                insertTopic.setLong(2, argumentId);
+                insertTopic.addBatch();
+                topics++;
+                rowsInBatch++;
+            }
+
+            if (rowsInBatch >= batchSize) {
+                flush();
+            }
+            if (rowsInTransaction >= commitSize) {
+                commit();
+            }
+        }
+
+        private String sourceOf(ArgsMeReader.Argument argument) throws SQLException {
+            String name = argument.sourceTitle() != null && !argument.sourceTitle().isBlank()
+                    ? clip(argument.sourceTitle().trim(), NAME_LENGTH)
+                    : argument.sourceDomain() != null && !argument.sourceDomain().isBlank()
+                    ? clip(argument.sourceDomain().trim(), NAME_LENGTH)
+                    : DEFAULT_SOURCE;
+            String known = knownSources.putIfAbsent(key(name), name);
+            if (known != null) {
+                return known;
+            }
+            insertSource.setString(1, name);
+            insertSource.setString(2, clip(argument.sourceDomain(), NAME_LENGTH));
+            insertSource.setString(3, clip(argument.sourceUrl(), NAME_LENGTH));
+            insertSource.addBatch();
+            sources++;
+            rowsInBatch++;
+            return name;
+        }
+
+        private long statement(String text, String source, Long counterStatement) throws SQLException {
+            if (nextStatementId == statementIdsEnd) {
+                nextStatementId = IdGenerators.reserve(idConnection, IdGenerators.STATEMENTS, commitSize);
+                statementIdsEnd = nextStatementId + commitSize;
+            }
+            long id = nextStatementId++;
+            insertStatement.setLong(1, id);
+            insertStatement.setString(2, clip(text.trim(), TEXT_LENGTH));
+            insertStatement.setString(3, source);
+            if (counterStatement == null) {
+                insertStatement.setNull(4, Types.INTEGER);
+            } else {
+                insertStatement.setLong(4, counterStatement);
+            }
+            insertStatement.addBatch();
+            statements++;
+            rowsInBatch++;
+            return id;
+        }
+
+        private long argument(long claimId, String source) throws SQLException {
+            if (nextArgumentId == argumentIdsEnd) {
+                nextArgumentId = IdGenerators.reserve(idConnection, IdGenerators.ARGUMENTS, commitSize);
+                argumentIdsEnd = nextArgumentId + commitSize;
+            }
+            long id = nextArgumentId++;
+            insertArgument.setLong(1, id);
+            insertArgument.setLong(2, claimId);
+            insertArgument.setString(3, source);
+            insertArgument.addBatch();
+            rowsInBatch++;
+            return id;
+        }
+
+        /** Executes pending batches in foreign-key order. */
+        void flush() throws SQLException {
+            if (rowsInBatch == 0) {
+                return;
+            }
+            insertSource.executeBatch();
+            insertStatement.executeBatch();
+            insertArgument.executeBatch();
+            insertPremise.executeBatch();
+            insertTopic.executeBatch();
+            rowsInTransaction += rowsInBatch;
+            rowsInBatch = 0;
+        }
+
+        void commit() throws SQLException {
+            flush();
+            connection.commit();
+            rowsInTransaction = 0;
+            if (statements >= nextProgress) {
+                log.info("args.me import: {} arguments, {} statements committed", arguments, statements);
+                nextProgress = statements + PROGRESS_INTERVAL;
+            }
+        }
+
+        ImportSummary summary(long started) {
+            return new ImportSummary(arguments, statements, premises, rebuttals, sources, topics, truncated,
+                    (System.nanoTime() - started) / 1_000_000);
+        }
+
+        private String clip(String value, int length) {
+            if (value == null || value.length() <= length) {
+                return value;
+            }
+            truncated++;
+            int end = Character.isHighSurrogate(value.charAt(length - 1)) ? length - 1 : length;
+            return value.substring(0, end);
+        }
+
+        @Override
+        public void close() throws SQLException {
+            insertSource.close();
+            insertStatement.close();
+            insertArgument.close();
+            insertPremise.close();
+            insertTopic.close();
+        }
+    }
+}
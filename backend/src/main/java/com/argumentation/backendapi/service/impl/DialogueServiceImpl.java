@@ -0,0 +1,428 @@
+package com.argumentation.backendapi.service.impl;
+
+import com.argumentation.backendapi.dialogue.*;
+import com.argumentation.backendapi.model.*;
+import com.argumentation.backendapi.service.DialogueService;
+import com.argumentation.backendapi.service.RebuttalService;
+import com.argumentation.backendapi.service.StructuredArgumentService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DialogueServiceImpl
+ * --------------------
+ * Keeps live DialogueSessions in memory, keyed by a random ID.
+ *
+ *   - Moves on one session are serialized by the session's lock; different
+ *     sessions never contend. A rebuttal move saves through RebuttalService
+ *     while holding it, so it is a ReentrantLock, which a waiting virtual
+ *     thread releases its carrier for (a monitor would pin it).
+ *   - Rebuttal moves are saved through RebuttalService (same validation,
+ *     dedup and events as POST /api/rebuttals) before the session records them.
+ *   - Sessions idle for longer than idle-minutes are dropped; the sweep runs
+ *     every SWEEP_INTERVAL openings and whenever the session cap is reached.
+ *   - With a log directory configured, every start, move and end is appended
+ *     to a MoveLog (plus a snapshot every SNAPSHOT_INTERVAL history entries)
+ *     and the request returns once the group commit covering it is on disk.
+ *     At startup the sessions are recovered from the log. Whatever is logged
+ *     for a session is appended while holding the session's lock, so the log
+ *     order matches the order the session saw.
+ *
+ * Configuration:
+ *   - argumentation.dialogue.max-sessions          (default 100000)
+ *   - argumentation.dialogue.idle-minutes          (default 60)
+ *   - argumentation.dialogue.log.dir               (default empty = sessions are not persisted)
+ *   - argumentation.dialogue.log.segment-mb        (default 64)
+ *   - argumentation.dialogue.log.linger-ms         (default 2)  wait before each group commit
+ *   - argumentation.dialogue.log.retain-segments   (default 16) old segments kept for analytics, -1 = all
+ */
+@Service
+public class DialogueServiceImpl implements DialogueService {
+
+    /** Sessions opened between two idle sweeps */
+    private static final int SWEEP_INTERVAL = 1024;
+
+    /** Session IDs stay below 2^53 so they are exact as JavaScript numbers too */
+    private static final long ID_BOUND = 1L << 53;
+
+    /** History entries between two logged snapshots of a session */
+    private static final int SNAPSHOT_INTERVAL = 16;
+
+    private static final Logger log = LoggerFactory.getLogger(DialogueServiceImpl.class);
+
+    private final StructuredArgumentService structuredArgumentService;
+    private final RebuttalService rebuttalService;
+    private final int maxSessions;
+    private final long idleMillis;
+    private final String logDir;
+    private final int segmentBytes;
+    private final long lingerMillis;
+    private final int retainSegments;
+
+    private final Map<Long, DialogueSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger openedSinceSweep = new AtomicInteger();
+    private final AtomicBoolean checkpointing = new AtomicBoolean();
+
+    /** Null when no log directory is configured */
+    private MoveLog moveLog;
+
+    public DialogueServiceImpl(StructuredArgumentService structuredArgumentService,
+                               RebuttalService rebuttalService,
+                               @Value("${argumentation.dialogue.max-sessions:100000}") int maxSessions,
+                               @Value("${argumentation.dialogue.idle-minutes:60}") long idleMinutes,
+                               @Value("${argumentation.dialogue.log.dir:}") String logDir,
+                               @Value("${argumentation.dialogue.log.segment-mb:64}") int segmentMb,
+                               @Value("${argumentation.dialogue.log.linger-ms:2}") long lingerMillis,
+                               @Value("${argumentation.dialogue.log.retain-segments:16}") int retainSegments) {
+        this.structuredArgumentService = structuredArgumentService;
+        this.rebuttalService = rebuttalService;
+        this.maxSessions = Math.max(1, maxSessions);
+        this.idleMillis = Math.max(1, idleMinutes) * 60_000;
+        this.logDir = logDir;
+        this.segmentBytes = Math.max(1, Math.min(segmentMb, 1024)) << 20;
+        this.lingerMillis = lingerMillis;
+        this.retainSegments = retainSegments;
+    }
+
+    /** Recovers the sessions of a previous run and opens the log for appending. */
+    @PostConstruct
+    void openLog() throws IOException {
+        if (logDir == null || logDir.isBlank()) {
+            return;
+        }
+        Path dir = Path.of(logDir);
+        long started = System.nanoTime();
+        MoveLog.Recovery recovery = MoveLog.recover(dir);
+        long now = System.currentTimeMillis();
+        recovery.sessions().forEach((id, session) -> {
+            if (now - session.lastActiveMillis() <= idleMillis) {
+                sessions.put(id, session);
+            }
+        });
+        moveLog = MoveLog.open(dir, segmentBytes, lingerMillis, retainSegments);
+        checkpoint();
+        log.info("Dialogue log {}: recovered {} sessions from {} records in {} ms ({} rejected moves)",
+                dir, sessions.size(), recovery.records(), (System.nanoTime() - started) / 1_000_000,
+                recovery.rejected());
+    }
+
+    @PreDestroy
+    void closeLog() {
+        if (moveLog != null) {
+            moveLog.close();
+        }
+    }
+
+    @Override
+    public DialogueStateDTO start(String topicName) {
+        if (topicName == null || topicName.isBlank()) {
+            throw new IllegalArgumentException("topic is required");
+        }
+        // Cached lookup; throws "Topic not found" for unknown topics
+        Integer rootClaimId = structuredArgumentService.getRootClaim(topicName).id();
+
+        long now = System.currentTimeMillis();
+        if (openedSinceSweep.incrementAndGet() >= SWEEP_INTERVAL || sessions.size() >= maxSessions) {
+            sweepIdle(now);
+        }
+        if (sessions.size() >= maxSessions) {
+            throw new IllegalStateException("Too many active dialogue sessions");
+        }
+
+        while (true) {
+            long id = ThreadLocalRandom.current().nextLong(1, ID_BOUND);
+            DialogueSession session = DialogueRules.start(id, topicName.intern(), rootClaimId, now);
+            long logged;
+            DialogueStateDTO state;
+            // Locked before it is published, so nothing is logged for it ahead of its START
+            session.lock().lock();
+            try {
+                if (sessions.putIfAbsent(id, session) != null) {
+                    continue;
+                }
+                logged = append(MoveLogRecord.start(id, now, rootClaimId, session.topic()));
+                state = toDTO(session);
+            } finally {
+                session.lock().unlock();
+            }
+            awaitDurable(logged);
+            return state;
+        }
+    }
+
+    @Override
+    public Optional<DialogueStateDTO> get(String sessionId) {
+        DialogueSession session = find(sessionId);
+        if (session == null) {
+            return Optional.empty();
+        }
+        session.lock().lock();
+        try {
+            return Optional.of(toDTO(session));
+        } finally {
+            session.lock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<DialogueStateDTO> move(String sessionId, DialogueMoveRequest request) {
+        DialogueSession session = find(sessionId);
+        if (session == null) {
+            return Optional.empty();
+        }
+        if (request.getActor() == null || request.getType() == null) {
+            throw new IllegalMoveException("actor and type are required");
+        }
+        Actor actor = Actor.parse(request.getActor());
+        MoveType type = MoveType.parse(request.getType());
+
+        long logged;
+        DialogueStateDTO state;
+        session.lock().lock();
+        try {
+            long now = System.currentTimeMillis();
+            long id = session.id();
+            MoveLogRecord move = switch (type) {
+                case CHALLENGE -> MoveLogRecord.move(id, now, actor, type, requireTarget(request), null, null);
+                case JUSTIFY -> {
+                    int[] statementIds = justifications(request);
+                    DialogueRules.checkJustification(session, actor, statementIds, premisesOfChallenge(session));
+                    yield MoveLogRecord.move(id, now, actor, type, 0, statementIds, null);
+                }
+                case REBUTTAL -> {
+                    int targetId = requireTarget(request);
+                    DialogueRules.checkRebuttal(session, actor, targetId);
+
+                    RebuttalCreateRequest create = new RebuttalCreateRequest();
+                    create.setTargetClaimId(targetId);
+                    create.setText(request.getText());
+                    create.setSource(request.getSource());
+                    RebuttalCreateResponse saved = rebuttalService.createRebuttal(create);
+
+                    yield MoveLogRecord.move(id, now, actor, type, targetId,
+                            new int[]{saved.getStatementId()}, request.getText());
+                }
+                case ACCEPT, SKIP -> MoveLogRecord.move(id, now, actor, type, 0, null, null);
+                case CLAIM -> throw new IllegalMoveException("The claim is made when the dialogue starts");
+            };
+
+            // The logged record drives the live move too, so recovery replays exactly what happened
+            int historyBefore = session.historySize();
+            DialogueRules.apply(session, move);
+            logged = append(move);
+            if (moveLog != null && historyBefore / SNAPSHOT_INTERVAL != session.historySize() / SNAPSHOT_INTERVAL) {
+                logged = append(MoveLogRecord.snapshot(session, now));
+            }
+            state = toDTO(session);
+        } finally {
+            session.lock().unlock();
+        }
+        awaitDurable(logged);
+        checkpointIfDue();
+        return Optional.of(state);
+    }
+
+    @Override
+    public boolean end(String sessionId) {
+        Long id = parseId(sessionId);
+        DialogueSession session = id == null ? null : sessions.get(id);
+        if (session == null) {
+            return false;
+        }
+        long logged = discard(session, System.currentTimeMillis());
+        awaitDurable(logged);
+        return logged >= 0;
+    }
+
+    // ────────────────────────────────
+    // Helpers
+    // ────────────────────────────────
+
+    private DialogueSession find(String sessionId) {
+        Long id = parseId(sessionId);
+        DialogueSession session = id == null ? null : sessions.get(id);
+        long now = System.currentTimeMillis();
+        if (session != null && now - session.lastActiveMillis() > idleMillis) {
+            discard(session, now);
+            return null;
+        }
+        return session;
+    }
+
+    /** Removes the session and logs its END; returns the log position, or -1 if it was already gone. */
+    private long discard(DialogueSession session, long now) {
+        session.lock().lock();
+        try {
+            if (!sessions.remove(session.id(), session)) {
+                return -1;
+            }
+            return append(MoveLogRecord.end(session.id(), now));
+        } finally {
+            session.lock().unlock();
+        }
+    }
+
+    private static Long parseId(String sessionId) {
+        try {
+            return Long.parseLong(sessionId);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private void sweepIdle(long now) {
+        openedSinceSweep.set(0);
+        for (DialogueSession session : sessions.values()) {
+            if (now - session.lastActiveMillis() > idleMillis) {
+                discard(session, now);
+            }
+        }
+    }
+
+    // ────────────────────────────────
+    // Move log
+    // ────────────────────────────────
+
+    /** Appends to the move log if there is one; returns the position to await (0 without a log). */
+    private long append(MoveLogRecord record) {
+        return moveLog == null ? 0 : moveLog.append(record);
+    }
+
+    private void awaitDurable(long position) {
+        if (moveLog != null && position > 0) {
+            moveLog.awaitDurable(position);
+        }
+    }
+
+    /** Runs a checkpoint after the log started a new segment, on one request thread at a time. */
+    private void checkpointIfDue() {
+        if (moveLog != null && moveLog.checkpointDue() && checkpointing.compareAndSet(false, true)) {
+            try {
+                checkpoint();
+            } finally {
+                checkpointing.set(false);
+            }
+        }
+    }
+
+    /** Snapshots every live session between CHECKPOINT_BEGIN and CHECKPOINT_END (see MoveLog). */
+    private void checkpoint() {
+        long now = System.currentTimeMillis();
+        long checkpointId = moveLog.beginCheckpoint(now);
+        for (DialogueSession session : sessions.values()) {
+            session.lock().lock();
+            try {
+                if (sessions.get(session.id()) == session) {
+                    moveLog.append(MoveLogRecord.snapshot(session, now));
+                }
+            } finally {
+                session.lock().unlock();
+            }
+        }
+        moveLog.endCheckpoint(checkpointId, now);
+    }
+
+    private static int requireTarget(DialogueMoveRequest request) {
+        if (request.getTargetId() == null) {
+            throw new IllegalMoveException("targetId is required for " + request.getType());
+        }
+        return request.getTargetId();
+    }
+
+    private static int[] justifications(DialogueMoveRequest request) {
+        List<Integer> ids = request.getStatementIds() == null ? List.of() : request.getStatementIds();
+        int[] result = new int[ids.size()];
+        for (int i = 0; i < result.length; i++) {
+            Integer id = ids.get(i);
+            if (id == null) {
+                throw new IllegalMoveException("Unknown statement: null");
+            }
+            result[i] = id;
+        }
+        return result;
+    }
+
+    /**
+     * Premises of the pending challenge's argument, from the same cached
+     * lookups the client offers its justifications from. Empty when nothing
+     * is challenged or the statement has no argument (it can only be skipped).
+     */
+    private Set<Integer> premisesOfChallenge(DialogueSession session) {
+        if (session.pendingChallenge() == 0) {
+            return Set.of();
+        }
+        Optional<Integer> argumentId = structuredArgumentService.findArgumentIdByClaim(session.pendingChallenge());
+        if (argumentId.isEmpty()) {
+            return Set.of();
+        }
+        Set<Integer> premises = new HashSet<>();
+        for (ClaimDTO premise : structuredArgumentService.getJustifications(argumentId.get())) {
+            premises.add(premise.id());
+        }
+        return premises;
+    }
+
+    /** Builds the DTO; the Justify entries of one move (consecutive, same actor) become one history item. */
+    private static DialogueStateDTO toDTO(DialogueSession s) {
+        List<String> allowed = new ArrayList<>();
+        for (MoveType type : DialogueRules.allowedMoves(s)) {
+            allowed.add(type.label());
+        }
+
+        Map<String, Map<String, Integer>> remaining = new LinkedHashMap<>();
+        for (Actor actor : Actor.values()) {
+            Map<String, Integer> left = new LinkedHashMap<>();
+            left.put("turns", Math.max(0, DialogueRules.MAX_TURNS - s.turnsUsed(actor)));
+            left.put("challenges", s.challengesLeft(actor));
+            left.put("rebuttals", s.rebuttalsLeft(actor));
+            remaining.put(actor.label(), left);
+        }
+
+        List<DialogueMoveDTO> history = new ArrayList<>(s.historySize());
+        for (int i = 0; i < s.historySize(); ) {
+            MoveType type = s.historyType(i);
+            Actor actor = s.historyActor(i);
+            List<Integer> statements = null;
+            int j = i;
+            if (type == MoveType.ACCEPT || type == MoveType.SKIP) {
+                j = i + 1;
+            } else {
+                statements = new ArrayList<>();
+                do {
+                    statements.add(s.historyStatement(j++));
+                } while (type == MoveType.JUSTIFY && j < s.historySize()
+                        && s.historyType(j) == MoveType.JUSTIFY && s.historyActor(j) == actor);
+            }
+            history.add(new DialogueMoveDTO(actor.label(), type.label(), statements,
+                    Instant.ofEpochMilli(s.historyTimeMillis(i)).toString()));
+            i = j;
+        }
+
+        return new DialogueStateDTO(
+                Long.toString(s.id()),
+                s.topic(),
+                s.rootClaimId(),
+                s.turn().label(),
+                allowed,
+                s.pendingChallenge() == 0 ? null : s.pendingChallenge(),
+                s.ended(),
+                s.endReason() == null ? null : s.endReason().name(),
+                s.winner() == null ? null : s.winner().label(),
+                remaining,
+                history
+        );
+    }
+}
@@ -0,0 +1,181 @@
+package com.argumentation.backendapi.service.impl;
+
+import com.argumentation.backendapi.event.CorpusImportedEvent;
+import com.argumentation.backendapi.event.RebuttalCreatedEvent;
+import com.argumentation.backendapi.graph.ArgumentGraph;
+import com.argumentation.backendapi.model.StatementRow;
+import com.argumentation.backendapi.repository.StatementRepository;
+import com.argumentation.backendapi.search.LshIndex;
+import com.argumentation.backendapi.search.MinHash;
+import com.argumentation.backendapi.service.ArgumentGraphService;
+import com.argumentation.backendapi.service.DuplicateRebuttalService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+/**
+ * DuplicateRebuttalServiceImpl
+ * -----------------------------
+ * Keeps one LshIndex of MinHash signatures per target claim.
+ *
+ *   - A target's index is built on first use from its committed rebuttals
+ *     in the in-memory graph and then kept current by RebuttalCreatedEvent
+ *     after commit. A rebuttal committed while the index is built is either
+ *     added by the event or found by a second pass over the graph once the
+ *     index is published; IDs already indexed are skipped.
+ *   - Until the graph is loaded, the rebuttals come from one projection
+ *     query in the caller's transaction. That can include uncommitted rows,
+ *     so such an index serves one lookup and is not kept.
+ *   - Lookups hash the new text once (64 hash functions over its word
+ *     bigrams) and compare only against rebuttals sharing an LSH band, which
+ *     takes microseconds even on claims with thousands of rebuttals.
+ *   - At most max-targets indexes are kept, least recently used first out;
+ *     a bulk import drops them all.
+ *   - A bulk request keeps a small index per target of its own rebuttals
+ *     (Batch), so its items are also checked against each other.
+ *
+ * Configuration:
+ *   - argumentation.dedup.mode         (default flag)   off | flag | merge
+ *   - argumentation.dedup.threshold    (default 0.8)    estimated Jaccard similarity of word bigrams
+ *   - argumentation.dedup.max-targets  (default 10000)  target claims whose index stays in memory
+ */
+@Service
+public class DuplicateRebuttalServiceImpl implements DuplicateRebuttalService {
+
+    private final ArgumentGraphService argumentGraphService;
+    private final StatementRepository statementRepository;
+    private final Mode mode;
+    private final double threshold;
+    private final Map<Integer, LshIndex> indexes;
+
+    public DuplicateRebuttalServiceImpl(ArgumentGraphService argumentGraphService,
+                                        StatementRepository statementRepository,
+                                        @Value("${argumentation.dedup.mode:flag}") String mode,
+                                        @Value("${argumentation.dedup.threshold:0.8}") double threshold,
+                                        @Value("${argumentation.dedup.max-targets:10000}") int maxTargets) {
+        this.argumentGraphService = argumentGraphService;
+        this.statementRepository = statementRepository;
+        this.mode = Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        this.threshold = threshold;
+        int capacity = Math.max(1, maxTargets);
+        this.indexes = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, LshIndex> eldest) {
+                return size() > capacity;
+            }
+        });
+    }
+
+    @Override
+    public Mode mode() {
+        return mode;
+    }
+
+    @Override
+    public Optional<LshIndex.Match> findDuplicate(int targetId, String text) {
+        if (mode == Mode.OFF) {
+            return Optional.empty();
+        }
+        int[] signature = MinHash.signature(text);
+        return signature == null ? Optional.empty() : Optional.ofNullable(mostSimilar(targetId, signature));
+    }
+
+    @Override
+    public Batch batch() {
+        return new BulkBatch();
+    }
+
+    private LshIndex.Match mostSimilar(int targetId, int[] signature) {
+        LshIndex index = indexFor(targetId);
+        synchronized (index) {
+            return index.mostSimilar(signature, threshold);
+        }
+    }
+
+    /** Adds a committed rebuttal to its target's index, if that index is loaded. */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRebuttalCreated(RebuttalCreatedEvent event) {
+        LshIndex index = indexes.get(event.targetId());
+        int[] signature = MinHash.signature(event.text());
+        if (index == null || signature == null) {
+            return;
+        }
+        synchronized (index) {
+            index.add(event.statementId(), signature);
+        }
+    }
+
+    @EventListener
+    public void onCorpusImported(CorpusImportedEvent event) {
+        indexes.clear();
+    }
+
+    /** Returns the target's index, building it from its committed rebuttals on first use. */
+    private LshIndex indexFor(int targetId) {
+        LshIndex index = indexes.get(targetId);
+        if (index != null) {
+            return index;
+        }
+        Optional<ArgumentGraph> graph = argumentGraphService.graph();
+        if (graph.isEmpty()) {
+            return build(new LshIndex(), statementRepository.findRebuttalRowsByTargetIds(List.of(targetId)));
+        }
+
+        LshIndex fresh = build(new LshIndex(), graph.get().rebuttalRows(List.of(targetId)));
+        // Another request may have built it meanwhile; keep the first one
+        LshIndex existing = indexes.putIfAbsent(targetId, fresh);
+        if (existing != null) {
+            return existing;
+        }
+        // Rebuttals committed between the scan and putIfAbsent found no index to join: pick them up now
+        synchronized (fresh) {
+            return build(fresh, graph.get().rebuttalRows(List.of(targetId)));
+        }
+    }
+
+    /** The rebuttals one bulk request saved so far, per target; used by one thread. */
+    private final class BulkBatch implements Batch {
+
+        private final Map<Integer, LshIndex> saved = new HashMap<>();
+
+        @Override
+        public Optional<LshIndex.Match> findDuplicate(int targetId, String text) {
+            if (mode == Mode.OFF) {
+                return Optional.empty();
+            }
+            int[] signature = MinHash.signature(text);
+            if (signature == null) {
+                return Optional.empty();
+            }
+            LshIndex.Match committed = mostSimilar(targetId, signature);
+            LshIndex batchIndex = saved.get(targetId);
+            LshIndex.Match inBatch = batchIndex == null ? null : batchIndex.mostSimilar(signature, threshold);
+            if (committed == null || (inBatch != null && inBatch.similarity() > committed.similarity())) {
+                return Optional.ofNullable(inBatch);
+            }
+            return Optional.of(committed);
+        }
+
+        @Override
+        public void add(int targetId, int statementId, String text) {
+            int[] signature = mode == Mode.OFF ? null : MinHash.signature(text);
+            if (signature != null) {
+                saved.computeIfAbsent(targetId, k -> new LshIndex()).add(statementId, signature);
+            }
+        }
+    }
+
+    private static LshIndex build(LshIndex index, List<StatementRow> rows) {
+        for (StatementRow row : rows) {
+            int[] signature = MinHash.signature(row.getText());
+            if (signature != null) {
+                index.add(row.getId(), signature);
+            }
+        }
+        return index;
+    }
+}
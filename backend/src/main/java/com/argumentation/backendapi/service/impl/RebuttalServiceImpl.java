@@ -1,15 +1,24 @@
 package com.argumentation.backendapi.service.impl;
 
+import com.argumentation.backendapi.event.RebuttalCreatedEvent;
+import com.argumentation.backendapi.graph.ArgumentGraph;
 import com.argumentation.backendapi.model.*;
 import com.argumentation.backendapi.repository.ArgumentRepository;
 import com.argumentation.backendapi.repository.SourceRepository;
 import com.argumentation.backendapi.repository.StatementRepository;
+import com.argumentation.backendapi.search.LshIndex;
+import com.argumentation.backendapi.service.ArgumentGraphService;
+import com.argumentation.backendapi.service.DuplicateRebuttalService;
 import com.argumentation.backendapi.service.RebuttalService;
+import com.argumentation.backendapi.service.SemanticsService;
+import com.argumentation.backendapi.service.SubtreeService;
 import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 
 /**
  * RebuttalServiceImpl
@@ -17,10 +26,24 @@ import java.util.Optional;
  * Implements creation and retrieval of rebuttals.
  * Flow for create:
  *   1) Validate input & ensure target statement exists
+ *   1b) Look for a near-duplicate among the target's rebuttals (MinHash/LSH);
+ *       in merge mode answer with the existing rebuttal and save nothing
  *   2) Upsert Source (defaults to "User" if not provided)
  *   3) Create new Statement with counter_statement = target
  *   4) Create new Argument pointing to the new statement
- *   5) Return a compact DTO for the frontend
+ *   4b) Add the new leaf to statement_closure (same transaction)
+ *   5) Preview the acceptability labels that change downstream of the new
+ *      attack (the maintained labelling is updated after commit)
+ *   6) Publish a RebuttalCreatedEvent; after commit, listeners add it to the
+ *      in-memory graph and labelling, indexes, rankings and caches
+ *   7) Return a compact DTO (including the changed labels) for the frontend
+ * Bulk create runs the same flow for every request in one transaction
+ * (at most argumentation.rebuttal.bulk-max-size, default 1000). Its items
+ * are not committed while the later ones are checked, so the flow carries
+ * them along (Bulk): each item is also deduplicated against the items saved
+ * before it (in merge mode answered with the earlier item), and its preview
+ * includes their attacks.
+ * Reads are served from the in-memory graph when it is loaded.
  */
 @Service
 public class RebuttalServiceImpl implements RebuttalService {
@@ -28,14 +51,32 @@ public class RebuttalServiceImpl implements RebuttalService {
     private final StatementRepository statementRepository;
     private final SourceRepository sourceRepository;
     private final ArgumentRepository argumentRepository;
+    private final ArgumentGraphService argumentGraphService;
+    private final SemanticsService semanticsService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DuplicateRebuttalService duplicateRebuttalService;
+    private final SubtreeService subtreeService;
+    private final int bulkMaxSize;
 
     // Constructor injection for repositories (testable, immutable)
     public RebuttalServiceImpl(StatementRepository statementRepository,
                                SourceRepository sourceRepository,
-                               ArgumentRepository argumentRepository) {
+                               ArgumentRepository argumentRepository,
+                               ArgumentGraphService argumentGraphService,
+                               SemanticsService semanticsService,
+                               ApplicationEventPublisher eventPublisher,
+                               DuplicateRebuttalService duplicateRebuttalService,
+                               SubtreeService subtreeService,
+                               @Value("${argumentation.rebuttal.bulk-max-size:1000}") int bulkMaxSize) {
         this.statementRepository = statementRepository;
         this.sourceRepository = sourceRepository;
         this.argumentRepository = argumentRepository;
+        this.argumentGraphService = argumentGraphService;
+        this.semanticsService = semanticsService;
+        this.eventPublisher = eventPublisher;
+        this.duplicateRebuttalService = duplicateRebuttalService;
+        this.subtreeService = subtreeService;
+        this.bulkMaxSize = Math.max(1, bulkMaxSize);
     }
 
     /**
@@ -46,6 +87,11 @@ public class RebuttalServiceImpl implements RebuttalService {
     @Override
     @Transactional
     public RebuttalCreateResponse createRebuttal(RebuttalCreateRequest request) {
+        return create(request, null);
+    }
+
+    /** The create flow; {@code bulk} carries the items of a bulk request saved so far (null for one rebuttal). */
+    private RebuttalCreateResponse create(RebuttalCreateRequest request, Bulk bulk) {
         // Basic validation: must have target and non-blank text
         if (request.getTargetClaimId() == null || request.getText() == null || request.getText().isBlank()) {
             throw new IllegalArgumentException("targetClaimId and text are required");
@@ -55,6 +101,32 @@ public class RebuttalServiceImpl implements RebuttalService {
         StatementEntity target = statementRepository.findById(request.getTargetClaimId())
                 .orElseThrow(() -> new IllegalArgumentException("Target statement not found: " + request.getTargetClaimId()));
 
+        // 1b) Near-duplicate check against the target's existing rebuttals
+        Integer duplicateOf = (bulk != null
+                ? bulk.duplicates().findDuplicate(target.getId(), request.getText())
+                : duplicateRebuttalService.findDuplicate(target.getId(), request.getText()))
+                .map(LshIndex.Match::id)
+                .orElse(null);
+        if (duplicateOf != null && duplicateRebuttalService.mode() == DuplicateRebuttalService.Mode.MERGE) {
+            RebuttalCreateResponse earlier = bulk != null ? bulk.created().get(duplicateOf) : null;
+            if (earlier != null) {
+                return new RebuttalCreateResponse(earlier.getArgumentId(), earlier.getStatementId(),
+                        earlier.getText(), earlier.getSource(), null, duplicateOf);
+            }
+            StatementEntity existing = statementRepository.findById(duplicateOf).orElse(null);
+            if (existing != null) {
+                return new RebuttalCreateResponse(
+                        argumentRepository.findFirstByClaim_Id(existing.getId()).map(ArgumentEntity::getId).orElse(null),
+                        existing.getId(),
+                        existing.getText(),
+                        existing.getSource() != null ? existing.getSource().getName() : null,
+                        null,
+                        duplicateOf
+                );
+            }
+            duplicateOf = null; // deleted meanwhile: save the new one
+        }
+
         // 2) Upsert/ensure Source (default to "User" if none provided)
         String sourceName = (request.getSource() == null || request.getSource().isBlank()) ? "User" : request.getSource();
         SourceEntity source = sourceRepository.findById(sourceName)
@@ -79,40 +151,125 @@ public class RebuttalServiceImpl implements RebuttalService {
         rebuttalArg.setSource(source);
         rebuttalArg = argumentRepository.save(rebuttalArg);
 
-        // 5) Return lightweight response DTO for the frontend
-        return new RebuttalCreateResponse(
+        // 4b) Keep the closure table in step (rolled back with the rest)
+        subtreeService.recordRebuttal(rebuttalStmt.getId(), target.getId());
+
+        // 5) Preview the labels that change downstream of the new attack edge (applied after commit)
+        Map<Integer, String> statusChanges = bulk != null
+                ? bulk.preview().add(rebuttalStmt.getId(), target.getId())
+                : semanticsService.previewRebuttal(rebuttalStmt.getId(), target.getId());
+
+        // 6) Notify the graph, labels, rankings, indexes and caches (delivered after commit)
+        eventPublisher.publishEvent(new RebuttalCreatedEvent(rebuttalStmt.getId(), target.getId(),
+                rebuttalArg.getId(), rebuttalStmt.getText(), source.getName(), statusChanges));
+
+        // 7) Return lightweight response DTO for the frontend
+        RebuttalCreateResponse response = new RebuttalCreateResponse(
                 rebuttalArg.getId(),
                 rebuttalStmt.getId(),
                 rebuttalStmt.getText(),
-                source.getName()
+                source.getName(),
+                statusChanges,
+                duplicateOf
         );
+        if (bulk != null) {
+            bulk.duplicates().add(target.getId(), rebuttalStmt.getId(), rebuttalStmt.getText());
+            bulk.created().put(rebuttalStmt.getId(), response);
+        }
+        return response;
+    }
+
+    /**
+     * Creates many rebuttals in one transaction: all of them are saved, or none.
+     * Statement and argument IDs come from the pooled generator, so their inserts
+     * wait for the commit and go out as JDBC batches (hibernate.jdbc.batch_size,
+     * ordered inserts) instead of two round trips per rebuttal.
+     */
+    @Override
+    @Transactional
+    public List<RebuttalCreateResponse> createRebuttals(List<RebuttalCreateRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            return List.of();
+        }
+        if (requests.size() > bulkMaxSize) {
+            throw new IllegalArgumentException("At most " + bulkMaxSize + " rebuttals per request, got "
+                    + requests.size());
+        }
+        Bulk bulk = new Bulk(duplicateRebuttalService.batch(), semanticsService.previewRebuttals(), new HashMap<>());
+        List<RebuttalCreateResponse> created = new ArrayList<>(requests.size());
+        for (RebuttalCreateRequest request : requests) {
+            created.add(create(request, bulk));
+        }
+        return created;
+    }
+
+    /**
+     * State of one bulk request: its saved rebuttals for deduplication, the
+     * preview of their attacks, and their responses by statement ID.
+     */
+    private record Bulk(DuplicateRebuttalService.Batch duplicates,
+                        SemanticsService.RowPreview preview,
+                        Map<Integer, RebuttalCreateResponse> created) {
     }
 
     /**
      * Retrieves all rebuttals that directly oppose the given target claim.
-     * We look for statements whose counter_statement == targetClaimId,
-     * and (optionally) resolve their Argument IDs if present.
+     * Delegates to the bulk variant so that a single projection query
+     * (statement, source name and argument ID in one join) serves the request.
      */
     @Override
     public List<RebuttalCreateResponse> getRebuttalsForTarget(Integer targetClaimId) {
-        // Find all statements that cite the target as their counter_statement
-        List<StatementEntity> rebuttalStatements = statementRepository.findByCounterStatement_Id(targetClaimId);
-
-        // Map each statement to a response; argumentId resolved if an Argument exists
-        return rebuttalStatements.stream().map(stmt -> {
-            Integer argumentId = argumentRepository.findByClaim_Id(stmt.getId())
-                    .stream()
-                    .findFirst()
-                    .map(ArgumentEntity::getId)
-                    .orElse(null);
-
-            return new RebuttalCreateResponse(
-                    argumentId,
-                    stmt.getId(),
-                    stmt.getText(),
-                    (stmt.getSource() != null ? stmt.getSource().getName() : null)
-            );
-        }).toList();
+        if (targetClaimId == null) {
+            return List.of();
+        }
+        return getRebuttalsForTargets(List.of(targetClaimId)).get(targetClaimId);
+    }
+
+    /**
+     * Retrieves the rebuttals of many target claims with one graph lookup or one query.
+     * We look for statements whose counter_statement is in targetClaimIds;
+     * the argument ID and source name come back in the same row, so no
+     * per-rebuttal lookups (and no eager entity loading) are needed.
+     */
+    @Override
+    public Map<Integer, List<RebuttalCreateResponse>> getRebuttalsForTargets(Collection<Integer> targetClaimIds) {
+        // Every requested target gets an entry, even if it has no rebuttals
+        Map<Integer, List<RebuttalCreateResponse>> result = new LinkedHashMap<>();
+        for (Integer targetId : targetClaimIds) {
+            if (targetId != null) {
+                result.put(targetId, new ArrayList<>());
+            }
+        }
+        if (result.isEmpty()) {
+            return result;
+        }
+
+        Optional<ArgumentGraph> graph = argumentGraphService.readGraph();
+        List<StatementRow> rows = graph.isPresent()
+                ? graph.get().rebuttalRows(result.keySet())
+                : statementRepository.findRebuttalRowsByTargetIds(result.keySet());
+
+        for (StatementRow row : rows) {
+            result.get(row.getParentId()).add(new RebuttalCreateResponse(
+                    row.getArgumentId(),
+                    row.getId(),
+                    row.getText(),
+                    row.getSource()
+            ));
+        }
+        return result;
     }
 
+    /**
+     * Retrieves one keyset page of a target's rebuttals from the database
+     * (limit + 1 rows, the extra one only signals that another page follows).
+     */
+    @Override
+    public KeysetPage<RebuttalCreateResponse> getRebuttalPage(Integer targetClaimId, int afterId, int limit) {
+        List<RebuttalCreateResponse> rows = new ArrayList<>();
+        for (StatementRow row : statementRepository.findRebuttalRowsAfter(targetClaimId, afterId, Limit.of(limit + 1))) {
+            rows.add(new RebuttalCreateResponse(row.getArgumentId(), row.getId(), row.getText(), row.getSource()));
+        }
+        return KeysetPage.of(rows, limit, RebuttalCreateResponse::getStatementId);
+    }
 }
@@ -0,0 +1,160 @@
+package com.argumentation.backendapi.service.impl;
+
+import com.argumentation.backendapi.event.RebuttalCreatedEvent;
+import com.argumentation.backendapi.model.RebuttalCreateResponse;
+import com.argumentation.backendapi.service.RebuttalStreamService;
+import com.argumentation.backendapi.stream.FanOutHub;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RebuttalStreamServiceImpl
+ * --------------------------
+ * SSE front of a FanOutHub keyed by target claim ID.
+ *
+ * Flow:
+ *   1. createRebuttal commits and publishes RebuttalCreatedEvent.
+ *   2. onRebuttalCreated (AFTER_COMMIT, so rolled-back rebuttals are never
+ *      pushed) queues the rebuttal for every subscriber of its target.
+ *   3. Deliveries run on virtual threads: a slow client blocks only its own
+ *      delivery, and rebuttals that pile up meanwhile go out as one event.
+ *   4. A reconnecting EventSource sends the last event ID it saw; the hub
+ *      replays what it kept for the claim after that ID, or sends resync.
+ *
+ * Events (EventSource names):
+ *   rebuttals  data: [RebuttalCreateResponse, ...] (same shape as GET /api/rebuttals,
+ *              plus statusChanges); id: the hub's event ID of the last rebuttal in the
+ *              batch. Event IDs follow commit order, statement IDs need not
+ *   resync     data: {"targetClaimId": N}; the client fell more than
+ *              max-pending rebuttals behind, or reconnected with an ID older
+ *              than what is kept for replay, and should reload the list
+ *   heartbeat comments every heartbeat-seconds keep proxies from closing idle streams
+ *
+ * Configuration:
+ *   - argumentation.stream.max-subscribers    (default 10000)
+ *   - argumentation.stream.max-pending        (default 256)
+ *   - argumentation.stream.timeout-minutes    (default 30; EventSource reconnects on its own)
+ *   - argumentation.stream.heartbeat-seconds  (default 20)
+ *   - argumentation.stream.replay-size        (default 64 rebuttals kept per claim)
+ *   - argumentation.stream.replay-seconds     (default 300)
+ */
+@Service
+public class RebuttalStreamServiceImpl implements RebuttalStreamService {
+
+    private final long timeoutMillis;
+    private final ExecutorService deliveries = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService heartbeats;
+    private final FanOutHub<RebuttalCreateResponse> hub;
+
+    public RebuttalStreamServiceImpl(@Value("${argumentation.stream.max-subscribers:10000}") int maxSubscribers,
+                                     @Value("${argumentation.stream.max-pending:256}") int maxPending,
+                                     @Value("${argumentation.stream.timeout-minutes:30}") long timeoutMinutes,
+                                     @Value("${argumentation.stream.heartbeat-seconds:20}") long heartbeatSeconds,
+                                     @Value("${argumentation.stream.replay-size:64}") int replaySize,
+                                     @Value("${argumentation.stream.replay-seconds:300}") long replaySeconds) {
+        this.timeoutMillis = Math.max(1, timeoutMinutes) * 60_000;
+        this.hub = new FanOutHub<>(deliveries, maxPending, maxSubscribers, replaySize,
+                Math.max(0, replaySeconds) * 1000);
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "rebuttal-stream-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1, heartbeatSeconds);
+        heartbeats.scheduleAtFixedRate(hub::heartbeat, period, period, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public SseEmitter subscribe(Integer targetClaimId, String lastEventId) {
+        if (targetClaimId == null) {
+            throw new IllegalArgumentException("targetClaimId is required");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        // Reconnect: the hub first queues what it kept for the claim after the client's last event
+        FanOutHub<RebuttalCreateResponse>.Subscription subscription =
+                hub.subscribe(targetClaimId, new EmitterSink(emitter, targetClaimId), parseId(lastEventId));
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(e -> subscription.close());
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRebuttalCreated(RebuttalCreatedEvent event) {
+        hub.publish(event.targetId(), new RebuttalCreateResponse(event.argumentId(), event.statementId(),
+                event.text(), event.source(), event.statusChanges()));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeats.shutdownNow();
+        deliveries.shutdownNow();
+    }
+
+    /** Null when there is no Last-Event-ID; an unreadable one is treated as too old (resync). */
+    private static Long parseId(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    /** Writes hub deliveries to one SSE connection. */
+    private static final class EmitterSink implements FanOutHub.Sink<RebuttalCreateResponse> {
+
+        private final SseEmitter emitter;
+        private final int targetClaimId;
+
+        EmitterSink(SseEmitter emitter, int targetClaimId) {
+            this.emitter = emitter;
+            this.targetClaimId = targetClaimId;
+        }
+
+        @Override
+        public void send(List<FanOutHub.Event<RebuttalCreateResponse>> batch) throws IOException {
+            List<RebuttalCreateResponse> rebuttals = new ArrayList<>(batch.size());
+            for (FanOutHub.Event<RebuttalCreateResponse> event : batch) {
+                rebuttals.add(event.item());
+            }
+            emitter.send(SseEmitter.event()
+                    .id(Long.toString(batch.get(batch.size() - 1).id()))
+                    .name("rebuttals")
+                    .data(rebuttals, MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void overflow() throws IOException {
+            emitter.send(SseEmitter.event()
+                    .name("resync")
+                    .data(Map.of("targetClaimId", targetClaimId), MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void heartbeat() throws IOException {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        }
+
+        @Override
+        public void closed() {
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.argumentation.backendapi.service.impl;
+
+import com.argumentation.backendapi.event.CorpusImportedEvent;
+import com.argumentation.backendapi.event.RebuttalCreatedEvent;
+import com.argumentation.backendapi.graph.ArgumentGraph;
+import com.argumentation.backendapi.model.ClaimArgumentRow;
+import com.argumentation.backendapi.model.SearchHitDTO;
+import com.argumentation.backendapi.model.StatementEntity;
+import com.argumentation.backendapi.repository.ArgumentRepository;
+import com.argumentation.backendapi.repository.StatementRepository;
+import com.argumentation.backendapi.search.InvertedIndex;
+import com.argumentation.backendapi.service.ArgumentGraphService;
+import com.argumentation.backendapi.service.SearchService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.util.*;
+
+/**
+ * SearchServiceImpl
+ * ------------------
+ * Owns the InvertedIndex behind /api/search.
+ *
+ * Lifecycle:
+ *   - Built at startup with two streaming JDBC scans (statements.text,
+ *     topics.name), like the argument graph.
+ *   - Each committed rebuttal is appended (RebuttalCreatedEvent, AFTER_COMMIT).
+ *   - A bulk import rebuilds the index from scratch and swaps it in; rebuttals
+ *     committed while the scan runs are queued and all replayed onto the new
+ *     index (statement IDs are not in commit order, so "seen by the scan"
+ *     cannot be told by ID; the index skips IDs it already holds).
+ *
+ * Hits carry IDs only; statement texts and argument IDs come from the
+ * in-memory argument graph when it serves reads, otherwise from two
+ * queries per search (findAllById, findArgumentIdRowsByClaimIds).
+ *
+ * Configuration:
+ *   - argumentation.search.enabled  (default true)  build the index at startup
+ */
+@Service
+public class SearchServiceImpl implements SearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchServiceImpl.class);
+
+    /** Largest accepted limit */
+    public static final int MAX_LIMIT = 50;
+
+    /** Rows fetched per round trip while scanning the tables */
+    private static final int FETCH_SIZE = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ArgumentGraphService argumentGraphService;
+    private final StatementRepository statementRepository;
+    private final ArgumentRepository argumentRepository;
+    private final boolean enabled;
+
+    private volatile InvertedIndex current;
+
+    /** Rebuttals committed during a rebuild; guarded by swapLock, null when no rebuild runs */
+    private List<RebuttalCreatedEvent> pendingDuringRebuild;
+    private final Object swapLock = new Object();
+    private final Object rebuildLock = new Object();
+
+    public SearchServiceImpl(DataSource dataSource,
+                             ArgumentGraphService argumentGraphService,
+                             StatementRepository statementRepository,
+                             ArgumentRepository argumentRepository,
+                             @Value("${argumentation.search.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.argumentGraphService = argumentGraphService;
+        this.statementRepository = statementRepository;
+        this.argumentRepository = argumentRepository;
+        this.enabled = enabled;
+    }
+
+    /** Builds the index once the application has started. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /** Rebuilds the index after a bulk import, unless it has not been built yet. */
+    @EventListener
+    public void onCorpusImported(CorpusImportedEvent event) {
+        if (current != null) {
+            rebuild();
+        }
+    }
+
+    /** Makes a committed rebuttal searchable. */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRebuttalCreated(RebuttalCreatedEvent event) {
+        synchronized (swapLock) {
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+            }
+            InvertedIndex index = current;
+            if (index != null) {
+                index.addStatement(event.statementId(), event.text());
+            }
+        }
+    }
+
+    @Override
+    public List<SearchHitDTO> search(String query, int limit) {
+        InvertedIndex index = current;
+        if (index == null) {
+            throw new IllegalStateException("Search index is not built yet");
+        }
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        List<InvertedIndex.Hit> hits = index.search(query, Math.max(1, Math.min(limit, MAX_LIMIT)));
+        return resolve(hits);
+    }
+
+    @Override
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (rebuildLock) {
+            synchronized (swapLock) {
+                pendingDuringRebuild = new ArrayList<>();
+            }
+            try {
+                long started = System.nanoTime();
+                InvertedIndex fresh = new InvertedIndex();
+
+                // 1) Statements
+                jdbcTemplate.query("select id, text from statements order by id",
+                        (RowCallbackHandler) rs -> fresh.addStatement(rs.getInt(1), rs.getString(2)));
+
+                // 2) Topic names
+                jdbcTemplate.query("select id, name from topics order by id",
+                        (RowCallbackHandler) rs -> fresh.addTopic(rs.getInt(1), rs.getString(2)));
+                fresh.trim();
+
+                // 3) Replay every rebuttal committed meanwhile (those the scan saw are skipped), then publish
+                synchronized (swapLock) {
+                    for (RebuttalCreatedEvent event : pendingDuringRebuild) {
+                        fresh.addStatement(event.statementId(), event.text());
+                    }
+                    current = fresh;
+                }
+                log.info("Search index built: {} documents, {} terms, ~{} KB postings in {} ms",
+                        fresh.documentCount(), fresh.termCount(), fresh.postingsBytes() / 1024,
+                        (System.nanoTime() - started) / 1_000_000);
+            } finally {
+                synchronized (swapLock) {
+                    pendingDuringRebuild = null;
+                }
+            }
+        }
+    }
+
+    // ────────────────────────────────
+    // Hit resolution
+    // ────────────────────────────────
+
+    private List<SearchHitDTO> resolve(List<InvertedIndex.Hit> hits) {
+        Optional<ArgumentGraph> graph = argumentGraphService.readGraph();
+        List<Integer> statementIds = graph.isPresent() ? List.of() : statementIds(hits);
+        Map<Integer, StatementEntity> entities = loadStatements(statementIds);
+        Map<Integer, Integer> argumentIds = loadArgumentIds(statementIds);
+
+        List<SearchHitDTO> result = new ArrayList<>(hits.size());
+        for (InvertedIndex.Hit hit : hits) {
+            if (hit.type() == InvertedIndex.TYPE_TOPIC) {
+                result.add(new SearchHitDTO("topic", hit.id(), hit.name(), hit.score(), null));
+                continue;
+            }
+            String text;
+            Integer argumentId;
+            if (graph.isPresent()) {
+                int index = graph.get().indexOfStatement(hit.id());
+                if (index < 0) {
+                    continue; // not in the graph yet
+                }
+                text = graph.get().textAt(index);
+                argumentId = graph.get().argumentIdOfClaim(hit.id());
+            } else {
+                StatementEntity entity = entities.get(hit.id());
+                if (entity == null) {
+                    continue;
+                }
+                text = entity.getText();
+                argumentId = argumentIds.get(hit.id());
+            }
+            result.add(new SearchHitDTO("statement", hit.id(), text, hit.score(), argumentId));
+        }
+        return result;
+    }
+
+    private static List<Integer> statementIds(List<InvertedIndex.Hit> hits) {
+        List<Integer> ids = new ArrayList<>();
+        for (InvertedIndex.Hit hit : hits) {
+            if (hit.type() == InvertedIndex.TYPE_STATEMENT) {
+                ids.add(hit.id());
+            }
+        }
+        return ids;
+    }
+
+    private Map<Integer, StatementEntity> loadStatements(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<Integer, StatementEntity> byId = new HashMap<>();
+        for (StatementEntity entity : statementRepository.findAllById(ids)) {
+            byId.put(entity.getId(), entity);
+        }
+        return byId;
+    }
+
+    /** Claim ID → lowest argument ID, for the hits that are the claim of an argument (at most MAX_LIMIT IDs) */
+    private Map<Integer, Integer> loadArgumentIds(List<Integer> claimIds) {
+        if (claimIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Integer, Integer> byClaim = new HashMap<>();
+        for (ClaimArgumentRow row : argumentRepository.findArgumentIdRowsByClaimIds(claimIds)) {
+            byClaim.put(row.getClaimId(), row.getArgumentId());
+        }
+        return byClaim;
+    }
+}
@@ -0,0 +1,159 @@
+package com.argumentation.backendapi.service.impl;
+
+import com.argumentation.backendapi.event.LabelsChangedEvent;
+import com.argumentation.backendapi.event.RebuttalCreatedEvent;
+import com.argumentation.backendapi.event.RebuttalPlacedEvent;
+import com.argumentation.backendapi.graph.*;
+import com.argumentation.backendapi.model.SemanticsResponse;
+import com.argumentation.backendapi.service.ArgumentGraphService;
+import com.argumentation.backendapi.service.SemanticsService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+/**
+ * SemanticsServiceImpl
+ * ---------------------
+ * Evaluates acceptability on the in-memory ArgumentGraph:
+ *   1) Extract the topic's attack framework (statements reachable from the root claim)
+ *   2) Grounded labelling with the linear-time worklist solver
+ *   3) Optionally, preferred/stable extensions with the backtracking solver,
+ *      which only searches the UNDEC part left by step 2
+ *
+ * It also maintains a grounded labelling of the whole graph that is updated
+ * incrementally when rebuttals are created (see IncrementalGrounded), so a
+ * write only pays for the part of the graph it actually affects. The
+ * labelling only ever reflects committed rebuttals: RebuttalService asks for
+ * a preview of the changes inside its transaction, and the attack is applied
+ * once the RebuttalCreatedEvent is delivered after commit. The changes that
+ * applying it really made are published as a LabelsChangedEvent; the
+ * preview may differ from them when concurrent rebuttals commit in between.
+ */
+@Service
+public class SemanticsServiceImpl implements SemanticsService {
+
+    private final ArgumentGraphService argumentGraphService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** Whole-graph labelling; rebuilt lazily when the graph instance is swapped by a reload */
+    private volatile IncrementalGrounded labelling;
+
+    public SemanticsServiceImpl(ArgumentGraphService argumentGraphService, ApplicationEventPublisher eventPublisher) {
+        this.argumentGraphService = argumentGraphService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public Optional<SemanticsResponse> evaluate(String topicName, boolean includeExtensions) {
+        ArgumentGraph graph = argumentGraphService.graph()
+                .orElseThrow(() -> new IllegalStateException("Argument graph is not loaded yet"));
+        return graph.topicFramework(topicName).map(af -> evaluate(topicName, af, includeExtensions));
+    }
+
+    private static SemanticsResponse evaluate(String topicName, AttackFramework af, boolean includeExtensions) {
+        byte[] labels = GroundedSolver.solve(af);
+        Map<Integer, String> grounded = new LinkedHashMap<>();
+        for (int v = 0; v < af.size(); v++) {
+            grounded.put(af.id(v), Label.of(labels[v]).name());
+        }
+
+        if (!includeExtensions) {
+            return new SemanticsResponse(topicName, af.size(), af.attackCount(), grounded, null, null, true);
+        }
+
+        ExtensionSolver.Result extensions = ExtensionSolver.solve(af, labels);
+        return new SemanticsResponse(topicName, af.size(), af.attackCount(), grounded,
+                toLists(extensions.preferred()), toLists(extensions.stable()), extensions.exhaustive());
+    }
+
+    @Override
+    public Map<Integer, String> previewRebuttal(int rebuttalStatementId, int targetStatementId) {
+        Optional<ArgumentGraph> graph = argumentGraphService.graph();
+        if (graph.isEmpty()) {
+            return Map.of();
+        }
+        return names(labellingFor(graph.get()).previewAttack(rebuttalStatementId, targetStatementId));
+    }
+
+    @Override
+    public RowPreview previewRebuttals() {
+        Optional<ArgumentGraph> graph = argumentGraphService.graph();
+        if (graph.isEmpty()) {
+            return (rebuttalStatementId, targetStatementId) -> Map.of();
+        }
+        IncrementalGrounded.Preview preview = labellingFor(graph.get()).preview();
+        return (rebuttalStatementId, targetStatementId) -> names(preview.add(rebuttalStatementId, targetStatementId));
+    }
+
+    private static Map<Integer, String> names(Map<Integer, Label> changes) {
+        Map<Integer, String> result = new LinkedHashMap<>();
+        for (Map.Entry<Integer, Label> change : changes.entrySet()) {
+            result.put(change.getKey(), change.getValue().name());
+        }
+        return result;
+    }
+
+    /**
+     * Applies a committed rebuttal's attack to the maintained labelling. Runs
+     * after the graph has recorded the rebuttal (ORDER_GRAPH < ORDER_LABELS).
+     * A labelling computed here for a new graph instance already contains the
+     * attack, so addAttack then has nothing left to change.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Order(RebuttalCreatedEvent.ORDER_LABELS)
+    public void onRebuttalCreated(RebuttalCreatedEvent event) {
+        applyAttack(event.statementId(), event.targetId());
+    }
+
+    /**
+     * Applies the attack of a rebuttal the graph parked and appended late
+     * (its own RebuttalCreatedEvent found it missing, so addAttack changed nothing then).
+     */
+    @EventListener
+    public void onRebuttalPlaced(RebuttalPlacedEvent event) {
+        applyAttack(event.statementId(), event.targetId());
+    }
+
+    /** Applies an attack and publishes what it changed (null changes if the labelling was computed just now). */
+    private void applyAttack(int statementId, int targetId) {
+        Optional<ArgumentGraph> graph = argumentGraphService.graph();
+        if (graph.isEmpty()) {
+            return;
+        }
+        IncrementalGrounded existing = labelling;
+        IncrementalGrounded current = labellingFor(graph.get());
+        Map<Integer, Label> changes = current.addAttack(statementId, targetId);
+        eventPublisher.publishEvent(new LabelsChangedEvent(statementId, targetId, current == existing ? changes : null));
+    }
+
+    /** Returns the maintained labelling for this graph instance, computing it in full the first time. */
+    private IncrementalGrounded labellingFor(ArgumentGraph graph) {
+        IncrementalGrounded current = labelling;
+        if (current != null && current.graph() == graph) {
+            return current;
+        }
+        synchronized (this) {
+            if (labelling == null || labelling.graph() != graph) {
+                labelling = IncrementalGrounded.compute(graph);
+            }
+            return labelling;
+        }
+    }
+
+    private static List<List<Integer>> toLists(List<int[]> extensions) {
+        List<List<Integer>> result = new ArrayList<>(extensions.size());
+        for (int[] extension : extensions) {
+            List<Integer> ids = new ArrayList<>(extension.length);
+            for (int id : extension) {
+                ids.add(id);
+            }
+            result.add(ids);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,195 @@
+package com.argumentation.backendapi.service.impl;
+
+import com.argumentation.backendapi.cache.BoundedCache;
+import com.argumentation.backendapi.cache.CacheRegistry;
+import com.argumentation.backendapi.config.DatabaseFanOut;
+import com.argumentation.backendapi.event.CorpusImportedEvent;
+import com.argumentation.backendapi.event.RebuttalCreatedEvent;
+import com.argumentation.backendapi.graph.ArgumentGraph;
+import com.argumentation.backendapi.model.*;
+import com.argumentation.backendapi.repository.ArgumentRepository;
+import com.argumentation.backendapi.repository.PremiseRepository;
+import com.argumentation.backendapi.repository.TopicRepository;
+import com.argumentation.backendapi.service.ArgumentGraphService;
+import com.argumentation.backendapi.service.StructuredArgumentService;
+import jakarta.transaction.Transactional;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * StructuredArgumentServiceImpl
+ * ------------------------------
+ * Answers structured-argument reads from the in-memory ArgumentGraph when it
+ * is loaded, and from the JPA repositories otherwise (e.g. while the graph is
+ * still loading at startup, or when argumentation.graph.serve-reads=false).
+ * Both paths return the same JSON shape to the frontend.
+ *
+ * All three lookups go through read-through caches (see CacheRegistry for
+ * bounds and TTL). Misses are cached too (as empty Optionals), so unknown
+ * names and IDs do not reach the database either. Invalidation:
+ *   - RebuttalCreatedEvent: the new statement is now the claim of an
+ *     argument, and the new argument has an (empty) premise list, so exactly
+ *     those two keys are dropped after commit (ORDER_CACHES), before
+ *     ContentVersions moves their tags. The graph only holds committed
+ *     rows, so nothing uncommitted can have been cached
+ *   - CorpusImportedEvent: everything is dropped
+ * Cached lists are unmodifiable, as they are shared between requests.
+ *
+ * streamJustifications() and getJustificationPage() skip caches and graph:
+ * the first reads the premises through a database cursor straight into the
+ * caller's sink, the second reads one keyset page.
+ */
+@Service
+public class StructuredArgumentServiceImpl implements StructuredArgumentService {
+
+    private final TopicRepository topicRepository;
+    private final ArgumentRepository argumentRepository;
+    private final PremiseRepository premiseRepository;
+    private final ArgumentGraphService argumentGraphService;
+    private final DatabaseFanOut databaseFanOut;
+
+    private final BoundedCache<String, Optional<ClaimDTO>> rootClaims;
+    private final BoundedCache<Integer, Optional<List<ClaimDTO>>> justifications;
+    private final BoundedCache<Integer, Optional<Integer>> argumentIdsByClaim;
+
+    // Constructor injection for repositories and the graph (testable, immutable)
+    public StructuredArgumentServiceImpl(TopicRepository topicRepository,
+                                         ArgumentRepository argumentRepository,
+                                         PremiseRepository premiseRepository,
+                                         ArgumentGraphService argumentGraphService,
+                                         CacheRegistry cacheRegistry,
+                                         DatabaseFanOut databaseFanOut) {
+        this.topicRepository = topicRepository;
+        this.argumentRepository = argumentRepository;
+        this.premiseRepository = premiseRepository;
+        this.argumentGraphService = argumentGraphService;
+        this.databaseFanOut = databaseFanOut;
+        this.rootClaims = cacheRegistry.create("rootClaims",
+                (name, claim) -> 2L * name.length() + claim.map(CacheRegistry::weighClaim).orElse(16L));
+        this.justifications = cacheRegistry.create("justifications",
+                (id, rows) -> rows.map(CacheRegistry::weighClaims).orElse(16L));
+        this.argumentIdsByClaim = cacheRegistry.create("argumentIdsByClaim", (id, argumentId) -> 48);
+    }
+
+    @Override
+    public ClaimDTO getRootClaim(String topicName) {
+        return rootClaims.get(topicName, this::loadRootClaim)
+                .orElseThrow(() -> new RuntimeException("Topic not found: " + topicName));
+    }
+
+    @Override
+    public List<ClaimDTO> getJustifications(Integer argumentId) {
+        return justifications.get(argumentId, this::loadJustifications)
+                .orElseThrow(() -> new RuntimeException("Argument not found with ID: " + argumentId));
+    }
+
+    @Override
+    @Transactional
+    public void streamJustifications(Integer argumentId, Consumer<ClaimDTO> sink) {
+        if (!argumentRepository.existsById(argumentId)) {
+            throw new RuntimeException("Argument not found with ID: " + argumentId);
+        }
+        try (Stream<ClaimDTO> rows = premiseRepository.streamClaimsByArgumentId(argumentId)) {
+            rows.forEach(sink);
+        }
+    }
+
+    @Override
+    public KeysetPage<ClaimDTO> getJustificationPage(Integer argumentId, int afterId, int limit) {
+        DatabaseFanOut.Forked<Boolean> exists = databaseFanOut.fork(() -> argumentRepository.existsById(argumentId));
+        List<ClaimDTO> rows = premiseRepository.findClaimsByArgumentIdAfter(argumentId, afterId, Limit.of(limit + 1));
+        if (!exists.join()) {
+            throw new RuntimeException("Argument not found with ID: " + argumentId);
+        }
+        return KeysetPage.of(rows, limit, ClaimDTO::id);
+    }
+
+    @Override
+    public Optional<Integer> findArgumentIdByClaim(Integer claimId) {
+        return argumentIdsByClaim.get(claimId, this::loadArgumentIdByClaim);
+    }
+
+    // ────────────────────────────────
+    // Invalidation
+    // ────────────────────────────────
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Order(RebuttalCreatedEvent.ORDER_CACHES)
+    public void onRebuttalCreated(RebuttalCreatedEvent event) {
+        argumentIdsByClaim.invalidate(event.statementId());
+        justifications.invalidate(event.argumentId());
+    }
+
+    @EventListener
+    public void onCorpusImported(CorpusImportedEvent event) {
+        rootClaims.invalidateAll();
+        justifications.invalidateAll();
+        argumentIdsByClaim.invalidateAll();
+    }
+
+    // ────────────────────────────────
+    // Loaders (graph first, repositories as fallback)
+    // ────────────────────────────────
+
+    private Optional<ClaimDTO> loadRootClaim(String topicName) {
+        Optional<ArgumentGraph> graph = argumentGraphService.readGraph();
+        if (graph.isPresent()) {
+            return graph.get().rootClaim(topicName)
+                    .map(claim -> new ClaimDTO(claim.getId(), claim.getText(), claim.getSource()));
+        }
+
+        // Find topic by name; empty if not found
+        Optional<TopicEntity> topic = topicRepository.findByName(topicName);
+        if (topic.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // Extract related argument and its main claim (statement), fetched with the topic (ROOT_CLAIM graph)
+        StatementEntity claim = topic.get().getArgument().getClaim();
+        return Optional.of(new ClaimDTO(claim.getId(), claim.getText(),
+                claim.getSource() != null ? claim.getSource().getName() : null));
+    }
+
+    private Optional<List<ClaimDTO>> loadJustifications(Integer argumentId) {
+        Optional<ArgumentGraph> graph = argumentGraphService.readGraph();
+        if (graph.isPresent()) {
+            if (!graph.get().containsArgument(argumentId)) {
+                return Optional.empty();
+            }
+            List<StatementRow> rows = graph.get().premiseRows(List.of(argumentId));
+            ClaimDTO[] response = new ClaimDTO[rows.size()];
+            for (int i = 0; i < response.length; i++) {
+                StatementRow row = rows.get(i);
+                response[i] = new ClaimDTO(row.getId(), row.getText(), row.getSource());
+            }
+            return Optional.of(List.of(response));
+        }
+
+        // Validate that the argument exists (in parallel with the premise query when fan-out is on)
+        DatabaseFanOut.Forked<Boolean> exists = databaseFanOut.fork(() -> argumentRepository.existsById(argumentId));
+
+        // Premises projected straight into DTOs (one query, no entities)
+        List<ClaimDTO> response = premiseRepository.findClaimsByArgumentId(argumentId);
+        if (!exists.join()) {
+            return Optional.empty();
+        }
+        return Optional.of(List.copyOf(response));
+    }
+
+    private Optional<Integer> loadArgumentIdByClaim(Integer claimId) {
+        Optional<ArgumentGraph> graph = argumentGraphService.readGraph();
+        if (graph.isPresent()) {
+            return Optional.ofNullable(graph.get().argumentIdOfClaim(claimId));
+        }
+        return argumentRepository.findFirstByClaim_Id(claimId).map(ArgumentEntity::getId);
+    }
+}
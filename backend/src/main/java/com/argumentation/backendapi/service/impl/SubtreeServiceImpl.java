@@ -0,0 +1,110 @@
+package com.argumentation.backendapi.service.impl;
+
+import com.argumentation.backendapi.importer.StatementClosure;
+import com.argumentation.backendapi.model.SubtreeNodeDTO;
+import com.argumentation.backendapi.model.SubtreeStatsDTO;
+import com.argumentation.backendapi.service.SubtreeService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * SubtreeServiceImpl
+ * -------------------
+ * Reads and extends statement_closure (see StatementClosure) with plain JDBC.
+ *
+ *   - descendants: one range scan on (ancestor, depth, descendant), joined
+ *     to statements for the text; cost grows with the rows returned, not
+ *     with the size or depth of the graph
+ *   - stats: one grouped scan of the same index range
+ *   - recordRebuttal: two inserts on the caller's transaction (JdbcTemplate
+ *     joins the JPA transaction's connection). The closure has no foreign
+ *     keys, so the rows may precede Hibernate's deferred statement insert.
+ *
+ * Configuration:
+ *   - argumentation.subtree.max-depth  (default 64)     deepest level a request may ask for
+ *   - argumentation.subtree.max-rows   (default 10000)  rows per request
+ */
+@Service
+public class SubtreeServiceImpl implements SubtreeService {
+
+    private static final String DESCENDANTS = """
+            select c.descendant, c.depth, s.text, s.source
+            from statement_closure c
+            join statements s on s.id = c.descendant
+            where c.ancestor = ? and c.depth between 1 and ?
+            order by c.depth, c.descendant
+            limit ?
+            """;
+
+    private static final String DEPTH_COUNTS = """
+            select c.depth, count(*)
+            from statement_closure c
+            where c.ancestor = ?
+            group by c.depth
+            order by c.depth
+            """;
+
+    private static final String EXISTS = "select count(*) from statement_closure where ancestor = ? and depth = 0";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxDepth;
+    private final int maxRows;
+
+    public SubtreeServiceImpl(DataSource dataSource,
+                              @Value("${argumentation.subtree.max-depth:64}") int maxDepth,
+                              @Value("${argumentation.subtree.max-rows:10000}") int maxRows) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.maxDepth = Math.max(1, maxDepth);
+        this.maxRows = Math.max(1, maxRows);
+    }
+
+    @Override
+    public Optional<List<SubtreeNodeDTO>> descendants(Integer statementId, int depth, int limit) {
+        if (depth < 1 || limit < 1) {
+            throw new IllegalArgumentException("maxDepth and limit must be positive");
+        }
+        List<SubtreeNodeDTO> rows = jdbcTemplate.query(DESCENDANTS,
+                (rs, i) -> new SubtreeNodeDTO(rs.getInt(1), rs.getString(3), rs.getString(4), rs.getInt(2)),
+                statementId, Math.min(depth, maxDepth), Math.min(limit, maxRows));
+        if (rows.isEmpty() && !exists(statementId)) {
+            return Optional.empty();
+        }
+        return Optional.of(rows);
+    }
+
+    @Override
+    public Optional<SubtreeStatsDTO> stats(Integer statementId) {
+        Map<Integer, Long> countsByDepth = new LinkedHashMap<>();
+        jdbcTemplate.query(DEPTH_COUNTS, rs -> {
+            countsByDepth.put(rs.getInt(1), rs.getLong(2));
+        }, statementId);
+        if (countsByDepth.remove(0) == null) {
+            return Optional.empty();
+        }
+        long size = 0;
+        int deepest = 0;
+        for (Map.Entry<Integer, Long> level : countsByDepth.entrySet()) {
+            size += level.getValue();
+            deepest = Math.max(deepest, level.getKey());
+        }
+        return Optional.of(new SubtreeStatsDTO(statementId, size, deepest, countsByDepth));
+    }
+
+    @Override
+    public void recordRebuttal(int statementId, int targetId) {
+        jdbcTemplate.update(StatementClosure.INSERT_SELF, statementId, statementId);
+        jdbcTemplate.update(StatementClosure.INSERT_UNDER_PARENT, statementId, targetId);
+    }
+
+    private boolean exists(Integer statementId) {
+        Integer count = jdbcTemplate.queryForObject(EXISTS, Integer.class, statementId);
+        return count != null && count > 0;
+    }
+}
@@ -0,0 +1,379 @@
+package com.argumentation.backendapi.service.impl;
+
+import com.argumentation.backendapi.cache.BoundedCache;
+import com.argumentation.backendapi.cache.CacheRegistry;
+import com.argumentation.backendapi.event.CorpusImportedEvent;
+import com.argumentation.backendapi.event.LabelsChangedEvent;
+import com.argumentation.backendapi.graph.*;
+import com.argumentation.backendapi.model.TopArgumentDTO;
+import com.argumentation.backendapi.model.TopArgumentsResponse;
+import com.argumentation.backendapi.service.ArgumentGraphService;
+import com.argumentation.backendapi.service.TopArgumentsService;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TopArgumentsServiceImpl
+ * ------------------------
+ * Ranks every statement of a topic (except the root claim) and keeps the
+ * best MAX_N per stance.
+ *
+ * Stance: a statement is "pro" if an even number of rebuttals lies on its
+ * path from the root claim, "con" otherwise (see TopicView).
+ *
+ * Score (higher is better):
+ *   (1 + support) × survival / depth
+ *   - support   premises backing the statement's argument
+ *   - survival  (1 + defeated attackers) / (1 + attackers), where an attacker
+ *               is defeated if the grounded labelling marks it OUT
+ *   - depth     distance from the root claim (direct replies rank first)
+ * Ties go to the older (lower ID) statement.
+ *
+ * Ranking a topic costs one traversal and grounded solve plus O(M log K)
+ * for M statements and K = MAX_N (a bounded min-heap per stance). Rankings
+ * live in the "topArguments" cache (bounds and TTL from CacheRegistry), and
+ * concurrent requests for a topic that is not cached share one computation.
+ *
+ * A committed rebuttal is applied to the cached rankings of the topics
+ * containing its target once its attack is in the grounded labelling
+ * (LabelsChangedEvent): the new statement is appended, the target gains an
+ * attacker, and the labels that actually changed adjust the defeated
+ * counts of what they attack. If the labelling was recomputed instead, the
+ * changes are unknown and the rankings of those topics are dropped. Only if a changed statement is in, or now
+ * beats, a top list are the lists re-selected from the kept scores (O(M log K),
+ * no traversal or solve). A graph reload or bulk import drops all rankings;
+ * the cache TTL bounds how long incremental updates are trusted.
+ */
+@Service
+public class TopArgumentsServiceImpl implements TopArgumentsService {
+
+    /** Entries kept per topic and stance; larger requests are clamped */
+    public static final int MAX_N = 50;
+
+    /** Heap order: worst candidate on top (lower score, then higher ID) */
+    private static final Comparator<Candidate> WORST_FIRST =
+            Comparator.comparingDouble(Candidate::score).thenComparing(Candidate::id, Comparator.reverseOrder());
+
+    private final ArgumentGraphService argumentGraphService;
+    private final BoundedCache<String, TopicRanking> rankings;
+
+    /** Rankings being computed; entries stay until the result is stored in (or kept out of) the cache */
+    private final Map<String, CompletableFuture<TopicRanking>> inFlight = new ConcurrentHashMap<>();
+
+    public TopArgumentsServiceImpl(ArgumentGraphService argumentGraphService, CacheRegistry cacheRegistry) {
+        this.argumentGraphService = argumentGraphService;
+        this.rankings = cacheRegistry.create("topArguments",
+                (name, ranking) -> 2L * name.length() + ranking.weight());
+    }
+
+    @Override
+    public TopArgumentsResponse getTopArguments(String topicName, int n, String stance) {
+        boolean pro = stance == null || stance.isBlank() || stance.equalsIgnoreCase("pro");
+        boolean con = stance == null || stance.isBlank() || stance.equalsIgnoreCase("con");
+        if (!pro && !con) {
+            throw new IllegalArgumentException("stance must be 'pro' or 'con': " + stance);
+        }
+        int limit = Math.max(1, Math.min(n, MAX_N));
+
+        ArgumentGraph graph = argumentGraphService.graph()
+                .orElseThrow(() -> new IllegalStateException("Argument graph is not loaded yet"));
+        TopicRanking ranking = rankings.getIfPresent(topicName);
+        if (ranking == null || ranking.graph() != graph) {
+            ranking = load(graph, topicName);
+        }
+
+        return new TopArgumentsResponse(topicName,
+                pro ? head(ranking.pro(), limit) : null,
+                con ? head(ranking.con(), limit) : null);
+    }
+
+    /**
+     * Applies a committed rebuttal to the cached rankings of the topics above
+     * its target. Published from the ORDER_LABELS listener, so it runs after
+     * the graph and labels and before the topic tags move.
+     */
+    @EventListener
+    public void onLabelsChanged(LabelsChangedEvent event) {
+        Optional<ArgumentGraph> graph = argumentGraphService.graph();
+        if (graph.isEmpty()) {
+            return;
+        }
+        for (String topic : graph.get().topicsContaining(event.targetId())) {
+            if (inFlight.containsKey(topic) || event.changes() == null) {
+                // A ranking computed right now may predate the rebuttal, and without the changes
+                // a cached one cannot be updated: keep it out of the cache
+                rankings.invalidate(topic);
+                continue;
+            }
+            TopicRanking ranking = rankings.getIfPresent(topic);
+            if (ranking != null && ranking.graph() == graph.get()) {
+                ranking.apply(event);
+            }
+        }
+    }
+
+    @EventListener
+    public void onCorpusImported(CorpusImportedEvent event) {
+        rankings.invalidateAll();
+    }
+
+    // ────────────────────────────────
+    // Loading (one computation per topic at a time)
+    // ────────────────────────────────
+
+    private TopicRanking load(ArgumentGraph graph, String topicName) {
+        CompletableFuture<TopicRanking> flight = new CompletableFuture<>();
+        CompletableFuture<TopicRanking> running = inFlight.putIfAbsent(topicName, flight);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        try {
+            TopicRanking stale = rankings.getIfPresent(topicName);
+            if (stale != null && stale.graph() != graph) {
+                rankings.invalidate(topicName);
+            }
+            TopicRanking ranking = rankings.get(topicName, name -> rank(graph, name));
+            flight.complete(ranking);
+            return ranking;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(topicName, flight);
+        }
+    }
+
+    // ────────────────────────────────
+    // Ranking
+    // ────────────────────────────────
+
+    private static TopicRanking rank(ArgumentGraph graph, String topicName) {
+        TopicView view = graph.topicView(topicName)
+                .orElseThrow(() -> new RuntimeException("Topic not found: " + topicName));
+        AttackFramework af = view.framework();
+        byte[] labels = GroundedSolver.solve(af);
+
+        TopicRanking ranking = new TopicRanking(graph, view.size());
+        for (int v = 0; v < view.size(); v++) {
+            int defeated = 0;
+            for (int e = af.attackerStart(v); e < af.attackerEnd(v); e++) {
+                if (labels[af.attacker(e)] == Label.CODE_OUT) {
+                    defeated++;
+                }
+            }
+            int parent = view.parent(v);
+            ranking.append(view.id(v), parent < 0 ? -1 : view.id(parent), view.depth(v), view.opposing(v),
+                    view.support(v), view.attackerCount(v), defeated, labels[v]);
+        }
+        ranking.select();
+        return ranking;
+    }
+
+    /** Keeps the heap at MAX_N entries, replacing the worst one if the candidate beats it. */
+    private static void offer(PriorityQueue<Candidate> heap, Candidate candidate) {
+        if (heap.size() < MAX_N) {
+            heap.add(candidate);
+        } else if (WORST_FIRST.compare(candidate, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(candidate);
+        }
+    }
+
+    private static List<TopArgumentDTO> head(List<TopArgumentDTO> entries, int n) {
+        return entries.size() <= n ? entries : entries.subList(0, n);
+    }
+
+    private static byte code(Label label) {
+        return switch (label) {
+            case IN -> Label.CODE_IN;
+            case OUT -> Label.CODE_OUT;
+            case UNDEC -> Label.CODE_UNDEC;
+        };
+    }
+
+    private record Candidate(int node, int id, double score) {
+    }
+
+    /**
+     * Ranking of one topic, valid for one graph instance: the score inputs of
+     * every statement (node 0 is the root claim) and the selected top lists.
+     * Updated in place by committed rebuttals; readers only see the immutable
+     * lists, swapped whole.
+     */
+    private static final class TopicRanking {
+
+        private final ArgumentGraph graph;
+        private final Map<Integer, Integer> nodes;
+        private int size;
+        private int[] ids;
+        private int[] parents;
+        private int[] depth;
+        private boolean[] opposing;
+        private int[] support;
+        private int[] attackers;
+        private int[] defeated;
+        private byte[] labels;
+
+        private volatile List<TopArgumentDTO> pro = List.of();
+        private volatile List<TopArgumentDTO> con = List.of();
+
+        TopicRanking(ArgumentGraph graph, int capacity) {
+            this.graph = graph;
+            this.nodes = new HashMap<>(capacity * 2);
+            this.ids = new int[capacity];
+            this.parents = new int[capacity];
+            this.depth = new int[capacity];
+            this.opposing = new boolean[capacity];
+            this.support = new int[capacity];
+            this.attackers = new int[capacity];
+            this.defeated = new int[capacity];
+            this.labels = new byte[capacity];
+        }
+
+        ArgumentGraph graph() {
+            return graph;
+        }
+
+        List<TopArgumentDTO> pro() {
+            return pro;
+        }
+
+        List<TopArgumentDTO> con() {
+            return con;
+        }
+
+        /** Approximate heap: score inputs and ID map per statement, plus the listed texts */
+        long weight() {
+            return 128 + 80L * ids.length + CacheRegistry.weighTopArguments(pro) + CacheRegistry.weighTopArguments(con);
+        }
+
+        /**
+         * Adds the rebuttal as a new unattacked (IN) statement below its
+         * target, applies its label changes, and re-selects the top lists if
+         * a changed statement can affect them. Ignores rebuttals whose target
+         * is not in this topic and rebuttals already present.
+         */
+        synchronized void apply(LabelsChangedEvent event) {
+            Integer target = nodes.get(event.targetId());
+            if (target == null || nodes.containsKey(event.statementId())) {
+                return;
+            }
+            int rebuttal = append(event.statementId(), ids[target], depth[target] + 1, !opposing[target],
+                    0, 0, 0, Label.CODE_IN);
+            attackers[target]++;
+
+            IntList changed = new IntList();
+            changed.add(target);
+            changed.add(rebuttal);
+            for (Map.Entry<Integer, Label> change : event.changes().entrySet()) {
+                Integer node = nodes.get(change.getKey());
+                if (node == null || node == rebuttal) {
+                    continue;
+                }
+                byte before = labels[node];
+                byte after = code(change.getValue());
+                labels[node] = after;
+                if ((before == Label.CODE_OUT) == (after == Label.CODE_OUT)) {
+                    continue;
+                }
+                // The statement it rebuts gained or lost a defeated attacker
+                int index = graph.indexOfStatement(change.getKey());
+                int counter = index < 0 ? -1 : graph.counterIndexOf(index);
+                Integer attacked = counter < 0 ? null : nodes.get(graph.statementIdAt(counter));
+                if (attacked != null) {
+                    defeated[attacked] += after == Label.CODE_OUT ? 1 : -1;
+                    changed.add(attacked);
+                }
+            }
+
+            for (int i = 0; i < changed.size(); i++) {
+                if (affectsLists(changed.get(i))) {
+                    select();
+                    return;
+                }
+            }
+        }
+
+        int append(int id, int parentId, int nodeDepth, boolean nodeOpposing,
+                   int nodeSupport, int nodeAttackers, int nodeDefeated, byte label) {
+            if (size == ids.length) {
+                int capacity = size + (size >> 3) + 16;
+                ids = Arrays.copyOf(ids, capacity);
+                parents = Arrays.copyOf(parents, capacity);
+                depth = Arrays.copyOf(depth, capacity);
+                opposing = Arrays.copyOf(opposing, capacity);
+                support = Arrays.copyOf(support, capacity);
+                attackers = Arrays.copyOf(attackers, capacity);
+                defeated = Arrays.copyOf(defeated, capacity);
+                labels = Arrays.copyOf(labels, capacity);
+            }
+            int v = size++;
+            ids[v] = id;
+            parents[v] = parentId;
+            depth[v] = nodeDepth;
+            opposing[v] = nodeOpposing;
+            support[v] = nodeSupport;
+            attackers[v] = nodeAttackers;
+            defeated[v] = nodeDefeated;
+            labels[v] = label;
+            nodes.put(id, v);
+            return v;
+        }
+
+        /** Selects both top lists from the kept scores. */
+        synchronized void select() {
+            PriorityQueue<Candidate> proHeap = new PriorityQueue<>(MAX_N + 1, WORST_FIRST);
+            PriorityQueue<Candidate> conHeap = new PriorityQueue<>(MAX_N + 1, WORST_FIRST);
+            for (int v = 1; v < size; v++) {
+                offer(opposing[v] ? conHeap : proHeap, new Candidate(v, ids[v], score(v)));
+            }
+            pro = toEntries(proHeap);
+            con = toEntries(conHeap);
+        }
+
+        /** True if the statement is listed, or its current score would get it listed. */
+        private boolean affectsLists(int v) {
+            if (v == 0) {
+                return false;
+            }
+            List<TopArgumentDTO> list = opposing[v] ? con : pro;
+            if (list.size() < MAX_N) {
+                return true;
+            }
+            for (TopArgumentDTO entry : list) {
+                if (entry.getId() == ids[v]) {
+                    return true;
+                }
+            }
+            TopArgumentDTO worst = list.get(list.size() - 1);
+            Candidate candidate = new Candidate(v, ids[v], score(v));
+            return WORST_FIRST.compare(candidate, new Candidate(-1, worst.getId(), score(nodes.get(worst.getId())))) > 0;
+        }
+
+        private double score(int v) {
+            double survival = (1.0 + defeated[v]) / (1.0 + attackers[v]);
+            return (1 + support[v]) * survival / depth[v];
+        }
+
+        /** Drains a heap into best-first DTOs (texts are only looked up for the kept entries). */
+        private List<TopArgumentDTO> toEntries(PriorityQueue<Candidate> heap) {
+            TopArgumentDTO[] entries = new TopArgumentDTO[heap.size()];
+            for (int i = entries.length - 1; i >= 0; i--) {
+                Candidate c = heap.poll();
+                int parent = parents[c.node()];
+                entries[i] = new TopArgumentDTO(c.id(), graph.textAt(graph.indexOfStatement(c.id())),
+                        Math.round(c.score() * 1000) / 1000.0, parent < 0 ? null : parent);
+            }
+            return List.of(entries);
+        }
+    }
+}
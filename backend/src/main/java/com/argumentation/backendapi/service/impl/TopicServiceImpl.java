@@ -0,0 +1,65 @@
+package com.argumentation.backendapi.service.impl;
+
+import com.argumentation.backendapi.cache.BoundedCache;
+import com.argumentation.backendapi.cache.CacheRegistry;
+import com.argumentation.backendapi.event.CorpusImportedEvent;
+import com.argumentation.backendapi.model.KeysetPage;
+import com.argumentation.backendapi.model.TopicDTO;
+import com.argumentation.backendapi.repository.TopicRepository;
+import com.argumentation.backendapi.service.TopicService;
+import jakarta.transaction.Transactional;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * TopicServiceImpl
+ * -----------------
+ * Serves the topic list from a read-through cache. Topics are only created
+ * by imports, so the single cached list is dropped on CorpusImportedEvent
+ * (and otherwise reloaded when its TTL runs out).
+ *
+ * streamAllTopics() and getTopicPage() bypass the cache: the first reads
+ * through a database cursor, the second seeks one keyset page at a time,
+ * both for topic lists too large to hold in memory.
+ */
+@Service
+public class TopicServiceImpl implements TopicService {
+
+    private static final String ALL = "all";
+
+    private final TopicRepository topicRepository;
+    private final BoundedCache<String, List<TopicDTO>> topics;
+
+    public TopicServiceImpl(TopicRepository topicRepository, CacheRegistry cacheRegistry) {
+        this.topicRepository = topicRepository;
+        this.topics = cacheRegistry.create("topics", (key, list) -> CacheRegistry.weighTopics(list));
+    }
+
+    @Override
+    public List<TopicDTO> getAllTopics() {
+        return topics.get(ALL, key -> List.copyOf(topicRepository.findAllTopics()));
+    }
+
+    @Override
+    @Transactional
+    public void streamAllTopics(Consumer<TopicDTO> sink) {
+        try (Stream<TopicDTO> rows = topicRepository.streamAllTopics()) {
+            rows.forEach(sink);
+        }
+    }
+
+    @Override
+    public KeysetPage<TopicDTO> getTopicPage(int afterId, int limit) {
+        return KeysetPage.of(topicRepository.findTopicsAfter(afterId, Limit.of(limit + 1)), limit, TopicDTO::id);
+    }
+
+    @EventListener
+    public void onCorpusImported(CorpusImportedEvent event) {
+        topics.invalidateAll();
+    }
+}
@@ -0,0 +1,403 @@
+package com.argumentation.backendapi.stream;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FanOutHub
+ * ----------
+ * In-process publish/subscribe keyed by an int (the claim ID), delivering
+ * each published item to every subscriber of its key.
+ *
+ * Delivery:
+ *   - publish() never blocks on a subscriber: it appends the item to the
+ *     subscriber's pending list and, if no delivery is running for that
+ *     subscriber, hands one to the executor. So the publisher (a commit
+ *     hook) costs O(subscribers of the key), however slow they are.
+ *   - A delivery sends everything pending as one batch and repeats until
+ *     nothing is left (coalescing): a subscriber that is behind gets fewer,
+ *     larger messages instead of a growing queue of small ones.
+ *   - Backpressure: pending items are bounded by maxPending. A subscriber
+ *     that falls further behind loses its pending items and is told to
+ *     reload instead (Sink.overflow), which bounds the memory a stuck
+ *     client can hold.
+ *   - A failing sink (the client went away) is unsubscribed.
+ *
+ * Resuming:
+ *   - Every published item gets an event ID from one hub-wide counter, in
+ *     publish order. It says nothing about the item itself, so items that
+ *     are published out of their natural order (e.g. rebuttals committing
+ *     in a different order than their IDs were assigned) are still resumed
+ *     correctly.
+ *   - The last replaySize items of a key are kept for replayMillis, whether
+ *     or not anyone is subscribed, and a key is remembered for replayMillis
+ *     after its last subscriber leaves. subscribe(key, sink, lastId) queues the
+ *     kept items after lastId under the same lock publish() takes, so a
+ *     resuming subscriber sees every item exactly once. If items after
+ *     lastId were already dropped (or lastId is from another run), it is
+ *     told to reload instead.
+ *   - The counter starts at the current time in microseconds, so IDs handed
+ *     out before a restart are older than anything the new hub kept.
+ *
+ * At most one delivery per subscriber runs at a time, so a Sink is never
+ * called concurrently.
+ */
+public final class FanOutHub<T> {
+
+    /** A published item and the event ID it was given. */
+    public record Event<T>(long id, T item) {
+    }
+
+    /** Where a subscriber's messages go (e.g. an SSE connection). */
+    public interface Sink<T> {
+
+        /** Delivers items in publish order (ascending event IDs). */
+        void send(List<Event<T>> batch) throws IOException;
+
+        /** Items were dropped because the subscriber fell behind; it should reload. */
+        void overflow() throws IOException;
+
+        /** Keeps an idle connection open (and detects a dead one). */
+        void heartbeat() throws IOException;
+
+        /** Called once when the subscription ends, for whatever reason. */
+        default void closed() {
+        }
+    }
+
+    private final Executor executor;
+    private final int maxPending;
+    private final int maxSubscribers;
+    private final int replaySize;
+    private final long replayNanos;
+    private final Map<Integer, Channel> byKey = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong lastId = new AtomicLong(TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis()));
+
+    /** A hub that keeps nothing for resuming subscribers. */
+    public FanOutHub(Executor executor, int maxPending, int maxSubscribers) {
+        this(executor, maxPending, maxSubscribers, 0, 0);
+    }
+
+    /**
+     * @param executor       Runs deliveries; a blocking send occupies one of its threads
+     * @param maxPending     Items a subscriber may fall behind before it is told to reload
+     * @param maxSubscribers Subscriptions allowed at once
+     * @param replaySize     Items kept per key for resuming subscribers (0 = none)
+     * @param replayMillis   How long kept items stay replayable
+     */
+    public FanOutHub(Executor executor, int maxPending, int maxSubscribers, int replaySize, long replayMillis) {
+        this.executor = executor;
+        this.maxPending = Math.max(1, maxPending);
+        this.maxSubscribers = Math.max(1, maxSubscribers);
+        this.replaySize = Math.max(0, replaySize);
+        this.replayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, replayMillis));
+    }
+
+    /**
+     * @throws IllegalStateException when maxSubscribers are already subscribed
+     */
+    public Subscription subscribe(int key, Sink<T> sink) {
+        return subscribe(key, sink, null);
+    }
+
+    /**
+     * Subscribes and, if lastId is set, first queues what was published for
+     * the key after that event ID.
+     *
+     * @throws IllegalStateException when maxSubscribers are already subscribed
+     */
+    public Subscription subscribe(int key, Sink<T> sink, Long lastId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new IllegalStateException("Too many stream subscribers");
+        }
+        Subscription subscription = new Subscription(key, sink);
+        boolean dispatch;
+        while (true) {
+            Channel channel = byKey.computeIfAbsent(key, k -> new Channel());
+            synchronized (channel) {
+                if (channel.removed) {
+                    continue; // emptied and dropped meanwhile; take the new one
+                }
+                channel.subscribers.add(subscription);
+                dispatch = lastId != null && subscription.enqueue(channel.since(lastId));
+                break;
+            }
+        }
+        if (dispatch) {
+            subscription.dispatch();
+        }
+        return subscription;
+    }
+
+    /** @return Number of subscribers the item was queued for. */
+    public int publish(int key, T item) {
+        List<Subscription> toDispatch = new ArrayList<>();
+        int queued = 0;
+        while (true) {
+            Channel channel = replaySize > 0 ? byKey.computeIfAbsent(key, k -> new Channel()) : byKey.get(key);
+            if (channel == null) {
+                return 0;
+            }
+            synchronized (channel) {
+                if (channel.removed) {
+                    continue;
+                }
+                Event<T> event = new Event<>(lastId.incrementAndGet(), item);
+                channel.keep(event);
+                List<Event<T>> events = List.of(event);
+                for (Subscription subscription : channel.subscribers) {
+                    if (subscription.isOpen()) {
+                        queued++;
+                    }
+                    if (subscription.enqueue(events)) {
+                        toDispatch.add(subscription);
+                    }
+                }
+                break;
+            }
+        }
+        // Outside the channel lock: a rejected dispatch closes the subscription, which takes it
+        for (Subscription subscription : toDispatch) {
+            subscription.dispatch();
+        }
+        return queued;
+    }
+
+    /**
+     * Queues a heartbeat for every subscriber that has nothing else pending,
+     * and drops kept items that are too old to replay.
+     */
+    public void heartbeat() {
+        long now = System.nanoTime();
+        for (Map.Entry<Integer, Channel> entry : byKey.entrySet()) {
+            Channel channel = entry.getValue();
+            synchronized (channel) {
+                channel.expire(now);
+                channel.removeIfIdle(entry.getKey(), now);
+            }
+            for (Subscription subscription : channel.subscribers) {
+                subscription.requestHeartbeat();
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /** Keys with subscribers or with items kept for replay. */
+    public int keyCount() {
+        return byKey.size();
+    }
+
+    // ────────────────────────────────
+    // One key
+    // ────────────────────────────────
+
+    /** Subscribers of a key and its replay buffer. Guarded by its own monitor. */
+    private final class Channel {
+
+        private final Set<Subscription> subscribers = ConcurrentHashMap.newKeySet();
+        private final ArrayDeque<Event<T>> kept = new ArrayDeque<>();
+        private final ArrayDeque<Long> keptAt = new ArrayDeque<>();
+        /** Every item of this key with an ID above floor is still kept. */
+        private long floor = lastId.get();
+        /** Last publish or unsubscribe; a channel stays around replayMillis after it. */
+        private long idleSince = System.nanoTime();
+        private boolean removed;
+
+        private void keep(Event<T> event) {
+            idleSince = System.nanoTime();
+            if (replaySize == 0) {
+                floor = event.id();
+                return;
+            }
+            kept.addLast(event);
+            keptAt.addLast(System.nanoTime());
+            if (kept.size() > replaySize) {
+                drop();
+            }
+        }
+
+        private void expire(long now) {
+            while (!keptAt.isEmpty() && now - keptAt.peekFirst() >= replayNanos) {
+                drop();
+            }
+        }
+
+        private void drop() {
+            floor = kept.removeFirst().id();
+            keptAt.removeFirst();
+        }
+
+        /** Kept items after lastId, or null if some of them were dropped. */
+        private List<Event<T>> since(long lastId) {
+            if (lastId < floor || lastId > FanOutHub.this.lastId.get()) {
+                return null;
+            }
+            List<Event<T>> missed = new ArrayList<>();
+            for (Event<T> event : kept) {
+                if (event.id() > lastId) {
+                    missed.add(event);
+                }
+            }
+            return missed;
+        }
+
+        /** Drops the channel once nobody listens and a reconnecting client could not need it. */
+        private void removeIfIdle(int key, long now) {
+            if (subscribers.isEmpty() && kept.isEmpty() && now - idleSince >= replayNanos) {
+                removed = true;
+                byKey.remove(key, this);
+            }
+        }
+    }
+
+    // ────────────────────────────────
+    // One subscriber
+    // ────────────────────────────────
+
+    public final class Subscription implements AutoCloseable {
+
+        private final int key;
+        private final Sink<T> sink;
+
+        // Guarded by this
+        private List<Event<T>> pending = new ArrayList<>();
+        private boolean overflowed;
+        private boolean heartbeatDue;
+        private boolean scheduled;
+        private boolean closed;
+
+        private Subscription(int key, Sink<T> sink) {
+            this.key = key;
+            this.sink = sink;
+        }
+
+        public int key() {
+            return key;
+        }
+
+        private synchronized boolean isOpen() {
+            return !closed;
+        }
+
+        /**
+         * Queues events, or an overflow when they are null (a resume that
+         * cannot be served). @return whether the caller must dispatch a delivery.
+         */
+        private synchronized boolean enqueue(List<Event<T>> events) {
+            if (closed) {
+                return false;
+            }
+            if (!overflowed) {
+                if (events == null || pending.size() + events.size() > maxPending) {
+                    pending = new ArrayList<>();
+                    overflowed = true;
+                } else if (events.isEmpty()) {
+                    return false;
+                } else {
+                    pending.addAll(events);
+                }
+            }
+            return schedule();
+        }
+
+        private void requestHeartbeat() {
+            synchronized (this) {
+                if (closed || !pending.isEmpty() || overflowed) {
+                    return;
+                }
+                heartbeatDue = true;
+                if (!schedule()) {
+                    return;
+                }
+            }
+            dispatch();
+        }
+
+        /** Marks a delivery as scheduled; false if one already is. Caller holds the monitor. */
+        private boolean schedule() {
+            if (scheduled) {
+                return false;
+            }
+            scheduled = true;
+            return true;
+        }
+
+        private void dispatch() {
+            try {
+                executor.execute(this::deliver);
+            } catch (RejectedExecutionException e) {
+                close();
+            }
+        }
+
+        /** Sends until nothing is pending; items published meanwhile join the next batch. */
+        private void deliver() {
+            while (true) {
+                List<Event<T>> batch;
+                boolean lost;
+                boolean beat;
+                synchronized (this) {
+                    if (closed || (pending.isEmpty() && !overflowed && !heartbeatDue)) {
+                        scheduled = false;
+                        return;
+                    }
+                    batch = pending;
+                    pending = new ArrayList<>();
+                    lost = overflowed;
+                    beat = heartbeatDue;
+                    overflowed = false;
+                    heartbeatDue = false;
+                }
+                try {
+                    if (lost) {
+                        sink.overflow(); // the reload covers the batch as well
+                    } else if (!batch.isEmpty()) {
+                        sink.send(batch);
+                    } else if (beat) {
+                        sink.heartbeat();
+                    }
+                } catch (IOException | RuntimeException e) {
+                    close();
+                    return;
+                }
+            }
+        }
+
+        /** Unsubscribes; idempotent. */
+        @Override
+        public void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                pending = List.of();
+            }
+            Channel channel = byKey.get(key);
+            if (channel != null) {
+                synchronized (channel) {
+                    channel.subscribers.remove(this);
+                    channel.idleSince = System.nanoTime();
+                    channel.removeIfIdle(key, channel.idleSince);
+                }
+            }
+            subscriberCount.decrementAndGet();
+            sink.closed();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+
+/**
+ * V5__Counter_statement_index
+ * ----------------------------
+ * Creates idx_statements_counter_statement_id (rebuttals of a statement in ID
+ * order, used by keyset paging and the rebuttal lookups) unless it exists.
+ *
+ * V1 creates the index on new databases, but a database baselined at V1
+ * skips V1 and never got it. MySQL has no "create index if not exists", so
+ * this is a Java migration that looks the index up in the JDBC metadata
+ * first; it also leaves alone an index created by hand as the README used
+ * to suggest. Flyway finds it by its package (db.migration) and class name.
+ */
+public class V5__Counter_statement_index extends BaseJavaMigration {
+
+    static final String INDEX = "idx_statements_counter_statement_id";
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        if (indexExists(connection, "statements", INDEX)) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create index " + INDEX + " on statements (counter_statement, id)");
+        }
+    }
+
+    private static boolean indexExists(Connection connection, String table, String index) throws SQLException {
+        DatabaseMetaData meta = connection.getMetaData();
+        String tableName = meta.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table;
+        try (ResultSet rs = meta.getIndexInfo(connection.getCatalog(), connection.getSchema(), tableName, false, true)) {
+            while (rs.next()) {
+                if (index.equalsIgnoreCase(rs.getString("INDEX_NAME"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,49 @@
+-- Schema as Hibernate generated it from the entities before migrations existed.
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate).
+-- Indexes are created before the foreign keys, so the keys reuse them instead of adding their own.
+
+create table sources (
+    name varchar(255) not null,
+    text varchar(255),
+    url  varchar(255),
+    primary key (name)
+);
+
+create table statements (
+    id                integer       not null,
+    text              varchar(1024) not null,
+    counter_statement integer,
+    source            varchar(255),
+    primary key (id)
+);
+
+create table arguments (
+    id     integer not null,
+    claim  integer,
+    source varchar(255),
+    primary key (id)
+);
+
+create table premises (
+    argument integer not null,
+    premise  integer not null,
+    primary key (argument, premise)
+);
+
+create table topics (
+    id          integer not null auto_increment,
+    name        varchar(255),
+    argument_id integer,
+    primary key (id)
+);
+
+-- Rebuttals of a statement in ID order (keyset paging)
+create index idx_statements_counter_statement_id on statements (counter_statement, id);
+
+alter table statements add constraint fk_statements_counter_statement foreign key (counter_statement) references statements (id);
+alter table statements add constraint fk_statements_source foreign key (source) references sources (name);
+alter table arguments add constraint fk_arguments_claim foreign key (claim) references statements (id);
+alter table arguments add constraint fk_arguments_source foreign key (source) references sources (name);
+alter table premises add constraint fk_premises_argument foreign key (argument) references arguments (id);
+alter table premises add constraint fk_premises_premise foreign key (premise) references statements (id);
+alter table topics add constraint fk_topics_argument foreign key (argument_id) references arguments (id);
@@ -0,0 +1,7 @@
+-- Pooled ID generator of StatementEntity and ArgumentEntity (see IdGenerators).
+-- "if not exists": databases baselined at V1 may already have it from Hibernate.
+create table if not exists id_generators (
+    name     varchar(255) not null,
+    next_val bigint,
+    primary key (name)
+);
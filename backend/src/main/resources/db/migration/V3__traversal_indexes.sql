@@ -0,0 +1,9 @@
+-- Indexes for the traversal queries; each lookup is an index seek instead of a full scan.
+--   arguments (claim, id):      claim → argument (findByClaim_Id, min(a.id) subqueries), covering
+--   premises (premise, argument): arguments a statement supports (graph load), covering;
+--                                 argument → premises uses the primary key (argument, premise)
+--   topics (name), unique:      findByName; a name identifies one topic
+-- statements (counter_statement, id) exists since V1.
+create index idx_arguments_claim_id on arguments (claim, id);
+create index idx_premises_premise_argument on premises (premise, argument);
+create unique index uq_topics_name on topics (name);
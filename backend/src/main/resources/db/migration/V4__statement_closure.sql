@@ -0,0 +1,16 @@
+-- Transitive closure of the argument graph (see StatementClosure): one row per
+-- (ancestor, descendant) pair, with the length of the shortest path; every
+-- statement is its own ancestor at depth 0. Children of a statement are the
+-- premises of its arguments and its rebuttals. Derived data, rebuilt from the
+-- other tables at will, so there are no foreign keys.
+create table statement_closure (
+    ancestor   integer not null,
+    descendant integer not null,
+    depth      integer not null,
+    primary key (ancestor, descendant)
+);
+
+-- Subtree of a statement level by level, without touching the table rows
+create index idx_statement_closure_ancestor_depth on statement_closure (ancestor, depth, descendant);
+-- Ancestors of a statement (extending the closure by a new leaf)
+create index idx_statement_closure_descendant on statement_closure (descendant, ancestor, depth);
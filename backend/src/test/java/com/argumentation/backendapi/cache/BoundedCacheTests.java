@@ -0,0 +1,57 @@
+package com.argumentation.backendapi.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks read-through loading, LRU eviction by count and weight, and that a
+ * load overlapping an invalidation is not stored.
+ */
+class BoundedCacheTests {
+
+    @Test
+    void loadsOnceAndEvictsLeastRecentlyUsed() {
+        AtomicInteger loads = new AtomicInteger();
+        BoundedCache<Integer, String> cache = new BoundedCache<>("test", 2, 0, 0, (k, v) -> 1);
+
+        assertEquals("v1", cache.get(1, k -> { loads.incrementAndGet(); return "v" + k; }));
+        assertEquals("v1", cache.get(1, k -> { loads.incrementAndGet(); return "v" + k; }));
+        assertEquals(1, loads.get());
+
+        cache.get(2, k -> "v" + k);
+        cache.get(1, k -> "v" + k); // 1 becomes most recently used
+        cache.get(3, k -> "v" + k); // evicts 2
+        BoundedCache.Stats stats = cache.stats();
+        assertEquals(2, stats.size());
+        assertEquals(1, stats.evictions());
+        assertEquals(2, stats.hits());
+        assertEquals(3, stats.misses());
+
+        assertEquals("reloaded", cache.get(2, k -> "reloaded"));
+    }
+
+    @Test
+    void evictsByWeight() {
+        BoundedCache<String, String> cache = new BoundedCache<>("test", 100, 10, 0, (k, v) -> v.length());
+        cache.get("a", k -> "12345");
+        cache.get("b", k -> "12345");
+        cache.get("c", k -> "123");
+        assertEquals(2, cache.stats().size());
+        assertTrue(cache.stats().weight() <= 10);
+        assertEquals("tooHeavyForTheCache", cache.get("d", k -> "tooHeavyForTheCache"));
+        assertEquals(2, cache.stats().size());
+    }
+
+    @Test
+    void doesNotStoreLoadsThatRaceAnInvalidation() {
+        BoundedCache<Integer, String> cache = new BoundedCache<>("test", 10, 0, 0, (k, v) -> 1);
+        assertEquals("stale", cache.get(1, k -> {
+            cache.invalidate(1); // a write commits while the value is being loaded
+            return "stale";
+        }));
+        assertEquals("fresh", cache.get(1, k -> "fresh"));
+    }
+}
@@ -0,0 +1,111 @@
+package com.argumentation.backendapi.cache;
+
+import com.argumentation.backendapi.event.CorpusImportedEvent;
+import com.argumentation.backendapi.event.RebuttalCreatedEvent;
+import com.argumentation.backendapi.graph.ArgumentGraph;
+import com.argumentation.backendapi.service.ArgumentGraphService;
+import com.argumentation.backendapi.service.impl.SemanticsServiceImpl;
+import com.argumentation.backendapi.service.impl.StructuredArgumentServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.annotation.Order;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that a rebuttal only moves the versions it can affect (its target,
+ * itself, and the topics above it), that an import moves everything, and
+ * that the caches behind the tags are updated before the tags move.
+ */
+class ContentVersionsTests {
+
+    /** Topic A: claim 1 ← argument 10 with premise 2. Topic B: claim 5 ← argument 11 with premise 6. */
+    private static ArgumentGraph graph() {
+        return ArgumentGraph.builder()
+                .addStatement(1, "a", null, null)
+                .addStatement(2, "a premise", null, null)
+                .addStatement(5, "b", null, null)
+                .addStatement(6, "b premise", null, null)
+                .addArgument(10, 1)
+                .addArgument(11, 5)
+                .addPremise(10, 2)
+                .addPremise(11, 6)
+                .addTopic("A", 10)
+                .addTopic("B", 11)
+                .build();
+    }
+
+    private static ContentVersions versions(Optional<ArgumentGraph> graph) {
+        return new ContentVersions(new ArgumentGraphService() {
+            @Override public Optional<ArgumentGraph> readGraph() { return graph; }
+            @Override public Optional<ArgumentGraph> graph() { return graph; }
+            @Override public void reload() { }
+        });
+    }
+
+    @Test
+    void rebuttalMovesOnlyItsOwnScopes() {
+        ArgumentGraph graph = graph();
+        ContentVersions versions = versions(Optional.of(graph));
+        long topicA = versions.topic("A");
+        long topicB = versions.topic("B");
+        long target = versions.statement(2);
+        long argument = versions.argument(20);
+
+        // Rebuttal 7 of premise 2, then rebuttal 8 of rebuttal 7 (the walk passes appended statements)
+        graph.addRebuttal(7, "r", null, 2, 20);
+        versions.onRebuttalCreated(new RebuttalCreatedEvent(7, 2, 20, "r", null, Map.of()));
+        assertTrue(versions.statement(2) > target);
+        assertTrue(versions.statement(7) > target);
+        assertTrue(versions.argument(20) > argument);
+        assertTrue(versions.topic("A") > topicA);
+        assertEquals(topicB, versions.topic("B"));
+
+        long afterFirst = versions.topic("A");
+        graph.addRebuttal(8, "rr", null, 7, 21);
+        versions.onRebuttalCreated(new RebuttalCreatedEvent(8, 7, 21, "rr", null, Map.of()));
+        assertTrue(versions.topic("A") > afterFirst);
+        assertEquals(topicB, versions.topic("B"));
+        assertEquals(List.of("A"), graph.topicsContaining(8));
+        assertEquals(List.of(), graph.topicsContaining(99));
+    }
+
+    @Test
+    void withoutGraphEveryTopicMoves() {
+        ContentVersions versions = versions(Optional.empty());
+        long topic = versions.topic("A");
+        versions.onRebuttalCreated(new RebuttalCreatedEvent(7, 2, 20, "r", null, Map.of()));
+        assertTrue(versions.topic("A") > topic);
+        assertTrue(versions.topic("B") > topic);
+    }
+
+    @Test
+    void importMovesEverythingAndTagsDiffer() {
+        ContentVersions versions = versions(Optional.of(graph()));
+        long before = versions.corpus();
+        String tag = ContentVersions.etag(versions.statement(2));
+        versions.onCorpusImported(new CorpusImportedEvent(null));
+        assertTrue(versions.corpus() > before);
+        assertTrue(versions.topic("B") > before);
+        assertTrue(versions.argument(11) > before);
+        assertNotEquals(tag, ContentVersions.etag(versions.statement(2)));
+        assertTrue(tag.startsWith("\"") && tag.endsWith("\""));
+    }
+
+    @Test
+    void cachesAreUpdatedBeforeTagsMove() throws NoSuchMethodException {
+        int versionsOrder = order(ContentVersions.class);
+        assertTrue(order(StructuredArgumentServiceImpl.class) < versionsOrder);
+        // Rankings are updated from the LabelsChangedEvent the labels listener publishes
+        assertTrue(order(SemanticsServiceImpl.class) < versionsOrder);
+    }
+
+    private static int order(Class<?> listener) throws NoSuchMethodException {
+        Order order = listener.getMethod("onRebuttalCreated", RebuttalCreatedEvent.class).getAnnotation(Order.class);
+        assertNotNull(order, listener.getSimpleName());
+        return order.value();
+    }
+}
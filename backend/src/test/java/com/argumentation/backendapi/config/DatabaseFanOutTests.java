@@ -0,0 +1,100 @@
+package com.argumentation.backendapi.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that forked reads run in parallel up to the permit limit, fall back
+ * to the caller beyond it, inside a transaction and while open-in-view holds
+ * a connection, and report failures at join().
+ */
+class DatabaseFanOutTests {
+
+    @Test
+    void runsInlineWhenDisabled() {
+        DatabaseFanOut fanOut = new DatabaseFanOut(false, 0, 10);
+        Thread caller = Thread.currentThread();
+        assertSame(caller, fanOut.fork(Thread::currentThread).join());
+        assertEquals(1, fanOut.inlineCount());
+    }
+
+    @Test
+    void forksUpToTheLimitThenRunsOnTheCaller() throws InterruptedException {
+        DatabaseFanOut fanOut = new DatabaseFanOut(true, 1, 10);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            DatabaseFanOut.Forked<Thread> slow = fanOut.fork(() -> {
+                await(release);
+                return Thread.currentThread();
+            });
+            // The only permit is taken: the second read runs right here instead of waiting
+            Thread caller = Thread.currentThread();
+            assertSame(caller, fanOut.fork(Thread::currentThread).join());
+            release.countDown();
+            assertTrue(slow.join().isVirtual());
+            assertEquals(1, fanOut.forkedCount());
+            assertEquals(1, fanOut.inlineCount());
+
+            DatabaseFanOut.Forked<Object> failing = fanOut.fork(() -> {
+                throw new IllegalArgumentException("bad id");
+            });
+            assertThrows(IllegalArgumentException.class, failing::join);
+        } finally {
+            release.countDown();
+            fanOut.shutdown();
+        }
+    }
+
+    @Test
+    void runsInlineInsideATransaction() {
+        DatabaseFanOut fanOut = new DatabaseFanOut(true, 4, 10);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            Thread caller = Thread.currentThread();
+            assertSame(caller, fanOut.fork(Thread::currentThread).join());
+            assertEquals(0, fanOut.forkedCount());
+            assertEquals(1, fanOut.inlineCount());
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+            fanOut.shutdown();
+        }
+    }
+
+    @Test
+    void runsInlineWhileOpenInViewBindsAnEntityManager() {
+        EntityManagerFactory factory = (EntityManagerFactory) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[]{EntityManagerFactory.class}, (proxy, method, args) ->
+                        method.getName().equals("hashCode") ? System.identityHashCode(proxy)
+                                : method.getName().equals("equals") ? proxy == args[0] : null);
+        DatabaseFanOut fanOut = new DatabaseFanOut(true, 4, 10, factory);
+        Thread caller = Thread.currentThread();
+        TransactionSynchronizationManager.bindResource(factory, new Object());
+        try {
+            assertSame(caller, fanOut.fork(Thread::currentThread).join());
+            assertEquals(0, fanOut.forkedCount());
+        } finally {
+            TransactionSynchronizationManager.unbindResource(factory);
+        }
+        try {
+            assertTrue(fanOut.fork(Thread::currentThread).join().isVirtual());
+            assertEquals(1, fanOut.forkedCount());
+            assertEquals(1, fanOut.inlineCount());
+        } finally {
+            fanOut.shutdown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.argumentation.backendapi.controller;
+
+import com.argumentation.backendapi.model.ClaimDTO;
+import com.argumentation.backendapi.model.TopicDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for JsonArrayWriter: streamed arrays match what Jackson writes for
+ * the equivalent list, and a failed stream is not closed into valid JSON.
+ */
+class JsonArrayWriterTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void writesTheSameJsonAsTheListEndpoint() throws Exception {
+        List<ClaimDTO> claims = List.of(new ClaimDTO(1, "Television makes people \"passive\"", "Example"),
+                new ClaimDTO(2, "Ünïcode ✓", null));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        JsonArrayWriter<ClaimDTO> writer = JsonArrayWriter.open(response, objectMapper);
+        claims.forEach(writer);
+        writer.finish();
+
+        assertEquals("application/json", response.getContentType().split(";")[0]);
+        assertEquals(objectMapper.writeValueAsString(claims), response.getContentAsString());
+    }
+
+    @Test
+    void writesAnEmptyArray() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        JsonArrayWriter<TopicDTO> writer = JsonArrayWriter.open(response, objectMapper);
+        writer.finish();
+        assertEquals("[]", response.getContentAsString());
+    }
+
+    @Test
+    void leavesNothingInTheResponseWhenTheSourceFailsEarly() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        JsonArrayWriter<TopicDTO> writer = JsonArrayWriter.open(response, objectMapper);
+        assertThrows(RuntimeException.class, () -> {
+            writer.accept(new TopicDTO(1, "Television"));
+            throw new RuntimeException("Argument not found with ID: 7");
+        });
+        assertEquals("", response.getContentAsString());
+    }
+}
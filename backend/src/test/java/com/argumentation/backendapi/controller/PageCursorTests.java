@@ -0,0 +1,46 @@
+package com.argumentation.backendapi.controller;
+
+import com.argumentation.backendapi.model.KeysetPage;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for PageCursor and KeysetPage: tokens round-trip, are bound to their
+ * listing, and a page only offers a cursor when another page follows.
+ */
+class PageCursorTests {
+
+    @Test
+    void cursorRoundTripsWithinItsListing() {
+        String cursor = PageCursor.encode("rebuttals:12", 4711);
+        assertFalse(cursor.contains("4711"));
+        assertEquals(4711, PageCursor.decode(cursor, "rebuttals:12"));
+        assertEquals(0, PageCursor.decode(null, "rebuttals:12"));
+    }
+
+    @Test
+    void rejectsForeignAndMalformedCursors() {
+        String cursor = PageCursor.encode("rebuttals:12", 4711);
+        assertThrows(ResponseStatusException.class, () -> PageCursor.decode(cursor, "rebuttals:13"));
+        assertThrows(ResponseStatusException.class, () -> PageCursor.decode(cursor, "topics"));
+        assertThrows(ResponseStatusException.class, () -> PageCursor.decode("not a cursor!", "topics"));
+        assertThrows(ResponseStatusException.class, () -> PageCursor.decode(PageCursor.encode("topics", -1), "topics"));
+        assertThrows(ResponseStatusException.class, () -> PageCursor.limit(0));
+        assertEquals(PageCursor.MAX_LIMIT, PageCursor.limit(1_000_000));
+    }
+
+    @Test
+    void pageContinuesOnlyWhenTheExtraRowWasFetched() {
+        KeysetPage<Integer> full = KeysetPage.of(List.of(3, 5, 8, 13), 3, Integer::intValue);
+        assertEquals(List.of(3, 5, 8), full.items());
+        assertEquals(8, (int) full.nextAfterId());
+
+        KeysetPage<Integer> last = KeysetPage.of(List.of(3, 5, 8), 3, Integer::intValue);
+        assertEquals(List.of(3, 5, 8), last.items());
+        assertNull(last.nextAfterId());
+    }
+}
@@ -0,0 +1,108 @@
+package com.argumentation.backendapi.dialogue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static com.argumentation.backendapi.dialogue.Actor.OPPONENT;
+import static com.argumentation.backendapi.dialogue.Actor.PROPONENT;
+import static com.argumentation.backendapi.dialogue.MoveType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Plays debates through DialogueRules and checks the allowed moves against
+ * the frontend's getAllowedMovesForTurn rules, plus the rejected moves.
+ */
+class DialogueRulesTests {
+
+    private static final int ROOT = 1;
+
+    @Test
+    void followsTheFrontendRules() {
+        DialogueSession s = DialogueRules.start(7, "Television", ROOT, 0);
+
+        // Rule 1: opponent's first turn
+        assertEquals(OPPONENT, s.turn());
+        assertEquals(EnumSet.of(CHALLENGE, ACCEPT), DialogueRules.allowedMoves(s));
+
+        DialogueRules.challenge(s, OPPONENT, ROOT, 1000);
+        assertEquals(EnumSet.of(JUSTIFY, SKIP), DialogueRules.allowedMoves(s));
+        assertEquals(ROOT, s.pendingChallenge());
+
+        DialogueRules.justify(s, PROPONENT, new int[]{2, 3}, 2000);
+        // Rule 2: answering a justification
+        assertEquals(EnumSet.of(CHALLENGE, REBUTTAL, ACCEPT), DialogueRules.allowedMoves(s));
+
+        DialogueRules.checkRebuttal(s, OPPONENT, 3);
+        DialogueRules.rebut(s, OPPONENT, 3, 10, 3000);
+        // Rule 3: proponent after the opponent's rebuttal
+        assertEquals(EnumSet.of(ACCEPT, CHALLENGE), DialogueRules.allowedMoves(s));
+
+        DialogueRules.challenge(s, PROPONENT, 10, 4000);
+        DialogueRules.skip(s, OPPONENT, 5000); // gives up justifying the rebuttal
+        // Default case, minus Challenge: the opponent's only statement is already challenged
+        assertEquals(EnumSet.of(REBUTTAL, ACCEPT, SKIP), DialogueRules.allowedMoves(s));
+
+        DialogueRules.accept(s, PROPONENT, 6000);
+        assertTrue(s.ended());
+        assertEquals(OPPONENT, s.winner());
+        assertTrue(DialogueRules.allowedMoves(s).isEmpty());
+
+        // Claim, Challenge, Justify ×2, Rebuttal, Challenge, Skip, Accept
+        assertEquals(8, s.historySize());
+        assertEquals(JUSTIFY, s.historyType(3));
+        assertEquals(3, s.historyStatement(3));
+        assertEquals(3000, s.historyTimeMillis(4));
+    }
+
+    @Test
+    void rejectsIllegalMoves() {
+        DialogueSession s = DialogueRules.start(7, "Television", ROOT, 0);
+        assertThrows(IllegalMoveException.class, () -> DialogueRules.challenge(s, PROPONENT, ROOT, 0)); // not their turn
+        assertThrows(IllegalMoveException.class, () -> DialogueRules.skip(s, OPPONENT, 0));            // rule 1
+        assertThrows(IllegalMoveException.class, () -> DialogueRules.challenge(s, OPPONENT, 99, 0));   // not on the path
+
+        DialogueRules.challenge(s, OPPONENT, ROOT, 0);
+        assertThrows(IllegalMoveException.class, () -> DialogueRules.justify(s, PROPONENT, new int[0], 0));
+        assertThrows(IllegalMoveException.class, () -> DialogueRules.justify(s, PROPONENT, new int[]{ROOT}, 0));
+        DialogueRules.justify(s, PROPONENT, new int[]{2}, 0);
+
+        assertThrows(IllegalMoveException.class, () -> DialogueRules.challenge(s, OPPONENT, ROOT, 0)); // challenged before
+        assertThrows(IllegalMoveException.class, () -> DialogueRules.justify(s, OPPONENT, new int[]{5}, 0));
+        DialogueRules.challenge(s, OPPONENT, 2, 0);
+        assertThrows(IllegalMoveException.class, () -> DialogueRules.accept(s, PROPONENT, 0)); // must justify or skip
+    }
+
+    @Test
+    void justificationsMustBePremisesOfTheChallengedStatement() {
+        DialogueSession s = DialogueRules.start(7, "Television", ROOT, 0);
+        DialogueRules.challenge(s, OPPONENT, ROOT, 0);
+        Set<Integer> premises = Set.of(2, 3);
+
+        assertThrows(IllegalMoveException.class,
+                () -> DialogueRules.checkJustification(s, PROPONENT, new int[]{2, 99}, premises));
+        assertThrows(IllegalMoveException.class,
+                () -> DialogueRules.checkJustification(s, PROPONENT, new int[]{2}, Set.of())); // no argument
+        assertThrows(IllegalMoveException.class,
+                () -> DialogueRules.checkJustification(s, OPPONENT, new int[]{2}, premises));  // not their turn
+        assertEquals(1, s.pendingChallenge());
+
+        DialogueRules.checkJustification(s, PROPONENT, new int[]{2, 3}, premises);
+        DialogueRules.justify(s, PROPONENT, new int[]{2, 3}, 0);
+        assertEquals(0, s.pendingChallenge());
+    }
+
+    @Test
+    void endsWhenTurnsRunOut() {
+        DialogueSession s = DialogueRules.start(7, "Television", ROOT, 0);
+        DialogueRules.challenge(s, OPPONENT, ROOT, 0);
+        DialogueRules.skip(s, PROPONENT, 0); // no justification
+        for (int i = 0; !s.ended(); i++) {
+            DialogueRules.skip(s, s.turn(), 0);
+            assertTrue(i < 2 * DialogueRules.MAX_TURNS);
+        }
+        assertEquals(DialogueSession.EndReason.TURN_LIMIT, s.endReason());
+        assertNull(s.winner());
+    }
+}
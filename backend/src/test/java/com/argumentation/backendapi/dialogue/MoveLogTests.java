@@ -0,0 +1,131 @@
+package com.argumentation.backendapi.dialogue;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.argumentation.backendapi.dialogue.Actor.OPPONENT;
+import static com.argumentation.backendapi.dialogue.Actor.PROPONENT;
+import static com.argumentation.backendapi.dialogue.MoveType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Writes debates to a MoveLog in a temporary directory and recovers them:
+ * replay after snapshots and checkpoints, segment retention, torn tails.
+ */
+class MoveLogTests {
+
+    @Test
+    void recoversSessionsFromMovesAndSnapshots() throws IOException {
+        Path dir = Files.createTempDirectory("move-log");
+        try (MoveLog log = MoveLog.open(dir, 1 << 16, 0, -1)) {
+            DialogueSession s = play(log, 7, 0);
+            log.append(MoveLogRecord.snapshot(s, 2000));
+            play(log, 8, 0);
+            log.append(MoveLogRecord.end(8, 3000));
+            long last = log.append(move(7, 4000, OPPONENT, ACCEPT, 0));
+            log.awaitDurable(last);
+        }
+
+        MoveLog.Recovery recovery = MoveLog.recover(dir);
+        assertEquals(1, recovery.sessions().size());
+        assertEquals(0, recovery.rejected());
+        DialogueSession s = recovery.sessions().get(7L);
+        assertEquals("Television", s.topic());
+        assertTrue(s.ended());
+        assertEquals(PROPONENT, s.winner());
+        assertEquals(5, s.historySize()); // Claim, Challenge, Justify ×2, Accept
+        assertEquals(3, s.historyStatement(3));
+        assertEquals(1000, s.historyTimeMillis(1));
+
+        try (Stream<MoveLogRecord> records = MoveLogReader.stream(dir)) {
+            assertEquals(5, records.filter(r -> r.kind() == MoveLogRecord.Kind.MOVE).count());
+        }
+        delete(dir);
+    }
+
+    @Test
+    void recoversFromTheLatestCheckpointAndDropsOldSegments() throws IOException {
+        Path dir = Files.createTempDirectory("move-log");
+        try (MoveLog log = MoveLog.open(dir, 4096, 0, 0)) {
+            log.endCheckpoint(log.beginCheckpoint(0), 0);
+            DialogueSession s = DialogueRules.start(7, "Television", 1, 0);
+            log.append(MoveLogRecord.start(7, 0, 1, "Television"));
+            // Long rebuttal texts fill segments quickly; checkpoint whenever a new one starts
+            for (int turn = 0; turn < 100; turn++) {
+                String text = "x".repeat(1000);
+                log.append(MoveLogRecord.move(99, turn, OPPONENT, REBUTTAL, 1, new int[]{2}, text));
+                if (log.checkpointDue()) {
+                    long id = log.beginCheckpoint(turn);
+                    log.append(MoveLogRecord.snapshot(s, turn));
+                    log.endCheckpoint(id, turn);
+                }
+            }
+            MoveLogRecord challenge = move(7, 5000, OPPONENT, CHALLENGE, 1);
+            DialogueRules.apply(s, challenge);
+            log.awaitDurable(log.append(challenge));
+        }
+
+        List<Path> segments = MoveLogReader.segments(dir);
+        assertTrue(segments.size() <= 2, "segments before the last checkpoint are deleted");
+
+        MoveLog.Recovery recovery = MoveLog.recover(dir);
+        DialogueSession s = recovery.sessions().get(7L);
+        assertEquals(1, s.pendingChallenge());
+        assertEquals(2, s.historySize());
+
+        // A torn last frame (bad CRC) is ignored
+        Path last = segments.get(segments.size() - 1);
+        try (FileChannel channel = FileChannel.open(last, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long offset = MoveLog.HEADER;
+            ByteBuffer length = ByteBuffer.allocate(4);
+            long lastFrame = offset;
+            while (true) {
+                length.clear();
+                channel.read(length, offset);
+                int n = length.getInt(0);
+                if (n <= 0) {
+                    break;
+                }
+                lastFrame = offset;
+                offset += MoveLog.FRAME + n;
+            }
+            channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3, 4}), lastFrame + 4);
+        }
+        assertEquals(0, MoveLog.recover(dir).sessions().get(7L).pendingChallenge());
+        delete(dir);
+    }
+
+    /** Session {@code id}: opponent challenges the root claim, proponent justifies it with 2 and 3. */
+    private static DialogueSession play(MoveLog log, long id, long start) {
+        DialogueSession s = DialogueRules.start(id, "Television", 1, start);
+        log.append(MoveLogRecord.start(id, start, 1, "Television"));
+        for (MoveLogRecord move : List.of(
+                move(id, start + 1000, OPPONENT, CHALLENGE, 1),
+                MoveLogRecord.move(id, start + 1500, PROPONENT, JUSTIFY, 0, new int[]{2, 3}, null))) {
+            DialogueRules.apply(s, move);
+            log.append(move);
+        }
+        return s;
+    }
+
+    private static MoveLogRecord move(long id, long time, Actor actor, MoveType type, int target) {
+        return MoveLogRecord.move(id, time, actor, type, target, null, null);
+    }
+
+    private static void delete(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
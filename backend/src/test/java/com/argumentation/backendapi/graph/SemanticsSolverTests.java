@@ -0,0 +1,188 @@
+package com.argumentation.backendapi.graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Correctness checks for GroundedSolver / ExtensionSolver on small textbook
+ * frameworks, IncrementalGrounded (and its previews of uncommitted rows of
+ * rebuttals) against full recomputation, and a
+ * consistency check of the grounded labelling of a 200k-node graph.
+ */
+class SemanticsSolverTests {
+
+    /** Builds a framework over nodes 0..n-1 (statement ID = index + 1) from {attacker, target} pairs. */
+    private static AttackFramework framework(int n, int[][] attacks) {
+        int[] ids = new int[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = i + 1;
+        }
+        int[] from = new int[attacks.length];
+        int[] to = new int[attacks.length];
+        for (int i = 0; i < attacks.length; i++) {
+            from[i] = attacks[i][0];
+            to[i] = attacks[i][1];
+        }
+        return AttackFramework.of(ids, from, to, attacks.length);
+    }
+
+    @Test
+    void chainAlternatesInAndOut() {
+        // 2 attacks 1, 1 attacks 0
+        AttackFramework af = framework(3, new int[][]{{1, 0}, {2, 1}});
+        byte[] labels = GroundedSolver.solve(af);
+
+        assertArrayEquals(new byte[]{Label.CODE_IN, Label.CODE_OUT, Label.CODE_IN}, labels);
+        ExtensionSolver.Result result = ExtensionSolver.solve(af, labels);
+        assertEquals(1, result.preferred().size());
+        assertArrayEquals(new int[]{1, 3}, result.preferred().get(0));
+        assertArrayEquals(new int[]{1, 3}, result.stable().get(0));
+    }
+
+    @Test
+    void evenCycleHasTwoPreferredExtensions() {
+        AttackFramework af = framework(2, new int[][]{{0, 1}, {1, 0}});
+        byte[] labels = GroundedSolver.solve(af);
+
+        assertArrayEquals(new byte[]{Label.CODE_UNDEC, Label.CODE_UNDEC}, labels);
+        ExtensionSolver.Result result = ExtensionSolver.solve(af, labels);
+        assertEquals(2, result.preferred().size());
+        assertEquals(2, result.stable().size());
+        assertTrue(result.exhaustive());
+    }
+
+    @Test
+    void oddCycleHasEmptyPreferredAndNoStableExtension() {
+        AttackFramework af = framework(3, new int[][]{{0, 1}, {1, 2}, {2, 0}});
+        ExtensionSolver.Result result = ExtensionSolver.solve(af, GroundedSolver.solve(af));
+
+        assertEquals(1, result.preferred().size());
+        assertEquals(0, result.preferred().get(0).length);
+        assertTrue(result.stable().isEmpty());
+    }
+
+    @Test
+    void independentCyclesCombine() {
+        AttackFramework af = framework(4, new int[][]{{0, 1}, {1, 0}, {2, 3}, {3, 2}});
+        ExtensionSolver.Result result = ExtensionSolver.solve(af, GroundedSolver.solve(af));
+
+        assertEquals(4, result.preferred().size());
+        List<int[]> stable = result.stable();
+        assertEquals(4, stable.size());
+    }
+
+    @Test
+    void incrementalUpdatesMatchFullRecomputation() {
+        Random random = new Random(7);
+        for (int trial = 0; trial < 200; trial++) {
+            int n = 2 + random.nextInt(30);
+            ArgumentGraph.Builder builder = ArgumentGraph.builder();
+            for (int id = 1; id <= n; id++) {
+                Integer counter = random.nextInt(3) == 0 ? null : 1 + random.nextInt(n);
+                builder.addStatement(id, "s" + id, null, counter);
+            }
+            ArgumentGraph graph = builder.build();
+            IncrementalGrounded labelling = IncrementalGrounded.compute(graph);
+
+            for (int id = n + 1; id <= n + 10; id++) {
+                int target = 1 + random.nextInt(id - 1);
+                Label before = labelling.label(target);
+                Map<Integer, Label> preview = labelling.previewAttack(id, target);
+                assertEquals(before, labelling.label(target)); // a preview changes no stored label
+                graph.addRebuttal(id, "r" + id, null, target, 1000 + id);
+                assertEquals(preview, labelling.addAttack(id, target));
+
+                byte[] full = GroundedSolver.solve(graph.fullFramework());
+                for (int i = 0; i < graph.statementCount(); i++) {
+                    assertEquals(Label.of(full[i]), labelling.label(graph.statementIdAt(i)));
+                }
+            }
+        }
+    }
+
+    @Test
+    void previewOfARowMatchesTheRowOnceApplied() {
+        Random random = new Random(13);
+        for (int trial = 0; trial < 200; trial++) {
+            int n = 2 + random.nextInt(30);
+            ArgumentGraph.Builder builder = ArgumentGraph.builder();
+            for (int id = 1; id <= n; id++) {
+                Integer counter = random.nextInt(3) == 0 ? null : 1 + random.nextInt(n);
+                builder.addStatement(id, "s" + id, null, counter);
+            }
+            ArgumentGraph graph = builder.build();
+            IncrementalGrounded labelling = IncrementalGrounded.compute(graph);
+
+            // Labels as the preview says they will be: the committed ones plus every step's changes
+            Map<Integer, Label> expected = new HashMap<>();
+            for (int id = 1; id <= n; id++) {
+                expected.put(id, labelling.label(id));
+            }
+            IncrementalGrounded.Preview preview = labelling.preview();
+            int rowEnd = n + 1 + random.nextInt(12);
+            int[] targets = new int[rowEnd + 1];
+            for (int id = n + 1; id <= rowEnd; id++) {
+                targets[id] = 1 + random.nextInt(id - 1); // graph statements and earlier rebuttals of the row
+                expected.putAll(preview.add(id, targets[id]));
+            }
+            assertEquals(Label.IN, expected.get(rowEnd));
+
+            for (int id = n + 1; id <= rowEnd; id++) {
+                graph.addRebuttal(id, "r" + id, null, targets[id], 1000 + id);
+            }
+            byte[] full = GroundedSolver.solve(graph.fullFramework());
+            for (int i = 0; i < graph.statementCount(); i++) {
+                int id = graph.statementIdAt(i);
+                assertEquals(Label.of(full[i]), expected.get(id), "statement " + id + " in trial " + trial);
+            }
+        }
+    }
+
+    @Test
+    void groundedOnLargeGraphIsAConsistentLabelling() {
+        // Rebuttal-shaped graph: every statement rebuts an earlier one, plus 10% random extra attacks
+        // (timed in src/jmh, GroundedSemanticsBenchmarks)
+        int n = 200_000;
+        Random random = new Random(42);
+        int[] from = new int[n + n / 10];
+        int[] to = new int[from.length];
+        int edges = 0;
+        for (int i = 1; i < n; i++) {
+            from[edges] = i;
+            to[edges] = random.nextInt(i);
+            edges++;
+        }
+        for (int k = 0; k < n / 10; k++) {
+            from[edges] = random.nextInt(n);
+            to[edges] = random.nextInt(n);
+            edges++;
+        }
+        int[] ids = new int[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = i + 1;
+        }
+        byte[] labels = GroundedSolver.solve(AttackFramework.of(ids, from, to, edges));
+
+        // IN iff every attacker is OUT, OUT iff some attacker is IN
+        int[] attackersIn = new int[n];
+        int[] attackersNotOut = new int[n];
+        for (int e = 0; e < edges; e++) {
+            if (labels[from[e]] == Label.CODE_IN) {
+                attackersIn[to[e]]++;
+            }
+            if (labels[from[e]] != Label.CODE_OUT) {
+                attackersNotOut[to[e]]++;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            assertEquals(attackersNotOut[v] == 0, labels[v] == Label.CODE_IN, "IN at " + v);
+            assertEquals(attackersIn[v] > 0, labels[v] == Label.CODE_OUT, "OUT at " + v);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.argumentation.backendapi.importer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that ArgsMeReader extracts the mapped fields and skips everything else,
+ * for both the wrapped ({"arguments": [...]}) and the bare array layout.
+ */
+class ArgsMeReaderTests {
+
+    private static ArgsMeReader reader(String json) throws IOException {
+        return new ArgsMeReader(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void readsWrappedCorpus() throws IOException {
+        String json = """
+                {"meta": {"version": [1, 2]},
+                 "arguments": [
+                  {"premises": [{"text": "Cars pollute.", "stance": "CON", "annotations": [{"x": [1, {"y": 2}]}]},
+                                {"text": "Buses are cheap.", "stance": "PRO"},
+                                {"text": " ", "stance": "PRO"}],
+                   "context": {"sourceId": "a", "discussionTitle": "Public transport",
+                               "sourceTitle": "Debate 1", "sourceUrl": "https://example.org/1"},
+                   "id": "arg-1", "aspects": [], "conclusion": "Public transport should be free"},
+                  {"id": "arg-2", "conclusion": "Second", "premises": []}
+                 ]}
+                """;
+        try (ArgsMeReader reader = reader(json)) {
+            ArgsMeReader.Argument first = reader.next();
+            assertEquals("arg-1", first.id());
+            assertEquals("Public transport should be free", first.conclusion());
+            assertEquals("Public transport", first.discussionTitle());
+            assertEquals("Debate 1", first.sourceTitle());
+            assertEquals("https://example.org/1", first.sourceUrl());
+            assertEquals(2, first.premises().size());
+            assertTrue(first.premises().get(0).con());
+            assertFalse(first.premises().get(1).con());
+
+            ArgsMeReader.Argument second = reader.next();
+            assertEquals("arg-2", second.id());
+            assertTrue(second.premises().isEmpty());
+            assertNull(reader.next());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void readsBareArray() throws IOException {
+        try (ArgsMeReader reader = reader("[{\"id\": \"x\", \"conclusion\": \"c\"}]")) {
+            assertEquals("c", reader.next().conclusion());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void fileWithoutArgumentsYieldsNothing() throws IOException {
+        try (ArgsMeReader reader = reader("{\"something\": [1, 2, 3]}")) {
+            assertNull(reader.next());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.argumentation.backendapi.importer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that a generator advanced to floor(maxId) never hands out an ID
+ * at or below maxId, and that a range taken with reserve() lies between
+ * the blocks Hibernate read before and after it, replaying how Hibernate's pooled optimizer turns the
+ * values it reads from id_generators into blocks of IDs.
+ */
+class IdGeneratorsTests {
+
+    private static final int SIZE = IdGenerators.ALLOCATION_SIZE;
+
+    /** IDs of the block the pooled optimizer derives from one value read from the table */
+    private static long lowestOfBlock(long value) {
+        return value - SIZE + 1;
+    }
+
+    @Test
+    void firstBlockStartsAfterExistingRows() {
+        long maxId = 123_456;
+        long nextVal = IdGenerators.floor(maxId);
+        assertTrue(lowestOfBlock(nextVal) > maxId);
+        // each later read advances by one block, so blocks never overlap
+        assertEquals(nextVal + 1, lowestOfBlock(nextVal + SIZE));
+    }
+
+    @Test
+    void emptyTableStartsAboveZero() {
+        assertTrue(lowestOfBlock(IdGenerators.floor(0)) >= 1);
+    }
+
+    @Test
+    void reservedRangeLiesBetweenHibernateBlocks() {
+        long before = IdGenerators.floor(1_000);     // last value Hibernate read and advanced from
+        long highestHandedOut = before;               // the block of a reader of `before` ends there
+        int count = 20_000;
+        long after = before + SIZE + count;           // next_val once reserve() moved it by count
+        long first = IdGenerators.firstReserved(after, count);
+        assertEquals(highestHandedOut + 1, first);
+        assertEquals(lowestOfBlock(after) - 1, first + count - 1);
+    }
+
+    @Test
+    void floorGrowsWithMaxId() {
+        assertTrue(IdGenerators.floor(1_000) > IdGenerators.floor(999));
+    }
+}
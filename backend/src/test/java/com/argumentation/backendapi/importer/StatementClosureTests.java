@@ -0,0 +1,154 @@
+package com.argumentation.backendapi.importer;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks StatementClosure on a migrated H2 database: rebuild() keeps the
+ * shortest depth per pair, a leaf added with INSERT_SELF / INSERT_UNDER_PARENT
+ * gives the same rows as a rebuild, and subtree reads use the index.
+ *
+ * Graph:  argument of 1 has premises 2, 3, 6; argument of 3 has premise 6;
+ *         4 rebuts 2, 5 rebuts 4.
+ */
+class StatementClosureTests {
+
+    private static final String URL = "jdbc:h2:mem:statement-closure;MODE=MySQL";
+
+    private Connection connection;
+
+    @BeforeEach
+    void migrate() throws SQLException {
+        connection = DriverManager.getConnection(URL, "sa", "");  // keeps the in-memory database open
+        Flyway.configure().dataSource(URL, "sa", "").load().migrate();
+        execute("insert into sources (name) values ('src')");
+        for (int id = 1; id <= 6; id++) {
+            Integer counter = id == 4 ? 2 : id == 5 ? 4 : null;
+            insertStatement(id, counter);
+        }
+        execute("insert into arguments (id, claim, source) values (1, 1, 'src'), (2, 3, 'src')");
+        execute("insert into premises (argument, premise) values (1, 2), (1, 3), (1, 6), (2, 6)");
+    }
+
+    @AfterEach
+    void close() throws SQLException {
+        execute("drop all objects");
+        connection.close();
+    }
+
+    @Test
+    void rebuildKeepsShortestDepth() throws SQLException {
+        assertTrue(StatementClosure.needsRebuild(connection));
+        long rows = StatementClosure.rebuild(connection);
+
+        assertEquals(Map.of(1, 0, 2, 1, 3, 1, 6, 1, 4, 2, 5, 3), subtree(1));
+        assertEquals(Map.of(3, 0, 6, 1), subtree(3));
+        assertEquals(Map.of(5, 0), subtree(5));
+        assertEquals(6 + 5 + 1 + 2 + 1, rows); // self rows, then 1's, 3's, 2's and 4's descendants
+        assertFalse(StatementClosure.needsRebuild(connection));
+    }
+
+    @Test
+    void rebuildFollowsChainsOfAnyDepth() throws SQLException {
+        int deepest = 6 + 300; // 7 rebuts 5, 8 rebuts 7, ...: 300 levels below 5
+        for (int id = 7; id <= deepest; id++) {
+            insertStatement(id, id == 7 ? 5 : id - 1);
+        }
+        StatementClosure.rebuild(connection);
+
+        assertEquals(3 + 300, (int) subtree(1).get(deepest));
+        assertEquals(300, (int) subtree(5).get(deepest));
+    }
+
+    @Test
+    void newLeafMatchesRebuild() throws SQLException {
+        StatementClosure.rebuild(connection);
+
+        // 7 rebuts 5, added as RebuttalService does
+        insertStatement(7, 5);
+        try (PreparedStatement self = connection.prepareStatement(StatementClosure.INSERT_SELF);
+             PreparedStatement under = connection.prepareStatement(StatementClosure.INSERT_UNDER_PARENT)) {
+            self.setInt(1, 7);
+            self.setInt(2, 7);
+            self.executeUpdate();
+            under.setInt(1, 7);
+            under.setInt(2, 5);
+            assertEquals(4, under.executeUpdate()); // below 5 and its ancestors 4, 2 and 1
+        }
+        Map<Integer, Map<Integer, Integer>> incremental = all();
+        assertEquals(4, (int) incremental.get(1).get(7));
+
+        StatementClosure.rebuild(connection);
+        assertEquals(all(), incremental);
+    }
+
+    @Test
+    void subtreeReadUsesIndex() throws SQLException {
+        StatementClosure.rebuild(connection);
+        try (Statement st = connection.createStatement();
+             ResultSet rs = st.executeQuery("explain select c.descendant, c.depth from statement_closure c "
+                     + "where c.ancestor = 1 and c.depth between 1 and 3 order by c.depth, c.descendant")) {
+            assertTrue(rs.next());
+            assertFalse(rs.getString(1).toUpperCase().contains("TABLESCAN"), rs.getString(1));
+        }
+    }
+
+    // ────────────────────────────────
+    // Helpers
+    // ────────────────────────────────
+
+    private void insertStatement(int id, Integer counterStatement) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into statements (id, text, counter_statement, source) values (?, ?, ?, 'src')")) {
+            insert.setInt(1, id);
+            insert.setString(2, "statement " + id);
+            insert.setObject(3, counterStatement);
+            insert.executeUpdate();
+        }
+    }
+
+    /** Descendant → depth below {@code ancestor}, including the ancestor itself at 0. */
+    private Map<Integer, Integer> subtree(int ancestor) throws SQLException {
+        Map<Integer, Integer> rows = new TreeMap<>();
+        try (PreparedStatement select = connection.prepareStatement(
+                "select descendant, depth from statement_closure where ancestor = ?")) {
+            select.setInt(1, ancestor);
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    rows.put(rs.getInt(1), rs.getInt(2));
+                }
+            }
+        }
+        return rows;
+    }
+
+    private Map<Integer, Map<Integer, Integer>> all() throws SQLException {
+        Map<Integer, Map<Integer, Integer>> rows = new TreeMap<>();
+        try (Statement st = connection.createStatement();
+             ResultSet rs = st.executeQuery("select ancestor, descendant, depth from statement_closure")) {
+            while (rs.next()) {
+                rows.computeIfAbsent(rs.getInt(1), k -> new TreeMap<>()).put(rs.getInt(2), rs.getInt(3));
+            }
+        }
+        return rows;
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute(sql);
+        }
+    }
+}
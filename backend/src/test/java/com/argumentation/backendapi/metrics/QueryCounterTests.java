@@ -0,0 +1,52 @@
+package com.argumentation.backendapi.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that statements are counted per scope, including statements of
+ * reads handed to another thread with propagate().
+ */
+class QueryCounterTests {
+
+    @Test
+    void countsOnlyInsideTheScope() {
+        QueryCounter counter = new QueryCounter();
+        counter.inspect("select 1");
+        assertEquals(-1, QueryCounter.current());
+
+        try (QueryCounter.Scope scope = QueryCounter.begin()) {
+            assertEquals("select 2", counter.inspect("select 2"));
+            counter.inspect("select 3");
+            assertEquals(2, scope.count());
+            assertEquals(2, QueryCounter.current());
+        }
+        assertEquals(-1, QueryCounter.current());
+        assertEquals(3, counter.total());
+    }
+
+    @Test
+    void forkedReadsCountTowardsTheCaller() throws Exception {
+        QueryCounter counter = new QueryCounter();
+        try (QueryCounter.Scope scope = QueryCounter.begin()) {
+            Supplier<Integer> read = QueryCounter.propagate(() -> {
+                counter.inspect("select premises");
+                counter.inspect("select rebuttals");
+                return QueryCounter.current();
+            });
+            assertEquals(2, (int) CompletableFuture.supplyAsync(read).get());
+            counter.inspect("select claim");
+            assertEquals(3, scope.count());
+        }
+    }
+
+    @Test
+    void readsForkedOutsideAScopeAreNotWrapped() {
+        Supplier<String> read = () -> "rows";
+        assertSame(read, QueryCounter.propagate(read));
+    }
+}
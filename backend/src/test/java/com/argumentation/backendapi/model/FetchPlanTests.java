@@ -0,0 +1,72 @@
+package com.argumentation.backendapi.model;
+
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the fetch plans of the entities: no association is loaded eagerly,
+ * and every node of the named entity graphs is a mapped association.
+ */
+class FetchPlanTests {
+
+    private static final Class<?>[] ENTITIES = {
+            ArgumentEntity.class, PremiseEntity.class, SourceEntity.class, StatementEntity.class, TopicEntity.class
+    };
+
+    @Test
+    void associationsAreLazy() {
+        for (Class<?> entity : ENTITIES) {
+            for (Field field : entity.getDeclaredFields()) {
+                ManyToOne manyToOne = field.getAnnotation(ManyToOne.class);
+                if (manyToOne != null) {
+                    assertEquals(FetchType.LAZY, manyToOne.fetch(), entity.getSimpleName() + "." + field.getName());
+                }
+            }
+        }
+    }
+
+    @Test
+    void graphNodesAreAssociations() {
+        assertGraph(TopicEntity.class, TopicEntity.ROOT_CLAIM);
+        assertGraph(PremiseEntity.class, PremiseEntity.JUSTIFICATION);
+        assertGraph(StatementEntity.class, StatementEntity.REBUTTAL);
+    }
+
+    private static void assertGraph(Class<?> entity, String name) {
+        NamedEntityGraph graph = entity.getAnnotation(NamedEntityGraph.class);
+        assertNotNull(graph, name);
+        assertEquals(name, graph.name());
+        Map<String, NamedSubgraph> subgraphs = new HashMap<>();
+        for (NamedSubgraph subgraph : graph.subgraphs()) {
+            subgraphs.put(subgraph.name(), subgraph);
+        }
+        assertNodes(entity, graph.attributeNodes(), subgraphs);
+    }
+
+    private static void assertNodes(Class<?> owner, NamedAttributeNode[] nodes, Map<String, NamedSubgraph> subgraphs) {
+        for (NamedAttributeNode node : nodes) {
+            Field field;
+            try {
+                field = owner.getDeclaredField(node.value());
+            } catch (NoSuchFieldException e) {
+                throw new AssertionError(owner.getSimpleName() + " has no attribute " + node.value());
+            }
+            assertNotNull(field.getAnnotation(ManyToOne.class), owner.getSimpleName() + "." + node.value());
+            if (!node.subgraph().isEmpty()) {
+                NamedSubgraph subgraph = subgraphs.get(node.subgraph());
+                assertNotNull(subgraph, node.subgraph());
+                assertNodes(field.getType(), subgraph.attributeNodes(), subgraphs);
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.argumentation.backendapi.repository;
+
+import com.argumentation.backendapi.metrics.QueryCounter;
+import com.argumentation.backendapi.model.PremiseEntity;
+import com.argumentation.backendapi.model.StatementEntity;
+import com.argumentation.backendapi.model.TopicEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the entity-graph finders against H2 (MySQL mode, Flyway schema) on a
+ * deep rebuttal chain and counts the SQL statements with QueryCounter: each
+ * finder, including every association its callers read, is one statement,
+ * however deep the chain or however many rows it returns.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:entity-graphs;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.argumentation.backendapi.metrics.QueryCounter"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class EntityGraphFinderTests {
+
+    /** Statements 1..DEPTH, each rebutting the previous one */
+    private static final int DEPTH = 40;
+    /** Extra rebuttals and premises per chain statement */
+    private static final int FAN = 3;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private PremiseRepository premiseRepository;
+
+    @Autowired
+    private StatementRepository statementRepository;
+
+    /**
+     * Chain statement i (argument i) has FAN side rebuttals (1000 + 10i + k)
+     * and FAN premises (5000 + 10i + k). Every statement has a source of its
+     * own, so a lazily loaded source would cost one statement per row.
+     */
+    @BeforeEach
+    void fill() {
+        for (int i = 1; i <= DEPTH; i++) {
+            statement(i, i > 1 ? i - 1 : null);
+            update("insert into arguments (id, claim, source) values (?1, ?2, ?3)", i, i, "src-" + i);
+            for (int k = 0; k < FAN; k++) {
+                statement(1000 + 10 * i + k, i);
+                statement(5000 + 10 * i + k, null);
+                update("insert into premises (argument, premise) values (?1, ?2)", i, 5000 + 10 * i + k);
+            }
+        }
+        update("insert into topics (name, argument_id) values (?1, ?2)", "Deep", 1);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private void statement(int id, Integer counterStatement) {
+        update("insert into sources (name, text) values (?1, ?2)", "src-" + id, "source " + id);
+        if (counterStatement == null) {
+            update("insert into statements (id, text, source) values (?1, ?2, ?3)", id, "statement " + id, "src-" + id);
+        } else {
+            update("insert into statements (id, text, counter_statement, source) values (?1, ?2, ?3, ?4)",
+                    id, "statement " + id, counterStatement, "src-" + id);
+        }
+    }
+
+    private void update(String sql, Object... parameters) {
+        Query query = entityManager.createNativeQuery(sql);
+        for (int i = 0; i < parameters.length; i++) {
+            query.setParameter(i + 1, parameters[i]);
+        }
+        query.executeUpdate();
+    }
+
+    @Test
+    void topicByNameLoadsRootClaimAndSourceInOneStatement() {
+        try (QueryCounter.Scope scope = QueryCounter.begin()) {
+            TopicEntity topic = topicRepository.findByName("Deep").orElseThrow();
+            StatementEntity claim = topic.getArgument().getClaim();
+            assertEquals("statement 1", claim.getText());
+            assertEquals("source 1", claim.getSource().getText());
+            assertEquals(1, scope.count());
+        }
+    }
+
+    @Test
+    void premisesOfArgumentLoadStatementsAndSourcesInOneStatement() {
+        for (int argumentId : new int[]{1, DEPTH / 2, DEPTH}) {
+            entityManager.clear();
+            try (QueryCounter.Scope scope = QueryCounter.begin()) {
+                List<PremiseEntity> premises = premiseRepository.findByArgument_Id(argumentId);
+                assertEquals(FAN, premises.size());
+                for (PremiseEntity premise : premises) {
+                    assertTrue(premise.getPremise().getText().startsWith("statement "));
+                    assertTrue(premise.getPremise().getSource().getText().startsWith("source "));
+                }
+                assertEquals(1, scope.count(), "argument " + argumentId);
+            }
+        }
+    }
+
+    @Test
+    void walkingTheRebuttalChainCostsOneStatementPerLevel() {
+        int levels = 0;
+        try (QueryCounter.Scope walk = QueryCounter.begin()) {
+            for (int id = 1; id <= DEPTH; id++) {
+                entityManager.clear();
+                int before = walk.count();
+                List<StatementEntity> rebuttals = statementRepository.findByCounterStatement_Id(id);
+                assertEquals(id < DEPTH ? FAN + 1 : FAN, rebuttals.size());
+                for (StatementEntity rebuttal : rebuttals) {
+                    assertTrue(rebuttal.getText().startsWith("statement "));
+                    assertTrue(rebuttal.getSource().getText().startsWith("source "));
+                }
+                assertEquals(1, walk.count() - before, "level " + id);
+                levels++;
+            }
+            assertEquals(levels, walk.count());
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.argumentation.backendapi.repository;
+
+import com.argumentation.backendapi.config.UniqueTopicNamesCallback;
+import org.flywaydb.core.Flyway;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Migrates an in-memory H2 database (MySQL mode, as in the embedded profile)
+ * with the Flyway scripts, runs each repository finder, and checks with
+ * EXPLAIN that the SQL Hibernate generated for it (captured by a
+ * StatementInspector) is answered by index seeks, not a table scan.
+ * Also checks that duplicate topic names do not stop V3.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=" + IndexUsageTests.URL,
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.argumentation.backendapi.repository.IndexUsageTests$CapturedSql"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class IndexUsageTests {
+
+    static final String URL = "jdbc:h2:mem:index-usage;MODE=MySQL;DB_CLOSE_DELAY=-1";
+    private static final int ROWS = 2_000;
+
+    private static Connection connection;
+
+    @Autowired
+    private StatementRepository statementRepository;
+
+    @Autowired
+    private ArgumentRepository argumentRepository;
+
+    @Autowired
+    private PremiseRepository premiseRepository;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    /** Hibernate's StatementInspector in this test: records the SQL of the finder under test. */
+    public static final class CapturedSql implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    /** Committed before the Spring context starts; its Flyway then finds the schema up to date. */
+    @BeforeAll
+    static void migrate() throws SQLException {
+        Flyway.configure().dataSource(URL, "sa", "").callbacks(new UniqueTopicNamesCallback()).load().migrate();
+        connection = DriverManager.getConnection(URL, "sa", "");
+        fill();
+    }
+
+    @AfterAll
+    static void close() throws SQLException {
+        connection.close();
+    }
+
+    /** A small corpus: chains of rebuttals, one argument per statement, two premises per argument. */
+    private static void fill() throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute("insert into sources (name) values ('src')");
+        }
+        try (PreparedStatement statement = connection.prepareStatement(
+                     "insert into statements (id, text, counter_statement, source) values (?, ?, ?, 'src')");
+             PreparedStatement argument = connection.prepareStatement(
+                     "insert into arguments (id, claim, source) values (?, ?, 'src')")) {
+            for (int id = 1; id <= ROWS; id++) {
+                statement.setInt(1, id);
+                statement.setString(2, "statement " + id);
+                statement.setObject(3, id > 100 ? id % 100 + 1 : null);
+                statement.addBatch();
+                argument.setInt(1, id);
+                argument.setInt(2, id);
+                argument.addBatch();
+            }
+            statement.executeBatch();
+            argument.executeBatch();
+        }
+        try (PreparedStatement premise = connection.prepareStatement(
+                     "insert into premises (argument, premise) values (?, ?)");
+             PreparedStatement topic = connection.prepareStatement(
+                     "insert into topics (name, argument_id) values (?, ?)")) {
+            for (int id = 1; id < ROWS - 1; id++) {
+                premise.setInt(1, id);
+                premise.setInt(2, id + 1);
+                premise.addBatch();
+                premise.setInt(1, id);
+                premise.setInt(2, id + 2);
+                premise.addBatch();
+            }
+            for (int id = 1; id <= 100; id++) {
+                topic.setString(1, "Topic " + id);
+                topic.setInt(2, id);
+                topic.addBatch();
+            }
+            premise.executeBatch();
+            topic.executeBatch();
+        }
+        try (Statement st = connection.createStatement()) {
+            st.execute("analyze");
+        }
+    }
+
+    // ────────────────────────────────
+    // One test per repository finder
+    // ────────────────────────────────
+
+    @Test
+    void rebuttalsOfStatement() throws SQLException {
+        assertUsesIndex(sqlOf(() -> statementRepository.findByCounterStatement_Id(7)),
+                List.of(7), "idx_statements_counter_statement_id");
+        assertUsesIndex(sqlOf(() -> statementRepository.findRebuttalRowsByTargetIds(List.of(7, 8))),
+                List.of(7, 8), "idx_statements_counter_statement_id");
+    }
+
+    @Test
+    void rebuttalPage() throws SQLException {
+        assertUsesIndex(sqlOf(() -> statementRepository.findRebuttalRowsAfter(7, 500, Limit.of(10))),
+                List.of(7, 500, 10), "idx_statements_counter_statement_id");
+    }
+
+    @Test
+    void argumentsOfClaim() throws SQLException {
+        assertUsesIndex(sqlOf(() -> argumentRepository.findByClaim_Id(7)),
+                List.of(7), "idx_arguments_claim_id", "fk_arguments_claim");
+        assertUsesIndex(sqlOf(() -> argumentRepository.findFirstByClaim_Id(7)),
+                List.of(7, 1), "idx_arguments_claim_id", "fk_arguments_claim");
+        assertUsesIndex(sqlOf(() -> argumentRepository.findArgumentIdRowsByClaimIds(List.of(7, 8))),
+                List.of(7, 8), "idx_arguments_claim_id", "fk_arguments_claim");
+    }
+
+    @Test
+    void premisesOfArgument() throws SQLException {
+        // Primary key (argument, premise); the rows also look up the min(a.id) subquery by claim
+        assertUsesIndex(sqlOf(() -> premiseRepository.findByArgument_Id(7)), List.of(7));
+        assertUsesIndex(sqlOf(() -> premiseRepository.findPremiseRowsByArgumentIds(List.of(7, 8))), List.of(7, 8));
+        assertUsesIndex(sqlOf(() -> premiseRepository.findClaimsByArgumentIdAfter(7, 0, Limit.of(10))),
+                List.of(7, 0, 10));
+    }
+
+    @Test
+    void argumentsSupportedByStatement() throws SQLException {
+        // No finder: the graph load reads premises by statement with its own SQL
+        assertUsesIndex("select p.argument from premises p where p.premise = ?", List.of(7),
+                "idx_premises_premise_argument", "fk_premises_premise");
+    }
+
+    @Test
+    void topicByName() throws SQLException {
+        assertUsesIndex(sqlOf(() -> topicRepository.findByName("Topic 7")), List.of("Topic 7"), "uq_topics_name");
+    }
+
+    @Test
+    void topicNamesAreUnique() {
+        assertThrows(SQLException.class, () -> {
+            try (Statement st = connection.createStatement()) {
+                st.execute("insert into topics (name, argument_id) values ('Topic 7', 8)");
+            }
+        });
+    }
+
+    @Test
+    void duplicateTopicNamesAreRenamedBeforeV3() throws SQLException {
+        String url = "jdbc:h2:mem:duplicate-topics;MODE=MySQL;DB_CLOSE_DELAY=-1";
+        Flyway.configure().dataSource(url, "sa", "").target("2").load().migrate();
+        try (Connection db = DriverManager.getConnection(url, "sa", "");
+             Statement st = db.createStatement()) {
+            st.execute("insert into topics (name) values ('Television'), ('Radio'), ('Television'), ('Television')");
+
+            Flyway.configure().dataSource(url, "sa", "").callbacks(new UniqueTopicNamesCallback()).load().migrate();
+
+            List<String> names = new ArrayList<>();
+            try (ResultSet rs = st.executeQuery("select name from topics order by id")) {
+                while (rs.next()) {
+                    names.add(rs.getString(1));
+                }
+            }
+            assertEquals(List.of("Television", "Radio", "Television (3)", "Television (4)"), names);
+        }
+    }
+
+    /** Runs one finder and returns the single SQL statement Hibernate sent for it. */
+    private static String sqlOf(Runnable finder) {
+        CapturedSql.STATEMENTS.clear();
+        finder.run();
+        List<String> statements = List.copyOf(CapturedSql.STATEMENTS);
+        assertEquals(1, statements.size(), statements.toString());
+        return statements.get(0);
+    }
+
+    /**
+     * Asserts that the plan of {@code sql} avoids a table scan and, if any are
+     * given, uses one of {@code indexes}. H2 keeps the index it created for a
+     * V1 foreign key next to the V3 composite index on the same column (MySQL
+     * drops it), so either may be chosen.
+     *
+     * @param parameters Bound in order; the last one repeats for any further placeholders
+     */
+    private static void assertUsesIndex(String sql, List<?> parameters, String... indexes) throws SQLException {
+        String plan = plan(sql, parameters);
+        String normalized = plan.toUpperCase(Locale.ROOT);
+        assertFalse(normalized.contains("TABLESCAN"), "table scan: " + plan);
+        if (indexes.length == 0) {
+            return;
+        }
+        for (String index : indexes) {
+            if (normalized.contains(index.toUpperCase(Locale.ROOT))) {
+                return;
+            }
+        }
+        fail("expected one of " + String.join(", ", indexes) + ": " + plan);
+    }
+
+    private static String plan(String sql, List<?> parameters) throws SQLException {
+        try (PreparedStatement st = connection.prepareStatement("explain " + sql)) {
+            int count = st.getParameterMetaData().getParameterCount();
+            for (int i = 0; i < count; i++) {
+                st.setObject(i + 1, parameters.get(Math.min(i, parameters.size() - 1)));
+            }
+            try (ResultSet rs = st.executeQuery()) {
+                assertTrue(rs.next());
+                return rs.getString(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.argumentation.backendapi.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks BM25 ranking, prefix expansion, that a statement ID is indexed only
+ * once, and that block-max pruning returns the same top hits as scoring
+ * every matching document.
+ */
+class InvertedIndexTests {
+
+    @Test
+    void ranksExactAndPrefixMatches() {
+        InvertedIndex index = new InvertedIndex();
+        index.addStatement(1, "Nuclear energy is clean and reliable.");
+        index.addStatement(2, "Solar energy is getting cheaper every year.");
+        index.addStatement(3, "Nuclear waste stays dangerous for millennia; nuclear accidents happen.");
+        index.addTopic(7, "Nuclear Energy");
+
+        List<InvertedIndex.Hit> hits = index.search("nuclear energy ", 10);
+        assertEquals(4, hits.size());
+        assertEquals(InvertedIndex.TYPE_TOPIC, hits.get(0).type());
+        assertEquals("Nuclear Energy", hits.get(0).name());
+        assertEquals(1, hits.get(1).id()); // both terms beat one term twice
+
+        // Trailing "ener" expands to "energy"; "nu" alone is too short to expand
+        assertEquals(hits.get(0).id(), index.search("nuclear ener", 10).get(0).id());
+        assertTrue(index.search("nu", 10).isEmpty());
+        assertTrue(index.search("the and", 10).isEmpty()); // stopwords only
+    }
+
+    @Test
+    void statementIsIndexedOnce() {
+        InvertedIndex index = new InvertedIndex();
+        assertTrue(index.addStatement(5, "Nuclear energy is clean."));
+        assertFalse(index.addStatement(5, "Nuclear energy is clean.")); // replayed after a rebuild scan saw it
+        assertTrue(index.addStatement(3, "Coal is not."));
+
+        assertEquals(2, index.documentCount());
+        assertEquals(1, index.search("nuclear ", 10).size());
+    }
+
+    @Test
+    void pruningKeepsTheExactTopHits() {
+        Random random = new Random(42);
+        String[] vocabulary = new String[300];
+        for (int i = 0; i < vocabulary.length; i++) {
+            vocabulary[i] = "term" + Integer.toString(i, 36) + "x";
+        }
+        InvertedIndex index = new InvertedIndex();
+        int docs = 20_000;
+        for (int id = 1; id <= docs; id++) {
+            StringBuilder text = new StringBuilder();
+            int length = 3 + random.nextInt(25);
+            for (int t = 0; t < length; t++) {
+                // Skewed term distribution so a few terms occur in most documents
+                int term = (int) (vocabulary.length * Math.pow(random.nextDouble(), 3));
+                text.append(vocabulary[term]).append(' ');
+            }
+            index.addStatement(id, text.toString());
+        }
+
+        for (String query : new String[]{"term0x ", "term0x term1x ", "term5x term2ax term7x ", "term0x term1"}) {
+            List<InvertedIndex.Hit> pruned = index.search(query, 10);
+            List<InvertedIndex.Hit> exhaustive = index.search(query, docs); // heap never fills → no pruning
+            assertEquals(10, pruned.size(), query);
+            for (int i = 0; i < pruned.size(); i++) {
+                assertEquals(exhaustive.get(i).id(), pruned.get(i).id(), query);
+                assertEquals(exhaustive.get(i).score(), pruned.get(i).score(), 1e-9, query);
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.argumentation.backendapi.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that MinHash/LSH finds reworded copies of a rebuttal, ignores
+ * rebuttals that merely share vocabulary, and indexes an ID only once.
+ */
+class MinHashTests {
+
+    @Test
+    void findsNearDuplicatesOnly() {
+        LshIndex index = new LshIndex();
+        index.add(1, MinHash.signature("Television exposes children to violent content that shapes their behaviour."));
+        index.add(2, MinHash.signature("Television news keeps people informed about world events."));
+        for (int i = 0; i < 1000; i++) {
+            index.add(100 + i, MinHash.signature("Unrelated rebuttal number " + i + " about topic " + (i * 7)));
+        }
+
+        // Case, punctuation and stop words do not matter
+        LshIndex.Match match = index.mostSimilar(
+                MinHash.signature("TELEVISION exposes children to violent content, that shapes their behaviour!!"), 0.8);
+        assertNotNull(match);
+        assertEquals(1, match.id());
+        assertEquals(1.0, match.similarity(), 1e-9, "same bigrams");
+
+        // Shares words with entry 1 but says something else
+        assertNull(index.mostSimilar(
+                MinHash.signature("Violent content on television is rare; children prefer cartoons."), 0.8));
+
+        assertNull(MinHash.signature("the and of")); // nothing to compare
+    }
+
+    @Test
+    void indexesAnIdOnce() {
+        LshIndex index = new LshIndex();
+        int[] signature = MinHash.signature("Television exposes children to violent content.");
+        assertTrue(index.add(1, signature));
+        assertFalse(index.add(1, signature)); // seen by the initial scan and by the after-commit event
+        assertEquals(1, index.size());
+    }
+}
@@ -0,0 +1,161 @@
+package com.argumentation.backendapi.service.impl;
+
+import com.argumentation.backendapi.config.DatabaseFanOut;
+import com.argumentation.backendapi.graph.ArgumentGraph;
+import com.argumentation.backendapi.model.TreeNodeDTO;
+import com.argumentation.backendapi.repository.PremiseRepository;
+import com.argumentation.backendapi.repository.StatementRepository;
+import com.argumentation.backendapi.repository.TopicRepository;
+import com.argumentation.backendapi.service.ArgumentGraphService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Builds argument trees from the database (H2 in MySQL mode, Flyway schema)
+ * with IN-lists cut into chunks of two: depth and fan-out limits, the
+ * truncated flag of nodes whose children were cut off, and topics without
+ * a root claim.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:argument-tree;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ArgumentTreeServiceImplTests {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private PremiseRepository premiseRepository;
+
+    @Autowired
+    private StatementRepository statementRepository;
+
+    private ArgumentTreeServiceImpl service;
+
+    /**
+     * Topic "Tree": claim 1 (argument 1) with premises 11, 12, 13 and
+     * rebuttals 2, 21, 22; statements 2..6 form a chain, each rebutting the
+     * one before and being the claim of the argument with its own ID.
+     * Topic "Empty" has no root argument.
+     */
+    @BeforeEach
+    void fill() {
+        for (int id = 1; id <= 6; id++) {
+            statement(id, id > 1 ? id - 1 : null);
+            update("insert into arguments (id, claim) values (?1, ?2)", id, id);
+        }
+        for (int id = 11; id <= 13; id++) {
+            statement(id, null);
+            update("insert into premises (argument, premise) values (?1, ?2)", 1, id);
+        }
+        statement(21, 1);
+        statement(22, 1);
+        update("insert into topics (name, argument_id) values (?1, ?2)", "Tree", 1);
+        update("insert into topics (name) values (?1)", "Empty");
+        entityManager.flush();
+        entityManager.clear();
+
+        ArgumentGraphService noGraph = new ArgumentGraphService() {
+            @Override public Optional<ArgumentGraph> readGraph() { return Optional.empty(); }
+            @Override public Optional<ArgumentGraph> graph() { return Optional.empty(); }
+            @Override public void reload() { }
+        };
+        service = new ArgumentTreeServiceImpl(topicRepository, premiseRepository, statementRepository, noGraph,
+                new DatabaseFanOut(false, 0, 10), 2);
+    }
+
+    private void statement(int id, Integer counterStatement) {
+        if (counterStatement == null) {
+            update("insert into statements (id, text) values (?1, ?2)", id, "statement " + id);
+        } else {
+            update("insert into statements (id, text, counter_statement) values (?1, ?2, ?3)",
+                    id, "statement " + id, counterStatement);
+        }
+    }
+
+    private void update(String sql, Object... parameters) {
+        Query query = entityManager.createNativeQuery(sql);
+        for (int i = 0; i < parameters.length; i++) {
+            query.setParameter(i + 1, parameters[i]);
+        }
+        query.executeUpdate();
+    }
+
+    @Test
+    void depthLimitMarksNodesWithMoreBelow() {
+        TreeNodeDTO root = service.buildTree("Tree", 2, 10);
+        assertEquals(List.of(11, 12, 13, 2, 21, 22), ids(root.getChildren()));
+        assertFalse(root.isTruncated());
+
+        TreeNodeDTO rebuttal = root.getChildren().get(3);
+        assertEquals(TreeNodeDTO.TYPE_REBUTTAL, rebuttal.getType());
+        assertEquals(List.of(3), ids(rebuttal.getChildren()));
+        // 3 is on the last level and still has rebuttal 4 below it; premise 11 has nothing
+        assertTrue(rebuttal.getChildren().get(0).isTruncated());
+        assertFalse(root.getChildren().get(0).isTruncated());
+    }
+
+    @Test
+    void fanOutLimitKeepsPremisesFirst() {
+        TreeNodeDTO root = service.buildTree("Tree", 1, 2);
+        assertEquals(List.of(11, 12), ids(root.getChildren()));
+        assertTrue(root.isTruncated());
+        for (TreeNodeDTO child : root.getChildren()) {
+            assertEquals(TreeNodeDTO.TYPE_PREMISE, child.getType());
+            assertFalse(child.isTruncated());
+        }
+    }
+
+    @Test
+    void fullDepthReachesTheEndOfTheChain() {
+        TreeNodeDTO root = service.buildTree("Tree", ArgumentTreeServiceImpl.MAX_DEPTH, 10);
+        assertEquals(11, count(root));
+        TreeNodeDTO node = root.getChildren().get(3);
+        for (int id = 2; id < 6; id++) {
+            assertEquals(id, node.getId());
+            node = node.getChildren().get(0);
+        }
+        assertEquals(6, node.getId());
+        assertTrue(node.getChildren().isEmpty());
+        assertFalse(node.isTruncated());
+    }
+
+    @Test
+    void topicWithoutRootClaimIsNotFound() {
+        RuntimeException e = assertThrows(RuntimeException.class, () -> service.buildTree("Empty", 3, 10));
+        assertTrue(e.getMessage().startsWith("Topic not found"));
+        assertThrows(RuntimeException.class, () -> service.buildTree("Missing", 3, 10));
+    }
+
+    private static List<Integer> ids(List<TreeNodeDTO> nodes) {
+        List<Integer> ids = new ArrayList<>();
+        for (TreeNodeDTO node : nodes) {
+            ids.add(node.getId());
+        }
+        return ids;
+    }
+
+    private static int count(TreeNodeDTO node) {
+        int count = 1;
+        for (TreeNodeDTO child : node.getChildren()) {
+            count += count(child);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,81 @@
+package com.argumentation.backendapi.service.impl;
+
+import com.argumentation.backendapi.config.DatabaseFanOut;
+import com.argumentation.backendapi.graph.ArgumentGraph;
+import com.argumentation.backendapi.model.BatchLookupResponse;
+import com.argumentation.backendapi.model.ClaimDTO;
+import com.argumentation.backendapi.service.ArgumentGraphService;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for BatchLookupServiceImpl against the in-memory graph: one call
+ * resolves argument IDs, justifications and rebuttals of many nodes, IDs
+ * are deduplicated and chunked, and oversized batches are rejected.
+ */
+class BatchLookupServiceImplTests {
+
+    /** Claim 1 ← argument 10 with premises 2 and 3; statement 4 rebuts 2, statement 5 rebuts 3. */
+    private static ArgumentGraph graph() {
+        return ArgumentGraph.builder()
+                .addStatement(1, "claim", "src", null)
+                .addStatement(2, "premise a", "src", null)
+                .addStatement(3, "premise b", null, null)
+                .addStatement(4, "rebuts a", null, 2)
+                .addStatement(5, "rebuts b", null, 3)
+                .addArgument(10, 1)
+                .addArgument(11, 2)
+                .addPremise(10, 2)
+                .addPremise(10, 3)
+                .addTopic("Topic", 10)
+                .build();
+    }
+
+    private static BatchLookupServiceImpl service(int maxIds) {
+        ArgumentGraph graph = graph();
+        ArgumentGraphService graphService = new ArgumentGraphService() {
+            @Override public Optional<ArgumentGraph> readGraph() { return Optional.of(graph); }
+            @Override public Optional<ArgumentGraph> graph() { return Optional.of(graph); }
+            @Override public void reload() { }
+        };
+        return new BatchLookupServiceImpl(null, null, null, graphService, new DatabaseFanOut(false, 0, 10), maxIds, 2);
+    }
+
+    @Test
+    void resolvesAWholeLevelInOneCall() {
+        BatchLookupResponse response = service(500).lookup(Arrays.asList(2, 3, 2, null, 99), List.of(10, 77));
+
+        assertEquals(11, (int) response.argumentIdsByClaim().get(2));
+        assertFalse(response.argumentIdsByClaim().containsKey(3));
+        assertEquals(List.of(11, 10), List.copyOf(response.justifications().keySet()));
+        assertEquals(List.of(new ClaimDTO(2, "premise a", "src"), new ClaimDTO(3, "premise b", null)),
+                response.justifications().get(10));
+        assertTrue(response.justifications().get(11).isEmpty());
+
+        assertEquals(List.of(2, 3, 99), List.copyOf(response.rebuttals().keySet()));
+        assertEquals(4, (int) response.rebuttals().get(2).get(0).getStatementId());
+        assertEquals(5, (int) response.rebuttals().get(3).get(0).getStatementId());
+        assertTrue(response.rebuttals().get(99).isEmpty());
+    }
+
+    @Test
+    void rejectsBatchesAboveTheLimit() {
+        BatchLookupServiceImpl service = service(3);
+        assertThrows(IllegalArgumentException.class, () -> service.lookup(List.of(1, 2, 3), List.of(10)));
+        assertEquals(2, service.lookup(List.of(1, 2, 2, 2), List.of(10)).rebuttals().size()); // duplicates do not count
+    }
+
+    @Test
+    void chunksKeepOrderAndSize() {
+        assertEquals(List.of(List.of(1, 2), List.of(3, 4), List.of(5)),
+                BatchLookupServiceImpl.chunks(List.of(1, 2, 3, 4, 5), 2));
+        assertEquals(List.of(), BatchLookupServiceImpl.chunks(List.of(), 2));
+        assertEquals(List.of(3, 1), BatchLookupServiceImpl.distinct(Arrays.asList(3, null, 1, 3)));
+        assertEquals(List.of(), BatchLookupServiceImpl.distinct(null));
+    }
+}
@@ -0,0 +1,64 @@
+package com.argumentation.backendapi.service.impl;
+
+import com.argumentation.backendapi.graph.ArgumentGraph;
+import com.argumentation.backendapi.search.LshIndex;
+import com.argumentation.backendapi.service.ArgumentGraphService;
+import com.argumentation.backendapi.service.DuplicateRebuttalService;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for DuplicateRebuttalServiceImpl: the items of a bulk request are
+ * matched against each other as well as against committed rebuttals.
+ */
+class DuplicateRebuttalServiceImplTests {
+
+    private static final String COMMITTED = "nuclear energy is too expensive compared to wind and solar power today";
+    private static final String SAVED = "school uniforms limit the freedom of children to express who they are";
+
+    /** Claim 1 with one committed rebuttal (2) */
+    private static DuplicateRebuttalServiceImpl service(String mode) {
+        ArgumentGraph graph = ArgumentGraph.builder()
+                .addStatement(1, "claim", null, null)
+                .addStatement(2, COMMITTED, null, 1)
+                .build();
+        ArgumentGraphService graphService = new ArgumentGraphService() {
+            @Override public Optional<ArgumentGraph> readGraph() { return Optional.of(graph); }
+            @Override public Optional<ArgumentGraph> graph() { return Optional.of(graph); }
+            @Override public void reload() { }
+        };
+        return new DuplicateRebuttalServiceImpl(graphService, null, mode, 0.8, 100);
+    }
+
+    @Test
+    void bulkItemsAreMatchedAgainstEarlierItems() {
+        DuplicateRebuttalServiceImpl service = service("flag");
+        DuplicateRebuttalService.Batch batch = service.batch();
+        assertTrue(batch.findDuplicate(1, SAVED).isEmpty());
+        batch.add(1, 100, SAVED);
+
+        Optional<LshIndex.Match> match = batch.findDuplicate(1, SAVED + ".");
+        assertEquals(100, match.orElseThrow().id());
+        // Uncommitted items are invisible outside the batch
+        assertTrue(service.findDuplicate(1, SAVED).isEmpty());
+        // and only match rebuttals of the same target
+        assertTrue(batch.findDuplicate(2, SAVED).isEmpty());
+    }
+
+    @Test
+    void bulkItemsStillMatchCommittedRebuttals() {
+        DuplicateRebuttalService.Batch batch = service("flag").batch();
+        batch.add(1, 100, SAVED);
+        assertEquals(2, batch.findDuplicate(1, COMMITTED).orElseThrow().id());
+    }
+
+    @Test
+    void offDetectsNothing() {
+        DuplicateRebuttalService.Batch batch = service("off").batch();
+        batch.add(1, 100, SAVED);
+        assertTrue(batch.findDuplicate(1, SAVED).isEmpty());
+    }
+}
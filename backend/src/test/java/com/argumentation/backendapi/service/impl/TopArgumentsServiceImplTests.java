@@ -0,0 +1,100 @@
+package com.argumentation.backendapi.service.impl;
+
+import com.argumentation.backendapi.cache.CacheRegistry;
+import com.argumentation.backendapi.event.LabelsChangedEvent;
+import com.argumentation.backendapi.graph.ArgumentGraph;
+import com.argumentation.backendapi.graph.IncrementalGrounded;
+import com.argumentation.backendapi.graph.Label;
+import com.argumentation.backendapi.model.TopArgumentDTO;
+import com.argumentation.backendapi.model.TopArgumentsResponse;
+import com.argumentation.backendapi.service.ArgumentGraphService;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for TopArgumentsServiceImpl: a cached ranking that is updated in
+ * place by committed rebuttals matches a ranking computed from scratch.
+ */
+class TopArgumentsServiceImplTests {
+
+    private static TopArgumentsServiceImpl service(ArgumentGraph graph) {
+        ArgumentGraphService graphService = new ArgumentGraphService() {
+            @Override public Optional<ArgumentGraph> readGraph() { return Optional.of(graph); }
+            @Override public Optional<ArgumentGraph> graph() { return Optional.of(graph); }
+            @Override public void reload() { }
+        };
+        return new TopArgumentsServiceImpl(graphService, new CacheRegistry(100, 0, 0));
+    }
+
+    /** Random topic: claim 1, arguments with premises, and rebuttals of earlier statements. */
+    private static ArgumentGraph graph(Random random, int n) {
+        ArgumentGraph.Builder builder = ArgumentGraph.builder();
+        for (int id = 1; id <= n; id++) {
+            Integer counter = id > 1 && random.nextInt(3) == 0 ? 1 + random.nextInt(id - 1) : null;
+            builder.addStatement(id, "s" + id, null, counter);
+        }
+        for (int id = 1; id <= n; id++) {
+            if (id == 1 || random.nextInt(2) == 0) {
+                builder.addArgument(1000 + id, id);
+                for (int k = random.nextInt(4); k > 0; k--) {
+                    builder.addPremise(1000 + id, 1 + random.nextInt(n));
+                }
+            }
+        }
+        return builder.addTopic("T", 1001).build();
+    }
+
+    @Test
+    void incrementalRankingMatchesFullRanking() {
+        Random random = new Random(11);
+        for (int trial = 0; trial < 40; trial++) {
+            int n = 20 + random.nextInt(200);
+            ArgumentGraph graph = graph(random, n);
+            IncrementalGrounded labelling = IncrementalGrounded.compute(graph);
+            TopArgumentsServiceImpl service = service(graph);
+            service.getTopArguments("T", 50, null); // cached from here on
+
+            for (int id = n + 1; id <= n + 30; id++) {
+                int target = 1 + random.nextInt(id - 1);
+                graph.addRebuttal(id, "r" + id, null, target, 5000 + id);
+                service.onLabelsChanged(new LabelsChangedEvent(id, target, labelling.addAttack(id, target)));
+
+                assertEquals(render(service(graph).getTopArguments("T", 50, null)),
+                        render(service.getTopArguments("T", 50, null)), "after rebuttal " + id);
+            }
+        }
+    }
+
+    @Test
+    void unknownChangesDropTheRanking() {
+        ArgumentGraph graph = graph(new Random(5), 60);
+        TopArgumentsServiceImpl service = service(graph);
+        service.getTopArguments("T", 50, null);
+        graph.addRebuttal(61, "r61", null, 1, 5061);
+        service.onLabelsChanged(new LabelsChangedEvent(61, 1, null));
+        assertEquals(render(service(graph).getTopArguments("T", 50, null)),
+                render(service.getTopArguments("T", 50, null)));
+    }
+
+    @Test
+    void rejectsUnknownStance() {
+        ArgumentGraph graph = graph(new Random(1), 10);
+        assertThrows(IllegalArgumentException.class, () -> service(graph).getTopArguments("T", 5, "neutral"));
+    }
+
+    private static String render(TopArgumentsResponse response) {
+        return render(response.getPro()) + " | " + render(response.getCon());
+    }
+
+    private static String render(List<TopArgumentDTO> entries) {
+        StringBuilder out = new StringBuilder();
+        for (TopArgumentDTO entry : entries) {
+            out.append(entry.getId()).append(':').append(entry.getText()).append(':')
+                    .append(entry.getScore()).append(':').append(entry.getParentId()).append(' ');
+        }
+        return out.toString();
+    }
+}
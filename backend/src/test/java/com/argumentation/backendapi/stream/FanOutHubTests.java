@@ -0,0 +1,176 @@
+package com.argumentation.backendapi.stream;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives FanOutHub with a manual executor, so "the client is slow" is simply
+ * "the delivery has not run yet", and checks resuming from an event ID.
+ */
+class FanOutHubTests {
+
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    private void runDeliveries() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    @Test
+    void coalescesWhatPilesUpWhileAClientIsBusy() {
+        FanOutHub<Integer> hub = new FanOutHub<>(tasks::add, 16, 10);
+        RecordingSink a = new RecordingSink();
+        RecordingSink b = new RecordingSink();
+        hub.subscribe(1, a);
+        hub.subscribe(2, b);
+
+        assertEquals(1, hub.publish(1, 10));
+        hub.publish(1, 11);
+        hub.publish(1, 12);
+        assertEquals(0, hub.publish(3, 99)); // nobody listens to claim 3
+        assertEquals(1, tasks.size(), "one delivery per subscriber at a time");
+
+        runDeliveries();
+        assertEquals(List.of(List.of(10, 11, 12)), a.batches);
+        assertTrue(b.batches.isEmpty());
+    }
+
+    @Test
+    void tellsSlowClientsToReloadInsteadOfQueueingWithoutBound() {
+        FanOutHub<Integer> hub = new FanOutHub<>(tasks::add, 2, 10);
+        RecordingSink sink = new RecordingSink();
+        hub.subscribe(1, sink);
+
+        hub.publish(1, 10);
+        hub.publish(1, 11);
+        hub.publish(1, 12); // third pending item: over the limit
+        runDeliveries();
+        assertEquals(1, sink.overflows);
+        assertTrue(sink.batches.isEmpty());
+
+        hub.publish(1, 13);
+        runDeliveries();
+        assertEquals(List.of(List.of(13)), sink.batches);
+    }
+
+    @Test
+    void dropsFailingClientsAndEnforcesTheLimit() {
+        FanOutHub<Integer> hub = new FanOutHub<>(tasks::add, 16, 2);
+        RecordingSink broken = new RecordingSink();
+        broken.fail = true;
+        hub.subscribe(1, broken);
+        FanOutHub<Integer>.Subscription other = hub.subscribe(1, new RecordingSink());
+        assertThrows(IllegalStateException.class, () -> hub.subscribe(2, new RecordingSink()));
+
+        hub.publish(1, 10);
+        runDeliveries();
+        assertTrue(broken.closed);
+        assertEquals(1, hub.subscriberCount());
+
+        other.close();
+        assertEquals(0, hub.subscriberCount());
+        assertEquals(0, hub.keyCount());
+    }
+
+    @Test
+    void resumesAfterTheLastEventIdInPublishOrder() {
+        FanOutHub<Integer> hub = new FanOutHub<>(tasks::add, 16, 10, 4, 60_000);
+        RecordingSink first = new RecordingSink();
+        FanOutHub<Integer>.Subscription subscription = hub.subscribe(1, first);
+
+        hub.publish(1, 20); // a higher statement ID that committed first
+        runDeliveries();
+        long lastSeen = first.lastId;
+        subscription.close();
+
+        hub.publish(1, 19); // committed later with a lower ID: must not be skipped
+        hub.publish(2, 50); // another claim
+        hub.publish(1, 21);
+
+        RecordingSink resumed = new RecordingSink();
+        hub.subscribe(1, resumed, lastSeen);
+        hub.publish(1, 22);
+        runDeliveries();
+        assertEquals(List.of(19, 21, 22), resumed.batches.stream().flatMap(List::stream).toList());
+        assertEquals(0, resumed.overflows);
+    }
+
+    @Test
+    void resyncsWhenWhatWasMissedIsNoLongerKept() {
+        FanOutHub<Integer> hub = new FanOutHub<>(tasks::add, 16, 10, 2, 60_000);
+        hub.publish(1, 10);
+        hub.publish(1, 11);
+
+        RecordingSink caughtUp = new RecordingSink();
+        hub.subscribe(1, caughtUp, 0L); // an ID from before this hub started
+        runDeliveries();
+        assertEquals(1, caughtUp.overflows);
+        assertTrue(caughtUp.batches.isEmpty());
+
+        hub.publish(1, 12); // pushes 10 out of the two kept
+        runDeliveries();
+        long twelve = caughtUp.lastId; // IDs of 10, 11, 12 are consecutive here
+
+        RecordingSink tooLate = new RecordingSink();
+        hub.subscribe(1, tooLate, twelve - 3); // wanted 10 as well
+        RecordingSink inTime = new RecordingSink();
+        hub.subscribe(1, inTime, twelve - 2); // after 10: 11 and 12 are kept
+        runDeliveries();
+        assertEquals(1, tooLate.overflows);
+        assertEquals(List.of(List.of(11, 12)), inTime.batches);
+    }
+
+    @Test
+    void forgetsIdleKeysAfterTheReplayWindow() {
+        FanOutHub<Integer> hub = new FanOutHub<>(tasks::add, 16, 10, 4, 0);
+        hub.publish(1, 10);
+        hub.subscribe(2, new RecordingSink()).close();
+        hub.heartbeat();
+        assertEquals(0, hub.keyCount());
+    }
+
+    private static final class RecordingSink implements FanOutHub.Sink<Integer> {
+        final List<List<Integer>> batches = new ArrayList<>();
+        long lastId;
+        int overflows;
+        boolean fail;
+        boolean closed;
+
+        @Override
+        public void send(List<FanOutHub.Event<Integer>> batch) throws IOException {
+            if (fail) {
+                throw new IOException("Broken pipe");
+            }
+            List<Integer> items = new ArrayList<>();
+            for (FanOutHub.Event<Integer> event : batch) {
+                assertTrue(event.id() > lastId, "event IDs increase");
+                lastId = event.id();
+                items.add(event.item());
+            }
+            batches.add(items);
+        }
+
+        @Override
+        public void overflow() {
+            overflows++;
+        }
+
+        @Override
+        public void heartbeat() {
+        }
+
+        @Override
+        public void closed() {
+            closed = true;
+        }
+    }
+}
@@ -1,59 +1,18 @@
 import { Component, OnInit } from '@angular/core';
 import { CommonModule } from '@angular/common';
 import { ActivatedRoute } from '@angular/router';
-import { HttpClient, HttpClientModule } from '@angular/common/http';
-
-/**
- * TopArgItem
- * ------------------------------------------------------------
- * Represents a single top argument entry in either the “pro”
- * or “con” list for a given topic.
- * Each item can include a ranking score and a parent reference
- * for hierarchical grouping if needed.
- */
-export interface TopArgItem {
-  /** Unique identifier for the argument item. */
-  id: number;
-
-  /** Argument text or claim statement. */
-  text: string;
-
-  /** Optional relevance or confidence score (if ranked). */
-  score?: number;
-
-  /** Optional parent argument ID (for nested argument trees). */
-  parentId?: number | null;
-}
-
-/**
- * TopArgsForTopic
- * ------------------------------------------------------------
- * Container structure holding the top-N pro and con arguments
- * for a single topic.
- */
-export interface TopArgsForTopic {
-  /** List of top arguments supporting the topic (Pro). */
-  pro: TopArgItem[];
-
-  /** List of top arguments opposing the topic (Con). */
-  con: TopArgItem[];
-}
-
-/**
- * TopArgsMap
- * ------------------------------------------------------------
- * Maps topic names (keys) to their corresponding top-N argument sets.
- * This mirrors the JSON structure in `assets/mock-data/top-arguments.json`.
- */
-export type TopArgsMap = Record<string, TopArgsForTopic>;
+import { HttpClientModule } from '@angular/common/http';
+import { ArgumentService } from '../core/argument.service';
+import { TopArgsForTopic } from '../models/top-arguments.model';
 
 /**
  * ArgumentViewArgsmeComponent
  * ------------------------------------------------------------
  * Two-Lane (args.me-style) Argument Viewer
  * ------------------------------------------------------------
- * Displays top-N pro and con arguments for a selected topic
- * using mock JSON data stored locally under `assets/mock-data/`.
+ * Displays top-N pro and con arguments for a selected topic,
+ * ranked by the backend (`/api/topics/{name}/top-arguments`) or,
+ * in mock mode, read from `assets/mock-data/top-arguments.json`.
  *
  * Responsibilities:
  * - Reads topic and optional `n` parameter (limit) from route or query.
@@ -87,8 +46,8 @@ export class ArgumentViewArgsmeComponent implements OnInit {
     /** ActivatedRoute to read params, query params, or navigation state. */
     private route: ActivatedRoute,
 
-    /** HttpClient to fetch local mock JSON data. */
-    private http: HttpClient
+    /** ArgumentService (real or mock) that supplies the ranking. */
+    private argumentService: ArgumentService
   ) {}
 
   /**
@@ -116,8 +75,8 @@ export class ArgumentViewArgsmeComponent implements OnInit {
   }
 
   /**
-   * Fetches the top-N pro and con arguments for a given topic
-   * from the mock JSON file (`assets/mock-data/top-arguments.json`).
+   * Fetches the top-N pro and con arguments for a given topic.
+   * Only N items per side are transferred; the ranking happens server-side.
    *
    * @param topic - Name of the debate topic.
    * @param n - Number of top arguments to display per side.
@@ -126,13 +85,12 @@ export class ArgumentViewArgsmeComponent implements OnInit {
     this.loading = true;
     this.error = '';
 
-    this.http.get<TopArgsMap>('assets/mock-data/top-arguments.json').subscribe({
-      next: (map) => {
-        const t = map?.[topic];
-        // Slice to top N arguments per stance; handle undefined gracefully
+    this.argumentService.getTopArguments(topic, n).subscribe({
+      next: (res) => {
+        // Missing lists (unknown topic / single stance) render as empty
         this.topArgs = {
-          pro: t?.pro?.slice(0, n) ?? [],
-          con: t?.con?.slice(0, n) ?? [],
+          pro: res?.pro ?? [],
+          con: res?.con ?? [],
         };
         this.loading = false;
       },
@@ -3,6 +3,7 @@ import { HttpClient } from '@angular/common/http';
 import { Observable } from 'rxjs';
 import { Topic } from '../models/topic.model';
 import { StructuredArgument } from '../models/structured-argument.model';
+import { TopArgsResponse } from '../models/top-arguments.model';
 
 /**
  * Data Transfer Object (DTO) for representing a rebuttal entry.
@@ -20,6 +21,35 @@ export interface RebuttalDTO {
 /** Array type alias for lists of RebuttalDTO objects. */
 export type RebuttalListDTO = RebuttalDTO[];
 
+/** A rebuttal as pushed by `GET /api/rebuttals/stream` (same shape as the create response). */
+export interface StreamedRebuttal {
+  argumentId: number;
+  statementId: number;
+  text: string;
+  source: string;
+  /** Acceptability labels that changed because of this rebuttal, by statement ID. */
+  statusChanges?: Record<number, string>;
+}
+
+/**
+ * Message of the rebuttal stream: a batch of new rebuttals, or a request to
+ * reload the list with getRebuttalsForTarget (the client fell too far behind).
+ */
+export type RebuttalStreamEvent =
+  | { type: 'rebuttals'; rebuttals: StreamedRebuttal[] }
+  | { type: 'resync' };
+
+/**
+ * Response of `POST /api/structured-arguments/batch`: one tree level at once.
+ * `argumentIdsByClaim` only lists claims that have an argument; `rebuttals`
+ * has an entry (possibly empty) for every requested claim.
+ */
+export interface BatchLookupResponse {
+  argumentIdsByClaim: Record<number, number>;
+  justifications: Record<number, { id: number; text: string; source: string | null }[]>;
+  rebuttals: Record<number, StreamedRebuttal[]>;
+}
+
 /**
  * Injectable Angular service responsible for handling all API calls
  * related to arguments, topics, justifications, and rebuttals.
@@ -137,6 +167,22 @@ export class ArgumentService {
     );
   }
 
+  /**
+   * Resolves many nodes in one request: argument IDs, justifications and
+   * rebuttals of all claims, plus justifications of further arguments.
+   * Use it instead of one getArgumentIdByClaimId / getJustifications /
+   * getRebuttalsForTarget call per node when expanding a tree level.
+   * @param claimIds Claim (statement) IDs.
+   * @param argumentIds Further argument IDs whose justifications are needed.
+   * @returns Observable emitting the lookups keyed by ID.
+   */
+  batchLookup(claimIds: number[], argumentIds: number[] = []): Observable<BatchLookupResponse> {
+    return this.http.post<BatchLookupResponse>(
+      'http://localhost:8081/api/structured-arguments/batch',
+      { claimIds, argumentIds }
+    );
+  }
+
   /**
    * Retrieves a hierarchical tree of justifications for a specific topic.
    * Used to render structured argumentation visualizations.
@@ -182,4 +228,49 @@ export class ArgumentService {
       params: { targetClaimId: targetClaimId.toString() },
     });
   }
+
+  /**
+   * Subscribes to the rebuttals committed for a claim from now on (Server-Sent Events),
+   * so the view does not have to poll getRebuttalsForTarget.
+   * Load the current list once, then append what this stream delivers; on 'resync', reload.
+   * The browser reconnects on its own; unsubscribing closes the connection.
+   * @param targetClaimId ID of the claim being rebutted.
+   * @returns Observable emitting one event per pushed batch.
+   */
+  streamRebuttals(targetClaimId: number): Observable<RebuttalStreamEvent> {
+    return new Observable<RebuttalStreamEvent>((subscriber) => {
+      const source = new EventSource(
+        `${this.base}/rebuttals/stream?targetClaimId=${targetClaimId}`
+      );
+      source.addEventListener('rebuttals', (e) =>
+        subscriber.next({
+          type: 'rebuttals',
+          rebuttals: JSON.parse((e as MessageEvent).data),
+        })
+      );
+      source.addEventListener('resync', () => subscriber.next({ type: 'resync' }));
+      return () => source.close();
+    });
+  }
+
+  /**
+   * Retrieves the top-N ranked pro/con arguments of a topic.
+   * The backend keeps a precomputed ranking per topic and sends only N items per side.
+   * @param topic Topic name.
+   * @param n Number of arguments per side.
+   * @param stance Optional 'pro' or 'con' to fetch a single side.
+   * @returns Observable emitting the ranked lists.
+   */
+  getTopArguments(
+    topic: string,
+    n: number,
+    stance?: 'pro' | 'con'
+  ): Observable<TopArgsResponse> {
+    const params: Record<string, string> = { n: n.toString() };
+    if (stance) params['stance'] = stance;
+    return this.http.get<TopArgsResponse>(
+      `${this.base}/topics/${encodeURIComponent(topic)}/top-arguments`,
+      { params }
+    );
+  }
 }
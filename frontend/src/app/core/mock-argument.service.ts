@@ -1,7 +1,8 @@
 import { Injectable } from '@angular/core';
 import { HttpClient } from '@angular/common/http';
-import { Observable, of, map, firstValueFrom, from } from 'rxjs';
+import { Observable, of, map, firstValueFrom, from, NEVER, forkJoin } from 'rxjs';
 import { Rebuttal, CreateRebuttalRequest } from '../models/rebuttal';
+import { TopArgsMap, TopArgsResponse } from '../models/top-arguments.model';
 
 /**
  * MockArgumentService
@@ -78,6 +79,61 @@ export class MockArgumentService {
       .pipe(map((dict) => dict[String(claimId)] ?? null));
   }
 
+  /**
+   * Resolves many claims/arguments at once from the same JSON files.
+   * Mirrors `POST /api/structured-arguments/batch` (mock rebuttals carry no argument IDs).
+   */
+  batchLookup(claimIds: number[], argumentIds: number[] = []): Observable<any> {
+    return forkJoin({
+      ids: this.http.get<Record<string, number>>(`${this.base}/argument-id-by-claim-id.json`),
+      premises: this.http.get<
+        Record<string, Array<{ id: number; text: string; source: string | null }>>
+      >(`${this.base}/justifications-by-argument-id.json`),
+      rebuttals: from(this.loadRebuttals()),
+    }).pipe(
+      map(({ ids, premises, rebuttals }) => {
+        const argumentIdsByClaim: Record<number, number> = {};
+        const justifications: Record<number, any[]> = {};
+        const byClaim: Record<number, any[]> = {};
+        for (const claimId of claimIds) {
+          const argumentId = ids[String(claimId)];
+          if (argumentId != null) {
+            argumentIdsByClaim[claimId] = argumentId;
+            justifications[argumentId] = premises[String(argumentId)] ?? [];
+          }
+          byClaim[claimId] = rebuttals
+            .filter((r) => r.targetClaimId === claimId)
+            .map((r) => ({ argumentId: null, statementId: r.id, text: r.text, source: null }));
+        }
+        for (const argumentId of argumentIds) {
+          if (premises[String(argumentId)]) {
+            justifications[argumentId] = premises[String(argumentId)];
+          }
+        }
+        return { argumentIdsByClaim, justifications, rebuttals: byClaim };
+      })
+    );
+  }
+
+  /**
+   * Retrieves the top-N pro/con arguments of a topic.
+   * Mirrors `/api/topics/{name}/top-arguments?n=...&stance=...`
+   * (the static JSON is already ordered best-first).
+   */
+  getTopArguments(
+    topic: string,
+    n: number,
+    stance?: 'pro' | 'con'
+  ): Observable<TopArgsResponse> {
+    return this.http.get<TopArgsMap>(`${this.base}/top-arguments.json`).pipe(
+      map((dict) => ({
+        topic,
+        pro: stance === 'con' ? undefined : dict[topic]?.pro?.slice(0, n) ?? [],
+        con: stance === 'pro' ? undefined : dict[topic]?.con?.slice(0, n) ?? [],
+      }))
+    );
+  }
+
   // ───────────────────────────────────────────────────────────
   // Rebuttals (read/write: JSON + localStorage)
   // ───────────────────────────────────────────────────────────
@@ -164,6 +220,11 @@ export class MockArgumentService {
   // Stubs (safe no-ops for compatibility)
   // ───────────────────────────────────────────────────────────
 
+  /** Mirrors `GET /api/rebuttals/stream`; nothing is pushed without a backend. */
+  streamRebuttals(_targetClaimId: number): Observable<any> {
+    return NEVER;
+  }
+
   getTreeJustifications(_topic: string): Observable<any> {
     return of({});
   }
@@ -0,0 +1,61 @@
+/**
+ * TopArgItem
+ * ------------------------------------------------------------
+ * Represents a single top argument entry in either the “pro”
+ * or “con” list for a given topic.
+ * Each item can include a ranking score and a parent reference
+ * for hierarchical grouping if needed.
+ */
+export interface TopArgItem {
+  /** Unique identifier for the argument item. */
+  id: number;
+
+  /** Argument text or claim statement. */
+  text: string;
+
+  /** Optional relevance or confidence score (if ranked). */
+  score?: number;
+
+  /** Optional parent argument ID (for nested argument trees). */
+  parentId?: number | null;
+}
+
+/**
+ * TopArgsForTopic
+ * ------------------------------------------------------------
+ * Container structure holding the top-N pro and con arguments
+ * for a single topic.
+ */
+export interface TopArgsForTopic {
+  /** List of top arguments supporting the topic (Pro). */
+  pro: TopArgItem[];
+
+  /** List of top arguments opposing the topic (Con). */
+  con: TopArgItem[];
+}
+
+/**
+ * TopArgsResponse
+ * ------------------------------------------------------------
+ * Response of `GET /api/topics/{name}/top-arguments`.
+ * A list is omitted when only the other stance was requested.
+ */
+export interface TopArgsResponse {
+  /** Topic the ranking belongs to. */
+  topic: string;
+
+  /** Top arguments supporting the topic (absent if stance=con). */
+  pro?: TopArgItem[];
+
+  /** Top arguments opposing the topic (absent if stance=pro). */
+  con?: TopArgItem[];
+}
+
+/**
+ * TopArgsMap
+ * ------------------------------------------------------------
+ * Maps topic names (keys) to their corresponding top-N argument sets.
+ * This mirrors the JSON structure in `assets/mock-data/top-arguments.json`,
+ * which the mock service uses in place of the backend ranking.
+ */
+export type TopArgsMap = Record<string, TopArgsForTopic>;